@@ -1,9 +1,11 @@
 plugins {
+    `java-test-fixtures`
     id("org.springframework.boot") version "3.5.8"
     id("io.spring.dependency-management") version "1.1.7"
     kotlin("plugin.jpa") version "1.9.24"
     kotlin("jvm") version "1.9.24"
     kotlin("plugin.spring") version "1.9.24"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "camp.nextstep.edu"
@@ -20,19 +22,29 @@ repositories {
 }
 
 dependencies {
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
     implementation("org.springframework.boot:spring-boot-starter-thymeleaf")
     implementation("org.springframework.boot:spring-boot-starter-validation")
     implementation("org.springframework.boot:spring-boot-starter-web")
+    // spring.main.web-application-type=reactive 일 때의 논블로킹 경로 (Netty, WebClient). 기본은 servlet
+    implementation("org.springframework.boot:spring-boot-starter-webflux")
     implementation("com.fasterxml.jackson.module:jackson-module-kotlin")
+    implementation("com.github.ben-manes.caffeine:caffeine")
     implementation("org.flywaydb:flyway-core")
     implementation("org.flywaydb:flyway-mysql")
     implementation("org.jetbrains.kotlin:kotlin-reflect")
     implementation(platform("org.springframework.ai:spring-ai-bom:1.1.2"))
     implementation("org.springframework.ai:spring-ai-starter-model-google-genai")
     runtimeOnly("com.h2database:h2")
+    runtimeOnly("io.micrometer:micrometer-registry-prometheus")
     runtimeOnly("com.mysql:mysql-connector-j")
+    testFixturesImplementation(platform("org.springframework.ai:spring-ai-bom:1.1.2"))
+    testFixturesImplementation("org.springframework.ai:spring-ai-model")
+    testFixturesImplementation("io.projectreactor:reactor-core")
+    jmhImplementation(testFixtures(project))
     testImplementation("org.springframework.boot:spring-boot-starter-test")
+    testImplementation("io.projectreactor:reactor-test")
     testImplementation("org.jetbrains.kotlin:kotlin-test-junit5")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 }
@@ -43,6 +55,40 @@ kotlin {
     }
 }
 
+val gazetteerOutputDir = layout.buildDirectory.dir("generated/gazetteer")
+
+val compileGazetteer by tasks.registering(JavaExec::class) {
+    description = "Compiles gazetteer/cities.tsv into the memory-mapped binary gazetteer."
+    val input = file("src/main/resources/gazetteer/cities.tsv")
+    inputs.file(input)
+    outputs.dir(gazetteerOutputDir)
+    classpath = sourceSets.main.get().output.classesDirs
+    mainClass.set("sunshine.weather.gazetteer.GazetteerCompiler")
+    args(input.absolutePath, gazetteerOutputDir.get().file("gazetteer/cities.bin").asFile.absolutePath)
+}
+
+sourceSets.main {
+    resources.srcDir(compileGazetteer)
+}
+
+// 결과를 JSON으로 남겨 커밋 간 회귀를 비교한다 (jmh.morethan.io 등에 그대로 올릴 수 있음)
+jmh {
+    profilers.add("gc")
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+    findProperty("jmh.includes")?.let { includes.add(it.toString()) }
+}
+
+// 로컬 Open-Meteo/LLM 스텁 위에서 앱 전체를 두드린다. -PloadTest.<옵션>=값 으로 조정 (LoadTestRunner 참고)
+val loadTest by tasks.registering(JavaExec::class) {
+    description = "Runs an end-to-end load test against in-process Open-Meteo and LLM stubs."
+    group = "verification"
+    classpath = sourceSets.test.get().runtimeClasspath
+    mainClass.set("sunshine.load.LoadTestRunner")
+    systemProperties(project.properties.filterKeys { it.startsWith("loadTest.") })
+    outputs.upToDateWhen { false }
+}
+
 tasks.withType<Test> {
     useJUnitPlatform()
 }
@@ -0,0 +1,76 @@
+package sunshine.weather.dto;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import sunshine.stub.OpenMeteoPayloads;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Open-Meteo 응답 역직렬화.
+ * databind*: RestClient 기본 경로와 같은 설정(모르는 필드 무시)의 ObjectMapper,
+ * streaming*: {@link ForecastResponseDecoder}. 할당량은 -prof gc 의 gc.alloc.rate.norm 으로 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ForecastResponseDecodeBenchmark {
+
+    private static final TypeReference<List<ForecastResponse>> LIST = new TypeReference<>() {};
+
+    private ObjectMapper objectMapper;
+    private byte[] single;
+    private byte[] multi;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        single = OpenMeteoPayloads.single(37.5665, 126.978).getBytes(StandardCharsets.UTF_8);
+
+        double[] latitudes = new double[50];
+        double[] longitudes = new double[50];
+        for (int i = 0; i < latitudes.length; i++) {
+            latitudes[i] = -60 + i * 2.5;
+            longitudes[i] = -170 + i * 6.8;
+        }
+        multi = OpenMeteoPayloads.multi(latitudes, longitudes).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public ForecastResponse databindSingle() throws IOException {
+        return objectMapper.readValue(new ByteArrayInputStream(single), ForecastResponse.class);
+    }
+
+    @Benchmark
+    public List<ForecastResponse> databindMulti50() throws IOException {
+        return objectMapper.readValue(new ByteArrayInputStream(multi), LIST);
+    }
+
+    @Benchmark
+    public ForecastResponse.Current streamingSingle() throws IOException {
+        return ForecastResponseDecoder.readSingle(new ByteArrayInputStream(single));
+    }
+
+    @Benchmark
+    public List<ForecastResponse.Current> streamingMulti50() throws IOException {
+        return ForecastResponseDecoder.readAll(new ByteArrayInputStream(multi), 50);
+    }
+}
@@ -0,0 +1,94 @@
+package sunshine.weather.gazetteer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import sunshine.weather.model.City;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TSV → 힙 인덱스와 바이너리 → mmap 인덱스의 적재 시간과 조회 시간.
+ * 적재 시 상주 힙 차이는 gc 프로파일러의 gc.alloc.rate.norm 으로 본다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GazetteerBenchmark {
+
+    private static final String TSV = "/gazetteer/cities.tsv";
+
+    private Path binary;
+    private HeapGazetteer heap;
+    private MappedGazetteer mapped;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        List<GazetteerRecord> records;
+        try (InputStream in = GazetteerBenchmark.class.getResourceAsStream(TSV)) {
+            records = GazetteerTsvReader.read(in);
+        }
+        binary = Files.createTempFile("gazetteer-bench", ".bin");
+        try (OutputStream out = Files.newOutputStream(binary)) {
+            GazetteerCompiler.compile(records, out);
+        }
+        heap = HeapGazetteer.of(records);
+        mapped = MappedGazetteer.open(binary);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(binary);
+    }
+
+    @Benchmark
+    public HeapGazetteer loadHeap() throws IOException {
+        try (InputStream in = GazetteerBenchmark.class.getResourceAsStream(TSV)) {
+            return HeapGazetteer.of(GazetteerTsvReader.read(in));
+        }
+    }
+
+    @Benchmark
+    public MappedGazetteer loadMapped() throws IOException {
+        return MappedGazetteer.open(binary);
+    }
+
+    @Benchmark
+    public Optional<City> findExactHeap() {
+        return heap.find("Seoul");
+    }
+
+    @Benchmark
+    public Optional<City> findExactMapped() {
+        return mapped.find("Seoul");
+    }
+
+    @Benchmark
+    public Optional<City> findTypoHeap() {
+        return heap.findFuzzy("Seuol");
+    }
+
+    @Benchmark
+    public Optional<City> findTypoMapped() {
+        return mapped.findFuzzy("Seuol");
+    }
+}
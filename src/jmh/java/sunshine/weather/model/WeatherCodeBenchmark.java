@@ -0,0 +1,47 @@
+package sunshine.weather.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 모든 WMO 코드(0~99)에 대한 설명 조회. 코드 공간을 펼친 배열이라 분류/등록 여부와 관계없이 같은 비용이어야 한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WeatherCodeBenchmark {
+
+    private static final int CODES = 100;
+
+    @Benchmark
+    @OperationsPerInvocation(CODES)
+    public void allCodes(Blackhole bh) {
+        for (int code = 0; code < CODES; code++) {
+            bh.consume(WeatherCode.getDescription(code));
+        }
+    }
+
+    @Benchmark
+    public String clearSky() {
+        return WeatherCode.getDescription(0);
+    }
+
+    @Benchmark
+    public String thunderstorm() {
+        return WeatherCode.getDescription(99);
+    }
+}
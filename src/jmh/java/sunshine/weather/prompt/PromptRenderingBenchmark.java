@@ -0,0 +1,69 @@
+package sunshine.weather.prompt;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.chat.prompt.PromptTemplate;
+import org.springframework.ai.converter.BeanOutputConverter;
+import sunshine.weather.dto.ForecastResponse;
+import sunshine.weather.model.City;
+import sunshine.weather.model.WeatherCode;
+import sunshine.weather.service.LlmWeatherAdvisor;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 조언 프롬프트 생성 비용 비교.
+ * legacy: 호출마다 BeanOutputConverter + PromptTemplate + String.format (기존 LlmWeatherAdvisor 방식)
+ * compiled: WeatherPrompts (시작 시 한 번 컴파일, 렌더링만 수행)
+ * <p>
+ * {@code ./gradlew jmh} — gc 프로파일러의 gc.alloc.rate.norm 으로 호출당 할당량을 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PromptRenderingBenchmark {
+
+    private WeatherPrompts prompts;
+    private City city;
+    private ForecastResponse.Current current;
+
+    @Setup
+    public void setUp() {
+        prompts = new WeatherPrompts();
+        city = new City("서울", 37.5665, 126.978);
+        current = new ForecastResponse.Current(12.34, 10.87, 61, 55, 3.21);
+    }
+
+    @Benchmark
+    public Prompt legacy() {
+        var converter = new BeanOutputConverter<>(LlmWeatherAdvisor.Advice.class);
+        return new PromptTemplate(WeatherPrompts.ADVICE_TEMPLATE).create(Map.of(
+                "format", converter.getFormat(),
+                "cityName", city.getName(),
+                "t", String.format("%.1f", current.temperature_2m()),
+                "a", String.format("%.1f", current.apparent_temperature()),
+                "h", String.valueOf(current.relative_humidity_2m()),
+                "ws", String.format("%.1f", current.wind_speed_10m()),
+                "desc", WeatherCode.getDescription(current.weather_code()),
+                "code", String.valueOf(current.weather_code())
+        ));
+    }
+
+    @Benchmark
+    public Prompt compiled() {
+        return prompts.advice(city, current);
+    }
+}
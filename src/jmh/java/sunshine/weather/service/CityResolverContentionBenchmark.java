@@ -0,0 +1,71 @@
+package sunshine.weather.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.ai.chat.client.ChatClient;
+import sunshine.stub.StubChatModel;
+import sunshine.weather.budget.SpendLedger;
+import sunshine.weather.cache.CoalescingCache;
+import sunshine.weather.config.LlmCostProperties;
+import sunshine.weather.config.SpendLedgerProperties;
+import sunshine.weather.metrics.WeatherMetrics;
+import sunshine.weather.model.City;
+import sunshine.weather.prompt.WeatherPrompts;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 스레드가 같은 도시 집합을 동시에 조회할 때 LlmCityResolver 캐시 경로의 처리량.
+ * cacheSize가 도시 수보다 작으면 퇴출과 (스텁) LLM 재조회가 섞인다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+@Fork(1)
+public class CityResolverContentionBenchmark {
+
+    private static final int CITIES = 256;
+
+    @Param({"10000", "128"})
+    public int cacheSize;
+
+    private LlmCityResolver resolver;
+    private String[] names;
+
+    @Setup
+    public void setUp() {
+        var chatModel = new StubChatModel(StubChatModel.weatherResponder());
+        var cache = new CoalescingCache<String, City>("city", cacheSize, Duration.ofHours(1), Duration.ofMinutes(10),
+                e -> e instanceof IllegalArgumentException);
+        var usageRecorder = new LlmUsageRecorder(new LlmCostEstimator(new LlmCostProperties(null, null)),
+                new SpendLedger(new SpendLedgerProperties(60)), new WeatherMetrics(new SimpleMeterRegistry()));
+        resolver = new LlmCityResolver(ChatClient.builder(chatModel), new WeatherPrompts(), cache, usageRecorder);
+
+        names = new String[CITIES];
+        for (int i = 0; i < CITIES; i++) {
+            names[i] = "city-" + i;
+            resolver.resolve(names[i]);
+        }
+    }
+
+    @Benchmark
+    public City resolve() {
+        return resolver.resolve(names[ThreadLocalRandom.current().nextInt(CITIES)]);
+    }
+}
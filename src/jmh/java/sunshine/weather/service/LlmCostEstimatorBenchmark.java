@@ -0,0 +1,41 @@
+package sunshine.weather.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import sunshine.weather.config.LlmCostProperties;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LlmCostEstimatorBenchmark {
+
+    private LlmCostEstimator estimator;
+    private long inputTokens;
+    private long outputTokens;
+
+    @Setup
+    public void setUp() {
+        estimator = new LlmCostEstimator(new LlmCostProperties(new BigDecimal("0.0003"), new BigDecimal("0.0025")));
+        inputTokens = 612;
+        outputTokens = 187;
+    }
+
+    @Benchmark
+    public long estimateMicroUsd() {
+        return estimator.estimateMicroUsd(inputTokens, outputTokens);
+    }
+}
@@ -0,0 +1,93 @@
+package sunshine.weather.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.client.RestClient;
+import sunshine.stub.StubOpenMeteoServer;
+import sunshine.weather.advice.AdviceTable;
+import sunshine.weather.config.HotRefreshProperties;
+import sunshine.weather.config.OpenMeteoProperties;
+import sunshine.weather.config.PipelineProperties;
+import sunshine.weather.config.WeatherCacheProperties;
+import sunshine.weather.dto.ForecastResponse;
+import sunshine.weather.hot.HotCityRefresher;
+import sunshine.weather.metrics.WeatherMetrics;
+import sunshine.weather.model.City;
+import sunshine.weather.rules.WeatherRules;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 템플릿 요약 문장 생성과, 캐시가 데워진 상태의 전체 요청 경로(resolve → 캐시 → 템플릿).
+ * Open-Meteo는 프로세스 안의 스텁 서버로 대체한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WeatherSummaryBenchmark {
+
+    private StubOpenMeteoServer server;
+    private OpenMeteo openMeteo;
+    private WeatherService weatherService;
+    private City city;
+    private ForecastResponse.Current current;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        server = StubOpenMeteoServer.start();
+        var metrics = new WeatherMetrics(new SimpleMeterRegistry());
+        openMeteo = new OpenMeteo(RestClient.builder(),
+                new OpenMeteoProperties(server.baseUrl(),
+                        new OpenMeteoProperties.Batch(false, Duration.ofMillis(5), 50),
+                        new OpenMeteoProperties.Http(Duration.ofSeconds(1), Duration.ofSeconds(2), Duration.ofSeconds(5), false),
+                        new OpenMeteoProperties.Hedge(false, 0.95, Duration.ofMillis(50), Duration.ofMillis(300)),
+                        new OpenMeteoProperties.Retry(1, Duration.ofMillis(50), Duration.ofMillis(400))),
+                metrics);
+        var cacheProperties = new WeatherCacheProperties(true, 0.1, Duration.ofMinutes(15), Duration.ofMinutes(10), 1000, 1);
+        var pipeline = new PipelineProperties(Duration.ofSeconds(5), Duration.ofSeconds(3), Duration.ofSeconds(10), Duration.ofSeconds(20));
+
+        city = new City("서울", 37.5665, 126.978);
+        current = new ForecastResponse.Current(12.34, 10.87, 61, 55, 3.21);
+        CityResolver resolver = input -> city;
+        var weatherCache = new WeatherCache(openMeteo, cacheProperties);
+        // 스케줄러 없이 요청 경로의 빈도 기록 비용만 포함한다
+        var hotCities = new HotCityRefresher(weatherCache, null, null, metrics,
+                new HotRefreshProperties(true, 20, 256, 3, Duration.ofSeconds(30), 20, 1, Duration.ofMinutes(2)),
+                cacheProperties, false);
+        weatherService = new WeatherService(weatherCache, resolver, null, false, pipeline,
+                AdviceTable.empty(), metrics, null, hotCities, WeatherRules.defaults());
+        weatherService.getWeatherSummary("서울");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        openMeteo.shutdown();
+        server.close();
+    }
+
+    @Benchmark
+    public String templateSummary() {
+        return weatherService.generateTemplateSummary(city, current);
+    }
+
+    @Benchmark
+    public String cachedPipeline() {
+        return weatherService.getWeatherSummary("서울");
+    }
+}
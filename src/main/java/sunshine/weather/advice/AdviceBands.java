@@ -0,0 +1,117 @@
+package sunshine.weather.advice;
+
+import sunshine.weather.dto.ForecastResponse;
+import sunshine.weather.model.WeatherCode;
+
+import java.util.Arrays;
+
+/**
+ * 사전 계산 조언 테이블의 구간 정의.
+ * 체감온도 × 날씨 코드 × 풍속 × 습도 구간의 모든 조합이 테이블의 한 칸이 된다.
+ * 구간 경계를 바꾸면 {@link #fingerprint()}가 달라져 이전 테이블은 로딩되지 않는다.
+ * 경계는 규칙 파일과 따로 정해져 있으므로, 칸이 규칙 경계에 걸치거나 규칙이 바뀐 경우는 {@link AdviceTable}이
+ * 칸마다 기록한 규칙으로 걸러 규칙표를 쓴다.
+ */
+public final class AdviceBands {
+
+    static final int VERSION = 2;
+
+    /** 체감온도 구간 경계(°C). 경계값은 위쪽 구간에 속한다. */
+    private static final int[] TEMPERATURE_EDGES = {-10, -5, 0, 5, 10, 15, 20, 23, 27, 30};
+    /** 풍속 구간 경계(m/s): 약함 / 다소 강함 / 강함 */
+    private static final int[] WIND_EDGES = {3, 7};
+    /** 습도 구간 경계(%): 건조 / 보통 / 습함 */
+    private static final int[] HUMIDITY_EDGES = {40, 70};
+
+    private static final int MIN_DEGREE = -60;
+    private static final int MAX_DEGREE = 60;
+    private static final int MAX_WIND = 60;
+
+    public static final int TEMPERATURE_BANDS = TEMPERATURE_EDGES.length + 1;
+    public static final int WEATHER_CODES = WeatherCode.values().length;
+    public static final int WIND_BANDS = WIND_EDGES.length + 1;
+    public static final int HUMIDITY_BANDS = HUMIDITY_EDGES.length + 1;
+    public static final int SIZE = TEMPERATURE_BANDS * WEATHER_CODES * WIND_BANDS * HUMIDITY_BANDS;
+
+    // 정수 단위로 미리 펼쳐 둔 구간표: 조회 시 배열 인덱싱 한 번
+    private static final byte[] TEMPERATURE_BAND_BY_DEGREE = expand(TEMPERATURE_EDGES, MIN_DEGREE, MAX_DEGREE);
+    private static final byte[] WIND_BAND_BY_MS = expand(WIND_EDGES, 0, MAX_WIND);
+    private static final byte[] HUMIDITY_BAND_BY_PERCENT = expand(HUMIDITY_EDGES, 0, 100);
+
+    private AdviceBands() {
+    }
+
+    public static int index(ForecastResponse.Current w) {
+        return index(
+                temperatureBand(w.apparent_temperature()),
+                WeatherCode.from(w.weather_code()).ordinal(),
+                windBand(w.wind_speed_10m()),
+                humidityBand(w.relative_humidity_2m())
+        );
+    }
+
+    public static int index(int temperatureBand, int weatherCode, int windBand, int humidityBand) {
+        return ((temperatureBand * WEATHER_CODES + weatherCode) * WIND_BANDS + windBand) * HUMIDITY_BANDS + humidityBand;
+    }
+
+    static int temperatureBand(double apparentTemperature) {
+        int degree = clamp((int) Math.floor(apparentTemperature), MIN_DEGREE, MAX_DEGREE);
+        return TEMPERATURE_BAND_BY_DEGREE[degree - MIN_DEGREE];
+    }
+
+    static int windBand(double windSpeed) {
+        return WIND_BAND_BY_MS[clamp((int) Math.floor(windSpeed), 0, MAX_WIND)];
+    }
+
+    static int humidityBand(int humidity) {
+        return HUMIDITY_BAND_BY_PERCENT[clamp(humidity, 0, 100)];
+    }
+
+    /**
+     * 컴파일러가 LLM에 넘길 구간 대표값.
+     */
+    static ForecastResponse.Current representative(int temperatureBand, int weatherCode, int windBand, int humidityBand) {
+        double apparent = representativeOf(TEMPERATURE_EDGES, temperatureBand, 5);
+        return new ForecastResponse.Current(
+                apparent,
+                apparent,
+                WeatherCode.values()[weatherCode].representativeCode(),
+                (int) representativeOf(HUMIDITY_EDGES, humidityBand, 20),
+                representativeOf(WIND_EDGES, windBand, 4)
+        );
+    }
+
+    static String fingerprint() {
+        return "v" + VERSION
+                + ";t=" + Arrays.toString(TEMPERATURE_EDGES)
+                + ";c=" + Arrays.toString(WeatherCode.values())
+                + ";w=" + Arrays.toString(WIND_EDGES)
+                + ";h=" + Arrays.toString(HUMIDITY_EDGES);
+    }
+
+    private static double representativeOf(int[] edges, int band, int outerWidth) {
+        if (band == 0) {
+            return edges[0] - outerWidth / 2.0;
+        }
+        if (band == edges.length) {
+            return edges[edges.length - 1] + outerWidth / 2.0;
+        }
+        return (edges[band - 1] + edges[band]) / 2.0;
+    }
+
+    private static byte[] expand(int[] edges, int min, int max) {
+        byte[] bands = new byte[max - min + 1];
+        for (int v = min; v <= max; v++) {
+            int band = 0;
+            while (band < edges.length && v >= edges[band]) {
+                band++;
+            }
+            bands[v - min] = (byte) band;
+        }
+        return bands;
+    }
+
+    private static int clamp(int value, int min, int max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
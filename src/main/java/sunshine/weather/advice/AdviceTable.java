@@ -0,0 +1,157 @@
+package sunshine.weather.advice;
+
+import sunshine.weather.dto.ForecastResponse;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 모든 날씨 구간 조합에 대해 미리 생성해 둔 옷차림 조언. 조회는 평탄 배열 인덱싱 한 번이다.
+ * 칸마다 컴파일할 때 맞았던 규칙표 문구의 해시를 함께 두고, 지금 요청에 맞는 규칙이 같을 때만 조언을 내준다.
+ * (규칙표가 우선한다. 조언 구간은 규칙 경계와 따로 정해져 있어서, 한 칸 안에서도 규칙이 갈리거나 규칙 파일이 바뀔 수 있다)
+ *
+ * <pre>
+ * # version=2
+ * # bands=...            (AdviceBands.fingerprint, 다르면 로딩하지 않음)
+ * tBand  code  wind  humidity  rule  outfit   (TSV, rule은 규칙 문구 해시의 16진수)
+ * </pre>
+ */
+public final class AdviceTable {
+
+    private static final String VERSION_HEADER = "# version=";
+    private static final String BANDS_HEADER = "# bands=";
+
+    private final String[] outfits;
+    private final int[] rules;
+
+    private AdviceTable(String[] outfits, int[] rules) {
+        this.outfits = outfits;
+        this.rules = rules;
+    }
+
+    public static AdviceTable empty() {
+        return new AdviceTable(new String[0], new int[0]);
+    }
+
+    /**
+     * @param rules 칸마다 컴파일할 때 맞았던 규칙표 문구의 {@link #ruleKey}
+     */
+    static AdviceTable of(String[] outfits, int[] rules) {
+        return new AdviceTable(outfits.clone(), rules.clone());
+    }
+
+    /**
+     * 규칙표 문구의 해시. String.hashCode는 명세로 정해져 있어 JVM이 달라도 같다.
+     */
+    static int ruleKey(String rule) {
+        return rule.hashCode();
+    }
+
+    /**
+     * 버전/구간 정의가 현재 코드와 다르면 IllegalStateException.
+     */
+    public static AdviceTable read(InputStream in) throws IOException {
+        var reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String[] outfits = new String[AdviceBands.SIZE];
+        int[] rules = new int[AdviceBands.SIZE];
+        boolean versionChecked = false;
+        boolean bandsChecked = false;
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            if (line.startsWith(VERSION_HEADER)) {
+                int version = Integer.parseInt(line.substring(VERSION_HEADER.length()).trim());
+                if (version != AdviceBands.VERSION) {
+                    throw new IllegalStateException("조언 테이블 버전이 다릅니다: " + version);
+                }
+                versionChecked = true;
+                continue;
+            }
+            if (line.startsWith(BANDS_HEADER)) {
+                if (!AdviceBands.fingerprint().equals(line.substring(BANDS_HEADER.length()).trim())) {
+                    throw new IllegalStateException("조언 테이블의 구간 정의가 현재 코드와 다릅니다.");
+                }
+                bandsChecked = true;
+                continue;
+            }
+            if (line.startsWith("#")) {
+                continue;
+            }
+
+            String[] cols = line.split("\t", 6);
+            int index = AdviceBands.index(
+                    Integer.parseInt(cols[0]),
+                    Integer.parseInt(cols[1]),
+                    Integer.parseInt(cols[2]),
+                    Integer.parseInt(cols[3])
+            );
+            rules[index] = Integer.parseUnsignedInt(cols[4], 16);
+            outfits[index] = cols[5];
+        }
+
+        if (!versionChecked || !bandsChecked) {
+            throw new IllegalStateException("조언 테이블 헤더가 없습니다.");
+        }
+        return new AdviceTable(outfits, rules);
+    }
+
+    /**
+     * 해당 구간의 사전 계산 조언. 테이블이 없거나 비어 있는 칸, 또는 그 칸을 만들 때의 규칙이 지금 맞는 규칙(rule)과 다르면 null.
+     */
+    public String outfit(ForecastResponse.Current w, String rule) {
+        if (outfits.length == 0) {
+            return null;
+        }
+        int index = AdviceBands.index(w);
+        String outfit = outfits[index];
+        return outfit != null && rules[index] == ruleKey(rule) ? outfit : null;
+    }
+
+    public int filled() {
+        int filled = 0;
+        for (String outfit : outfits) {
+            if (outfit != null) {
+                filled++;
+            }
+        }
+        return filled;
+    }
+
+    boolean has(int index) {
+        return outfitAt(index) != null;
+    }
+
+    String outfitAt(int index) {
+        return outfits.length == 0 ? null : outfits[index];
+    }
+
+    int ruleAt(int index) {
+        return rules[index];
+    }
+
+    void write(Writer out) throws IOException {
+        out.write(VERSION_HEADER + AdviceBands.VERSION + "\n");
+        out.write(BANDS_HEADER + AdviceBands.fingerprint() + "\n");
+        for (int t = 0; t < AdviceBands.TEMPERATURE_BANDS; t++) {
+            for (int c = 0; c < AdviceBands.WEATHER_CODES; c++) {
+                for (int w = 0; w < AdviceBands.WIND_BANDS; w++) {
+                    for (int h = 0; h < AdviceBands.HUMIDITY_BANDS; h++) {
+                        int index = AdviceBands.index(t, c, w, h);
+                        String outfit = outfitAt(index);
+                        if (outfit != null) {
+                            out.write(t + "\t" + c + "\t" + w + "\t" + h + "\t" + Integer.toHexString(ruleAt(index))
+                                    + "\t" + outfit + "\n");
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
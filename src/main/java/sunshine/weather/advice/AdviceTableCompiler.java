@@ -0,0 +1,105 @@
+package sunshine.weather.advice;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import sunshine.weather.config.AdviceTableProperties;
+import sunshine.weather.dto.ForecastResponse;
+import sunshine.weather.model.City;
+import sunshine.weather.rules.WeatherRules;
+import sunshine.weather.service.LlmWeatherAdvisor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 오프라인 조언 컴파일러. 모든 구간 조합의 대표값으로 LLM 조언을 한 번씩 생성해 테이블 파일로 저장한다.
+ * 이미 채워진 칸은 건너뛰므로 중간에 실패해도 다시 실행하면 이어서 채운다.
+ * 칸마다 대표값에 맞는 규칙표 문구를 함께 기록한다. (실행 시 규칙이 다르면 그 칸은 쓰지 않는다)
+ *
+ * <pre>
+ * ./gradlew bootRun --args='--spring.profiles.active=advice-compiler --spring.main.web-application-type=none'
+ * </pre>
+ */
+@Component
+@Profile("advice-compiler")
+public class AdviceTableCompiler implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(AdviceTableCompiler.class);
+
+    // 조언에 특정 도시 이름이 들어가지 않도록 중립적인 이름을 쓴다
+    private static final City NEUTRAL_CITY = new City("해당 지역", 0, 0);
+
+    private final LlmWeatherAdvisor weatherAdvisor;
+    private final AdviceTableProperties props;
+    private final WeatherRules rules;
+
+    public AdviceTableCompiler(LlmWeatherAdvisor weatherAdvisor, AdviceTableProperties props, WeatherRules rules) {
+        this.weatherAdvisor = weatherAdvisor;
+        this.props = props;
+        this.rules = rules;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        Path output = Path.of(props.output());
+        AdviceTable existing = readExisting(output);
+        String[] outfits = new String[AdviceBands.SIZE];
+        int[] ruleKeys = new int[AdviceBands.SIZE];
+
+        int generated = 0;
+        int failed = 0;
+        for (int t = 0; t < AdviceBands.TEMPERATURE_BANDS; t++) {
+            for (int c = 0; c < AdviceBands.WEATHER_CODES; c++) {
+                for (int w = 0; w < AdviceBands.WIND_BANDS; w++) {
+                    for (int h = 0; h < AdviceBands.HUMIDITY_BANDS; h++) {
+                        int index = AdviceBands.index(t, c, w, h);
+                        ForecastResponse.Current representative = AdviceBands.representative(t, c, w, h);
+                        int ruleKey = AdviceTable.ruleKey(rules.outfit(representative));
+                        // 규칙이 바뀐 칸은 다시 만든다
+                        if (existing.has(index) && existing.ruleAt(index) == ruleKey) {
+                            outfits[index] = existing.outfitAt(index);
+                            ruleKeys[index] = ruleKey;
+                            continue;
+                        }
+                        try {
+                            String outfit = weatherAdvisor.adviseUncached(NEUTRAL_CITY, representative).outfitSummary();
+                            outfits[index] = outfit.replaceAll("\\s+", " ").trim();
+                            ruleKeys[index] = ruleKey;
+                            generated++;
+                        } catch (RuntimeException e) {
+                            failed++;
+                            log.warn("advice compile failed cell=({},{},{},{})", t, c, w, h, e);
+                        }
+                    }
+                }
+            }
+        }
+
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        try (Writer out = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+            AdviceTable.of(outfits, ruleKeys).write(out);
+        }
+        log.info("advice table written cells={} generated={} failed={} output={}",
+                AdviceBands.SIZE, generated, failed, output.toAbsolutePath());
+    }
+
+    private AdviceTable readExisting(Path output) throws IOException {
+        if (!Files.exists(output)) {
+            return AdviceTable.empty();
+        }
+        try (InputStream in = Files.newInputStream(output)) {
+            return AdviceTable.read(in);
+        } catch (IllegalStateException e) {
+            log.warn("existing advice table ignored: {}", e.getMessage());
+            return AdviceTable.empty();
+        }
+    }
+}
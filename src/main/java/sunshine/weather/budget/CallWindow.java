@@ -0,0 +1,100 @@
+package sunshine.weather.budget;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 최근 구간의 LLM 호출 통계를 시간 칸(bucket) 링으로 모은다.
+ * 기록은 현재 칸의 LongAdder 증가뿐이고, 칸이 바뀔 때만 CAS로 새 칸을 끼운다. (락 없음)
+ */
+final class CallWindow {
+
+    private final long bucketNanos;
+    private final AtomicReferenceArray<Bucket> buckets;
+
+    CallWindow(Duration window, int bucketCount) {
+        if (bucketCount <= 0 || window.isZero() || window.isNegative()) {
+            throw new IllegalArgumentException("집계 구간과 칸 수는 양수여야 합니다.");
+        }
+        this.bucketNanos = Math.max(1, window.toNanos() / bucketCount);
+        this.buckets = new AtomicReferenceArray<>(bucketCount);
+    }
+
+    void record(long nowNanos, boolean failure, boolean slow, long costMicroUsd) {
+        Bucket bucket = current(nowNanos);
+        bucket.calls.increment();
+        if (failure) {
+            bucket.failures.increment();
+        }
+        if (slow) {
+            bucket.slowCalls.increment();
+        }
+        if (costMicroUsd > 0) {
+            bucket.costMicroUsd.add(costMicroUsd);
+        }
+    }
+
+    Snapshot snapshot(long nowNanos) {
+        long epoch = Math.floorDiv(nowNanos, bucketNanos);
+        long calls = 0, failures = 0, slowCalls = 0, cost = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            Bucket bucket = buckets.get(i);
+            if (bucket != null && epoch - bucket.epoch < buckets.length()) {
+                calls += bucket.calls.sum();
+                failures += bucket.failures.sum();
+                slowCalls += bucket.slowCalls.sum();
+                cost += bucket.costMicroUsd.sum();
+            }
+        }
+        return new Snapshot(calls, failures, slowCalls, cost);
+    }
+
+    void reset() {
+        for (int i = 0; i < buckets.length(); i++) {
+            buckets.set(i, null);
+        }
+    }
+
+    private Bucket current(long nowNanos) {
+        long epoch = Math.floorDiv(nowNanos, bucketNanos);
+        int index = (int) Math.floorMod(epoch, (long) buckets.length());
+        while (true) {
+            Bucket bucket = buckets.get(index);
+            if (bucket != null && bucket.epoch == epoch) {
+                return bucket;
+            }
+            if (bucket != null && bucket.epoch > epoch) {
+                // 다른 스레드가 이미 다음 칸으로 넘겼다. 경계에서 늦게 도착한 기록은 그 칸에 넣는다
+                return bucket;
+            }
+            Bucket fresh = new Bucket(epoch);
+            if (buckets.compareAndSet(index, bucket, fresh)) {
+                return fresh;
+            }
+        }
+    }
+
+    private static final class Bucket {
+        final long epoch;
+        final LongAdder calls = new LongAdder();
+        final LongAdder failures = new LongAdder();
+        final LongAdder slowCalls = new LongAdder();
+        final LongAdder costMicroUsd = new LongAdder();
+
+        Bucket(long epoch) {
+            this.epoch = epoch;
+        }
+    }
+
+    record Snapshot(long calls, long failures, long slowCalls, long costMicroUsd) {
+
+        double failureRate() {
+            return calls == 0 ? 0 : (double) failures / calls;
+        }
+
+        double slowCallRate() {
+            return calls == 0 ? 0 : (double) slowCalls / calls;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package sunshine.weather.budget;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import sunshine.weather.config.LlmBudgetProperties;
+import sunshine.weather.metrics.WeatherMetrics;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 요청마다 LLM을 쓸지 템플릿으로 내려갈지 정한다.
+ * <ul>
+ *     <li>연속 실패나 오류 비율이 높으면 회로를 열고, openDuration 뒤 요청 하나로 복구를 탐침한다</li>
+ *     <li>느린 호출 비율이 SLO를 넘으면 probeRatio 만큼만 LLM으로 보내 상태를 계속 잰다</li>
+ *     <li>구간 지출을 시간당으로 환산해 예산을 넘으면 구간이 지나 지출이 빠질 때까지 건너뛴다</li>
+ * </ul>
+ * 판단 경로는 volatile 읽기 몇 번뿐이다. 구간 집계는 evaluationInterval 마다 한 스레드만 다시 계산한다.
+ */
+@Component
+public class LlmBudgetController {
+
+    private static final Logger log = LoggerFactory.getLogger(LlmBudgetController.class);
+
+    private static final int CLOSED = 0;
+    private static final int OPEN = 1;
+    private static final int HALF_OPEN = 2;
+
+    private static final BigDecimal MICROS = BigDecimal.valueOf(1_000_000);
+
+    private final LlmBudgetProperties props;
+    private final WeatherMetrics metrics;
+    private final LongSupplier nanoClock;
+    private final CallWindow window;
+    private final long latencySloNanos;
+    private final long openNanos;
+    private final long evaluationNanos;
+    private final long budgetMicroUsdPerWindow;
+
+    private final AtomicInteger state = new AtomicInteger(CLOSED);
+    private final AtomicLong stateSince = new AtomicLong();
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicLong nextEvaluation = new AtomicLong(Long.MIN_VALUE);
+    private volatile Verdict windowVerdict = Verdict.ALLOW;
+
+    @Autowired
+    public LlmBudgetController(LlmBudgetProperties props, WeatherMetrics metrics) {
+        this(props, metrics, System::nanoTime);
+    }
+
+    LlmBudgetController(LlmBudgetProperties props, WeatherMetrics metrics, LongSupplier nanoClock) {
+        this.props = props;
+        this.metrics = metrics;
+        this.nanoClock = nanoClock;
+        this.window = new CallWindow(props.window(), props.buckets());
+        this.latencySloNanos = props.latencySlo().toNanos();
+        this.openNanos = props.openDuration().toNanos();
+        this.evaluationNanos = props.evaluationInterval().toNanos();
+        this.budgetMicroUsdPerWindow = props.usdPerHour() == null
+                ? Long.MAX_VALUE
+                : props.usdPerHour().multiply(MICROS)
+                .multiply(BigDecimal.valueOf(props.window().toMillis()))
+                .divide(BigDecimal.valueOf(3_600_000L), 0, RoundingMode.DOWN)
+                .longValueExact();
+        metrics.llmCircuitState(state::get);
+    }
+
+    /**
+     * 이번 요청을 LLM으로 보내도 되면 true. false면 이유가 sunshine.llm.degraded{reason} 에 남는다.
+     */
+    public boolean tryAcquire() {
+        Verdict verdict = decide();
+        if (verdict != Verdict.ALLOW) {
+            metrics.llmDegraded(verdict.reason());
+            return false;
+        }
+        return true;
+    }
+
+    public Verdict decide() {
+        if (!props.enabled()) {
+            return Verdict.ALLOW;
+        }
+        long now = nanoClock.getAsLong();
+
+        if (state.get() != CLOSED) {
+            return circuitVerdict(now);
+        }
+
+        long next = nextEvaluation.get();
+        if (now >= next && nextEvaluation.compareAndSet(next, now + evaluationNanos)) {
+            windowVerdict = evaluate(now);
+        }
+
+        Verdict verdict = windowVerdict;
+        if (verdict == Verdict.LATENCY_SLO && ThreadLocalRandom.current().nextDouble() < props.probeRatio()) {
+            return Verdict.ALLOW;
+        }
+        return verdict;
+    }
+
+    /**
+     * 백그라운드 작업(인기 도시 선제 갱신 등)이 LLM을 불러도 되면 true. 회로가 닫혀 있고 마지막 구간 판단이 ALLOW일 때만이다.
+     * 읽기만 하므로 탐침 자리를 차지하거나 구간을 다시 계산하지 않고, LATENCY_SLO 탐침 비율도 적용하지 않는다.
+     */
+    public boolean allowsBackground() {
+        if (!props.enabled()) {
+            return true;
+        }
+        return state.get() == CLOSED && windowVerdict == Verdict.ALLOW;
+    }
+
+    public void recordSuccess(long latencyNanos, long costMicroUsd) {
+        long now = nanoClock.getAsLong();
+        window.record(now, false, latencyNanos >= latencySloNanos, costMicroUsd);
+        consecutiveFailures.set(0);
+
+        if (state.get() == HALF_OPEN && state.compareAndSet(HALF_OPEN, CLOSED)) {
+            // 차단 전 실패가 구간에 남아 있으면 바로 다시 열리므로 비우고 시작
+            window.reset();
+            windowVerdict = Verdict.ALLOW;
+            log.info("llm circuit closed after successful probe");
+        }
+    }
+
+    public void recordFailure(long latencyNanos) {
+        long now = nanoClock.getAsLong();
+        window.record(now, true, latencyNanos >= latencySloNanos, 0);
+        int failures = consecutiveFailures.incrementAndGet();
+
+        int current = state.get();
+        if (current == HALF_OPEN) {
+            open(HALF_OPEN, now, "probe failed");
+        } else if (current == CLOSED && failures >= props.consecutiveFailures()) {
+            open(CLOSED, now, failures + " consecutive failures");
+        }
+    }
+
+    /**
+     * 0 = closed, 1 = open, 2 = half-open
+     */
+    public int state() {
+        return state.get();
+    }
+
+    private Verdict circuitVerdict(long now) {
+        long since = stateSince.get();
+        if (now - since < openNanos) {
+            return Verdict.CIRCUIT_OPEN;
+        }
+        // 차단 시간이 지났으면 요청 하나만 탐침으로 보낸다 (stateSince CAS에 이긴 스레드만).
+        // 탐침 결과가 오지 않으면(탐침 요청이 중간에 취소되는 등) openDuration 뒤에 다시 보낸다
+        if (stateSince.compareAndSet(since, now)) {
+            state.compareAndSet(OPEN, HALF_OPEN);
+            return Verdict.ALLOW;
+        }
+        return Verdict.CIRCUIT_OPEN;
+    }
+
+    private Verdict evaluate(long now) {
+        CallWindow.Snapshot snapshot = window.snapshot(now);
+        if (snapshot.costMicroUsd() >= budgetMicroUsdPerWindow) {
+            return Verdict.SPEND_BUDGET;
+        }
+        if (snapshot.calls() < props.minimumCalls()) {
+            return Verdict.ALLOW;
+        }
+        if (snapshot.failureRate() >= props.failureRateThreshold()) {
+            open(CLOSED, now, String.format("failure rate %.2f", snapshot.failureRate()));
+            return Verdict.CIRCUIT_OPEN;
+        }
+        if (snapshot.slowCallRate() >= props.slowCallRatio()) {
+            return Verdict.LATENCY_SLO;
+        }
+        return Verdict.ALLOW;
+    }
+
+    private void open(int from, long now, String cause) {
+        // 상태보다 시각을 먼저 바꿔야 OPEN을 본 스레드가 이전 시각으로 바로 탐침하지 않는다
+        stateSince.set(now);
+        if (state.compareAndSet(from, OPEN)) {
+            log.warn("llm circuit opened: {}", cause);
+        }
+    }
+
+    public enum Verdict {
+        ALLOW("none"),
+        CIRCUIT_OPEN("circuit_open"),
+        LATENCY_SLO("latency_slo"),
+        SPEND_BUDGET("spend_budget");
+
+        private final String reason;
+
+        Verdict(String reason) {
+            this.reason = reason;
+        }
+
+        public String reason() {
+            return reason;
+        }
+    }
+}
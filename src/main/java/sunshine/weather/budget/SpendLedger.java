@@ -0,0 +1,153 @@
+package sunshine.weather.budget;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import sunshine.weather.config.SpendLedgerProperties;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * LLM 호출의 토큰/비용(micro-USD) 장부. 기능별·모델별 누계와 최근 분 단위 구간(역시 기능별·모델별)을 함께 쌓는다.
+ * 기록은 LongAdder 증가와 ConcurrentHashMap 조회뿐이다. (처음 보는 기능/모델, 새 분 칸에서만 할당)
+ */
+@Component
+public class SpendLedger {
+
+    private static final long MINUTE_MILLIS = 60_000;
+    private static final String UNKNOWN_MODEL = "unknown-model";
+
+    private final LongSupplier clock;
+    private final Map<String, Totals> byFeature = new ConcurrentHashMap<>();
+    private final Map<String, Totals> byModel = new ConcurrentHashMap<>();
+    private final AtomicReferenceArray<Minute> minutes;
+
+    @Autowired
+    public SpendLedger(SpendLedgerProperties props) {
+        this(props.minutes(), System::currentTimeMillis);
+    }
+
+    SpendLedger(int minutes, LongSupplier clock) {
+        if (minutes <= 0) {
+            throw new IllegalArgumentException("보관할 분 구간 수는 양수여야 합니다: " + minutes);
+        }
+        this.clock = clock;
+        this.minutes = new AtomicReferenceArray<>(minutes);
+    }
+
+    public void record(String feature, String model, long inputTokens, long outputTokens, long costMicroUsd) {
+        model = model == null ? UNKNOWN_MODEL : model;
+        totals(byFeature, feature).add(inputTokens, outputTokens, costMicroUsd);
+        totals(byModel, model).add(inputTokens, outputTokens, costMicroUsd);
+        Minute minute = current(clock.getAsLong());
+        totals(minute.byFeature, feature).add(inputTokens, outputTokens, costMicroUsd);
+        totals(minute.byModel, model).add(inputTokens, outputTokens, costMicroUsd);
+    }
+
+    /**
+     * 누계와 보관 중인 분 구간(최근 순). 조회용이라 달러 환산은 여기서만 한다.
+     */
+    public Snapshot snapshot() {
+        long epoch = Math.floorDiv(clock.getAsLong(), MINUTE_MILLIS);
+        List<MinuteLine> recent = new ArrayList<>();
+        for (int i = 0; i < minutes.length(); i++) {
+            Minute minute = minutes.get(i);
+            if (minute != null && epoch - minute.epoch < minutes.length()) {
+                Map<String, Line> features = lines(minute.byFeature);
+                recent.add(new MinuteLine(Instant.ofEpochMilli(minute.epoch * MINUTE_MILLIS), sum(features), features,
+                        lines(minute.byModel)));
+            }
+        }
+        recent.sort(Comparator.comparing(MinuteLine::start).reversed());
+
+        Map<String, Line> features = lines(byFeature);
+        return new Snapshot(sum(features), features, lines(byModel), recent);
+    }
+
+    private static Totals totals(Map<String, Totals> map, String key) {
+        // 이미 있는 키는 락 없이 읽는다
+        Totals totals = map.get(key);
+        return totals != null ? totals : map.computeIfAbsent(key, k -> new Totals());
+    }
+
+    private Minute current(long nowMillis) {
+        long epoch = Math.floorDiv(nowMillis, MINUTE_MILLIS);
+        int index = (int) Math.floorMod(epoch, (long) minutes.length());
+        while (true) {
+            Minute minute = minutes.get(index);
+            if (minute != null && minute.epoch >= epoch) {
+                // 다른 스레드가 이미 다음 분으로 넘겼으면 경계에서 늦게 도착한 기록은 그 칸에 넣는다
+                return minute;
+            }
+            Minute fresh = new Minute(epoch);
+            if (minutes.compareAndSet(index, minute, fresh)) {
+                return fresh;
+            }
+        }
+    }
+
+    private static Map<String, Line> lines(Map<String, Totals> totals) {
+        Map<String, Line> lines = new TreeMap<>();
+        totals.forEach((key, value) -> lines.put(key, value.line()));
+        return lines;
+    }
+
+    private static Line sum(Map<String, Line> lines) {
+        long calls = 0, input = 0, output = 0, cost = 0;
+        for (Line line : lines.values()) {
+            calls += line.calls();
+            input += line.inputTokens();
+            output += line.outputTokens();
+            cost += line.costMicroUsd();
+        }
+        return Line.of(calls, input, output, cost);
+    }
+
+    private static final class Totals {
+        final LongAdder calls = new LongAdder();
+        final LongAdder inputTokens = new LongAdder();
+        final LongAdder outputTokens = new LongAdder();
+        final LongAdder costMicroUsd = new LongAdder();
+
+        void add(long input, long output, long cost) {
+            calls.increment();
+            inputTokens.add(input);
+            outputTokens.add(output);
+            costMicroUsd.add(cost);
+        }
+
+        Line line() {
+            return Line.of(calls.sum(), inputTokens.sum(), outputTokens.sum(), costMicroUsd.sum());
+        }
+    }
+
+    private static final class Minute {
+        final long epoch;
+        final Map<String, Totals> byFeature = new ConcurrentHashMap<>();
+        final Map<String, Totals> byModel = new ConcurrentHashMap<>();
+
+        Minute(long epoch) {
+            this.epoch = epoch;
+        }
+    }
+
+    public record Line(long calls, long inputTokens, long outputTokens, long costMicroUsd, BigDecimal costUsd) {
+
+        static Line of(long calls, long inputTokens, long outputTokens, long costMicroUsd) {
+            return new Line(calls, inputTokens, outputTokens, costMicroUsd, BigDecimal.valueOf(costMicroUsd, 6));
+        }
+    }
+
+    public record MinuteLine(Instant start, Line total, Map<String, Line> features, Map<String, Line> models) {}
+
+    public record Snapshot(Line total, Map<String, Line> features, Map<String, Line> models, List<MinuteLine> minutes) {}
+}
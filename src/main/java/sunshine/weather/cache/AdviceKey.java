@@ -0,0 +1,35 @@
+package sunshine.weather.cache;
+
+import sunshine.weather.config.AdviceCacheProperties;
+import sunshine.weather.dto.ForecastResponse;
+import sunshine.weather.gazetteer.CityNames;
+import sunshine.weather.model.City;
+import sunshine.weather.model.WeatherCode;
+
+/**
+ * 조언 캐시 키: 도시 + 구간화한 날씨 수치 + 날씨 코드 분류.
+ */
+public record AdviceKey(
+        String city,
+        int temperature,
+        int apparentTemperature,
+        int humidity,
+        int wind,
+        WeatherCode weather
+) {
+
+    public static AdviceKey of(City city, ForecastResponse.Current w, AdviceCacheProperties props) {
+        return new AdviceKey(
+                CityNames.normalize(city.getName()),
+                bucket(w.temperature_2m(), props.temperatureBucket()),
+                bucket(w.apparent_temperature(), props.temperatureBucket()),
+                w.relative_humidity_2m() / props.humidityBand(),
+                bucket(w.wind_speed_10m(), props.windBand()),
+                WeatherCode.from(w.weather_code())
+        );
+    }
+
+    private static int bucket(double value, double size) {
+        return (int) Math.floor(value / size);
+    }
+}
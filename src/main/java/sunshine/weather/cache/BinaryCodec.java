@@ -0,0 +1,63 @@
+package sunshine.weather.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * 공유 캐시(L2)에 넣는 키/값의 바이너리 표현. JSON보다 작고, 리플렉션 없이 필드 순서대로 읽고 쓴다.
+ * 필드를 바꾸면 namespace 버전을 올려 이전 형식의 값과 섞이지 않게 한다.
+ */
+public interface BinaryCodec<T> {
+
+    BinaryCodec<String> STRING = new BinaryCodec<>() {
+        @Override
+        public void write(String value, DataOutput out) throws IOException {
+            out.writeUTF(value);
+        }
+
+        @Override
+        public String read(DataInput in) throws IOException {
+            return in.readUTF();
+        }
+    };
+
+    BinaryCodec<Long> LONG = new BinaryCodec<>() {
+        @Override
+        public void write(Long value, DataOutput out) throws IOException {
+            out.writeLong(value);
+        }
+
+        @Override
+        public Long read(DataInput in) throws IOException {
+            return in.readLong();
+        }
+    };
+
+    void write(T value, DataOutput out) throws IOException;
+
+    T read(DataInput in) throws IOException;
+
+    default byte[] encode(T value) {
+        var bytes = new ByteArrayOutputStream(64);
+        try (var out = new DataOutputStream(bytes)) {
+            write(value, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    default T decode(byte[] bytes) {
+        try (var in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            return read(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package sunshine.weather.cache;
+
+import sunshine.weather.dto.ForecastResponse;
+import sunshine.weather.model.City;
+import sunshine.weather.model.WeatherCode;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * 도메인 값의 바이너리 코덱. (City ≈ 이름 + 16바이트, Current = 44바이트, AdviceKey ≈ 이름 + 17바이트)
+ */
+public final class CacheCodecs {
+
+    public static final BinaryCodec<City> CITY = new BinaryCodec<>() {
+        @Override
+        public void write(City city, DataOutput out) throws IOException {
+            out.writeUTF(city.getName());
+            out.writeDouble(city.getLatitude());
+            out.writeDouble(city.getLongitude());
+        }
+
+        @Override
+        public City read(DataInput in) throws IOException {
+            return new City(in.readUTF(), in.readDouble(), in.readDouble());
+        }
+    };
+
+    public static final BinaryCodec<ForecastResponse.Current> CURRENT = new BinaryCodec<>() {
+        @Override
+        public void write(ForecastResponse.Current w, DataOutput out) throws IOException {
+            out.writeDouble(w.temperature_2m());
+            out.writeDouble(w.apparent_temperature());
+            out.writeInt(w.weather_code());
+            out.writeInt(w.relative_humidity_2m());
+            out.writeDouble(w.wind_speed_10m());
+            out.writeLong(w.time());
+            out.writeInt(w.interval());
+        }
+
+        @Override
+        public ForecastResponse.Current read(DataInput in) throws IOException {
+            return new ForecastResponse.Current(in.readDouble(), in.readDouble(), in.readInt(), in.readInt(), in.readDouble(),
+                    in.readLong(), in.readInt());
+        }
+    };
+
+    public static final BinaryCodec<AdviceKey> ADVICE_KEY = new BinaryCodec<>() {
+        @Override
+        public void write(AdviceKey key, DataOutput out) throws IOException {
+            out.writeUTF(key.city());
+            out.writeInt(key.temperature());
+            out.writeInt(key.apparentTemperature());
+            out.writeInt(key.humidity());
+            out.writeInt(key.wind());
+            out.writeByte(key.weather().ordinal());
+        }
+
+        @Override
+        public AdviceKey read(DataInput in) throws IOException {
+            return new AdviceKey(in.readUTF(), in.readInt(), in.readInt(), in.readInt(), in.readInt(),
+                    WeatherCode.values()[in.readUnsignedByte()]);
+        }
+    };
+
+    private CacheCodecs() {
+    }
+}
@@ -0,0 +1,18 @@
+package sunshine.weather.cache;
+
+/**
+ * @param sharedHits L1 미스였지만 공유 캐시(L2)에서 찾아 upstream 호출을 건너뛴 횟수
+ */
+public record CacheStats(
+        String name,
+        long size,
+        long hits,
+        long staleHits,
+        long misses,
+        long negativeHits,
+        long loads,
+        long loadFailures,
+        long coalesced,
+        long evictions,
+        long sharedHits
+) {}
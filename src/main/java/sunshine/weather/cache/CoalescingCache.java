@@ -0,0 +1,353 @@
+package sunshine.weather.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 크기 제한(W-TinyLFU) + TTL + 단일 로딩(single-flight) + 실패 캐시(negative caching)를 지원하는 캐시.
+ * 같은 키에 대한 동시 요청은 하나의 로더 호출만 실행하고 나머지는 그 결과를 기다린다. ({@link SingleFlight})
+ * 로딩하던 요청이 취소(인터럽트)되면 그 실패는 넘기지 않고, 기다리던 요청 중 하나가 로딩을 이어받는다.
+ * <p>
+ * {@link SharedTier}를 주면 L1(이 캐시) 미스에서 로더보다 먼저 L2를 보고, 로딩한 값은 L2에 쓴다.
+ * 다른 노드가 같은 키를 다시 쓰면 무효화 메시지로 L1 값을 버린다. 실패 결과는 L2에 올리지 않는다.
+ */
+public class CoalescingCache<K, V> implements MonitoredCache {
+
+    private static final Logger log = LoggerFactory.getLogger(CoalescingCache.class);
+
+    private final String name;
+    private final Cache<K, Entry<V>> store;
+    private final Predicate<RuntimeException> negativeCacheable;
+    private final SharedTier<K, V> shared;
+    private final SingleFlight<K, V> flights;
+    private volatile BiConsumer<? super K, ? super V> loadListener = (key, value) -> {};
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder sharedHits = new LongAdder();
+    private final LongAdder negativeHits = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+
+    /**
+     * @param ttl              성공 결과 유지 시간 (null 또는 0이면 만료 없음)
+     * @param negativeTtl      실패 결과 유지 시간 (null 또는 0이면 실패를 캐시하지 않음)
+     * @param negativeCacheable 캐시해도 되는 실패인지 판단 (예: 존재하지 않는 도시)
+     */
+    public CoalescingCache(
+            String name,
+            long maximumSize,
+            Duration ttl,
+            Duration negativeTtl,
+            Predicate<RuntimeException> negativeCacheable
+    ) {
+        this(name, maximumSize, ttl, negativeTtl, negativeCacheable, null);
+    }
+
+    /**
+     * @param shared L2 (null이면 L1만 사용)
+     */
+    public CoalescingCache(
+            String name,
+            long maximumSize,
+            Duration ttl,
+            Duration negativeTtl,
+            Predicate<RuntimeException> negativeCacheable,
+            SharedTier<K, V> shared
+    ) {
+        this.name = name;
+        this.shared = shared;
+        this.flights = new SingleFlight<>(name);
+        long positiveNanos = toNanos(ttl);
+        long negativeNanos = toNanos(negativeTtl);
+        this.negativeCacheable = negativeNanos == Long.MAX_VALUE ? e -> false : negativeCacheable;
+        this.store = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<K, Entry<V>>() {
+                    @Override
+                    public long expireAfterCreate(K key, Entry<V> value, long currentTime) {
+                        return value.failure() == null ? positiveNanos : negativeNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(K key, Entry<V> value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(K key, Entry<V> value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        if (shared != null) {
+            shared.onRemoteInvalidate(store::invalidate);
+        }
+    }
+
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        Entry<V> entry = store.getIfPresent(key);
+        if (entry != null) {
+            return hit(entry);
+        }
+        misses.increment();
+
+        return flights.execute(key, publish -> {
+            // 앞선 로딩이 끝난 직후일 수 있으므로 한 번 더 확인
+            Entry<V> raced = store.getIfPresent(key);
+            if (raced != null) {
+                return hit(raced);
+            }
+            V fromShared = shared == null ? null : shared.get(key);
+            if (fromShared != null) {
+                sharedHits.increment();
+                store.put(key, new Entry<>(fromShared, null));
+                return fromShared;
+            }
+            return load(key, loader, publish);
+        });
+    }
+
+    /**
+     * {@link #get}의 논블로킹 버전. 로더가 돌려준 future가 끝날 때 저장하고, 진행 중인 로딩(동기/비동기)이 있으면 그 결과를 쓴다.
+     * L2는 조회하지 않고(블로킹일 수 있다) 로딩한 값만 가상 스레드에서 쓴다.
+     * 돌려주는 future를 취소해도 로딩은 계속된다. (같은 키를 기다리는 다른 요청이 있을 수 있다)
+     */
+    public CompletableFuture<V> getAsync(K key, Function<? super K, ? extends CompletableFuture<? extends V>> loader) {
+        return loadAsync(key, loader, false);
+    }
+
+    /**
+     * 로더가 돌려준 future를 캐시가 직접 받아 저장하고, 호출 스레드는 그 결과를 기다리기만 한다.
+     * 호출자가 인터럽트(단계 제한 시간)로 빠져도 로딩은 끝까지 진행되어 저장되므로, 같은 키의 다음 요청은 새로 로딩하지 않고 그 결과를 쓴다.
+     * 블로킹 호출자용이므로 {@link #get}처럼 미스에서 L2를 먼저 본다.
+     */
+    public V await(K key, Function<? super K, ? extends CompletableFuture<? extends V>> loader) {
+        CompletableFuture<V> loading = loadAsync(key, loader, true);
+        try {
+            return loading.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(name + " 캐시 로딩 대기 중 인터럽트되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw unwrap(e.getCause());
+        }
+    }
+
+    private CompletableFuture<V> loadAsync(K key, Function<? super K, ? extends CompletableFuture<? extends V>> loader,
+                                           boolean consultShared) {
+        Entry<V> entry = store.getIfPresent(key);
+        if (entry != null) {
+            return completedAsync(entry);
+        }
+        misses.increment();
+
+        return flights.executeAsync(key, () -> {
+            Entry<V> raced = store.getIfPresent(key);
+            if (raced != null) {
+                return completedAsync(raced);
+            }
+            V fromShared = consultShared && shared != null ? shared.get(key) : null;
+            if (fromShared != null) {
+                sharedHits.increment();
+                store.put(key, new Entry<>(fromShared, null));
+                return CompletableFuture.completedFuture(fromShared);
+            }
+
+            loads.increment();
+            CompletableFuture<? extends V> loading;
+            try {
+                loading = loader.apply(key);
+            } catch (RuntimeException e) {
+                loading = CompletableFuture.failedFuture(e);
+            }
+            return loading.handle((value, failure) -> {
+                if (failure != null) {
+                    RuntimeException e = unwrap(failure);
+                    loadFailures.increment();
+                    if (negativeCacheable.test(e)) {
+                        store.put(key, new Entry<>(null, e));
+                    }
+                    throw e;
+                }
+                store.put(key, new Entry<>(value, null));
+                if (shared != null) {
+                    Thread.startVirtualThread(() -> shared.put(key, value));
+                }
+                try {
+                    loadListener.accept(key, value);
+                } catch (RuntimeException e) {
+                    log.warn("load listener failed cache={}", name, e);
+                }
+                return value;
+            });
+        });
+    }
+
+    /**
+     * 캐시 여부와 관계없이 로더로 다시 읽어 저장한다. 같은 키의 진행 중인 로딩이 있으면 그 결과를 쓴다.
+     */
+    public V reload(K key, Function<? super K, ? extends V> loader) {
+        return flights.execute(key, publish -> load(key, loader, publish));
+    }
+
+    /**
+     * 로더가 성공할 때마다 (key, value)로 호출된다. 로딩 스레드에서 바로 불리므로 막히지 않아야 한다.
+     * {@link #put}으로 넣은 값에는 불리지 않는다.
+     */
+    public void onLoad(BiConsumer<? super K, ? super V> listener) {
+        this.loadListener = listener;
+    }
+
+    /**
+     * 로더를 호출하지 않고 캐시된 성공 값만 조회한다. 실패가 캐시돼 있거나 없으면 null.
+     */
+    public V getIfPresent(K key) {
+        Entry<V> entry = store.getIfPresent(key);
+        if (entry == null || entry.failure() != null) {
+            return null;
+        }
+        hits.increment();
+        return entry.value();
+    }
+
+    /**
+     * 캐시된 성공 값이 만료되기까지 남은 시간. 없거나 실패가 캐시돼 있으면 null. (통계에 넣지 않는다)
+     */
+    public Duration timeToLive(K key) {
+        Entry<V> entry = store.policy().getIfPresentQuietly(key);
+        if (entry == null || entry.failure() != null) {
+            return null;
+        }
+        return store.policy().expireVariably()
+                .flatMap(expiry -> expiry.getExpiresAfter(key))
+                .orElse(null);
+    }
+
+    public void put(K key, V value) {
+        store.put(key, new Entry<>(value, null));
+    }
+
+    public void invalidate(K key) {
+        store.invalidate(key);
+        if (shared != null) {
+            shared.invalidate(key);
+        }
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public CacheStats stats() {
+        return new CacheStats(
+                name,
+                store.estimatedSize(),
+                hits.sum(),
+                0,
+                misses.sum(),
+                negativeHits.sum(),
+                loads.sum(),
+                loadFailures.sum(),
+                flights.coalesced(),
+                store.stats().evictionCount(),
+                sharedHits.sum()
+        );
+    }
+
+    /**
+     * 로더를 부르고 저장한 뒤 기다리던 요청을 먼저 풀어 주고(publish) 부수 효과를 처리한다.
+     */
+    private V load(K key, Function<? super K, ? extends V> loader, Consumer<? super V> publish) {
+        loads.increment();
+        V value;
+        try {
+            value = loader.apply(key);
+        } catch (RuntimeException e) {
+            // 리더의 단계가 취소된 것은 로딩 실패가 아니다 (기다리던 요청이 이어받는다)
+            if (!SingleFlight.cancelled(e)) {
+                loadFailures.increment();
+                if (negativeCacheable.test(e)) {
+                    store.put(key, new Entry<>(null, e));
+                }
+            }
+            throw e;
+        } catch (Error e) {
+            loadFailures.increment();
+            throw e;
+        }
+        store.put(key, new Entry<>(value, null));
+        publish.accept(value);
+        afterLoad(key, value);
+        return value;
+    }
+
+    /**
+     * 로딩이 성공한 뒤의 부수 효과(L2 쓰기, 리스너). 여기서 난 오류는 이미 저장된 값을 실패로 바꾸지 않도록 기록만 한다.
+     */
+    private void afterLoad(K key, V value) {
+        if (shared != null) {
+            try {
+                shared.put(key, value);
+            } catch (RuntimeException e) {
+                log.warn("shared cache write failed cache={}", name, e);
+            }
+        }
+        try {
+            loadListener.accept(key, value);
+        } catch (RuntimeException e) {
+            log.warn("load listener failed cache={}", name, e);
+        }
+    }
+
+    private V hit(Entry<V> entry) {
+        if (entry.failure() != null) {
+            negativeHits.increment();
+            throw entry.failure();
+        }
+        hits.increment();
+        return entry.value();
+    }
+
+    private CompletableFuture<V> completedAsync(Entry<V> entry) {
+        if (entry.failure() != null) {
+            negativeHits.increment();
+            return CompletableFuture.failedFuture(entry.failure());
+        }
+        hits.increment();
+        return CompletableFuture.completedFuture(entry.value());
+    }
+
+    private static RuntimeException unwrap(Throwable failure) {
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+        return cause instanceof RuntimeException e ? e : new IllegalStateException(cause);
+    }
+
+    private static long toNanos(Duration duration) {
+        if (duration == null || duration.isZero() || duration.isNegative()) {
+            return Long.MAX_VALUE;
+        }
+        return duration.toNanos();
+    }
+
+    private record Entry<V>(V value, RuntimeException failure) {}
+}
@@ -0,0 +1,29 @@
+package sunshine.weather.cache;
+
+import sunshine.weather.model.City;
+
+/**
+ * 위도/경도를 일정 간격(예: 0.1°) 격자로 양자화한 칸. 같은 칸의 도시는 같은 날씨 캐시를 공유한다.
+ */
+public record GridCell(int latIndex, int lonIndex, double cellDegrees) {
+
+    public static GridCell of(City city, double cellDegrees) {
+        return new GridCell(
+                (int) Math.round(city.getLatitude() / cellDegrees),
+                (int) Math.round(city.getLongitude() / cellDegrees),
+                cellDegrees
+        );
+    }
+
+    public long key() {
+        return ((long) latIndex << 32) | (lonIndex & 0xffffffffL);
+    }
+
+    public double latitude() {
+        return latIndex * cellDegrees;
+    }
+
+    public double longitude() {
+        return lonIndex * cellDegrees;
+    }
+}
@@ -0,0 +1,14 @@
+package sunshine.weather.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * L1 무효화 메시지. 한 노드가 L2에 새 값을 쓰면 다른 노드들은 같은 키의 L1 값을 버린다.
+ * 구현은 자기 자신이 보낸 메시지를 자기 구독자에게 다시 전달하지 않아야 한다.
+ */
+public interface InvalidationBus {
+
+    void publish(String namespace, byte[] key);
+
+    void subscribe(String namespace, Consumer<byte[]> listener);
+}
@@ -0,0 +1,44 @@
+package sunshine.weather.cache;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 프로세스 안의 무효화 메시지 허브. {@link #connect()}로 얻은 노드끼리 메시지를 동기적으로 주고받는다.
+ */
+public class LocalInvalidationHub {
+
+    private final List<Node> nodes = new CopyOnWriteArrayList<>();
+
+    public InvalidationBus connect() {
+        Node node = new Node();
+        nodes.add(node);
+        return node;
+    }
+
+    private record Subscription(String namespace, Consumer<byte[]> listener) {}
+
+    private final class Node implements InvalidationBus {
+        private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void publish(String namespace, byte[] key) {
+            for (Node node : nodes) {
+                if (node == this) {
+                    continue;
+                }
+                for (Subscription subscription : node.subscriptions) {
+                    if (subscription.namespace().equals(namespace)) {
+                        subscription.listener().accept(key);
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void subscribe(String namespace, Consumer<byte[]> listener) {
+            subscriptions.add(new Subscription(namespace, listener));
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package sunshine.weather.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+
+/**
+ * 프로세스 안의 {@link SharedCache}. 테스트에서 여러 노드가 같은 인스턴스를 나눠 쓰게 하거나, 단일 노드에서 L2 경로를 켤 때 쓴다.
+ * 값은 인코딩된 바이트 그대로 보관한다.
+ */
+public class LocalSharedCache implements SharedCache {
+
+    private final Cache<Key, Stored> store;
+
+    public LocalSharedCache(long maximumSize) {
+        this.store = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<Key, Stored>() {
+                    @Override
+                    public long expireAfterCreate(Key key, Stored value, long currentTime) {
+                        return value.ttlNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(Key key, Stored value, long currentTime, long currentDuration) {
+                        return value.ttlNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(Key key, Stored value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    @Override
+    public byte[] get(String namespace, byte[] key) {
+        Stored stored = store.getIfPresent(new Key(namespace, ByteBuffer.wrap(key)));
+        return stored == null ? null : stored.value();
+    }
+
+    @Override
+    public void put(String namespace, byte[] key, byte[] value, Duration ttl) {
+        long ttlNanos = ttl == null || ttl.isZero() || ttl.isNegative() ? Long.MAX_VALUE : ttl.toNanos();
+        store.put(new Key(namespace, ByteBuffer.wrap(key.clone())), new Stored(value.clone(), ttlNanos));
+    }
+
+    @Override
+    public void invalidate(String namespace, byte[] key) {
+        store.invalidate(new Key(namespace, ByteBuffer.wrap(key)));
+    }
+
+    /**
+     * ByteBuffer는 내용으로 equals/hashCode를 계산한다
+     */
+    private record Key(String namespace, ByteBuffer key) {}
+
+    private record Stored(byte[] value, long ttlNanos) {}
+}
@@ -0,0 +1,10 @@
+package sunshine.weather.cache;
+
+/**
+ * 통계를 노출하는 캐시. {@code GET /api/cache/stats}에 모인다.
+ */
+public interface MonitoredCache {
+    String name();
+
+    CacheStats stats();
+}
@@ -0,0 +1,17 @@
+package sunshine.weather.cache;
+
+import java.time.Duration;
+
+/**
+ * 노드들이 함께 쓰는 L2 캐시. 구현(예: Redis, Memcached)은 빈으로 등록하면 {@link SharedTiers}가 사용한다.
+ * 키/값은 {@link BinaryCodec}으로 만든 바이트 배열이고, namespace로 캐시를 구분한다.
+ * 구현은 실패를 예외로 알려도 된다. 호출하는 쪽에서 캐시 미스로 취급한다.
+ */
+public interface SharedCache {
+
+    byte[] get(String namespace, byte[] key);
+
+    void put(String namespace, byte[] key, byte[] value, Duration ttl);
+
+    void invalidate(String namespace, byte[] key);
+}
@@ -0,0 +1,86 @@
+package sunshine.weather.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+
+/**
+ * 한 캐시(namespace)의 L2 접근. 키/값 인코딩과 무효화 메시지 발행을 맡는다.
+ * L2 오류는 요청을 실패시키지 않고 미스로 취급한다.
+ */
+public final class SharedTier<K, V> {
+
+    private static final Logger log = LoggerFactory.getLogger(SharedTier.class);
+
+    private final String namespace;
+    private final SharedCache shared;
+    private final InvalidationBus bus;
+    private final BinaryCodec<K> keyCodec;
+    private final BinaryCodec<V> valueCodec;
+    private final Duration ttl;
+
+    SharedTier(String namespace, SharedCache shared, InvalidationBus bus,
+               BinaryCodec<K> keyCodec, BinaryCodec<V> valueCodec, Duration ttl) {
+        this.namespace = namespace;
+        this.shared = shared;
+        this.bus = bus;
+        this.keyCodec = keyCodec;
+        this.valueCodec = valueCodec;
+        this.ttl = ttl;
+    }
+
+    public V get(K key) {
+        try {
+            byte[] bytes = shared.get(namespace, keyCodec.encode(key));
+            return bytes == null ? null : valueCodec.decode(bytes);
+        } catch (RuntimeException e) {
+            log.debug("shared cache get failed namespace={}", namespace, e);
+            return null;
+        }
+    }
+
+    /**
+     * L2에 쓰고 다른 노드의 L1 값을 무효화한다.
+     */
+    public void put(K key, V value) {
+        byte[] encodedKey = keyCodec.encode(key);
+        try {
+            shared.put(namespace, encodedKey, valueCodec.encode(value), ttl);
+        } catch (RuntimeException e) {
+            log.debug("shared cache put failed namespace={}", namespace, e);
+        }
+        publish(encodedKey);
+    }
+
+    public void invalidate(K key) {
+        byte[] encodedKey = keyCodec.encode(key);
+        try {
+            shared.invalidate(namespace, encodedKey);
+        } catch (RuntimeException e) {
+            log.debug("shared cache invalidate failed namespace={}", namespace, e);
+        }
+        publish(encodedKey);
+    }
+
+    /**
+     * 다른 노드가 이 namespace의 키를 바꾸면 l1Invalidate가 호출된다.
+     */
+    public void onRemoteInvalidate(Consumer<K> l1Invalidate) {
+        if (bus != null) {
+            bus.subscribe(namespace, key -> l1Invalidate.accept(keyCodec.decode(key)));
+        }
+    }
+
+    private void publish(byte[] encodedKey) {
+        if (bus == null) {
+            return;
+        }
+        try {
+            bus.publish(namespace, encodedKey);
+        } catch (RuntimeException e) {
+            log.debug("invalidation publish failed namespace={}", namespace, e);
+        }
+    }
+}
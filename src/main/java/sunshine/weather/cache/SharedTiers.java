@@ -0,0 +1,36 @@
+package sunshine.weather.cache;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * {@link SharedCache} 빈이 있으면 캐시별 {@link SharedTier}를 만든다. 없으면 null (L1만 사용).
+ */
+@Component
+public class SharedTiers {
+
+    private final SharedCache shared;
+    private final InvalidationBus bus;
+
+    public SharedTiers(ObjectProvider<SharedCache> shared, ObjectProvider<InvalidationBus> bus) {
+        this.shared = shared.getIfAvailable();
+        this.bus = bus.getIfAvailable();
+    }
+
+    public <K, V> SharedTier<K, V> tier(String namespace, BinaryCodec<K> keyCodec, BinaryCodec<V> valueCodec, Duration ttl) {
+        if (shared == null) {
+            return null;
+        }
+        return new SharedTier<>(namespace, shared, bus, keyCodec, valueCodec, ttl);
+    }
+
+    /**
+     * 스프링 밖(테스트/벤치마크)에서 직접 묶을 때
+     */
+    public static <K, V> SharedTier<K, V> of(String namespace, SharedCache shared, InvalidationBus bus,
+                                             BinaryCodec<K> keyCodec, BinaryCodec<V> valueCodec, Duration ttl) {
+        return new SharedTier<>(namespace, shared, bus, keyCodec, valueCodec, ttl);
+    }
+}
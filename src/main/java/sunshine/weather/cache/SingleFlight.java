@@ -0,0 +1,182 @@
+package sunshine.weather.cache;
+
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.nio.channels.ClosedByInterruptException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 키별 단일 로딩(single-flight). 같은 키로 진행 중인 호출이 있으면 새로 실행하지 않고 그 결과를 기다린다.
+ * 실행하던 요청이 취소(인터럽트)되면 그 실패는 넘기지 않고, 기다리던 요청 중 하나가 이어서 실행한다.
+ * 저장/통계는 하지 않으므로 캐시 조회와 저장은 호출하는 쪽이 한다.
+ */
+public final class SingleFlight<K, V> {
+
+    private final String name;
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * @param name 대기 중 인터럽트 메시지에 쓰는 이름
+     */
+    public SingleFlight(String name) {
+        this.name = name;
+    }
+
+    /**
+     * 리더가 실행하는 작업. publish로 값을 먼저 넘기면 기다리던 요청은 바로 풀리고, 리더는 뒤이은 부수 효과(L2 쓰기 등)를 마저 한다.
+     * publish 없이 돌아오면 돌려준 값을 넘긴다.
+     */
+    @FunctionalInterface
+    public interface Flight<V> {
+        V run(Consumer<? super V> publish);
+    }
+
+    public V execute(K key, Supplier<? extends V> task) {
+        return execute(key, publish -> task.get());
+    }
+
+    /**
+     * 진행 중인 호출이 없으면 호출 스레드에서 flight를 실행하고, 있으면 그 결과를 기다린다.
+     * 대기는 인터럽트에 반응하도록 get()으로 하고, 리더가 취소되어 실행을 넘기면 이 요청이 다시 시도한다.
+     */
+    public V execute(K key, Flight<? extends V> flight) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> leader = inFlight.putIfAbsent(key, mine);
+        if (leader != null) {
+            coalesced.increment();
+            return follow(leader, () -> execute(key, flight));
+        }
+
+        try {
+            V value = flight.run(mine::complete);
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            if (cancelled(e)) {
+                // 리더의 단계가 취소된 것일 뿐이므로 실패를 넘기지 않고, 아직 기다리는 요청이 이어받게 한다
+                inFlight.remove(key, mine);
+                mine.completeExceptionally(Abandoned.INSTANCE);
+                throw e;
+            }
+            mine.completeExceptionally(e);
+            throw e;
+        } catch (Throwable t) {
+            // Error도 기다리는 요청에 전달해야 get()이 영원히 막히지 않는다
+            mine.completeExceptionally(t);
+            throw t;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * {@link #execute}의 논블로킹 버전. task가 돌려준 future가 끝날 때 기다리던 요청(동기/비동기)에 결과를 넘긴다.
+     * 돌려주는 future를 취소해도 진행 중인 작업은 계속된다. (같은 키를 기다리는 다른 요청이 있을 수 있다)
+     */
+    public CompletableFuture<V> executeAsync(K key, Supplier<? extends CompletableFuture<? extends V>> task) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> leader = inFlight.putIfAbsent(key, mine);
+        if (leader != null) {
+            coalesced.increment();
+            // 동기 리더가 취소되어 실행을 넘기면 이 요청이 다시 실행한다
+            return leader.exceptionallyCompose(failure -> cause(failure) instanceof Abandoned
+                    ? executeAsync(key, task)
+                    : CompletableFuture.failedFuture(failure));
+        }
+
+        CompletableFuture<? extends V> running;
+        try {
+            running = task.get();
+        } catch (RuntimeException e) {
+            running = CompletableFuture.failedFuture(e);
+        }
+        running.whenComplete((value, failure) -> {
+            try {
+                if (failure == null) {
+                    mine.complete(value);
+                } else {
+                    mine.completeExceptionally(cause(failure));
+                }
+            } finally {
+                inFlight.remove(key, mine);
+            }
+        });
+        return mine.copy();
+    }
+
+    public boolean running(K key) {
+        return inFlight.containsKey(key);
+    }
+
+    /**
+     * 진행 중인 호출에 합류한 요청 수
+     */
+    public long coalesced() {
+        return coalesced.sum();
+    }
+
+    /**
+     * 실패가 호출 스레드의 취소(인터럽트) 때문인지. 소켓 타임아웃은 취소가 아니다.
+     */
+    public static boolean cancelled(Throwable failure) {
+        if (Thread.currentThread().isInterrupted()) {
+            return true;
+        }
+        for (Throwable t = failure; t != null; t = t.getCause()) {
+            if (t instanceof InterruptedException
+                    || t instanceof ClosedByInterruptException
+                    || t instanceof CancellationException
+                    || (t instanceof InterruptedIOException && !(t instanceof SocketTimeoutException))) {
+                return true;
+            }
+            if (t.getCause() == t) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    private V follow(CompletableFuture<V> leader, Supplier<V> takeOver) {
+        try {
+            return leader.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(name + " 캐시 로딩 대기 중 인터럽트되었습니다.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Abandoned) {
+                return takeOver.get();
+            }
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private static Throwable cause(Throwable failure) {
+        return failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+    }
+
+    /**
+     * 리더가 취소되어 실행을 포기했다는 신호. 기다리던 요청에게만 전달되고 호출자에게는 나가지 않는다.
+     */
+    private static final class Abandoned extends RuntimeException {
+        static final Abandoned INSTANCE = new Abandoned();
+
+        private Abandoned() {
+            super("leader cancelled", null, false, false);
+        }
+    }
+}
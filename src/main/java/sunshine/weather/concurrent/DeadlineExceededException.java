@@ -0,0 +1,16 @@
+package sunshine.weather.concurrent;
+
+import java.time.Duration;
+
+public class DeadlineExceededException extends RuntimeException {
+    private final int attempts;
+
+    public DeadlineExceededException(Duration deadline, int attempts, Throwable cause) {
+        super("제한 시간(" + deadline.toMillis() + "ms) 안에 응답을 받지 못했습니다. (시도 " + attempts + "회)", cause);
+        this.attempts = attempts;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+}
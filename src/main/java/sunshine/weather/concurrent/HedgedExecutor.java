@@ -0,0 +1,195 @@
+package sunshine.weather.concurrent;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * 전체 데드라인 안에서 멱등 호출을 실행한다.
+ * <ul>
+ *     <li>첫 시도가 최근 지연의 분위수(예: p95)를 넘기면 같은 호출을 하나 더 보내고(hedge) 먼저 성공한 쪽을 쓴다</li>
+ *     <li>재시도 가능한 실패면 지터를 섞은 지수 백오프 뒤 다시 시도한다 (남은 데드라인 안에서만)</li>
+ *     <li>데드라인이 지나면 진행 중인 시도를 모두 취소(interrupt)한다</li>
+ * </ul>
+ */
+public final class HedgedExecutor implements AutoCloseable {
+
+    public static final String PRIMARY = "primary";
+    public static final String HEDGE = "hedge";
+    public static final String RETRY = "retry";
+
+    private final Policy policy;
+    private final LatencyEstimator latencies;
+    private final Consumer<String> onAttempt;
+    private final ExecutorService executor;
+
+    /**
+     * @param onAttempt 시도를 보낼 때마다 종류({@link #PRIMARY}/{@link #HEDGE}/{@link #RETRY})와 함께 호출됨
+     */
+    public HedgedExecutor(String name, Policy policy, Consumer<String> onAttempt) {
+        this.policy = policy;
+        this.latencies = new LatencyEstimator(1024, policy.hedgePercentile(), 50, Duration.ofMillis(100));
+        this.onAttempt = onAttempt;
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + "-", 0).factory());
+    }
+
+    /**
+     * @param retryable 다시 보내도 안전하고 의미 있는 실패인지 (연결 오류, 429, 502/503/504 등)
+     * @throws DeadlineExceededException 데드라인 안에 성공하지 못한 경우 (이전 시도의 실패가 있으면 cause)
+     */
+    public <T> T call(Callable<T> task, Predicate<Throwable> retryable) {
+        long deadline = System.nanoTime() + policy.deadline().toNanos();
+        int attempt = 1;
+        String kind = PRIMARY;
+        Throwable failure = null;
+        while (true) {
+            try {
+                return hedged(task, deadline, kind);
+            } catch (ExecutionException e) {
+                failure = e.getCause();
+            } catch (TimeoutException e) {
+                throw new DeadlineExceededException(policy.deadline(), attempt, failure);
+            }
+
+            long backoff = backoffNanos(attempt);
+            boolean retry = retryable.test(failure)
+                    && attempt < policy.maxAttempts()
+                    && System.nanoTime() + backoff < deadline;
+            if (!retry) {
+                if (failure instanceof RuntimeException runtime) {
+                    throw runtime;
+                }
+                throw new IllegalStateException(failure);
+            }
+            sleep(backoff);
+            attempt++;
+            kind = RETRY;
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private <T> T hedged(Callable<T> task, long deadline, String kind) throws ExecutionException, TimeoutException {
+        Attempt<T> first = fork(task, kind);
+        Attempt<T> second = null;
+        try {
+            if (policy.hedge()) {
+                long hedgeDelay = Math.max(policy.minHedgeDelay().toNanos(),
+                        latencies.estimate(policy.fallbackHedgeDelay()).toNanos());
+                long wait = Math.min(hedgeDelay, deadline - System.nanoTime());
+                try {
+                    return first.result().get(Math.max(0, wait), TimeUnit.NANOSECONDS);
+                } catch (TimeoutException e) {
+                    if (System.nanoTime() >= deadline) {
+                        throw e;
+                    }
+                    second = fork(task, HEDGE);
+                }
+            }
+            return firstSuccess(first, second).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("호출 대기 중 인터럽트되었습니다.", e);
+        } finally {
+            first.cancel();
+            if (second != null) {
+                second.cancel();
+            }
+        }
+    }
+
+    /**
+     * 둘 중 먼저 성공한 결과. 한쪽이 실패하면 다른 쪽을 기다리고, 둘 다 실패하면 나중 실패로 끝난다.
+     */
+    private static <T> CompletableFuture<T> firstSuccess(Attempt<T> first, Attempt<T> second) {
+        if (second == null) {
+            return first.result();
+        }
+        CompletableFuture<T> winner = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        BiConsumer<T, Throwable> onDone = (value, error) -> {
+            if (error == null) {
+                winner.complete(value);
+            } else if (failures.incrementAndGet() == 2) {
+                winner.completeExceptionally(error);
+            }
+        };
+        first.result().whenComplete(onDone);
+        second.result().whenComplete(onDone);
+        return winner;
+    }
+
+    private <T> Attempt<T> fork(Callable<T> task, String kind) {
+        onAttempt.accept(kind);
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<?> running = executor.submit(() -> {
+            long start = System.nanoTime();
+            try {
+                T value = task.call();
+                latencies.record(System.nanoTime() - start);
+                result.complete(value);
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            }
+        });
+        return new Attempt<>(result, running);
+    }
+
+    private long backoffNanos(int attempt) {
+        long base = policy.initialBackoff().toNanos() << Math.min(attempt - 1, 16);
+        long capped = Math.min(base, policy.maxBackoff().toNanos());
+        // full jitter: [0, capped)
+        return capped <= 0 ? 0 : ThreadLocalRandom.current().nextLong(capped);
+    }
+
+    private static void sleep(long nanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("재시도 대기 중 인터럽트되었습니다.", e);
+        }
+    }
+
+    private record Attempt<T>(CompletableFuture<T> result, Future<?> running) {
+        void cancel() {
+            if (!result.isDone()) {
+                result.cancel(false);
+                running.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * @param deadline           재시도/헤지를 포함한 호출 전체 제한 시간
+     * @param hedge              헤지 요청 사용 여부
+     * @param hedgePercentile    헤지를 보낼 지연 분위 (최근 성공 시도 기준)
+     * @param minHedgeDelay      헤지 대기 하한 (너무 이른 중복 요청 방지)
+     * @param fallbackHedgeDelay 표본이 모이기 전 헤지 대기
+     * @param maxAttempts        헤지를 제외한 최대 시도 횟수
+     */
+    public record Policy(
+            Duration deadline,
+            boolean hedge,
+            double hedgePercentile,
+            Duration minHedgeDelay,
+            Duration fallbackHedgeDelay,
+            int maxAttempts,
+            Duration initialBackoff,
+            Duration maxBackoff
+    ) {}
+}
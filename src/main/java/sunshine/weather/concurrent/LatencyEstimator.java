@@ -0,0 +1,68 @@
+package sunshine.weather.concurrent;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 최근 N개 지연 표본으로 분위수를 추정한다.
+ * 기록은 링 버퍼 한 칸 쓰기뿐이고, 분위수는 refreshInterval 마다 한 스레드만 다시 정렬해 계산한다.
+ */
+public final class LatencyEstimator {
+
+    private final AtomicLongArray samples;
+    private final AtomicLong recorded = new AtomicLong();
+    private final double percentile;
+    private final int minimumSamples;
+    private final long refreshNanos;
+    private final AtomicLong nextRefresh = new AtomicLong(Long.MIN_VALUE);
+    private volatile long estimateNanos = -1;
+
+    /**
+     * @param capacity       보관할 최근 표본 수
+     * @param percentile     추정할 분위 (예: 0.95)
+     * @param minimumSamples 이보다 적게 모였으면 추정하지 않음
+     */
+    public LatencyEstimator(int capacity, double percentile, int minimumSamples, Duration refreshInterval) {
+        if (capacity <= 0 || percentile <= 0 || percentile > 1) {
+            throw new IllegalArgumentException("표본 수는 양수, 분위는 (0, 1] 이어야 합니다.");
+        }
+        this.samples = new AtomicLongArray(capacity);
+        this.percentile = percentile;
+        this.minimumSamples = Math.min(minimumSamples, capacity);
+        this.refreshNanos = refreshInterval.toNanos();
+    }
+
+    public void record(long nanos) {
+        long index = recorded.getAndIncrement();
+        samples.set((int) (index % samples.length()), nanos);
+    }
+
+    /**
+     * 표본이 부족하면 fallback을 돌려준다.
+     */
+    public Duration estimate(Duration fallback) {
+        long now = System.nanoTime();
+        long next = nextRefresh.get();
+        if (now >= next && nextRefresh.compareAndSet(next, now + refreshNanos)) {
+            estimateNanos = compute();
+        }
+        long estimate = estimateNanos;
+        return estimate < 0 ? fallback : Duration.ofNanos(estimate);
+    }
+
+    private long compute() {
+        int size = (int) Math.min(recorded.get(), samples.length());
+        if (size < minimumSamples) {
+            return -1;
+        }
+        long[] copy = new long[size];
+        for (int i = 0; i < size; i++) {
+            copy[i] = samples.get(i);
+        }
+        Arrays.sort(copy);
+        int index = (int) Math.ceil(percentile * size) - 1;
+        return copy[Math.max(0, index)];
+    }
+}
@@ -0,0 +1,141 @@
+package sunshine.weather.concurrent;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * 짧은 시간(window) 동안 들어온 요청을 모아 한 번에 처리한다.
+ * window가 지나거나 maxBatchSize만큼 모이면 batchFunction을 호출하고, 결과를 입력 순서대로 각 호출자에게 돌려준다.
+ *
+ * @param <I> 개별 요청
+ * @param <O> 개별 결과 (batchFunction은 입력과 같은 길이/순서의 리스트를 반환해야 한다)
+ */
+public class MicroBatcher<I, O> implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(MicroBatcher.class);
+
+    private final String name;
+    private final Function<List<I>, List<O>> batchFunction;
+    private final int maxBatchSize;
+    private final long windowNanos;
+    private final ScheduledExecutorService timer;
+    private final ExecutorService dispatcher;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private List<Pending<I, O>> pending = new ArrayList<>();
+    private ScheduledFuture<?> flushTask;
+
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder items = new LongAdder();
+
+    public MicroBatcher(String name, Duration window, int maxBatchSize, Function<List<I>, List<O>> batchFunction) {
+        this.name = name;
+        this.batchFunction = batchFunction;
+        this.maxBatchSize = maxBatchSize;
+        this.windowNanos = window.toNanos();
+        this.timer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, name + "-batch-timer");
+            t.setDaemon(true);
+            return t;
+        });
+        this.dispatcher = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + "-batch-", 0).factory());
+    }
+
+    public CompletableFuture<O> submit(I input) {
+        var request = new Pending<I, O>(input, new CompletableFuture<>());
+        List<Pending<I, O>> ready = null;
+
+        lock.lock();
+        try {
+            pending.add(request);
+            if (pending.size() >= maxBatchSize) {
+                ready = drain();
+            } else if (pending.size() == 1) {
+                flushTask = timer.schedule(this::flush, windowNanos, TimeUnit.NANOSECONDS);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (ready != null) {
+            dispatch(ready);
+        }
+        return request.result();
+    }
+
+    public long batchCount() {
+        return batches.sum();
+    }
+
+    public long itemCount() {
+        return items.sum();
+    }
+
+    @Override
+    public void close() {
+        timer.shutdownNow();
+        flush();
+        dispatcher.close();
+    }
+
+    private void flush() {
+        List<Pending<I, O>> ready;
+        lock.lock();
+        try {
+            ready = drain();
+        } finally {
+            lock.unlock();
+        }
+        if (!ready.isEmpty()) {
+            dispatch(ready);
+        }
+    }
+
+    private List<Pending<I, O>> drain() {
+        List<Pending<I, O>> ready = pending;
+        pending = new ArrayList<>();
+        if (flushTask != null) {
+            flushTask.cancel(false);
+            flushTask = null;
+        }
+        return ready;
+    }
+
+    private void dispatch(List<Pending<I, O>> batch) {
+        dispatcher.execute(() -> run(batch));
+    }
+
+    private void run(List<Pending<I, O>> batch) {
+        batches.increment();
+        items.add(batch.size());
+        try {
+            List<O> results = batchFunction.apply(batch.stream().map(Pending::input).toList());
+            if (results == null || results.size() != batch.size()) {
+                throw new IllegalStateException(name + " 배치 결과 개수가 요청 개수와 다릅니다.");
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).result().complete(results.get(i));
+            }
+        } catch (RuntimeException e) {
+            log.debug("{} batch failed size={}", name, batch.size(), e);
+            for (Pending<I, O> request : batch) {
+                request.result().completeExceptionally(e);
+            }
+        }
+    }
+
+    private record Pending<I, O>(I input, CompletableFuture<O> result) {}
+}
@@ -0,0 +1,195 @@
+package sunshine.weather.concurrent;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 가상 스레드 위에서 하위 작업을 fork하고 데드라인 안에 join하는 범위.
+ * 데드라인이 지나거나 scope가 닫히면 끝나지 않은 하위 작업은 모두 취소(interrupt)된다.
+ * (JDK 21의 StructuredTaskScope는 preview API라서 같은 모양을 직접 구성)
+ * <p>
+ * 단일 단계({@link #call})는 fork하지 않고 호출 스레드에서 실행한다. ThreadLocal(StageTimings 등)이 그대로 보이고
+ * 단계마다 executor/스레드를 만들지 않는다. 여러 작업을 동시에 돌리는 fan-out만 fork한다.
+ */
+public final class StageScope implements AutoCloseable {
+
+    private static final int RUNNING = 0;
+    private static final int INTERRUPTING = 1;
+    private static final int EXPIRED = 2;
+    private static final int DONE = 3;
+
+    /**
+     * 단계 데드라인에 호출 스레드를 인터럽트하는 공유 타이머. 하는 일은 interrupt()뿐이라 한 스레드로 충분하다.
+     */
+    private static final ScheduledThreadPoolExecutor DEADLINES = deadlines();
+
+    private final String name;
+    private final Duration timeout;
+    private final long deadlineNanos;
+    private final ExecutorService executor;
+    private final List<Fork<?>> forks = new CopyOnWriteArrayList<>();
+
+    /**
+     * @param timeout null 또는 0이면 데드라인 없음
+     */
+    public StageScope(String name, Duration timeout) {
+        this.name = name;
+        this.timeout = timeout;
+        this.deadlineNanos = hasTimeout(timeout) ? System.nanoTime() + timeout.toNanos() : Long.MAX_VALUE;
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + "-", 0).factory());
+    }
+
+    /**
+     * 단일 단계를 호출 스레드에서 제한 시간 안에 실행한다. 시간을 넘기면 호출 스레드를 인터럽트하고,
+     * 작업이 그 때문에 끝나면 {@link StageTimeoutException}을 던진다. 인터럽트에 반응하지 않는 작업은 끝날 때까지 기다린다.
+     * 소요 시간은 호출 스레드의 {@link StageTimings}에 남는다.
+     */
+    public static <T> T call(String stage, Duration timeout, Callable<T> task) {
+        long start = System.nanoTime();
+        try {
+            if (!hasTimeout(timeout)) {
+                return callInline(task);
+            }
+            return callWithDeadline(stage, timeout, task);
+        } finally {
+            StageTimings.record(stage, System.nanoTime() - start);
+        }
+    }
+
+    private static <T> T callWithDeadline(String stage, Duration timeout, Callable<T> task) {
+        Thread caller = Thread.currentThread();
+        AtomicInteger state = new AtomicInteger(RUNNING);
+        ScheduledFuture<?> alarm = DEADLINES.schedule(() -> {
+            if (state.compareAndSet(RUNNING, INTERRUPTING)) {
+                caller.interrupt();
+                state.set(EXPIRED);
+            }
+        }, timeout.toNanos(), TimeUnit.NANOSECONDS);
+
+        T result;
+        try {
+            result = callInline(task);
+        } catch (RuntimeException e) {
+            if (!finish(state, alarm)) {
+                throw new StageTimeoutException(stage, timeout);
+            }
+            throw e;
+        } catch (Error e) {
+            finish(state, alarm);
+            throw e;
+        }
+        // 데드라인과 거의 같이 끝났으면 결과를 그대로 쓴다 (finish가 타이머의 인터럽트를 지운다)
+        finish(state, alarm);
+        return result;
+    }
+
+    /**
+     * 타이머를 멈추고, 데드라인 전에 끝났으면 true. 이미 인터럽트했으면 그 인터럽트를 지우고 false.
+     * 다음 단계나 스레드 풀로 돌아간 스레드에 인터럽트가 남지 않도록 전달이 끝날 때까지 기다렸다가 지운다.
+     */
+    private static boolean finish(AtomicInteger state, ScheduledFuture<?> alarm) {
+        if (state.compareAndSet(RUNNING, DONE)) {
+            alarm.cancel(false);
+            return true;
+        }
+        while (state.get() != EXPIRED) {
+            Thread.onSpinWait();
+        }
+        Thread.interrupted();
+        return false;
+    }
+
+    public <T> CompletableFuture<T> fork(Callable<T> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<?> running = executor.submit(() -> {
+            try {
+                result.complete(task.call());
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            }
+        });
+        forks.add(new Fork<>(result, running));
+        return result;
+    }
+
+    /**
+     * 모든 fork가 끝날 때까지 데드라인 안에서 기다린다. 개별 실패는 각 future에 남는다.
+     *
+     * @return 데드라인 안에 모두 끝났으면 true. false면 남은 작업은 취소된 상태다.
+     */
+    public boolean join() {
+        var all = CompletableFuture.allOf(forks.stream().map(Fork::result).toArray(CompletableFuture[]::new));
+        try {
+            if (deadlineNanos == Long.MAX_VALUE) {
+                all.get();
+            } else {
+                all.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+            }
+            return true;
+        } catch (ExecutionException e) {
+            return true;
+        } catch (TimeoutException e) {
+            cancelAll();
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancelAll();
+            throw new IllegalStateException(name + " 대기 중 인터럽트되었습니다.", e);
+        }
+    }
+
+    public Duration timeout() {
+        return timeout;
+    }
+
+    @Override
+    public void close() {
+        cancelAll();
+        // 인터럽트에 반응하지 않는 블로킹 I/O가 있을 수 있어서 종료를 기다리지 않는다
+        executor.shutdownNow();
+    }
+
+    private void cancelAll() {
+        for (Fork<?> fork : forks) {
+            if (!fork.result().isDone()) {
+                fork.result().cancel(false);
+                fork.running().cancel(true);
+            }
+        }
+    }
+
+    private static boolean hasTimeout(Duration timeout) {
+        return timeout != null && !timeout.isZero() && !timeout.isNegative();
+    }
+
+    private static <T> T callInline(Callable<T> task) {
+        try {
+            return task.call();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static ScheduledThreadPoolExecutor deadlines() {
+        var executor = new ScheduledThreadPoolExecutor(1, Thread.ofPlatform().name("stage-deadline").daemon().factory());
+        // 제때 끝난 단계의 타이머는 취소와 함께 큐에서 뺀다
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+
+    private record Fork<T>(CompletableFuture<T> result, Future<?> running) {}
+}
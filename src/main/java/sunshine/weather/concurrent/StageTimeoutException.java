@@ -0,0 +1,16 @@
+package sunshine.weather.concurrent;
+
+import java.time.Duration;
+
+public class StageTimeoutException extends RuntimeException {
+    private final String stage;
+
+    public StageTimeoutException(String stage, Duration timeout) {
+        super(stage + " 단계가 제한 시간(" + timeout.toMillis() + "ms)을 넘었습니다.");
+        this.stage = stage;
+    }
+
+    public String getStage() {
+        return stage;
+    }
+}
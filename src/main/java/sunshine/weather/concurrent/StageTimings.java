@@ -0,0 +1,55 @@
+package sunshine.weather.concurrent;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * 요청 스레드 하나에서 {@link StageScope#call}로 실행한 단계별 소요 시간.
+ * {@link #open()}한 스레드에서만 기록되고, 열지 않았으면 기록은 아무 일도 하지 않는다.
+ */
+public final class StageTimings {
+
+    private static final ThreadLocal<StageTimings> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, Long> nanos = new LinkedHashMap<>();
+
+    private StageTimings() {
+    }
+
+    public static StageTimings open() {
+        var timings = new StageTimings();
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    public static StageTimings current() {
+        return CURRENT.get();
+    }
+
+    public static void close() {
+        CURRENT.remove();
+    }
+
+    static void record(String stage, long elapsedNanos) {
+        StageTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.nanos.merge(stage, elapsedNanos, Long::sum);
+        }
+    }
+
+    public Map<String, Long> nanos() {
+        return Map.copyOf(nanos);
+    }
+
+    /**
+     * Server-Timing 헤더 값. 예: {@code resolve;dur=0.412, fetch;dur=38.020}
+     */
+    public String toServerTiming() {
+        StringJoiner joiner = new StringJoiner(", ");
+        nanos.forEach((stage, elapsed) ->
+                joiner.add(String.format(Locale.ROOT, "%s;dur=%.3f", stage, elapsed / 1_000_000.0)));
+        return joiner.toString();
+    }
+}
@@ -0,0 +1,136 @@
+package sunshine.weather.concurrent;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 요청 경로에서 받은 쓰기를 모아 별도 스레드에서 batchSize 개씩 내보낸다 (write-behind).
+ * <ul>
+ *     <li>같은 키의 아직 나가지 않은 쓰기는 마지막 값 하나로 합쳐진다</li>
+ *     <li>flushInterval 마다, 또는 batchSize 만큼 쌓이면 바로 내보낸다</li>
+ *     <li>maxPending 을 넘으면 새 키는 버린다. 쓰기 실패도 재시도하지 않는다 (캐시 영속화는 best-effort)</li>
+ *     <li>close() 하면 남은 쓰기를 모두 내보낸다</li>
+ * </ul>
+ */
+public class WriteBehindBuffer<K, V> implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(WriteBehindBuffer.class);
+
+    private final String name;
+    private final int batchSize;
+    private final int maxPending;
+    private final Consumer<List<V>> writer;
+    private final ConcurrentHashMap<K, V> pending = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final ScheduledExecutorService flusher;
+
+    private final LongAdder written = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    /**
+     * @param writer 한 batch를 저장한다. flusher 스레드 하나에서만 호출된다.
+     */
+    public WriteBehindBuffer(String name, Duration flushInterval, int batchSize, int maxPending, Consumer<List<V>> writer) {
+        if (batchSize <= 0 || maxPending <= 0) {
+            throw new IllegalArgumentException("batchSize와 maxPending은 1 이상이어야 합니다.");
+        }
+        this.name = name;
+        this.batchSize = batchSize;
+        this.maxPending = maxPending;
+        this.writer = writer;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, name + "-write-behind");
+            t.setDaemon(true);
+            return t;
+        });
+        long intervalMillis = flushInterval.toMillis();
+        this.flusher.scheduleWithFixedDelay(this::flush, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 막히지 않는다. 저장은 나중에 flusher 스레드에서 일어난다.
+     */
+    public void offer(K key, V value) {
+        if (pending.size() >= maxPending && !pending.containsKey(key)) {
+            dropped.increment();
+            return;
+        }
+        pending.put(key, value);
+        if (pending.size() >= batchSize && flushScheduled.compareAndSet(false, true)) {
+            try {
+                flusher.execute(this::flush);
+            } catch (RejectedExecutionException e) {
+                flushScheduled.set(false);
+            }
+        }
+    }
+
+    public long written() {
+        return written.sum();
+    }
+
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    public long failed() {
+        return failed.sum();
+    }
+
+    @Override
+    public void close() {
+        flusher.shutdown();
+        try {
+            if (!flusher.awaitTermination(5, TimeUnit.SECONDS)) {
+                log.warn("{} write-behind flusher did not stop in time, pending={}", name, pending.size());
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        // flusher가 멈춘 뒤이므로 호출 스레드에서 남은 쓰기를 내보내도 writer가 겹쳐 불리지 않는다
+        flush();
+    }
+
+    private void flush() {
+        flushScheduled.set(false);
+        while (!pending.isEmpty()) {
+            List<V> batch = new ArrayList<>(Math.min(batchSize, pending.size()));
+            Iterator<Map.Entry<K, V>> it = pending.entrySet().iterator();
+            while (it.hasNext() && batch.size() < batchSize) {
+                Map.Entry<K, V> entry = it.next();
+                // 꺼내는 사이 같은 키로 새 값이 들어왔으면 그 값은 다음 batch로 넘긴다
+                if (pending.remove(entry.getKey(), entry.getValue())) {
+                    batch.add(entry.getValue());
+                }
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+            try {
+                writer.accept(batch);
+                written.add(batch.size());
+            } catch (RuntimeException e) {
+                failed.add(batch.size());
+                log.warn("{} write-behind batch failed size={}", name, batch.size(), e);
+                return;
+            }
+        }
+    }
+}
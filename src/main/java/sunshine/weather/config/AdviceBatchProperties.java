@@ -0,0 +1,20 @@
+package sunshine.weather.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 동시에 들어온 LLM 조언 요청을 한 프롬프트로 묶는다.
+ * 지시문/출력 스키마 토큰을 도시 수만큼 나눠 내고, LLM 호출 수가 줄어든다.
+ *
+ * @param window  첫 요청 이후 다른 요청을 기다리는 최대 시간 (LLM 지연에 비하면 작게)
+ * @param maxSize 한 프롬프트에 담을 최대 도시 수 (출력 길이가 길어지므로 너무 크게 두지 않는다)
+ */
+@ConfigurationProperties(prefix = "sunshine.llm.advice-batch")
+public record AdviceBatchProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("30ms") Duration window,
+        @DefaultValue("8") int maxSize
+) {}
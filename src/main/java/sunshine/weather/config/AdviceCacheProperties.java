@@ -0,0 +1,23 @@
+package sunshine.weather.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * LLM 조언 캐시. 날씨 수치를 구간으로 묶은 값이 같으면 최근 조언을 재사용한다.
+ *
+ * @param temperatureBucket 기온/체감온도 구간 크기(°C)
+ * @param humidityBand      습도 구간 크기(%)
+ * @param windBand          풍속 구간 크기(m/s)
+ */
+@ConfigurationProperties(prefix = "sunshine.cache.advice")
+public record AdviceCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("1.0") double temperatureBucket,
+        @DefaultValue("10") int humidityBand,
+        @DefaultValue("2.0") double windBand,
+        @DefaultValue("30m") Duration ttl,
+        @DefaultValue("10000") long maxSize
+) {}
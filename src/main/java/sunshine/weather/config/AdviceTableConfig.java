@@ -0,0 +1,40 @@
+package sunshine.weather.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import sunshine.weather.advice.AdviceTable;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@Configuration
+public class AdviceTableConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(AdviceTableConfig.class);
+
+    @Bean
+    public AdviceTable adviceTable(AdviceTableProperties props, ResourceLoader resourceLoader) throws IOException {
+        if (!props.enabled()) {
+            return AdviceTable.empty();
+        }
+
+        Resource resource = resourceLoader.getResource(props.location());
+        if (!resource.exists()) {
+            log.info("advice table not found, using rule-based outfit templates location={}", props.location());
+            return AdviceTable.empty();
+        }
+
+        try (InputStream in = resource.getInputStream()) {
+            AdviceTable table = AdviceTable.read(in);
+            log.info("advice table loaded filled={} location={}", table.filled(), props.location());
+            return table;
+        } catch (IllegalStateException e) {
+            log.warn("advice table ignored: {}", e.getMessage());
+            return AdviceTable.empty();
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package sunshine.weather.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param location 실행 시 읽을 사전 계산 조언 테이블
+ * @param output   advice-compiler 프로파일로 실행할 때 테이블을 쓸 경로
+ */
+@ConfigurationProperties(prefix = "sunshine.advice-table")
+public record AdviceTableProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("classpath:advice/advice-table-v2.tsv") String location,
+        @DefaultValue("src/main/resources/advice/advice-table-v2.tsv") String output
+) {}
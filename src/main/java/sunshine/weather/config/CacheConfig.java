@@ -0,0 +1,60 @@
+package sunshine.weather.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import sunshine.weather.cache.AdviceKey;
+import sunshine.weather.cache.BinaryCodec;
+import sunshine.weather.cache.CacheCodecs;
+import sunshine.weather.cache.CoalescingCache;
+import sunshine.weather.cache.SharedTiers;
+import sunshine.weather.model.City;
+import sunshine.weather.service.LlmWeatherAdvisor;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+@Configuration
+public class CacheConfig {
+
+    private static final BinaryCodec<LlmWeatherAdvisor.CachedAdvice> CACHED_ADVICE = new BinaryCodec<>() {
+        @Override
+        public void write(LlmWeatherAdvisor.CachedAdvice cached, DataOutput out) throws IOException {
+            out.writeUTF(cached.advice().weatherSummary());
+            out.writeUTF(cached.advice().outfitSummary());
+            out.writeLong(cached.inputTokens());
+            out.writeLong(cached.outputTokens());
+        }
+
+        @Override
+        public LlmWeatherAdvisor.CachedAdvice read(DataInput in) throws IOException {
+            return new LlmWeatherAdvisor.CachedAdvice(
+                    new LlmWeatherAdvisor.Advice(in.readUTF(), in.readUTF()), in.readLong(), in.readLong());
+        }
+    };
+
+    /**
+     * 정규화된 도시 입력 → 좌표. "모르는 도시"(IllegalArgumentException)는 짧게 negative caching 한다.
+     */
+    @Bean
+    public CoalescingCache<String, City> cityCache(GeocodeCacheProperties props, SharedTiers sharedTiers) {
+        return new CoalescingCache<>(
+                "city",
+                props.maxSize(),
+                props.ttl(),
+                props.negativeTtl(),
+                e -> e instanceof IllegalArgumentException,
+                sharedTiers.tier("city:v1", BinaryCodec.STRING, CacheCodecs.CITY, props.ttl())
+        );
+    }
+
+    /**
+     * 구간화한 날씨 조건 → 최근 LLM 조언. 같은 조건의 동시 요청도 LLM 호출 1번으로 합쳐진다.
+     */
+    @Bean
+    public CoalescingCache<AdviceKey, LlmWeatherAdvisor.CachedAdvice> adviceCache(AdviceCacheProperties props,
+                                                                                  SharedTiers sharedTiers) {
+        return new CoalescingCache<>("advice", props.maxSize(), props.ttl(), null, e -> false,
+                sharedTiers.tier("advice:v1", CacheCodecs.ADVICE_KEY, CACHED_ADVICE, props.ttl()));
+    }
+}
@@ -0,0 +1,27 @@
+package sunshine.weather.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * LLM으로 얻은 도시 좌표/조언을 DB에 남기고, 시작할 때 메모리 캐시를 다시 채운다.
+ *
+ * @param flushInterval   모아 둔 쓰기를 내보내는 주기
+ * @param batchSize       한 트랜잭션에 저장하는 최대 행 수 (hibernate.jdbc.batch_size 와 맞춘다)
+ * @param maxPending      내보내기 전 쌓아 둘 최대 쓰기 수. 넘으면 버린다.
+ * @param warmupCities    시작할 때 읽어 올 최근 도시 좌표 수
+ * @param warmupAdvice    시작할 때 읽어 올 최근 조언 수
+ * @param adviceMaxAge    이보다 오래된 조언은 다시 쓰지 않는다
+ */
+@ConfigurationProperties(prefix = "sunshine.cache.store")
+public record CacheStoreProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("2s") Duration flushInterval,
+        @DefaultValue("50") int batchSize,
+        @DefaultValue("10000") int maxPending,
+        @DefaultValue("10000") int warmupCities,
+        @DefaultValue("10000") int warmupAdvice,
+        @DefaultValue("7d") Duration adviceMaxAge
+) {}
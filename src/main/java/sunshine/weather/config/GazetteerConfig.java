@@ -0,0 +1,68 @@
+package sunshine.weather.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import sunshine.weather.gazetteer.Gazetteer;
+import sunshine.weather.gazetteer.GazetteerTsvReader;
+import sunshine.weather.gazetteer.HeapGazetteer;
+import sunshine.weather.gazetteer.MappedGazetteer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+@Configuration
+public class GazetteerConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(GazetteerConfig.class);
+
+    @Bean
+    public Gazetteer gazetteer(GazetteerProperties props, ResourceLoader resourceLoader) throws IOException {
+        if (!props.enabled()) {
+            return HeapGazetteer.empty();
+        }
+
+        long start = System.nanoTime();
+        Gazetteer gazetteer;
+        String location;
+
+        Resource binary = resourceLoader.getResource(props.binaryLocation());
+        if ("binary".equalsIgnoreCase(props.format()) && binary.exists()) {
+            gazetteer = MappedGazetteer.open(toPath(binary));
+            location = props.binaryLocation();
+        } else {
+            if ("binary".equalsIgnoreCase(props.format())) {
+                log.warn("gazetteer binary not found, falling back to tsv location={}", props.binaryLocation());
+            }
+            try (InputStream in = resourceLoader.getResource(props.location()).getInputStream()) {
+                gazetteer = HeapGazetteer.of(GazetteerTsvReader.read(in));
+            }
+            location = props.location();
+        }
+
+        log.info("gazetteer loaded cities={} elapsedMs={} location={}",
+                gazetteer.size(), (System.nanoTime() - start) / 1_000_000, location);
+        return gazetteer;
+    }
+
+    /**
+     * jar 안의 리소스는 바로 mmap 할 수 없으므로 임시 파일로 한 번 풀어서 연다.
+     */
+    private Path toPath(Resource resource) throws IOException {
+        if (resource.isFile()) {
+            return resource.getFile().toPath();
+        }
+        Path tmp = Files.createTempFile("gazetteer-", ".bin");
+        tmp.toFile().deleteOnExit();
+        try (InputStream in = resource.getInputStream()) {
+            Files.copy(in, tmp, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return tmp;
+    }
+}
@@ -0,0 +1,16 @@
+package sunshine.weather.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param format         {@code binary}: 빌드 시 컴파일된 mmap 파일, {@code tsv}: 원본 TSV를 힙 인덱스로 로딩
+ * @param binaryLocation format=binary일 때 읽을 파일 (없으면 TSV로 대체)
+ */
+@ConfigurationProperties(prefix = "sunshine.gazetteer")
+public record GazetteerProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("binary") String format,
+        @DefaultValue("classpath:gazetteer/cities.tsv") String location,
+        @DefaultValue("classpath:gazetteer/cities.bin") String binaryLocation
+) {}
@@ -0,0 +1,13 @@
+package sunshine.weather.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "sunshine.cache.city")
+public record GeocodeCacheProperties(
+        @DefaultValue("10000") long maxSize,
+        Duration ttl,
+        @DefaultValue("10m") Duration negativeTtl
+) {}
@@ -0,0 +1,29 @@
+package sunshine.weather.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 요청이 몰리는 도시의 날씨/조언을 만료 전에 미리 갱신한다.
+ *
+ * @param topK              갱신 대상이 되는 상위 도시 수
+ * @param sketchCapacity    빈도를 세는 카운터 수 (topK 보다 넉넉하게)
+ * @param minRequests       한 주기 동안 적어도 이만큼 요청된 도시만 대상 (빈도 하한 기준)
+ * @param interval          갱신 주기. 매 주기마다 빈도를 절반으로 줄인다.
+ * @param budgetPerCycle    한 주기에 보낼 수 있는 최대 갱신 작업 수 (업스트림 호출 상한)
+ * @param concurrency       갱신 작업 스레드 수. 요청 처리와 따로 두고 우선순위를 낮춘다.
+ * @param adviceRefreshAhead LLM 조언이 이 시간 안에 만료되면 미리 다시 만든다
+ */
+@ConfigurationProperties(prefix = "sunshine.hot-refresh")
+public record HotRefreshProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("20") int topK,
+        @DefaultValue("256") int sketchCapacity,
+        @DefaultValue("3") long minRequests,
+        @DefaultValue("30s") Duration interval,
+        @DefaultValue("20") int budgetPerCycle,
+        @DefaultValue("2") int concurrency,
+        @DefaultValue("2m") Duration adviceRefreshAhead
+) {}
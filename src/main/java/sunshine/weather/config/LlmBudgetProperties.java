@@ -0,0 +1,37 @@
+package sunshine.weather.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+/**
+ * LLM 지연/비용 예산. 넘으면 요청별로 템플릿 경로로 내려간다.
+ *
+ * @param window               지연/오류/비용을 집계하는 최근 구간 (buckets 개의 시간 칸으로 나눔)
+ * @param minimumCalls         구간 안 호출이 이보다 적으면 비율 기반 판단을 하지 않음
+ * @param latencySlo           이보다 느린 호출은 "느린 호출"로 센다
+ * @param slowCallRatio        느린 호출 비율이 이 이상이면 LLM을 건너뜀
+ * @param usdPerHour           구간 지출을 시간당으로 환산한 값이 이 이상이면 LLM을 건너뜀 (비우면 제한 없음)
+ * @param failureRateThreshold 오류 비율이 이 이상이면 회로 차단
+ * @param consecutiveFailures  연속 실패가 이 횟수에 이르면 회로 차단
+ * @param openDuration         회로 차단 후 복구 탐침까지 기다리는 시간
+ * @param probeRatio           지연 SLO 초과로 내려가 있는 동안에도 LLM으로 보내 상태를 재는 요청 비율
+ * @param evaluationInterval   구간 집계를 다시 계산하는 주기 (요청마다 계산하지 않음)
+ */
+@ConfigurationProperties(prefix = "sunshine.llm.budget")
+public record LlmBudgetProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("5m") Duration window,
+        @DefaultValue("10") int buckets,
+        @DefaultValue("20") int minimumCalls,
+        @DefaultValue("4s") Duration latencySlo,
+        @DefaultValue("0.2") double slowCallRatio,
+        BigDecimal usdPerHour,
+        @DefaultValue("0.5") double failureRateThreshold,
+        @DefaultValue("5") int consecutiveFailures,
+        @DefaultValue("30s") Duration openDuration,
+        @DefaultValue("0.05") double probeRatio,
+        @DefaultValue("250ms") Duration evaluationInterval
+) {}
@@ -0,0 +1,62 @@
+package sunshine.weather.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "sunshine.open-meteo")
+public record OpenMeteoProperties(
+        @DefaultValue("https://api.open-meteo.com/v1/forecast") String baseUrl,
+        @DefaultValue Batch batch,
+        @DefaultValue Http http,
+        @DefaultValue Hedge hedge,
+        @DefaultValue Retry retry
+) {
+    /**
+     * @param window  첫 요청 이후 다른 요청을 기다리는 최대 시간
+     * @param maxSize 한 번의 multi-location 호출에 담을 최대 좌표 수
+     */
+    public record Batch(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("5ms") Duration window,
+            @DefaultValue("50") int maxSize
+    ) {}
+
+    /**
+     * JDK HttpClient 설정. 연결은 호스트별로 keep-alive 풀링된다
+     * (유휴 연결 유지 시간은 JVM 옵션 {@code -Djdk.httpclient.keepalive.timeout=초}).
+     *
+     * @param attemptTimeout 시도 하나의 응답 대기 한도
+     * @param deadline       헤지/재시도를 포함한 호출 전체 한도 (파이프라인 fetch-timeout 보다 짧게)
+     */
+    public record Http(
+            @DefaultValue("1s") Duration connectTimeout,
+            @DefaultValue("1500ms") Duration attemptTimeout,
+            @DefaultValue("2500ms") Duration deadline,
+            @DefaultValue("true") boolean http2
+    ) {}
+
+    /**
+     * @param percentile    첫 시도가 최근 지연의 이 분위를 넘기면 같은 요청을 하나 더 보낸다
+     * @param minDelay      헤지 대기 하한
+     * @param fallbackDelay 지연 표본이 모이기 전 헤지 대기
+     */
+    public record Hedge(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("0.95") double percentile,
+            @DefaultValue("50ms") Duration minDelay,
+            @DefaultValue("300ms") Duration fallbackDelay
+    ) {}
+
+    /**
+     * 연결 오류, 429, 502/503/504 만 재시도한다. 백오프는 [0, min(initial * 2^n, max)) 사이 무작위.
+     *
+     * @param maxAttempts 첫 시도를 포함한 최대 시도 횟수 (헤지 요청은 세지 않음)
+     */
+    public record Retry(
+            @DefaultValue("3") int maxAttempts,
+            @DefaultValue("50ms") Duration initialBackoff,
+            @DefaultValue("400ms") Duration maxBackoff
+    ) {}
+}
@@ -0,0 +1,20 @@
+package sunshine.weather.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 요청 파이프라인 단계별 제한 시간. 0이면 제한 없이 요청 스레드에서 바로 실행한다.
+ *
+ * @param adviseTimeout  LLM 조언 제한 시간. 넘기면 템플릿 문장으로 대체한다.
+ * @param fanOutDeadline 여러 도시를 한 번에 조회할 때 전체 제한 시간
+ */
+@ConfigurationProperties(prefix = "sunshine.pipeline")
+public record PipelineProperties(
+        @DefaultValue("5s") Duration resolveTimeout,
+        @DefaultValue("3s") Duration fetchTimeout,
+        @DefaultValue("10s") Duration adviseTimeout,
+        @DefaultValue("20s") Duration fanOutDeadline
+) {}
@@ -0,0 +1,16 @@
+package sunshine.weather.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 논블로킹 경로 설정. {@code spring.main.web-application-type=reactive}일 때만 쓰인다.
+ *
+ * @param eventLoopThreads  Netty 서버 이벤트 루프 스레드 수
+ * @param fanOutConcurrency 여러 도시 조회에서 동시에 진행하는 도시 수 (나머지는 앞선 도시가 끝날 때까지 요청하지 않는다)
+ */
+@ConfigurationProperties(prefix = "sunshine.reactive")
+public record ReactiveProperties(
+        @DefaultValue("4") int eventLoopThreads,
+        @DefaultValue("32") int fanOutConcurrency
+) {}
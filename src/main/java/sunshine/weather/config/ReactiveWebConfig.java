@@ -0,0 +1,33 @@
+package sunshine.weather.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import reactor.netty.resources.LoopResources;
+import sunshine.weather.controller.WeatherReportEncoder;
+
+/**
+ * {@code spring.main.web-application-type=reactive}일 때의 Netty 서버와 코덱 설정.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveWebConfig implements WebFluxConfigurer {
+
+    @Override
+    public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+        configurer.customCodecs().register(new WeatherReportEncoder());
+    }
+
+    /**
+     * 요청 처리가 모두 논블로킹이므로 이벤트 루프는 코어 수보다 적게 둬도 된다.
+     */
+    @Bean
+    WebServerFactoryCustomizer<NettyReactiveWebServerFactory> eventLoopCustomizer(ReactiveProperties props) {
+        LoopResources loops = LoopResources.create("sunshine-http", props.eventLoopThreads(), true);
+        return factory -> factory.addServerCustomizers(server -> server.runOn(loops));
+    }
+}
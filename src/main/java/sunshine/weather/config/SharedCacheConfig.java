@@ -0,0 +1,24 @@
+package sunshine.weather.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import sunshine.weather.cache.InvalidationBus;
+import sunshine.weather.cache.LocalInvalidationHub;
+import sunshine.weather.cache.LocalSharedCache;
+import sunshine.weather.cache.SharedCache;
+
+@Configuration
+@ConditionalOnProperty(prefix = "sunshine.cache.shared", name = "type", havingValue = "local")
+public class SharedCacheConfig {
+
+    @Bean
+    public SharedCache localSharedCache(SharedCacheProperties props) {
+        return new LocalSharedCache(props.maxSize());
+    }
+
+    @Bean
+    public InvalidationBus localInvalidationBus() {
+        return new LocalInvalidationHub().connect();
+    }
+}
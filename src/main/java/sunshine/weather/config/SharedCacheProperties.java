@@ -0,0 +1,17 @@
+package sunshine.weather.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 노드 간 공유 캐시(L2).
+ *
+ * @param type    none: L1만 사용 / local: 프로세스 안의 L2 (단일 노드·테스트용).
+ *                외부 저장소를 쓰려면 none으로 두고 SharedCache/InvalidationBus 구현을 빈으로 등록한다.
+ * @param maxSize local L2의 최대 항목 수
+ */
+@ConfigurationProperties(prefix = "sunshine.cache.shared")
+public record SharedCacheProperties(
+        @DefaultValue("none") String type,
+        @DefaultValue("100000") long maxSize
+) {}
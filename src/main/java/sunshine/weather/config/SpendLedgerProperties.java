@@ -0,0 +1,14 @@
+package sunshine.weather.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * LLM 지출 장부.
+ *
+ * @param minutes 분 단위 구간을 몇 개까지 보관할지 (/api/llm/spend 의 minutes)
+ */
+@ConfigurationProperties(prefix = "sunshine.llm.ledger")
+public record SpendLedgerProperties(
+        @DefaultValue("60") int minutes
+) {}
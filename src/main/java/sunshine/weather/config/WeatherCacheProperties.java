@@ -0,0 +1,28 @@
+package sunshine.weather.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param cellDegrees          격자 크기(도). 0.1° ≈ 11km
+ * @param updateInterval       Open-Meteo current 데이터 갱신 주기. 응답에 관측 시각(current.time/interval)이 없거나 이미 지났을 때만 쓴다.
+ * @param staleWhileRevalidate 만료 후 이 시간 동안은 이전 값을 바로 주고 백그라운드에서 갱신한다.
+ */
+@ConfigurationProperties(prefix = "sunshine.cache.weather")
+public record WeatherCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("0.1") double cellDegrees,
+        @DefaultValue("15m") Duration updateInterval,
+        @DefaultValue("10m") Duration staleWhileRevalidate,
+        @DefaultValue("10000") long maxSize,
+        @DefaultValue("2") int refreshConcurrency
+) {
+    public WeatherCacheProperties {
+        // 다음 갱신 시각을 이 주기의 배수로 계산하므로 0이나 음수면 요청마다 실패한다
+        if (updateInterval == null || updateInterval.toMillis() <= 0) {
+            throw new IllegalArgumentException("sunshine.cache.weather.update-interval은 1ms 이상이어야 합니다: " + updateInterval);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package sunshine.weather.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 템플릿 경로의 날씨 설명/옷차림 규칙 파일.
+ *
+ * @param location       규칙 YAML 위치. 운영 중 바꾸려면 file: 경로로 둔다.
+ * @param reloadInterval 파일 변경을 확인하는 주기. 바뀌었으면 다시 컴파일해 교체한다.
+ */
+@ConfigurationProperties(prefix = "sunshine.rules")
+public record WeatherRulesProperties(
+        @DefaultValue("classpath:rules/weather-rules.yml") String location,
+        @DefaultValue("30s") Duration reloadInterval
+) {}
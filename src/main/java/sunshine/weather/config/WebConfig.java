@@ -0,0 +1,20 @@
+package sunshine.weather.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import sunshine.weather.controller.WeatherReportMessageConverter;
+
+import java.util.List;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class WebConfig implements WebMvcConfigurer {
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // 기본 컨버터 뒤에 붙여 Accept 협상에서 JSON이 먼저 선택되게 한다
+        converters.add(new WeatherReportMessageConverter());
+    }
+}
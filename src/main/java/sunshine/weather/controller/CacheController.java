@@ -0,0 +1,42 @@
+package sunshine.weather.controller;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import sunshine.weather.cache.CacheStats;
+import sunshine.weather.cache.MonitoredCache;
+import sunshine.weather.service.LlmCostEstimator;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/cache")
+public class CacheController {
+    private final List<MonitoredCache> caches;
+    private final LlmCostEstimator llmCostEstimator;
+
+    public CacheController(List<MonitoredCache> caches, LlmCostEstimator llmCostEstimator) {
+        this.caches = caches;
+        this.llmCostEstimator = llmCostEstimator;
+    }
+
+    @GetMapping("/stats")
+    public List<CacheStats> stats() {
+        return caches.stream()
+                .map(MonitoredCache::stats)
+                .toList();
+    }
+
+    /**
+     * 조언 캐시 적중으로 절약한 LLM 토큰/비용 누계
+     */
+    @GetMapping("/savings")
+    public Map<String, Object> savings() {
+        return Map.of(
+                "savedInputTokens", llmCostEstimator.savedInputTokens(),
+                "savedOutputTokens", llmCostEstimator.savedOutputTokens(),
+                "savedUsd", llmCostEstimator.savedUsd()
+        );
+    }
+}
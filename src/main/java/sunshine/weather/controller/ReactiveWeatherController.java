@@ -0,0 +1,62 @@
+package sunshine.weather.controller;
+
+import jakarta.validation.Valid;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import sunshine.weather.dto.CityWeatherResult;
+import sunshine.weather.dto.WeatherBatchRequest;
+import sunshine.weather.dto.WeatherReport;
+import sunshine.weather.service.ReactiveWeatherService;
+
+/**
+ * {@link WeatherController}, {@link WeatherStreamController}와 같은 API의 논블로킹 버전.
+ * {@code spring.main.web-application-type=reactive}일 때만 뜬다.
+ */
+@RestController
+@RequestMapping("/api/weather")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveWeatherController {
+    private final ReactiveWeatherService weatherService;
+    private final WeatherValidators validators;
+
+    public ReactiveWeatherController(ReactiveWeatherService weatherService, WeatherValidators validators) {
+        this.weatherService = weatherService;
+        this.validators = validators;
+    }
+
+    @GetMapping(value = "/{city}", produces = {MediaType.APPLICATION_JSON_VALUE, WeatherReport.MEDIA_TYPE, MediaType.TEXT_PLAIN_VALUE})
+    public Mono<ResponseEntity<WeatherReport>> getWeatherReport(
+            @PathVariable String city,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(name = HttpHeaders.ACCEPT, required = false) String accept
+    ) {
+        MediaType representation = validators.representation(accept);
+        return validators.notModified(city, representation, ifNoneMatch)
+                .map(Mono::just)
+                .orElseGet(() -> weatherService.getWeatherReport(city)
+                        .map(report -> validators.respond(city, representation, report, ifNoneMatch)));
+    }
+
+    @PostMapping(value = "/batch", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<CityWeatherResult> getWeatherSummaries(@Valid @RequestBody WeatherBatchRequest request) {
+        return weatherService.streamWeatherSummaries(request.cities());
+    }
+
+    @GetMapping(value = "/{city}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<String>> streamWeatherSummary(@PathVariable String city) {
+        return weatherService.streamWeatherSummary(city)
+                .map(event -> ServerSentEvent.builder(event.data()).event(event.event()).build());
+    }
+}
@@ -0,0 +1,40 @@
+package sunshine.weather.controller;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+import sunshine.weather.concurrent.StageTimings;
+
+/**
+ * 동기 응답에 {@code Server-Timing} 헤더로 단계별 소요 시간을 싣는다. (스트리밍 응답은 대상 아님)
+ */
+@ControllerAdvice
+@ConditionalOnProperty(name = "sunshine.server-timing.enabled", havingValue = "true")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ServerTimingAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType contentType,
+                                  Class<? extends HttpMessageConverter<?>> converterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        StageTimings timings = StageTimings.current();
+        if (timings != null) {
+            String value = timings.toServerTiming();
+            if (!value.isEmpty()) {
+                response.getHeaders().add("Server-Timing", value);
+            }
+        }
+        return body;
+    }
+}
@@ -0,0 +1,34 @@
+package sunshine.weather.controller;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import sunshine.weather.concurrent.StageTimings;
+
+import java.io.IOException;
+
+/**
+ * 요청마다 단계별 소요 시간 기록을 연다. 헤더는 본문을 쓰기 직전에 {@link ServerTimingAdvice}가 붙인다.
+ * 내부 구조가 드러나므로 부하 테스트 등에서만 켠다.
+ */
+@Component
+@ConditionalOnProperty(name = "sunshine.server-timing.enabled", havingValue = "true")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        StageTimings.open();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            StageTimings.close();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package sunshine.weather.controller;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import sunshine.weather.budget.SpendLedger;
+
+@RestController
+@RequestMapping("/api/llm")
+public class SpendController {
+    private final SpendLedger ledger;
+
+    public SpendController(SpendLedger ledger) {
+        this.ledger = ledger;
+    }
+
+    /**
+     * LLM 토큰/추정 비용 누계 (기능별, 모델별, 최근 분 단위 구간)
+     */
+    @GetMapping("/spend")
+    public SpendLedger.Snapshot spend() {
+        return ledger.snapshot();
+    }
+}
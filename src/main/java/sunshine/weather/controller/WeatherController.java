@@ -1,22 +1,90 @@
 package sunshine.weather.controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Valid;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import sunshine.weather.config.PipelineProperties;
+import sunshine.weather.dto.CityWeatherResult;
+import sunshine.weather.dto.WeatherBatchRequest;
+import sunshine.weather.dto.WeatherReport;
 import sunshine.weather.service.WeatherService;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
 @RestController
 @RequestMapping("/api/weather")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class WeatherController {
     private final WeatherService weatherService;
+    private final ObjectMapper objectMapper;
+    private final PipelineProperties pipeline;
+    private final WeatherValidators validators;
 
-    public WeatherController(WeatherService weatherService) {
+    public WeatherController(WeatherService weatherService, ObjectMapper objectMapper, PipelineProperties pipeline,
+                             WeatherValidators validators) {
         this.weatherService = weatherService;
+        this.objectMapper = objectMapper;
+        this.pipeline = pipeline;
+        this.validators = validators;
+    }
+
+    /**
+     * JSON(기본), 바이너리({@link WeatherReport#MEDIA_TYPE}), text/plain(요약 문장만) 중 Accept에 맞춰 내려준다.
+     * 같은 관측 구간 안의 If-None-Match는 리졸버/날씨 조회/LLM 없이 304로 끝난다. ETag가 표현마다 다르므로 표현은 여기서 고른다.
+     */
+    @GetMapping(value = "/{city}", produces = {MediaType.APPLICATION_JSON_VALUE, WeatherReport.MEDIA_TYPE, MediaType.TEXT_PLAIN_VALUE})
+    public ResponseEntity<WeatherReport> getWeatherReport(
+            @PathVariable String city,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(name = HttpHeaders.ACCEPT, required = false) String accept
+    ) {
+        MediaType representation = validators.representation(accept);
+        return validators.notModified(city, representation, ifNoneMatch)
+                .orElseGet(() -> validators.respond(city, representation, weatherService.getWeatherReport(city), ifNoneMatch));
+    }
+
+    /**
+     * 여러 도시를 한 번에 조회한다. 결과는 끝나는 순서대로 한 줄에 하나씩(NDJSON) 내려간다.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<ResponseBodyEmitter> getWeatherSummaries(@Valid @RequestBody WeatherBatchRequest request) {
+        var emitter = new ResponseBodyEmitter(pipeline.fanOutDeadline().plusSeconds(5).toMillis());
+
+        Thread.ofVirtual().name("weather-batch").start(() -> {
+            try {
+                weatherService.streamWeatherSummaries(request.cities(), result -> send(emitter, result));
+                emitter.complete();
+            } catch (RuntimeException e) {
+                emitter.completeWithError(e);
+            }
+        });
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(emitter);
     }
 
-    @GetMapping("/{city}")
-    public String getWeatherSummary(@PathVariable String city) {
-        return weatherService.getWeatherSummary(city);
+    private void send(ResponseBodyEmitter emitter, CityWeatherResult result) {
+        try {
+            // 여러 스레드에서 호출되므로 한 줄을 한 번의 send로 보낸다
+            emitter.send(objectMapper.writeValueAsString(result) + "\n");
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,42 @@
+package sunshine.weather.controller;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.AbstractEncoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+import reactor.core.publisher.Flux;
+import sunshine.weather.dto.WeatherReport;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * 논블로킹 경로(WebFlux)의 {@link WeatherReportMessageConverter}. 바이너리와 text/plain 표현을 같은 바이트로 쓴다.
+ */
+public class WeatherReportEncoder extends AbstractEncoder<WeatherReport> {
+
+    public WeatherReportEncoder() {
+        super(WeatherReportMessageConverter.BINARY, new MimeType(MimeTypeUtils.TEXT_PLAIN, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public boolean canEncode(ResolvableType elementType, MimeType mimeType) {
+        return WeatherReport.class == elementType.toClass() && super.canEncode(elementType, mimeType);
+    }
+
+    @Override
+    public Flux<DataBuffer> encode(Publisher<? extends WeatherReport> inputStream, DataBufferFactory bufferFactory,
+                                   ResolvableType elementType, MimeType mimeType, Map<String, Object> hints) {
+        return Flux.from(inputStream).map(report -> encodeValue(report, bufferFactory, elementType, mimeType, hints));
+    }
+
+    @Override
+    public DataBuffer encodeValue(WeatherReport report, DataBufferFactory bufferFactory,
+                                  ResolvableType valueType, MimeType mimeType, Map<String, Object> hints) {
+        boolean plainText = mimeType != null && MimeTypeUtils.TEXT_PLAIN.isCompatibleWith(mimeType);
+        return bufferFactory.wrap(WeatherReportMessageConverter.bytes(report, plainText));
+    }
+}
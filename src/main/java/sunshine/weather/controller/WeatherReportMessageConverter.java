@@ -0,0 +1,55 @@
+package sunshine.weather.controller;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import sunshine.weather.dto.WeatherReport;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@link WeatherReport}의 JSON 외 표현. 바이너리({@link WeatherReport#MEDIA_TYPE})와 예전 응답과 같은 텍스트 요약(text/plain).
+ * JSON 컨버터 뒤에 등록되므로 Accept가 없거나 {@code *}/{@code *}이면 JSON이 나간다.
+ */
+public class WeatherReportMessageConverter extends AbstractHttpMessageConverter<WeatherReport> {
+
+    public static final MediaType BINARY = MediaType.parseMediaType(WeatherReport.MEDIA_TYPE);
+
+    public WeatherReportMessageConverter() {
+        super(BINARY, new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return WeatherReport.class == clazz;
+    }
+
+    @Override
+    protected WeatherReport readInternal(Class<? extends WeatherReport> clazz, HttpInputMessage inputMessage)
+            throws IOException {
+        MediaType contentType = inputMessage.getHeaders().getContentType();
+        if (contentType == null || !BINARY.isCompatibleWith(contentType)) {
+            throw new HttpMessageNotReadableException("바이너리 형식만 읽을 수 있습니다: " + contentType, inputMessage);
+        }
+        try {
+            return WeatherReport.CODEC.decode(inputMessage.getBody().readAllBytes());
+        } catch (UncheckedIOException e) {
+            throw new HttpMessageNotReadableException("날씨 응답을 읽을 수 없습니다.", e, inputMessage);
+        }
+    }
+
+    @Override
+    protected void writeInternal(WeatherReport report, HttpOutputMessage outputMessage) throws IOException {
+        MediaType contentType = outputMessage.getHeaders().getContentType();
+        outputMessage.getBody().write(bytes(report, contentType != null && MediaType.TEXT_PLAIN.isCompatibleWith(contentType)));
+    }
+
+    // 논블로킹 경로의 WeatherReportEncoder와 같은 바이트를 쓴다
+    static byte[] bytes(WeatherReport report, boolean plainText) {
+        return plainText ? report.summary().getBytes(StandardCharsets.UTF_8) : WeatherReport.CODEC.encode(report);
+    }
+}
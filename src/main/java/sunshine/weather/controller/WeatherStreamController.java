@@ -0,0 +1,59 @@
+package sunshine.weather.controller;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import sunshine.weather.config.PipelineProperties;
+import sunshine.weather.dto.WeatherStreamEvent;
+import sunshine.weather.service.WeatherService;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+@RestController
+@RequestMapping("/api/weather")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class WeatherStreamController {
+    private final WeatherService weatherService;
+    private final PipelineProperties pipeline;
+
+    public WeatherStreamController(WeatherService weatherService, PipelineProperties pipeline) {
+        this.weatherService = weatherService;
+        this.pipeline = pipeline;
+    }
+
+    /**
+     * Server-Sent Events: weather → summary* → outfit* 순서로 보낸다.
+     */
+    @GetMapping(value = "/{city}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamWeatherSummary(@PathVariable String city) {
+        var emitter = new SseEmitter(pipeline.resolveTimeout()
+                .plus(pipeline.fetchTimeout())
+                .plus(pipeline.adviseTimeout())
+                .plusSeconds(5)
+                .toMillis());
+
+        Thread.ofVirtual().name("weather-stream").start(() -> {
+            try {
+                weatherService.streamWeatherSummary(city, event -> send(emitter, event));
+                emitter.complete();
+            } catch (RuntimeException e) {
+                emitter.completeWithError(e);
+            }
+        });
+
+        return emitter;
+    }
+
+    private void send(SseEmitter emitter, WeatherStreamEvent event) {
+        try {
+            emitter.send(SseEmitter.event().name(event.event()).data(event.data()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package sunshine.weather.controller;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import sunshine.weather.cache.AdviceKey;
+import sunshine.weather.cache.GridCell;
+import sunshine.weather.config.AdviceCacheProperties;
+import sunshine.weather.config.WeatherCacheProperties;
+import sunshine.weather.dto.ForecastResponse;
+import sunshine.weather.dto.WeatherReport;
+import sunshine.weather.gazetteer.CityNames;
+import sunshine.weather.metrics.WeatherMetrics;
+import sunshine.weather.model.City;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 도시·표현별로 마지막에 내려준 응답의 검증자(ETag, Last-Modified)를 기억한다.
+ * 관측 구간이 끝나기 전의 If-None-Match는 리졸버/날씨 조회/LLM을 거치지 않고 여기서 304로 끝낸다.
+ * 템플릿으로 대체한 응답({@link WeatherReport.Source#FALLBACK})은 곧 LLM 응답으로 바뀔 수 있으므로 검증자를 싣지도, 기억하지도 않는다.
+ */
+@Component
+public class WeatherValidators {
+
+    /**
+     * 컨트롤러가 내려줄 수 있는 표현. 순서가 같은 선호도일 때의 우선순위다. (JSON이 기본)
+     */
+    static final List<MediaType> REPRESENTATIONS = List.of(
+            MediaType.APPLICATION_JSON,
+            WeatherReportMessageConverter.BINARY,
+            new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8));
+
+    private final Cache<String, Validator> byCity;
+    private final double cellDegrees;
+    private final AdviceCacheProperties advice;
+    private final WeatherMetrics metrics;
+    private final Clock clock;
+
+    @Autowired
+    public WeatherValidators(WeatherCacheProperties props, AdviceCacheProperties advice, WeatherMetrics metrics) {
+        this(props, advice, metrics, Clock.systemUTC());
+    }
+
+    WeatherValidators(WeatherCacheProperties props, AdviceCacheProperties advice, WeatherMetrics metrics, Clock clock) {
+        this.cellDegrees = props.cellDegrees();
+        this.advice = advice;
+        this.metrics = metrics;
+        this.clock = clock;
+        this.byCity = Caffeine.newBuilder()
+                .maximumSize(props.maxSize())
+                .expireAfterWrite(props.updateInterval())
+                .build();
+    }
+
+    /**
+     * Accept에 맞는 표현. 품질(q)이 높은 쪽, 같으면 더 구체적으로 적은 쪽, 그래도 같으면 {@link #REPRESENTATIONS} 순서.
+     * ETag가 표현마다 다르므로 응답의 Content-Type도 이 값으로 고정한다. 맞는 표현이 없거나 Accept가 잘못되면 JSON.
+     */
+    public MediaType representation(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return REPRESENTATIONS.getFirst();
+        }
+        List<MediaType> accepted;
+        try {
+            accepted = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return REPRESENTATIONS.getFirst();
+        }
+
+        MediaType best = REPRESENTATIONS.getFirst();
+        double bestQuality = -1;
+        int bestSpecificity = -1;
+        for (MediaType candidate : REPRESENTATIONS) {
+            for (MediaType range : accepted) {
+                if (!range.includes(candidate) || range.getQualityValue() <= 0) {
+                    continue;
+                }
+                double quality = range.getQualityValue();
+                int specificity = range.isWildcardType() ? 0 : range.isWildcardSubtype() ? 1 : 2;
+                if (quality > bestQuality || (quality == bestQuality && specificity > bestSpecificity)) {
+                    best = candidate;
+                    bestQuality = quality;
+                    bestSpecificity = specificity;
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * 기억한 검증자가 아직 관측 구간 안에 있고 If-None-Match와 맞으면 304. 아니면 empty (응답을 새로 만들어야 한다)
+     */
+    public Optional<ResponseEntity<WeatherReport>> notModified(String cityName, MediaType representation, String ifNoneMatch) {
+        if (ifNoneMatch == null) {
+            return Optional.empty();
+        }
+        return fresh(cityName, representation)
+                .filter(validator -> validator.matches(ifNoneMatch))
+                .map(validator -> {
+                    metrics.httpConditional("not_modified_fast");
+                    return cacheHeaders(ResponseEntity.status(HttpStatus.NOT_MODIFIED), validator).<WeatherReport>build();
+                });
+    }
+
+    /**
+     * 새로 만든 응답의 검증자를 기억하고 캐시 헤더를 붙인다. 그래도 If-None-Match와 맞으면 본문 없이 304.
+     * 템플릿으로 대체한 응답은 검증자 없이 no-cache로 내려서, 다음 요청이 LLM 응답을 받을 수 있게 한다.
+     */
+    public ResponseEntity<WeatherReport> respond(String cityName, MediaType representation, WeatherReport report,
+                                                 String ifNoneMatch) {
+        if (report.source() == WeatherReport.Source.FALLBACK) {
+            if (ifNoneMatch != null) {
+                metrics.httpConditional("fallback");
+            }
+            return ResponseEntity.ok()
+                    .contentType(representation)
+                    .cacheControl(CacheControl.noCache())
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .body(report);
+        }
+
+        Validator validator = remember(cityName, representation, report);
+        if (validator.matches(ifNoneMatch)) {
+            metrics.httpConditional("not_modified");
+            return cacheHeaders(ResponseEntity.status(HttpStatus.NOT_MODIFIED), validator).<WeatherReport>build();
+        }
+        if (ifNoneMatch != null) {
+            metrics.httpConditional("ok");
+        }
+        return cacheHeaders(ResponseEntity.ok().contentType(representation), validator).body(report);
+    }
+
+    /**
+     * 아직 관측 구간 안에 있는 검증자. 구간이 끝났으면 새로 계산해야 한다.
+     */
+    public Optional<Validator> fresh(String cityName, MediaType representation) {
+        Validator validator = byCity.getIfPresent(key(cityName, representation));
+        if (validator == null || !clock.instant().isBefore(validator.expiresAt())) {
+            return Optional.empty();
+        }
+        return Optional.of(validator);
+    }
+
+    public Validator remember(String cityName, MediaType representation, WeatherReport report) {
+        Validator validator = Validator.of(report, representation, cellDegrees, advice);
+        byCity.put(key(cityName, representation), validator);
+        return validator;
+    }
+
+    public Duration maxAge(Validator validator) {
+        Duration remaining = Duration.between(clock.instant(), validator.expiresAt());
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+
+    private static String key(String cityName, MediaType representation) {
+        return CityNames.normalize(cityName) + ' ' + representation.getSubtype();
+    }
+
+    private ResponseEntity.BodyBuilder cacheHeaders(ResponseEntity.BodyBuilder builder, Validator validator) {
+        return builder
+                .eTag(validator.etag())
+                .lastModified(validator.lastModified())
+                .cacheControl(CacheControl.maxAge(maxAge(validator)).cachePublic())
+                .varyBy(HttpHeaders.ACCEPT);
+    }
+
+    /**
+     * @param etag 관측값(격자 칸, 관측 구간, 수치, 날씨 코드), 조언 캐시 키, summary 출처, 표현의 64비트 FNV-1a.
+     *             LLM이 만든 문장은 같은 관측에도 달라질 수 있어서(캐시 미스) 넣지 않는다.
+     *             같은 관측·출처·표현이면 문장이 달라도 같은 값이라 약한 ETag로 둔다.
+     */
+    public record Validator(String etag, Instant lastModified, Instant expiresAt) {
+
+        static Validator of(WeatherReport report, MediaType representation, double cellDegrees, AdviceCacheProperties advice) {
+            City city = new City(report.city(), report.latitude(), report.longitude());
+            var weather = new ForecastResponse.Current(report.temperature(), report.apparentTemperature(),
+                    report.weatherCode(), report.humidity(), report.windSpeed());
+            AdviceKey adviceKey = AdviceKey.of(city, weather, advice);
+
+            long h = 0xcbf29ce484222325L;
+            h = mix(h, GridCell.of(city, cellDegrees).key());
+            h = mix(h, report.observedAt().toEpochMilli());
+            h = mix(h, Double.doubleToLongBits(report.temperature()));
+            h = mix(h, Double.doubleToLongBits(report.apparentTemperature()));
+            h = mix(h, report.humidity());
+            h = mix(h, Double.doubleToLongBits(report.windSpeed()));
+            h = mix(h, report.weatherCode());
+            // 노드마다 같은 값이 나오도록 enum/String의 hashCode 대신 내용으로 섞는다
+            h = mix(h, CityNames.hash64(adviceKey.city()));
+            h = mix(h, adviceKey.temperature());
+            h = mix(h, adviceKey.apparentTemperature());
+            h = mix(h, adviceKey.humidity());
+            h = mix(h, adviceKey.wind());
+            h = mix(h, CityNames.hash64(adviceKey.weather().name()));
+            h = mix(h, CityNames.hash64(report.source().name()));
+            h = mix(h, CityNames.hash64(representation.getType() + '/' + representation.getSubtype()));
+            return new Validator("W/\"" + Long.toHexString(h) + "\"", report.observedAt(), report.expiresAt());
+        }
+
+        private static long mix(long h, long value) {
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                h ^= (value >>> shift) & 0xff;
+                h *= 0x100000001b3L;
+            }
+            return h;
+        }
+
+        /**
+         * If-None-Match 값(쉼표 목록, {@code *})과 약한 비교로 맞춰 본다.
+         */
+        public boolean matches(String ifNoneMatch) {
+            if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+                return false;
+            }
+            String opaque = opaque(etag);
+            for (String candidate : ifNoneMatch.split(",")) {
+                String tag = candidate.trim();
+                if (tag.equals("*") || opaque(tag).equals(opaque)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static String opaque(String tag) {
+            return tag.startsWith("W/") ? tag.substring(2) : tag;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package sunshine.weather.dto;
+
+/**
+ * 여러 도시 조회 시 도시별 결과. 실패한 도시는 summary 대신 error를 가진다.
+ */
+public record CityWeatherResult(String city, String summary, String error) {
+
+    public static CityWeatherResult success(String city, String summary) {
+        return new CityWeatherResult(city, summary, null);
+    }
+
+    public static CityWeatherResult failure(String city, String error) {
+        return new CityWeatherResult(city, null, error);
+    }
+}
@@ -1,11 +1,25 @@
 package sunshine.weather.dto;
 
 public record ForecastResponse(Current current) {
+    /**
+     * @param time     Open-Meteo current 관측 시각 (epoch 초, timeformat=unixtime). 모르면 0
+     * @param interval 관측 구간 길이(초). 다음 관측은 time + interval 에 나온다. 모르면 0
+     */
     public record Current(
             double temperature_2m,
             double apparent_temperature,
             int weather_code,
             int relative_humidity_2m,
-            double wind_speed_10m
-    ) {}
-}
\ No newline at end of file
+            double wind_speed_10m,
+            long time,
+            int interval
+    ) {
+        /**
+         * 관측 시각 없이 값만 있을 때 (규칙/조언 테이블의 대표값, 테스트)
+         */
+        public Current(double temperature_2m, double apparent_temperature, int weather_code,
+                       int relative_humidity_2m, double wind_speed_10m) {
+            this(temperature_2m, apparent_temperature, weather_code, relative_humidity_2m, wind_speed_10m, 0, 0);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package sunshine.weather.dto;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Open-Meteo 응답에서 {@code current}의 관측값 다섯 개와 관측 시각/구간만 스트리밍 파서로 읽는다.
+ * 트리/중간 객체를 만들지 않고 값은 primitive로 바로 꺼내며, 나머지 필드(메타데이터, current_units 등)는 건너뛴다.
+ * <p>
+ * 데이터바인딩과 같이 null 숫자는 0으로, 모르는 필드는 무시한다.
+ */
+public final class ForecastResponseDecoder {
+
+    private static final JsonFactory FACTORY = JsonFactory.builder().build();
+
+    private ForecastResponseDecoder() {
+    }
+
+    /**
+     * 좌표가 하나일 때의 객체 응답
+     */
+    public static ForecastResponse.Current readSingle(InputStream in) throws IOException {
+        try (JsonParser parser = FACTORY.createParser(in)) {
+            expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            return readLocation(parser);
+        }
+    }
+
+    /**
+     * 좌표가 여러 개일 때의 배열 응답. 객체 하나만 오면 크기 1인 목록으로 읽는다.
+     */
+    public static List<ForecastResponse.Current> readAll(InputStream in, int expectedSize) throws IOException {
+        try (JsonParser parser = FACTORY.createParser(in)) {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_OBJECT) {
+                return List.of(readLocation(parser));
+            }
+            expect(parser, token, JsonToken.START_ARRAY);
+
+            List<ForecastResponse.Current> result = new ArrayList<>(expectedSize);
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                expect(parser, token, JsonToken.START_OBJECT);
+                result.add(readLocation(parser));
+            }
+            return result;
+        }
+    }
+
+    /**
+     * START_OBJECT 다음부터 읽어 END_OBJECT에서 끝난다.
+     */
+    private static ForecastResponse.Current readLocation(JsonParser parser) throws IOException {
+        ForecastResponse.Current current = null;
+        String name;
+        while ((name = parser.nextFieldName()) != null) {
+            JsonToken value = parser.nextToken();
+            if (value == JsonToken.START_OBJECT && "current".equals(name)) {
+                current = readCurrent(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        if (current == null) {
+            throw new JsonParseException(parser, "current 필드가 없습니다.");
+        }
+        return current;
+    }
+
+    private static ForecastResponse.Current readCurrent(JsonParser parser) throws IOException {
+        double temperature = 0;
+        double apparentTemperature = 0;
+        int weatherCode = 0;
+        int humidity = 0;
+        double windSpeed = 0;
+        long time = 0;
+        int interval = 0;
+
+        String name;
+        while ((name = parser.nextFieldName()) != null) {
+            JsonToken value = parser.nextToken();
+            switch (name) {
+                case "temperature_2m" -> temperature = doubleValue(parser, value);
+                case "apparent_temperature" -> apparentTemperature = doubleValue(parser, value);
+                case "weather_code" -> weatherCode = intValue(parser, value);
+                case "relative_humidity_2m" -> humidity = intValue(parser, value);
+                case "wind_speed_10m" -> windSpeed = doubleValue(parser, value);
+                case "time" -> time = epochSecond(parser, value);
+                case "interval" -> interval = intValue(parser, value);
+                default -> parser.skipChildren();
+            }
+        }
+        return new ForecastResponse.Current(temperature, apparentTemperature, weatherCode, humidity, windSpeed, time, interval);
+    }
+
+    /**
+     * timeformat=unixtime이면 epoch 초. iso8601(기본값)이면 timezone을 보내지 않았으므로 GMT 기준 로컬 시각이다.
+     */
+    private static long epochSecond(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return 0;
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            try {
+                return LocalDateTime.parse(parser.getText()).toEpochSecond(ZoneOffset.UTC);
+            } catch (DateTimeParseException e) {
+                throw new JsonParseException(parser, "time 값을 해석할 수 없습니다: " + parser.getText(), e);
+            }
+        }
+        expectNumber(parser, token);
+        return parser.getLongValue();
+    }
+
+    private static double doubleValue(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return 0;
+        }
+        expectNumber(parser, token);
+        return parser.getDoubleValue();
+    }
+
+    private static int intValue(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return 0;
+        }
+        expectNumber(parser, token);
+        return parser.getIntValue();
+    }
+
+    private static void expectNumber(JsonParser parser, JsonToken token) throws IOException {
+        if (token == null || !token.isNumeric()) {
+            throw new JsonParseException(parser, parser.currentName() + " 값이 숫자가 아닙니다: " + token);
+        }
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, expected + " 가 필요하지만 " + actual + " 를 만났습니다.");
+        }
+    }
+}
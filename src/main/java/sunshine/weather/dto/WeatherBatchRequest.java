@@ -0,0 +1,11 @@
+package sunshine.weather.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record WeatherBatchRequest(
+        @NotEmpty @Size(max = 100) List<@NotBlank String> cities
+) {}
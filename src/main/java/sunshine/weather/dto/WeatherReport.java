@@ -0,0 +1,88 @@
+package sunshine.weather.dto;
+
+import sunshine.weather.cache.BinaryCodec;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.Instant;
+
+/**
+ * {@code GET /api/weather/{city}} 응답. JSON이 기본이고, 내부 클라이언트는 {@link #MEDIA_TYPE}으로 바이너리를 받을 수 있다.
+ *
+ * @param latitude   확인한 도시 좌표
+ * @param observedAt Open-Meteo current 관측 시각
+ * @param expiresAt  다음 관측 시각. 이 시각까지는 같은 관측값이다.
+ * @param source     summary를 만든 경로
+ */
+public record WeatherReport(
+        String city,
+        double latitude,
+        double longitude,
+        Instant observedAt,
+        Instant expiresAt,
+        double temperature,
+        double apparentTemperature,
+        int humidity,
+        double windSpeed,
+        int weatherCode,
+        String description,
+        String summary,
+        Source source
+) {
+
+    public static final String MEDIA_TYPE = "application/vnd.sunshine.weather-report";
+
+    private static final int FORMAT_VERSION = 3;
+
+    /**
+     * 버전 1바이트 + 고정 필드 61바이트 + 문자열 3개. 필드를 바꾸면 FORMAT_VERSION을 올린다.
+     */
+    public static final BinaryCodec<WeatherReport> CODEC = new BinaryCodec<>() {
+        @Override
+        public void write(WeatherReport r, DataOutput out) throws IOException {
+            out.writeByte(FORMAT_VERSION);
+            out.writeUTF(r.city());
+            out.writeDouble(r.latitude());
+            out.writeDouble(r.longitude());
+            out.writeLong(r.observedAt().toEpochMilli());
+            out.writeLong(r.expiresAt().toEpochMilli());
+            out.writeDouble(r.temperature());
+            out.writeDouble(r.apparentTemperature());
+            out.writeInt(r.humidity());
+            out.writeDouble(r.windSpeed());
+            out.writeInt(r.weatherCode());
+            out.writeUTF(r.description());
+            out.writeUTF(r.summary());
+            out.writeByte(r.source().ordinal());
+        }
+
+        @Override
+        public WeatherReport read(DataInput in) throws IOException {
+            int version = in.readUnsignedByte();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("지원하지 않는 날씨 응답 형식 버전입니다: " + version);
+            }
+            return new WeatherReport(in.readUTF(), in.readDouble(), in.readDouble(),
+                    Instant.ofEpochMilli(in.readLong()), Instant.ofEpochMilli(in.readLong()),
+                    in.readDouble(), in.readDouble(), in.readInt(), in.readDouble(), in.readInt(), in.readUTF(), in.readUTF(),
+                    source(in.readUnsignedByte()));
+        }
+    };
+
+    private static Source source(int ordinal) throws IOException {
+        Source[] sources = Source.values();
+        if (ordinal >= sources.length) {
+            throw new IOException("알 수 없는 summary 출처입니다: " + ordinal);
+        }
+        return sources[ordinal];
+    }
+
+    /**
+     * LLM: LLM 조언(캐시 포함) / TEMPLATE: LLM을 끈 설정의 템플릿 /
+     * FALLBACK: LLM을 쓰도록 설정했지만 지연·오류·예산 때문에 템플릿으로 대체한 응답 (나중에 LLM 응답으로 바뀔 수 있다)
+     */
+    public enum Source {
+        LLM, TEMPLATE, FALLBACK
+    }
+}
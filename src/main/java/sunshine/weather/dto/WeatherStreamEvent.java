@@ -0,0 +1,25 @@
+package sunshine.weather.dto;
+
+/**
+ * 스트리밍 응답 이벤트.
+ * - weather: 템플릿 날씨 문장 (날씨 조회 직후 바로 전송)
+ * - summary / outfit: LLM 날씨 요약 / 옷차림 추천 조각 (토큰이 도착하는 대로)
+ */
+public record WeatherStreamEvent(String event, String data) {
+
+    public static final String WEATHER = "weather";
+    public static final String SUMMARY = "summary";
+    public static final String OUTFIT = "outfit";
+
+    public static WeatherStreamEvent weather(String data) {
+        return new WeatherStreamEvent(WEATHER, data);
+    }
+
+    public static WeatherStreamEvent summary(String data) {
+        return new WeatherStreamEvent(SUMMARY, data);
+    }
+
+    public static WeatherStreamEvent outfit(String data) {
+        return new WeatherStreamEvent(OUTFIT, data);
+    }
+}
@@ -0,0 +1,23 @@
+package sunshine.weather.gazetteer;
+
+/**
+ * 바이너리 gazetteer 파일 레이아웃 (big-endian, 섹션은 모두 primitive 배열).
+ *
+ * <pre>
+ * header   : magic, version, cityCount, keyCount, trigramCount, postingCount, poolSize (int x 7)
+ * cities   : latitude double[], longitude double[], population long[], nameOffset int[], nameLength int[]
+ * keys     : hash long[] (오름차순), keyOffset int[], keyLength int[], keyCity int[]
+ * trigrams : hash long[] (오름차순), postingOffset int[], postingCount int[]
+ * postings : keyIndex int[]
+ * pool     : UTF-8 문자열 풀 (도시 이름, 정규화된 키)
+ * </pre>
+ */
+final class BinaryGazetteerFormat {
+
+    static final int MAGIC = 0x53475A31; // "SGZ1"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 7 * Integer.BYTES;
+
+    private BinaryGazetteerFormat() {
+    }
+}
@@ -0,0 +1,94 @@
+package sunshine.weather.gazetteer;
+
+/**
+ * 도시 이름 정규화와 오타 허용 검색에 쓰는 문자열 유틸.
+ */
+public final class CityNames {
+
+    private static final char BOUNDARY_START = '^';
+    private static final char BOUNDARY_END = '$';
+
+    private CityNames() {
+    }
+
+    /**
+     * 대소문자/공백/구두점 차이를 없앤 키. ("New York", "new-york", "NEWYORK" → "newyork")
+     */
+    public static String normalize(String name) {
+        StringBuilder sb = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (Character.isWhitespace(c) || c == '-' || c == '.' || c == '\'' || c == '_' || c == ',') {
+                continue;
+            }
+            sb.append(Character.toLowerCase(c));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 64비트 FNV-1a. 바이너리 gazetteer의 정렬된 해시 테이블 키로 쓴다.
+     */
+    public static long hash64(CharSequence s) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < s.length(); i++) {
+            h ^= s.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return h;
+    }
+
+    /**
+     * 경계 문자를 붙인 3-gram. 두 글자 한글 이름("서울")도 "^서울", "서울$" 두 개를 가진다.
+     */
+    public static String[] trigrams(String key) {
+        String padded = BOUNDARY_START + key + BOUNDARY_END;
+        String[] grams = new String[padded.length() - 2];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = padded.substring(i, i + 3);
+        }
+        return grams;
+    }
+
+    /**
+     * 편집 거리. max를 넘으면 계산을 멈추고 max + 1을 반환한다.
+     */
+    public static int boundedLevenshtein(String a, String b, int max) {
+        if (Math.abs(a.length() - b.length()) > max) {
+            return max + 1;
+        }
+
+        int[] prev = new int[b.length() + 1];
+        int[] curr = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            prev[j] = j;
+        }
+
+        for (int i = 1; i <= a.length(); i++) {
+            curr[0] = i;
+            int rowMin = curr[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                curr[j] = Math.min(Math.min(curr[j - 1] + 1, prev[j] + 1), prev[j - 1] + cost);
+                rowMin = Math.min(rowMin, curr[j]);
+            }
+            if (rowMin > max) {
+                return max + 1;
+            }
+            int[] tmp = prev;
+            prev = curr;
+            curr = tmp;
+        }
+        return Math.min(prev[b.length()], max + 1);
+    }
+
+    /**
+     * 입력 길이에 따른 허용 오타 수. 짧은 이름은 오타 허용 시 엉뚱한 도시로 갈 위험이 커서 정확 일치만 본다.
+     */
+    public static int maxTypos(int keyLength) {
+        if (keyLength < 4) {
+            return 0;
+        }
+        return keyLength <= 6 ? 1 : 2;
+    }
+}
@@ -0,0 +1,24 @@
+package sunshine.weather.gazetteer;
+
+import sunshine.weather.model.City;
+
+import java.util.Optional;
+
+/**
+ * 내장 도시 데이터셋 조회.
+ * 데이터셋에 없는 실제 도시가 철자가 비슷한 다른 도시로 바뀌지 않도록, 오타 허용 검색은 정확 일치와 따로 둔다.
+ */
+public interface Gazetteer {
+    /**
+     * 정규화한 이름/별칭이 정확히 일치하는 도시.
+     */
+    Optional<City> find(String inputCityName);
+
+    /**
+     * 편집 거리가 허용 오타 수 안에 드는 가장 가까운 도시. (같은 거리면 인구가 많은 쪽)
+     * 확정된 답이 아니라 후보이므로, 다른 방법으로 찾지 못했을 때만 쓴다.
+     */
+    Optional<City> findFuzzy(String inputCityName);
+
+    int size();
+}
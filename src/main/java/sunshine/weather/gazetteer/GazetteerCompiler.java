@@ -0,0 +1,130 @@
+package sunshine.weather.gazetteer;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 빌드 시점에 TSV 데이터셋을 {@link MappedGazetteer}가 읽는 바이너리 파일로 컴파일한다.
+ * (Gradle {@code compileGazetteer} 태스크에서 실행)
+ */
+public final class GazetteerCompiler {
+
+    private GazetteerCompiler() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("usage: GazetteerCompiler <input.tsv> <output.bin>");
+        }
+        Path input = Path.of(args[0]);
+        Path output = Path.of(args[1]);
+
+        List<GazetteerRecord> records;
+        try (InputStream in = Files.newInputStream(input)) {
+            records = GazetteerTsvReader.read(in);
+        }
+
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(output))) {
+            compile(records, out);
+        }
+    }
+
+    public static void compile(List<GazetteerRecord> records, OutputStream out) throws IOException {
+        var pool = new ByteArrayOutputStream();
+        int cityCount = records.size();
+
+        int[] nameOffset = new int[cityCount];
+        int[] nameLength = new int[cityCount];
+        Map<String, Integer> cityByKey = new LinkedHashMap<>();
+        for (int i = 0; i < cityCount; i++) {
+            GazetteerRecord r = records.get(i);
+            byte[] name = r.name().getBytes(StandardCharsets.UTF_8);
+            nameOffset[i] = pool.size();
+            nameLength[i] = name.length;
+            pool.write(name);
+
+            addKey(cityByKey, records, r.name(), i);
+            addKey(cityByKey, records, r.asciiName(), i);
+            for (String alternate : r.alternateNames()) {
+                addKey(cityByKey, records, alternate, i);
+            }
+        }
+
+        List<Key> keys = new ArrayList<>(cityByKey.size());
+        for (Map.Entry<String, Integer> e : cityByKey.entrySet()) {
+            byte[] bytes = e.getKey().getBytes(StandardCharsets.UTF_8);
+            keys.add(new Key(CityNames.hash64(e.getKey()), e.getKey(), pool.size(), bytes.length, e.getValue()));
+            pool.write(bytes);
+        }
+        keys.sort(Comparator.comparingLong(Key::hash));
+
+        Map<Long, List<Integer>> grams = new HashMap<>();
+        for (int k = 0; k < keys.size(); k++) {
+            for (String gram : CityNames.trigrams(keys.get(k).text())) {
+                grams.computeIfAbsent(CityNames.hash64(gram), g -> new ArrayList<>()).add(k);
+            }
+        }
+        List<Long> gramHashes = new ArrayList<>(grams.keySet());
+        gramHashes.sort(Long::compare);
+        int postingCount = grams.values().stream().mapToInt(List::size).sum();
+
+        var data = new DataOutputStream(out);
+        data.writeInt(BinaryGazetteerFormat.MAGIC);
+        data.writeInt(BinaryGazetteerFormat.VERSION);
+        data.writeInt(cityCount);
+        data.writeInt(keys.size());
+        data.writeInt(gramHashes.size());
+        data.writeInt(postingCount);
+        data.writeInt(pool.size());
+
+        for (GazetteerRecord r : records) data.writeDouble(r.latitude());
+        for (GazetteerRecord r : records) data.writeDouble(r.longitude());
+        for (GazetteerRecord r : records) data.writeLong(r.population());
+        for (int offset : nameOffset) data.writeInt(offset);
+        for (int length : nameLength) data.writeInt(length);
+
+        for (Key key : keys) data.writeLong(key.hash());
+        for (Key key : keys) data.writeInt(key.offset());
+        for (Key key : keys) data.writeInt(key.length());
+        for (Key key : keys) data.writeInt(key.city());
+
+        int postingOffset = 0;
+        for (long hash : gramHashes) data.writeLong(hash);
+        for (long hash : gramHashes) {
+            data.writeInt(postingOffset);
+            postingOffset += grams.get(hash).size();
+        }
+        for (long hash : gramHashes) data.writeInt(grams.get(hash).size());
+        for (long hash : gramHashes) {
+            for (int keyIndex : grams.get(hash)) data.writeInt(keyIndex);
+        }
+
+        pool.writeTo(data);
+        data.flush();
+    }
+
+    private static void addKey(Map<String, Integer> cityByKey, List<GazetteerRecord> records, String name, int city) {
+        String key = CityNames.normalize(name);
+        if (key.isEmpty()) {
+            return;
+        }
+        cityByKey.merge(key, city,
+                (a, b) -> records.get(a).population() >= records.get(b).population() ? a : b);
+    }
+
+    private record Key(long hash, String text, int offset, int length, int city) {}
+}
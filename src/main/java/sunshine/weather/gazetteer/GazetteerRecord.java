@@ -0,0 +1,13 @@
+package sunshine.weather.gazetteer;
+
+import java.util.List;
+
+public record GazetteerRecord(
+        String name,
+        String asciiName,
+        List<String> alternateNames,
+        double latitude,
+        double longitude,
+        String countryCode,
+        long population
+) {}
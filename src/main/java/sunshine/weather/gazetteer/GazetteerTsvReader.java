@@ -0,0 +1,56 @@
+package sunshine.weather.gazetteer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * GeoNames 스타일 TSV 읽기.
+ * 컬럼: name, asciiname, alternatenames(쉼표 구분), latitude, longitude, country_code, population
+ */
+public final class GazetteerTsvReader {
+
+    private static final int COLUMNS = 7;
+
+    private GazetteerTsvReader() {
+    }
+
+    public static List<GazetteerRecord> read(InputStream in) throws IOException {
+        var reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        List<GazetteerRecord> records = new ArrayList<>();
+
+        String line;
+        int lineNo = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNo++;
+            if (line.isBlank() || line.startsWith("#")) {
+                continue;
+            }
+
+            String[] cols = line.split("\t", -1);
+            if (cols.length < COLUMNS) {
+                throw new IllegalStateException("gazetteer 형식이 올바르지 않습니다 (line " + lineNo + ")");
+            }
+
+            List<String> alternates = cols[2].isBlank()
+                    ? List.of()
+                    : Arrays.stream(cols[2].split(",")).map(String::trim).filter(s -> !s.isEmpty()).toList();
+
+            records.add(new GazetteerRecord(
+                    cols[0].trim(),
+                    cols[1].trim(),
+                    alternates,
+                    Double.parseDouble(cols[3]),
+                    Double.parseDouble(cols[4]),
+                    cols[5].trim(),
+                    cols[6].isBlank() ? 0 : Long.parseLong(cols[6].trim())
+            ));
+        }
+        return records;
+    }
+}
@@ -0,0 +1,141 @@
+package sunshine.weather.gazetteer;
+
+import sunshine.weather.model.City;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 힙 위의 gazetteer 인덱스.
+ * - 정규화된 이름/별칭 → 도시 해시 테이블
+ * - 오타 허용 검색용 trigram → 키 posting list
+ */
+public final class HeapGazetteer implements Gazetteer {
+
+    private final City[] cities;
+    private final long[] populations;
+    private final Map<String, Integer> cityByKey;
+    private final String[] keys;
+    private final int[] keyCity;
+    private final Map<String, int[]> postings;
+
+    private HeapGazetteer(List<GazetteerRecord> records) {
+        this.cities = new City[records.size()];
+        this.populations = new long[records.size()];
+        this.cityByKey = new HashMap<>();
+
+        for (int i = 0; i < records.size(); i++) {
+            GazetteerRecord r = records.get(i);
+            cities[i] = new City(r.name(), r.latitude(), r.longitude());
+            populations[i] = r.population();
+
+            addKey(r.name(), i);
+            addKey(r.asciiName(), i);
+            for (String alternate : r.alternateNames()) {
+                addKey(alternate, i);
+            }
+        }
+
+        this.keys = new String[cityByKey.size()];
+        this.keyCity = new int[cityByKey.size()];
+        Map<String, List<Integer>> grams = new HashMap<>();
+        int k = 0;
+        for (Map.Entry<String, Integer> e : cityByKey.entrySet()) {
+            keys[k] = e.getKey();
+            keyCity[k] = e.getValue();
+            for (String gram : CityNames.trigrams(e.getKey())) {
+                grams.computeIfAbsent(gram, g -> new ArrayList<>()).add(k);
+            }
+            k++;
+        }
+
+        this.postings = new HashMap<>(grams.size() * 2);
+        grams.forEach((gram, ids) -> postings.put(gram, ids.stream().mapToInt(Integer::intValue).toArray()));
+    }
+
+    public static HeapGazetteer of(List<GazetteerRecord> records) {
+        return new HeapGazetteer(records);
+    }
+
+    public static HeapGazetteer empty() {
+        return new HeapGazetteer(List.of());
+    }
+
+    @Override
+    public Optional<City> find(String inputCityName) {
+        String key = key(inputCityName);
+        if (key.isEmpty()) {
+            return Optional.empty();
+        }
+        Integer exact = cityByKey.get(key);
+        return exact == null ? Optional.empty() : Optional.of(cities[exact]);
+    }
+
+    @Override
+    public Optional<City> findFuzzy(String inputCityName) {
+        String key = key(inputCityName);
+        if (key.isEmpty()) {
+            return Optional.empty();
+        }
+        int fuzzy = nearestCity(key);
+        return fuzzy < 0 ? Optional.empty() : Optional.of(cities[fuzzy]);
+    }
+
+    @Override
+    public int size() {
+        return cities.length;
+    }
+
+    private static String key(String inputCityName) {
+        return inputCityName == null ? "" : CityNames.normalize(inputCityName);
+    }
+
+    private int nearestCity(String key) {
+        int maxTypos = CityNames.maxTypos(key.length());
+        if (maxTypos == 0 || keys.length == 0) {
+            return -1;
+        }
+
+        int[] shared = new int[keys.length];
+        for (String gram : CityNames.trigrams(key)) {
+            int[] ids = postings.get(gram);
+            if (ids == null) {
+                continue;
+            }
+            for (int id : ids) {
+                shared[id]++;
+            }
+        }
+
+        int bestCity = -1;
+        int bestDistance = maxTypos + 1;
+        for (int id = 0; id < keys.length; id++) {
+            if (shared[id] == 0) {
+                continue;
+            }
+            int distance = CityNames.boundedLevenshtein(key, keys[id], maxTypos);
+            if (distance > maxTypos) {
+                continue;
+            }
+            int city = keyCity[id];
+            if (distance < bestDistance
+                    || (distance == bestDistance && bestCity >= 0 && populations[city] > populations[bestCity])) {
+                bestDistance = distance;
+                bestCity = city;
+            }
+        }
+        return bestCity;
+    }
+
+    private void addKey(String name, int city) {
+        String key = CityNames.normalize(name);
+        if (key.isEmpty()) {
+            return;
+        }
+        // 같은 이름의 도시가 여럿이면 인구가 많은 쪽을 대표로 쓴다
+        cityByKey.merge(key, city, (a, b) -> populations[a] >= populations[b] ? a : b);
+    }
+}
@@ -0,0 +1,219 @@
+package sunshine.weather.gazetteer;
+
+import sunshine.weather.model.City;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+/**
+ * {@link GazetteerCompiler}가 만든 바이너리 파일을 mmap 해서 조회하는 gazetteer.
+ * 도시별 객체를 만들지 않고 primitive 섹션을 절대 위치로 읽으며, 조회 결과로만 {@link City}를 만든다.
+ */
+public final class MappedGazetteer implements Gazetteer {
+
+    private final ByteBuffer buf;
+    private final int cityCount;
+    private final int keyCount;
+    private final int trigramCount;
+
+    private final int latitudes;
+    private final int longitudes;
+    private final int populations;
+    private final int nameOffsets;
+    private final int nameLengths;
+    private final int keyHashes;
+    private final int keyOffsets;
+    private final int keyLengths;
+    private final int keyCities;
+    private final int gramHashes;
+    private final int gramPostingOffsets;
+    private final int gramPostingCounts;
+    private final int postings;
+    private final int pool;
+
+    private MappedGazetteer(ByteBuffer buf) {
+        this.buf = buf;
+        if (buf.getInt(0) != BinaryGazetteerFormat.MAGIC) {
+            throw new IllegalStateException("gazetteer 바이너리 형식이 아닙니다.");
+        }
+        if (buf.getInt(4) != BinaryGazetteerFormat.VERSION) {
+            throw new IllegalStateException("지원하지 않는 gazetteer 버전입니다: " + buf.getInt(4));
+        }
+        this.cityCount = buf.getInt(8);
+        this.keyCount = buf.getInt(12);
+        this.trigramCount = buf.getInt(16);
+        int postingCount = buf.getInt(20);
+
+        int p = BinaryGazetteerFormat.HEADER_BYTES;
+        latitudes = p;          p += cityCount * Double.BYTES;
+        longitudes = p;         p += cityCount * Double.BYTES;
+        populations = p;        p += cityCount * Long.BYTES;
+        nameOffsets = p;        p += cityCount * Integer.BYTES;
+        nameLengths = p;        p += cityCount * Integer.BYTES;
+        keyHashes = p;          p += keyCount * Long.BYTES;
+        keyOffsets = p;         p += keyCount * Integer.BYTES;
+        keyLengths = p;         p += keyCount * Integer.BYTES;
+        keyCities = p;          p += keyCount * Integer.BYTES;
+        gramHashes = p;         p += trigramCount * Long.BYTES;
+        gramPostingOffsets = p; p += trigramCount * Integer.BYTES;
+        gramPostingCounts = p;  p += trigramCount * Integer.BYTES;
+        postings = p;           p += postingCount * Integer.BYTES;
+        pool = p;
+    }
+
+    public static MappedGazetteer open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new MappedGazetteer(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * 테스트/벤치마크용: 이미 메모리에 있는 바이너리를 그대로 감싼다.
+     */
+    public static MappedGazetteer wrap(ByteBuffer buffer) {
+        return new MappedGazetteer(buffer);
+    }
+
+    @Override
+    public Optional<City> find(String inputCityName) {
+        String key = key(inputCityName);
+        if (key.isEmpty()) {
+            return Optional.empty();
+        }
+        int exact = findExact(key);
+        return exact < 0 ? Optional.empty() : Optional.of(city(buf.getInt(keyCities + exact * Integer.BYTES)));
+    }
+
+    @Override
+    public Optional<City> findFuzzy(String inputCityName) {
+        String key = key(inputCityName);
+        if (key.isEmpty()) {
+            return Optional.empty();
+        }
+        int fuzzy = nearestCity(key);
+        return fuzzy < 0 ? Optional.empty() : Optional.of(city(fuzzy));
+    }
+
+    @Override
+    public int size() {
+        return cityCount;
+    }
+
+    private static String key(String inputCityName) {
+        return inputCityName == null ? "" : CityNames.normalize(inputCityName);
+    }
+
+    private int findExact(String key) {
+        long hash = CityNames.hash64(key);
+        int i = lowerBound(keyHashes, keyCount, hash);
+        if (i < 0) {
+            return -1;
+        }
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        for (; i < keyCount && buf.getLong(keyHashes + i * Long.BYTES) == hash; i++) {
+            if (keyEquals(i, bytes)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int nearestCity(String key) {
+        int maxTypos = CityNames.maxTypos(key.length());
+        if (maxTypos == 0 || keyCount == 0) {
+            return -1;
+        }
+
+        int[] shared = new int[keyCount];
+        for (String gram : CityNames.trigrams(key)) {
+            int g = lowerBound(gramHashes, trigramCount, CityNames.hash64(gram));
+            if (g < 0) {
+                continue;
+            }
+            int offset = buf.getInt(gramPostingOffsets + g * Integer.BYTES);
+            int count = buf.getInt(gramPostingCounts + g * Integer.BYTES);
+            for (int j = 0; j < count; j++) {
+                shared[buf.getInt(postings + (offset + j) * Integer.BYTES)]++;
+            }
+        }
+
+        int bestCity = -1;
+        int bestDistance = maxTypos + 1;
+        for (int k = 0; k < keyCount; k++) {
+            if (shared[k] == 0) {
+                continue;
+            }
+            int distance = CityNames.boundedLevenshtein(key, keyText(k), maxTypos);
+            if (distance > maxTypos) {
+                continue;
+            }
+            int city = buf.getInt(keyCities + k * Integer.BYTES);
+            if (distance < bestDistance
+                    || (distance == bestDistance && bestCity >= 0 && population(city) > population(bestCity))) {
+                bestDistance = distance;
+                bestCity = city;
+            }
+        }
+        return bestCity;
+    }
+
+    /**
+     * 정렬된 long 섹션에서 hash가 처음 나오는 인덱스. 없으면 -1.
+     */
+    private int lowerBound(int section, int count, long hash) {
+        int lo = 0;
+        int hi = count;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (buf.getLong(section + mid * Long.BYTES) < hash) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo < count && buf.getLong(section + lo * Long.BYTES) == hash ? lo : -1;
+    }
+
+    private boolean keyEquals(int k, byte[] bytes) {
+        int length = buf.getInt(keyLengths + k * Integer.BYTES);
+        if (length != bytes.length) {
+            return false;
+        }
+        int offset = pool + buf.getInt(keyOffsets + k * Integer.BYTES);
+        for (int i = 0; i < length; i++) {
+            if (buf.get(offset + i) != bytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String keyText(int k) {
+        return poolString(buf.getInt(keyOffsets + k * Integer.BYTES), buf.getInt(keyLengths + k * Integer.BYTES));
+    }
+
+    private long population(int city) {
+        return buf.getLong(populations + city * Long.BYTES);
+    }
+
+    private City city(int index) {
+        String name = poolString(
+                buf.getInt(nameOffsets + index * Integer.BYTES),
+                buf.getInt(nameLengths + index * Integer.BYTES));
+        return new City(
+                name,
+                buf.getDouble(latitudes + index * Double.BYTES),
+                buf.getDouble(longitudes + index * Double.BYTES));
+    }
+
+    private String poolString(int offset, int length) {
+        byte[] bytes = new byte[length];
+        buf.get(pool + offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
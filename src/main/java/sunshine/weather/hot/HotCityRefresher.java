@@ -0,0 +1,181 @@
+package sunshine.weather.hot;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import sunshine.weather.budget.LlmBudgetController;
+import sunshine.weather.config.HotRefreshProperties;
+import sunshine.weather.config.WeatherCacheProperties;
+import sunshine.weather.dto.ForecastResponse;
+import sunshine.weather.gazetteer.CityNames;
+import sunshine.weather.metrics.WeatherMetrics;
+import sunshine.weather.model.City;
+import sunshine.weather.service.LlmWeatherAdvisor;
+import sunshine.weather.service.WeatherCache;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 요청이 몰리는 도시를 Space-Saving 스케치로 세고, 상위 K개의 날씨와 LLM 조언을 만료 전에 미리 갱신한다.
+ * 인기 도시 요청은 upstream을 기다리지 않고 메모리에서 끝난다.
+ * <ul>
+ *     <li>갱신은 별도의 낮은 우선순위 스레드 concurrency 개에서만 돌고, 주기당 budgetPerCycle 개까지만 보낸다</li>
+ *     <li>LLM 조언은 예산 컨트롤러가 지금 허용할 때만 다시 만든다 (복구 탐침 비율은 쓰지 않는다)</li>
+ * </ul>
+ */
+@Component
+public class HotCityRefresher {
+
+    private static final Logger log = LoggerFactory.getLogger(HotCityRefresher.class);
+
+    private final WeatherCache weatherCache;
+    private final LlmWeatherAdvisor weatherAdvisor;
+    private final LlmBudgetController budget;
+    private final WeatherMetrics metrics;
+    private final HotRefreshProperties props;
+    private final boolean weatherCacheEnabled;
+    private final boolean llmEnabled;
+
+    private final SpaceSaving<String, City> sketch;
+    private final ReentrantLock sketchLock = new ReentrantLock();
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolExecutor executor;
+
+    public HotCityRefresher(
+            WeatherCache weatherCache,
+            LlmWeatherAdvisor weatherAdvisor,
+            LlmBudgetController budget,
+            WeatherMetrics metrics,
+            HotRefreshProperties props,
+            WeatherCacheProperties weatherCacheProperties,
+            @Value("${sunshine.llm.enabled:false}") boolean llmEnabled
+    ) {
+        this.weatherCache = weatherCache;
+        this.weatherAdvisor = weatherAdvisor;
+        this.budget = budget;
+        this.metrics = metrics;
+        this.props = props;
+        this.weatherCacheEnabled = weatherCacheProperties.enabled();
+        this.llmEnabled = llmEnabled;
+        this.sketch = new SpaceSaving<>(props.sketchCapacity());
+        this.executor = new ThreadPoolExecutor(
+                props.concurrency(), props.concurrency(),
+                30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, props.budgetPerCycle())),
+                r -> {
+                    Thread t = new Thread(r, "hot-refresh");
+                    t.setDaemon(true);
+                    t.setPriority(Thread.MIN_PRIORITY);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 요청 경로에서 호출한다. 다른 스레드가 기록 중이면 이번 표본은 버린다.
+     * (상위 빈도 추정에는 표본으로 충분하고, 요청은 잠금을 기다리지 않는다)
+     */
+    public void record(City city) {
+        if (!props.enabled() || !sketchLock.tryLock()) {
+            return;
+        }
+        try {
+            sketch.offer(CityNames.normalize(city.getName()), city);
+        } finally {
+            sketchLock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${sunshine.hot-refresh.interval:30s}", initialDelayString = "${sunshine.hot-refresh.interval:30s}")
+    public void refreshHotCities() {
+        if (!props.enabled()) {
+            return;
+        }
+
+        List<SpaceSaving.Counter<String, City>> hot;
+        sketchLock.lock();
+        try {
+            hot = sketch.top(props.topK());
+            sketch.decay();
+        } finally {
+            sketchLock.unlock();
+        }
+
+        int submitted = 0;
+        for (SpaceSaving.Counter<String, City> counter : hot) {
+            if (submitted >= props.budgetPerCycle()) {
+                break;
+            }
+            if (counter.guaranteed() < props.minRequests() || !needsRefresh(counter.value())) {
+                continue;
+            }
+            // 이전 주기의 갱신이 아직 끝나지 않은 도시는 건너뛴다
+            if (!refreshing.add(counter.key())) {
+                continue;
+            }
+            try {
+                executor.execute(() -> refresh(counter.key(), counter.value()));
+                submitted++;
+            } catch (RejectedExecutionException e) {
+                refreshing.remove(counter.key());
+                break;
+            }
+        }
+        if (submitted > 0) {
+            log.debug("hot refresh submitted={} candidates={}", submitted, hot.size());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private boolean needsRefresh(City city) {
+        if (!weatherCacheEnabled) {
+            return false;
+        }
+        ForecastResponse.Current weather = weatherCache.peekFresh(city);
+        if (weather == null) {
+            return true;
+        }
+        return llmEnabled && weatherAdvisor.adviceExpiresWithin(city, weather, props.adviceRefreshAhead());
+    }
+
+    private void refresh(String key, City city) {
+        try {
+            ForecastResponse.Current weather = weatherCache.peekFresh(city);
+            if (weather == null) {
+                weather = weatherCache.prefetch(city);
+                metrics.hotRefresh("weather", "success");
+            }
+
+            if (!llmEnabled || !weatherAdvisor.adviceExpiresWithin(city, weather, props.adviceRefreshAhead())) {
+                return;
+            }
+            if (!budget.allowsBackground()) {
+                metrics.hotRefresh("advice", "skipped");
+                return;
+            }
+            weatherAdvisor.refreshAdvice(city, weather);
+            metrics.hotRefresh("advice", "success");
+        } catch (RuntimeException e) {
+            metrics.hotRefresh("refresh", "error");
+            log.debug("hot refresh failed city={}", city.getName(), e);
+        } finally {
+            refreshing.remove(key);
+        }
+    }
+}
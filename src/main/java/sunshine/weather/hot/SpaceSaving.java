@@ -0,0 +1,164 @@
+package sunshine.weather.hot;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Space-Saving heavy-hitters 스케치. 카운터 capacity 개로 상위 항목과 그 빈도의 상한을 추정한다.
+ * 카운터가 꽉 찬 상태에서 새 키가 오면 가장 작은 카운터를 물려받는다(count = min + 1, error = min).
+ * 카운터는 최소 힙으로 유지해 갱신/교체가 O(log capacity) 이다.
+ * <p>
+ * 스레드 안전하지 않다. 호출하는 쪽에서 잠가야 한다.
+ *
+ * @param <K> 빈도를 세는 키
+ * @param <V> 키별로 마지막에 본 값 (예: 정규화한 도시 이름 → 좌표가 담긴 City)
+ */
+public final class SpaceSaving<K, V> {
+
+    private final Object[] keys;
+    private final Object[] values;
+    private final long[] counts;
+    private final long[] errors;
+    private final Map<K, Integer> positions;
+    private int size;
+
+    public SpaceSaving(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity는 1 이상이어야 합니다: " + capacity);
+        }
+        this.keys = new Object[capacity];
+        this.values = new Object[capacity];
+        this.counts = new long[capacity];
+        this.errors = new long[capacity];
+        this.positions = new HashMap<>(capacity * 2);
+    }
+
+    public void offer(K key, V value) {
+        Integer position = positions.get(key);
+        if (position != null) {
+            int i = position;
+            values[i] = value;
+            counts[i]++;
+            siftDown(i);
+            return;
+        }
+
+        if (size < keys.length) {
+            int i = size++;
+            set(i, key, value, 1, 0);
+            siftUp(i);
+            return;
+        }
+
+        // 가장 작은 카운터를 새 키에 넘긴다
+        long min = counts[0];
+        positions.remove(keys[0]);
+        set(0, key, value, min + 1, min);
+        siftDown(0);
+    }
+
+    /**
+     * 빈도 상한(count) 순(같으면 하한 순)으로 최대 k 개. guaranteed = count - error 는 실제 빈도의 하한이다.
+     */
+    public List<Counter<K, V>> top(int k) {
+        List<Counter<K, V>> all = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            all.add(counter(i));
+        }
+        all.sort(Comparator.comparingLong(Counter<K, V>::count)
+                .thenComparingLong(Counter::guaranteed)
+                .reversed());
+        return all.size() <= k ? all : List.copyOf(all.subList(0, k));
+    }
+
+    /**
+     * 모든 카운터를 절반으로 줄여 오래된 빈도의 비중을 낮춘다.
+     * 반으로 나누는 것은 순서를 바꾸지 않으므로 힙 성질이 유지된다.
+     */
+    public void decay() {
+        for (int i = 0; i < size; i++) {
+            counts[i] >>>= 1;
+            errors[i] >>>= 1;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0, size, null);
+        Arrays.fill(values, 0, size, null);
+        positions.clear();
+        size = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Counter<K, V> counter(int i) {
+        return new Counter<>((K) keys[i], (V) values[i], counts[i], errors[i]);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void set(int i, Object key, Object value, long count, long error) {
+        keys[i] = key;
+        values[i] = value;
+        counts[i] = count;
+        errors[i] = error;
+        positions.put((K) key, i);
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (counts[parent] <= counts[i]) {
+                return;
+            }
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i) {
+        while (true) {
+            int left = 2 * i + 1;
+            if (left >= size) {
+                return;
+            }
+            int right = left + 1;
+            int smallest = right < size && counts[right] < counts[left] ? right : left;
+            if (counts[i] <= counts[smallest]) {
+                return;
+            }
+            swap(i, smallest);
+            i = smallest;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void swap(int a, int b) {
+        Object key = keys[a];
+        Object value = values[a];
+        long count = counts[a];
+        long error = errors[a];
+        keys[a] = keys[b];
+        values[a] = values[b];
+        counts[a] = counts[b];
+        errors[a] = errors[b];
+        keys[b] = key;
+        values[b] = value;
+        counts[b] = count;
+        errors[b] = error;
+        positions.put((K) keys[a], a);
+        positions.put((K) keys[b], b);
+    }
+
+    public record Counter<K, V>(K key, V value, long count, long error) {
+        public long guaranteed() {
+            return count - error;
+        }
+    }
+}
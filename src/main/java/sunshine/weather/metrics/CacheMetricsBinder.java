@@ -0,0 +1,57 @@
+package sunshine.weather.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+import sunshine.weather.cache.CacheStats;
+import sunshine.weather.cache.MonitoredCache;
+
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * {@link MonitoredCache} 통계를 {@code sunshine.cache.*} 미터로 노출한다. (city / weather / advice)
+ */
+@Component
+public class CacheMetricsBinder implements MeterBinder {
+
+    private final List<MonitoredCache> caches;
+
+    public CacheMetricsBinder(List<MonitoredCache> caches) {
+        this.caches = caches;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (MonitoredCache cache : caches) {
+            gets(registry, cache, "hit", CacheStats::hits);
+            gets(registry, cache, "stale", CacheStats::staleHits);
+            gets(registry, cache, "negative", CacheStats::negativeHits);
+            gets(registry, cache, "miss", CacheStats::misses);
+            gets(registry, cache, "shared", CacheStats::sharedHits);
+            counter(registry, cache, "sunshine.cache.loads", "success", stats -> stats.loads() - stats.loadFailures());
+            counter(registry, cache, "sunshine.cache.loads", "failure", CacheStats::loadFailures);
+            counter(registry, cache, "sunshine.cache.coalesced", null, CacheStats::coalesced);
+            counter(registry, cache, "sunshine.cache.evictions", null, CacheStats::evictions);
+            Gauge.builder("sunshine.cache.size", cache, c -> c.stats().size())
+                    .tag("cache", cache.name())
+                    .register(registry);
+        }
+    }
+
+    private static void gets(MeterRegistry registry, MonitoredCache cache, String result, ToLongFunction<CacheStats> value) {
+        counter(registry, cache, "sunshine.cache.gets", result, value);
+    }
+
+    private static void counter(MeterRegistry registry, MonitoredCache cache, String name, String result,
+                                ToLongFunction<CacheStats> value) {
+        var builder = FunctionCounter.builder(name, cache, c -> value.applyAsLong(c.stats()))
+                .tag("cache", cache.name());
+        if (result != null) {
+            builder.tag("result", result);
+        }
+        builder.register(registry);
+    }
+}
@@ -0,0 +1,77 @@
+package sunshine.weather.metrics;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.LongConsumer;
+
+/**
+ * 본문을 읽은 바이트 수를 세었다가 응답을 닫을 때 한 번 넘긴다.
+ */
+class CountingClientHttpResponse implements ClientHttpResponse {
+
+    private final ClientHttpResponse delegate;
+    private final LongConsumer onClose;
+    private long bytes;
+    private InputStream body;
+    private boolean closed;
+
+    CountingClientHttpResponse(ClientHttpResponse delegate, LongConsumer onClose) {
+        this.delegate = delegate;
+        this.onClose = onClose;
+    }
+
+    @Override
+    public HttpStatusCode getStatusCode() throws IOException {
+        return delegate.getStatusCode();
+    }
+
+    @Override
+    public String getStatusText() throws IOException {
+        return delegate.getStatusText();
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        return delegate.getHeaders();
+    }
+
+    @Override
+    public InputStream getBody() throws IOException {
+        if (body == null) {
+            body = new FilterInputStream(delegate.getBody()) {
+                @Override
+                public int read() throws IOException {
+                    int b = super.read();
+                    if (b >= 0) {
+                        bytes++;
+                    }
+                    return b;
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) throws IOException {
+                    int n = super.read(buffer, offset, length);
+                    if (n > 0) {
+                        bytes += n;
+                    }
+                    return n;
+                }
+            };
+        }
+        return body;
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            onClose.accept(bytes);
+        }
+        delegate.close();
+    }
+}
@@ -0,0 +1,234 @@
+package sunshine.weather.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import sunshine.weather.concurrent.StageScope;
+import sunshine.weather.concurrent.StageTimeoutException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 요청 파이프라인 계측. 이름은 모두 {@code sunshine.} 으로 시작하고, 분위수/히스토그램은 application.yml에서 켠다.
+ * <ul>
+ *     <li>{@code sunshine.stage} — 단계별(resolve/fetch/advise/template) 지연, outcome=success|timeout|error</li>
+ *     <li>{@code sunshine.city.resolutions} — 도시 좌표를 어디서 찾았는지 (gazetteer/llm/failed)</li>
+ *     <li>{@code sunshine.open-meteo.requests}, {@code sunshine.open-meteo.response.bytes} — 상태 코드별 업스트림 호출</li>
+ *     <li>{@code sunshine.open-meteo.attempts} — 헤지/재시도로 추가로 보낸 요청</li>
+ *     <li>{@code sunshine.llm.calls}, {@code sunshine.llm.tokens}, {@code sunshine.llm.cost} — 모델별 누적 사용량/추정 비용(USD)</li>
+ *     <li>{@code sunshine.llm.degraded}, {@code sunshine.llm.circuit.state} — 예산/회로 차단으로 템플릿으로 내려간 요청</li>
+ *     <li>{@code sunshine.llm.saved.tokens}, {@code sunshine.llm.saved.cost} — 조언 캐시 적중으로 아낀 양</li>
+ *     <li>{@code sunshine.hot-refresh.refreshes} — 인기 도시 선제 갱신 (kind=weather|advice, outcome)</li>
+ * </ul>
+ */
+@Component
+public class WeatherMetrics {
+
+    private final MeterRegistry registry;
+
+    public WeatherMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * {@link StageScope#call}을 실행하고 단계 지연을 기록한다.
+     */
+    public <T> T stage(String stage, Duration timeout, Callable<T> task) {
+        long start = System.nanoTime();
+        String outcome = "error";
+        try {
+            T result = StageScope.call(stage, timeout, task);
+            outcome = "success";
+            return result;
+        } catch (StageTimeoutException e) {
+            outcome = "timeout";
+            throw e;
+        } finally {
+            stageTimer(stage, outcome).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 제한 시간 없이 호출 스레드에서 바로 실행하는 가벼운 단계 (템플릿 렌더링 등)
+     */
+    public <T> T stage(String stage, Supplier<T> task) {
+        long start = System.nanoTime();
+        String outcome = "error";
+        try {
+            T result = task.get();
+            outcome = "success";
+            return result;
+        } finally {
+            stageTimer(stage, outcome).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 논블로킹 경로의 단계. 구독 시점부터 재고, 제한 시간을 넘기면 {@link StageTimeoutException}으로 끝난다.
+     */
+    public <T> Mono<T> stage(String stage, Duration timeout, Mono<T> task) {
+        Mono<T> limited = timeout == null || timeout.isZero()
+                ? task
+                : task.timeout(timeout, Mono.error(() -> new StageTimeoutException(stage, timeout)));
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return limited
+                    .doOnSuccess(value -> stageTimer(stage, "success").record(System.nanoTime() - start, TimeUnit.NANOSECONDS))
+                    .doOnError(e -> stageTimer(stage, e instanceof StageTimeoutException ? "timeout" : "error")
+                            .record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+        });
+    }
+
+    public void cityResolved(String source) {
+        Counter.builder("sunshine.city.resolutions")
+                .description("도시 좌표 확인 경로")
+                .tag("source", source)
+                .register(registry)
+                .increment();
+    }
+
+    public void llmUsage(String feature, String model, long inputTokens, long outputTokens, long costMicroUsd) {
+        model = model == null ? "unknown-model" : model;
+        Counter.builder("sunshine.llm.calls")
+                .tag("feature", feature)
+                .tag("model", model)
+                .register(registry)
+                .increment();
+        tokens("sunshine.llm.tokens", feature, model, "input").increment(inputTokens);
+        tokens("sunshine.llm.tokens", feature, model, "output").increment(outputTokens);
+        Counter.builder("sunshine.llm.cost")
+                .description("LLM 추정 비용 누계")
+                .baseUnit("usd")
+                .tag("feature", feature)
+                .tag("model", model)
+                .register(registry)
+                .increment(costMicroUsd / 1_000_000.0);
+    }
+
+    public void llmDegraded(String reason) {
+        Counter.builder("sunshine.llm.degraded")
+                .description("예산/회로 차단으로 LLM 대신 템플릿을 쓴 요청")
+                .tag("reason", reason)
+                .register(registry)
+                .increment();
+    }
+
+    /**
+     * 0 = closed, 1 = open, 2 = half-open
+     */
+    public void llmCircuitState(IntSupplier state) {
+        Gauge.builder("sunshine.llm.circuit.state", state::getAsInt)
+                .register(registry);
+    }
+
+    public void llmSaved(String feature, long inputTokens, long outputTokens, long savedMicroUsd) {
+        tokens("sunshine.llm.saved.tokens", feature, "cache", "input").increment(inputTokens);
+        tokens("sunshine.llm.saved.tokens", feature, "cache", "output").increment(outputTokens);
+        Counter.builder("sunshine.llm.saved.cost")
+                .description("캐시 적중으로 호출하지 않은 LLM 요청의 추정 비용 누계")
+                .baseUnit("usd")
+                .tag("feature", feature)
+                .register(registry)
+                .increment(savedMicroUsd / 1_000_000.0);
+    }
+
+    /**
+     * Open-Meteo 호출의 상태 코드, 지연, 응답 본문 크기를 기록한다.
+     * (RestClient 기본 계측은 좌표가 들어간 URI를 태그로 쓰지 않도록 OpenMeteo가 템플릿 없는 URI로 호출한다)
+     */
+    public ClientHttpRequestInterceptor openMeteoInterceptor() {
+        return (request, body, execution) -> {
+            long start = System.nanoTime();
+            try {
+                var response = execution.execute(request, body);
+                String status = String.valueOf(response.getStatusCode().value());
+                openMeteoTimer(status).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                return new CountingClientHttpResponse(response, bytes -> responseBytes(status).record(bytes));
+            } catch (IOException | RuntimeException e) {
+                openMeteoTimer("IO_ERROR").record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                throw e;
+            }
+        };
+    }
+
+    /**
+     * 논블로킹 경로(WebClient)의 Open-Meteo 응답 하나. 본문 크기를 모르면 bytes는 음수로 넘긴다.
+     */
+    public void openMeteoResponse(String status, long nanos, long bytes) {
+        openMeteoTimer(status).record(nanos, TimeUnit.NANOSECONDS);
+        if (bytes >= 0) {
+            responseBytes(status).record(bytes);
+        }
+    }
+
+    /**
+     * Open-Meteo 시도 종류별 횟수 (primary / hedge / retry)
+     */
+    public void openMeteoAttempt(String kind) {
+        Counter.builder("sunshine.open-meteo.attempts")
+                .tag("kind", kind)
+                .register(registry)
+                .increment();
+    }
+
+    /**
+     * 조건부 GET 결과 (not_modified_fast = 기억한 검증자로 바로 304, not_modified = 다시 만든 뒤 304, ok = 200)
+     */
+    public void httpConditional(String outcome) {
+        Counter.builder("sunshine.http.conditional")
+                .description("날씨 조회의 If-None-Match 처리 결과")
+                .tag("outcome", outcome)
+                .register(registry)
+                .increment();
+    }
+
+    public void hotRefresh(String kind, String outcome) {
+        Counter.builder("sunshine.hot-refresh.refreshes")
+                .description("인기 도시 선제 갱신")
+                .tag("kind", kind)
+                .tag("outcome", outcome)
+                .register(registry)
+                .increment();
+    }
+
+    private Timer stageTimer(String stage, String outcome) {
+        return Timer.builder("sunshine.stage")
+                .description("요청 파이프라인 단계별 지연")
+                .tag("stage", stage)
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    private Timer openMeteoTimer(String status) {
+        return Timer.builder("sunshine.open-meteo.requests")
+                .description("Open-Meteo 호출 지연")
+                .tag("status", status)
+                .register(registry);
+    }
+
+    private DistributionSummary responseBytes(String status) {
+        return DistributionSummary.builder("sunshine.open-meteo.response.bytes")
+                .baseUnit("bytes")
+                .tag("status", status)
+                .register(registry);
+    }
+
+    private Counter tokens(String name, String feature, String model, String type) {
+        return Counter.builder(name)
+                .baseUnit("tokens")
+                .tag("feature", feature)
+                .tag("model", model)
+                .tag("type", type)
+                .register(registry);
+    }
+}
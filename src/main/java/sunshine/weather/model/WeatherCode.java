@@ -1,12 +1,21 @@
 package sunshine.weather.model;
 
+/**
+ * WMO 날씨 코드 분류. 조회는 0~99 코드 공간을 펼쳐 둔 배열 인덱싱 한 번이다.
+ * ordinal이 캐시 키/L2 코덱에 쓰이므로 새 분류는 뒤에 추가한다.
+ */
 public enum WeatherCode {
     CLEAR_SKY(new int[]{0}, "맑음"),
     PARTLY_CLOUDY(new int[]{1, 2, 3}, "구름 조금"),
     CLOUDY(new int[]{45, 48}, "흐림"),
-    RAIN(new int[]{51, 53, 55, 56, 57, 61, 63, 65, 66, 67}, "비"),
+    RAIN(new int[]{61, 63, 65, 66, 67}, "비"),
     SNOW(new int[]{71, 73, 75, 77}, "눈"),
-    THUNDERSTORM(new int[]{95, 96, 99}, "천둥번개");
+    THUNDERSTORM(new int[]{95, 96, 99}, "천둥번개"),
+    DRIZZLE(new int[]{51, 53, 55, 56, 57}, "이슬비"),
+    RAIN_SHOWERS(new int[]{80, 81, 82}, "소나기"),
+    SNOW_SHOWERS(new int[]{85, 86}, "소낙눈");
+
+    public static final int MAX_CODE = 99;
 
     private final int[] codes;
     private final String description;
@@ -17,24 +26,67 @@ public enum WeatherCode {
     }
 
     public static String getDescription(int code) {
-        return findWeatherByCode(code).description;
+        return from(code).description;
+    }
+
+    /**
+     * 0~99 밖의 코드는 맑음으로 본다.
+     */
+    public static WeatherCode from(int code) {
+        return code >= 0 && code <= MAX_CODE ? ByCode.TABLE[code] : CLEAR_SKY;
+    }
+
+    public String description() {
+        return description;
     }
 
-    private static WeatherCode findWeatherByCode(int code) {
-        for (WeatherCode weather : values()) {
-            if (containsCode(weather.codes, code)) {
-                return weather;
+    /**
+     * 이 분류를 대표하는 WMO 코드 (사전 계산 시 LLM 입력용)
+     */
+    public int representativeCode() {
+        return codes[0];
+    }
+
+    /**
+     * enum 상수가 모두 만들어진 뒤에 채워야 하므로 holder로 둔다.
+     */
+    private static final class ByCode {
+        private static final WeatherCode[] TABLE = build();
+
+        private static WeatherCode[] build() {
+            WeatherCode[] table = new WeatherCode[MAX_CODE + 1];
+            for (WeatherCode weather : values()) {
+                for (int code : weather.codes) {
+                    table[code] = weather;
+                }
             }
+            // Open-Meteo가 쓰지 않는 코드는 WMO 4677의 십 단위 구간으로 분류한다
+            for (int code = 0; code <= MAX_CODE; code++) {
+                if (table[code] == null) {
+                    table[code] = decade(code);
+                }
+            }
+            return table;
         }
-        return CLEAR_SKY;
-    }
 
-    private static boolean containsCode(int[] codes, int targetCode) {
-        for (int code : codes) {
-            if (code == targetCode) {
-                return true;
+        private static WeatherCode decade(int code) {
+            if (code < 4) {
+                return PARTLY_CLOUDY;
+            } else if (code < 50) {
+                return CLOUDY;
+            } else if (code < 60) {
+                return DRIZZLE;
+            } else if (code < 70) {
+                return RAIN;
+            } else if (code < 80) {
+                return SNOW;
+            } else if (code < 85) {
+                return RAIN_SHOWERS;
+            } else if (code < 90) {
+                return SNOW_SHOWERS;
+            } else {
+                return THUNDERSTORM;
             }
         }
-        return false;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,106 @@
+package sunshine.weather.prompt;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 시작 시 한 번 파싱해 두는 프롬프트 템플릿.
+ * {@code {name}} 자리표시자를 리터럴 조각과 슬롯으로 나눠 두고, 렌더링은 크기를 미리 계산한 StringBuilder 하나로 끝낸다.
+ * 상수(예: 출력 형식 스키마)는 컴파일 시점에 리터럴로 합쳐 둔다.
+ */
+public final class CompiledPrompt {
+
+    private final List<String> parameters;
+    private final String[] literals;
+    private final int[] slots;
+    private final int literalLength;
+
+    private CompiledPrompt(List<String> parameters, String[] literals, int[] slots) {
+        this.parameters = parameters;
+        this.literals = literals;
+        this.slots = slots;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * @param constants  컴파일 시점에 채울 값
+     * @param parameters 렌더링 시 {@link #render(String...)}에 같은 순서로 넘길 이름
+     */
+    public static CompiledPrompt compile(String template, Map<String, String> constants, String... parameters) {
+        List<String> names = List.of(parameters);
+        List<String> literals = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+
+        int i = 0;
+        while (i < template.length()) {
+            char c = template.charAt(i);
+            int end = c == '{' ? placeholderEnd(template, i) : -1;
+            if (end < 0) {
+                literal.append(c);
+                i++;
+                continue;
+            }
+
+            String name = template.substring(i + 1, end);
+            if (constants.containsKey(name)) {
+                literal.append(constants.get(name));
+            } else if (names.contains(name)) {
+                literals.add(literal.toString());
+                literal.setLength(0);
+                slots.add(names.indexOf(name));
+            } else {
+                throw new IllegalArgumentException("정의되지 않은 프롬프트 변수입니다: " + name);
+            }
+            i = end + 1;
+        }
+        literals.add(literal.toString());
+
+        return new CompiledPrompt(
+                names,
+                literals.toArray(String[]::new),
+                slots.stream().mapToInt(Integer::intValue).toArray()
+        );
+    }
+
+    public String render(String... values) {
+        if (values.length != parameters.size()) {
+            throw new IllegalArgumentException("프롬프트 변수 개수가 다릅니다. expected=" + parameters + " actual=" + Arrays.toString(values));
+        }
+
+        int length = literalLength;
+        for (int slot : slots) {
+            length += values[slot].length();
+        }
+
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < slots.length; i++) {
+            sb.append(literals[i]).append(values[slots[i]]);
+        }
+        return sb.append(literals[slots.length]).toString();
+    }
+
+    /**
+     * '{' 위치에서 시작하는 식별자 자리표시자의 '}' 위치. 자리표시자가 아니면 -1.
+     */
+    private static int placeholderEnd(String template, int open) {
+        int i = open + 1;
+        while (i < template.length()) {
+            char c = template.charAt(i);
+            if (c == '}') {
+                return i > open + 1 ? i : -1;
+            }
+            if (!Character.isLetterOrDigit(c) && c != '_') {
+                return -1;
+            }
+            i++;
+        }
+        return -1;
+    }
+}
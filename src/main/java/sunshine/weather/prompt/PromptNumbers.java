@@ -0,0 +1,23 @@
+package sunshine.weather.prompt;
+
+/**
+ * 프롬프트용 숫자 포맷. {@code String.format("%.1f", v)}와 같은 결과를 Formatter 없이 만든다.
+ */
+public final class PromptNumbers {
+
+    private PromptNumbers() {
+    }
+
+    public static String oneDecimal(double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return String.valueOf(value);
+        }
+
+        long scaled = Math.round(Math.abs(value) * 10);
+        StringBuilder sb = new StringBuilder(8);
+        if (value < 0 || (value == 0 && 1 / value < 0)) {
+            sb.append('-');
+        }
+        return sb.append(scaled / 10).append('.').append(scaled % 10).toString();
+    }
+}
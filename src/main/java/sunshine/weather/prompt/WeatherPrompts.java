@@ -0,0 +1,215 @@
+package sunshine.weather.prompt;
+
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.converter.BeanOutputConverter;
+import org.springframework.stereotype.Component;
+import sunshine.weather.dto.ForecastResponse;
+import sunshine.weather.model.City;
+import sunshine.weather.model.WeatherCode;
+import sunshine.weather.service.LlmCityResolver;
+import sunshine.weather.service.LlmWeatherAdvisor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 날씨 서비스에서 쓰는 프롬프트 모음.
+ * 템플릿 파싱과 BeanOutputConverter 스키마 생성은 시작 시 한 번만 하고, 요청마다 변수만 채운다.
+ */
+@Component
+public class WeatherPrompts {
+
+    /** LLM 스트리밍 응답에서 날씨 요약과 옷차림 추천을 나누는 구분자 */
+    public static final String OUTFIT_MARKER = "[OUTFIT]";
+
+    private static final String[] WEATHER_PARAMETERS = {"cityName", "t", "a", "h", "ws", "desc", "code"};
+    private static final String[] BATCH_ITEM_PARAMETERS = {"id", "cityName", "t", "a", "h", "ws", "desc", "code"};
+
+    private final BeanOutputConverter<LlmWeatherAdvisor.Advice> adviceConverter =
+            new BeanOutputConverter<>(LlmWeatherAdvisor.Advice.class);
+    private final BeanOutputConverter<LlmWeatherAdvisor.AdviceBatch> adviceBatchConverter =
+            new BeanOutputConverter<>(LlmWeatherAdvisor.AdviceBatch.class);
+    private final BeanOutputConverter<LlmCityResolver.CityGeo> cityGeoConverter =
+            new BeanOutputConverter<>(LlmCityResolver.CityGeo.class);
+
+    private final CompiledPrompt advice = CompiledPrompt.compile(ADVICE_TEMPLATE,
+            Map.of("format", adviceConverter.getFormat()), WEATHER_PARAMETERS);
+    private final CompiledPrompt adviceBatch = CompiledPrompt.compile(ADVICE_BATCH_TEMPLATE,
+            Map.of("format", adviceBatchConverter.getFormat()), "items");
+    private final CompiledPrompt adviceBatchItem = CompiledPrompt.compile(ADVICE_BATCH_ITEM_TEMPLATE,
+            Map.of(), BATCH_ITEM_PARAMETERS);
+    private final CompiledPrompt adviceStream = CompiledPrompt.compile(ADVICE_STREAM_TEMPLATE,
+            Map.of("marker", OUTFIT_MARKER), WEATHER_PARAMETERS);
+    private final CompiledPrompt geocode = CompiledPrompt.compile(GEOCODE_TEMPLATE,
+            Map.of("format", cityGeoConverter.getFormat()), "city");
+    private final CompiledPrompt outfit = CompiledPrompt.compile(OUTFIT_TEMPLATE,
+            Map.of(), WEATHER_PARAMETERS);
+
+    public Prompt advice(City city, ForecastResponse.Current w) {
+        return new Prompt(advice.render(weatherValues(city, w)));
+    }
+
+    /**
+     * 여러 도시의 조언을 한 번에 요청한다. 지시문과 출력 스키마는 한 번만 싣고, 도시별로는 수치만 붙인다.
+     * 각 도시의 id는 목록 순서(1부터)이며, 응답 items의 id로 돌아온다.
+     */
+    public Prompt adviceBatch(List<LlmWeatherAdvisor.AdviceRequest> requests) {
+        StringBuilder items = new StringBuilder(requests.size() * 128);
+        for (int i = 0; i < requests.size(); i++) {
+            LlmWeatherAdvisor.AdviceRequest request = requests.get(i);
+            String[] weather = weatherValues(request.city(), request.weather());
+            String[] values = new String[weather.length + 1];
+            values[0] = Integer.toString(i + 1);
+            System.arraycopy(weather, 0, values, 1, weather.length);
+            items.append(adviceBatchItem.render(values));
+        }
+        return new Prompt(adviceBatch.render(items.toString()));
+    }
+
+    public Prompt adviceStream(City city, ForecastResponse.Current w) {
+        return new Prompt(adviceStream.render(weatherValues(city, w)));
+    }
+
+    public Prompt geocode(String inputCityName) {
+        return new Prompt(geocode.render(inputCityName));
+    }
+
+    public Prompt outfit(City city, ForecastResponse.Current w) {
+        return new Prompt(outfit.render(weatherValues(city, w)));
+    }
+
+    public BeanOutputConverter<LlmWeatherAdvisor.Advice> adviceConverter() {
+        return adviceConverter;
+    }
+
+    public BeanOutputConverter<LlmWeatherAdvisor.AdviceBatch> adviceBatchConverter() {
+        return adviceBatchConverter;
+    }
+
+    public BeanOutputConverter<LlmCityResolver.CityGeo> cityGeoConverter() {
+        return cityGeoConverter;
+    }
+
+    private static String[] weatherValues(City city, ForecastResponse.Current w) {
+        return new String[]{
+                city.getName(),
+                PromptNumbers.oneDecimal(w.temperature_2m()),
+                PromptNumbers.oneDecimal(w.apparent_temperature()),
+                Integer.toString(w.relative_humidity_2m()),
+                PromptNumbers.oneDecimal(w.wind_speed_10m()),
+                WeatherCode.getDescription(w.weather_code()),
+                Integer.toString(w.weather_code())
+        };
+    }
+
+    static final String ADVICE_TEMPLATE = """
+            너는 한국어로 답하는 날씨 리포터이자 스타일리스트야.
+            입력된 "현재 날씨 수치"를 바탕으로
+            1) 날씨 요약(weatherSummary)
+            2) 옷차림 추천(outfitSummary)
+            을 생성해.
+
+            제약:
+            - 반드시 {format} 형식만 출력 (다른 텍스트 금지)
+            - weatherSummary는 2~3문장, 수치(기온/체감/습도/풍속)와 상태를 자연스럽게 포함
+            - outfitSummary는 2~4문장, 기온/체감/바람/강수 가능성을 근거로 추천
+            - 과장, 단정적 예보 금지(“가능성”, “권장” 등 안전한 표현)
+            - 브랜드 언급 금지
+
+            [도시]
+            - 이름: {cityName}
+
+            [현재 날씨]
+            - 기온: {t}°C
+            - 체감: {a}°C
+            - 습도: {h}%
+            - 풍속: {ws}m/s
+            - 상태: {desc} (code={code})
+
+            {format}
+            """;
+
+    private static final String ADVICE_BATCH_TEMPLATE = """
+            너는 한국어로 답하는 날씨 리포터이자 스타일리스트야.
+            아래 도시들의 "현재 날씨 수치"를 각각 바탕으로, 도시마다
+            1) 날씨 요약(weatherSummary)
+            2) 옷차림 추천(outfitSummary)
+            을 생성해.
+
+            제약:
+            - 반드시 {format} 형식만 출력 (다른 텍스트 금지)
+            - items에는 입력된 모든 도시를 하나씩 담고, id는 입력의 id를 그대로 쓸 것
+            - weatherSummary는 2~3문장, 수치(기온/체감/습도/풍속)와 상태를 자연스럽게 포함
+            - outfitSummary는 2~4문장, 기온/체감/바람/강수 가능성을 근거로 추천
+            - 과장, 단정적 예보 금지(“가능성”, “권장” 등 안전한 표현)
+            - 브랜드 언급 금지
+
+            {items}
+            {format}
+            """;
+
+    private static final String ADVICE_BATCH_ITEM_TEMPLATE = """
+            [id={id}]
+            - 도시: {cityName}
+            - 기온: {t}°C, 체감: {a}°C, 습도: {h}%, 풍속: {ws}m/s
+            - 상태: {desc} (code={code})
+
+            """;
+
+    private static final String ADVICE_STREAM_TEMPLATE = """
+            너는 한국어로 답하는 날씨 리포터이자 스타일리스트야.
+            입력된 "현재 날씨 수치"를 바탕으로 날씨 요약과 옷차림 추천을 생성해.
+
+            출력 형식:
+            - 먼저 날씨 요약을 2~3문장으로 쓰고, 수치(기온/체감/습도/풍속)와 상태를 자연스럽게 포함
+            - 다음 줄에 정확히 {marker} 라고만 쓴 뒤
+            - 옷차림 추천을 2~4문장으로 쓰고, 기온/체감/바람/강수 가능성을 근거로 추천
+            - JSON, 마크다운, 제목 등 다른 텍스트 금지
+            - 과장, 단정적 예보 금지(“가능성”, “권장” 등 안전한 표현)
+            - 브랜드 언급 금지
+
+            [도시]
+            - 이름: {cityName}
+
+            [현재 날씨]
+            - 기온: {t}°C
+            - 체감: {a}°C
+            - 습도: {h}%
+            - 풍속: {ws}m/s
+            - 상태: {desc} (code={code})
+            """;
+
+    private static final String GEOCODE_TEMPLATE = """
+            너는 지오코딩 도우미야.
+            사용자가 입력한 도시/지역 이름을 보고, 해당 위치를 대표하는 좌표(위도/경도)를 반환해.
+
+            반드시 아래 형식 지시(format)를 따르고, 다른 텍스트는 절대 포함하지 마.
+            모르면 임의로 만들지 말고 latitude/longitude를 null로 반환해.
+
+            입력: "{city}"
+
+            {format}
+            """;
+
+    private static final String OUTFIT_TEMPLATE = """
+            너는 날씨 기반 복장 추천 스타일리스트야.
+            아래 입력(도시, 현재 날씨 수치)을 기반으로 오늘 입기 좋은 복장을 한국어로 추천해줘.
+
+            요구사항:
+            - 2~4문장으로 작성
+            - 기온/체감온도/바람/습도/강수 가능성을 고려해서 이유를 짧게 포함
+            - 과장하지 말고, 애매하면 "가벼운 겉옷" 같이 안전한 표현 사용
+            - 특정 브랜드 언급 금지
+            - 우산/방수 같은 준비물도 필요하면 포함
+
+            [도시]
+            - {cityName}
+
+            [현재 날씨]
+            - 기온: {t}°C
+            - 체감: {a}°C
+            - 습도: {h}%
+            - 풍속: {ws}m/s
+            - 상태: {desc} (code={code})
+            """;
+}
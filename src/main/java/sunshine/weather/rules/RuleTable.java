@@ -0,0 +1,258 @@
+package sunshine.weather.rules;
+
+import sunshine.weather.dto.ForecastResponse;
+import sunshine.weather.model.WeatherCode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+/**
+ * 날씨 설명/옷차림 규칙을 한 번 컴파일해 둔 조회표.
+ * 설명은 WMO 코드 공간(0~99)에 펼친 배열이고, 옷차림은 규칙 경계로 나눈 구간 조합마다
+ * 처음 맞는 규칙을 미리 골라 둔 평탄 배열이다. 조회는 구간표 인덱싱과 곱셈뿐이라 분기/할당이 없다.
+ */
+public final class RuleTable {
+
+    /** 구간 조합 수 상한. 경계가 지나치게 많은 규칙 파일을 막는다. */
+    private static final int MAX_CELLS = 1 << 20;
+    private static final int GROUPS = WeatherCode.values().length;
+
+    private final String[] descriptions;
+    private final Axis temperature;
+    private final Axis apparent;
+    private final Axis wind;
+    private final Axis humidity;
+    private final String[] outfits;
+    private final short[] cells;
+
+    private RuleTable(String[] descriptions, Axis temperature, Axis apparent, Axis wind, Axis humidity,
+                      String[] outfits, short[] cells) {
+        this.descriptions = descriptions;
+        this.temperature = temperature;
+        this.apparent = apparent;
+        this.wind = wind;
+        this.humidity = humidity;
+        this.outfits = outfits;
+        this.cells = cells;
+    }
+
+    /**
+     * 알 수 없는 분류/코드, 잘못된 구간, 어느 규칙에도 맞지 않는 조합이 있으면 IllegalArgumentException.
+     */
+    public static RuleTable compile(WeatherRuleSet rules) {
+        List<WeatherRuleSet.OutfitRule> outfitRules = rules.outfits() == null ? List.of() : rules.outfits();
+        if (outfitRules.isEmpty()) {
+            throw new IllegalArgumentException("옷차림 규칙이 없습니다.");
+        }
+        if (outfitRules.size() > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("옷차림 규칙이 너무 많습니다: " + outfitRules.size());
+        }
+        String[] outfits = new String[outfitRules.size()];
+        for (int i = 0; i < outfits.length; i++) {
+            WeatherRuleSet.OutfitRule rule = outfitRules.get(i);
+            if (rule == null || rule.text() == null || rule.text().isBlank()) {
+                throw new IllegalArgumentException("옷차림 규칙 #" + (i + 1) + "에 문구가 없습니다.");
+            }
+            outfits[i] = rule.text().strip();
+        }
+
+        Axis temperature = Axis.of("temperature", -60, 60, outfitRules, WeatherRuleSet.OutfitRule::temperature);
+        Axis apparent = Axis.of("apparent", -60, 60, outfitRules, WeatherRuleSet.OutfitRule::apparent);
+        Axis wind = Axis.of("wind", 0, 60, outfitRules, WeatherRuleSet.OutfitRule::wind);
+        Axis humidity = Axis.of("humidity", 0, 100, outfitRules, WeatherRuleSet.OutfitRule::humidity);
+
+        long size = (long) temperature.bands() * apparent.bands() * wind.bands() * humidity.bands() * GROUPS;
+        if (size > MAX_CELLS) {
+            throw new IllegalArgumentException("옷차림 규칙의 구간 조합이 너무 많습니다: " + size);
+        }
+
+        short[] cells = new short[(int) size];
+        int index = 0;
+        for (int t = 0; t < temperature.bands(); t++) {
+            for (int a = 0; a < apparent.bands(); a++) {
+                for (int w = 0; w < wind.bands(); w++) {
+                    for (int h = 0; h < humidity.bands(); h++) {
+                        for (int g = 0; g < GROUPS; g++) {
+                            cells[index++] = firstMatch(outfitRules, temperature.representative(t),
+                                    apparent.representative(a), wind.representative(w), humidity.representative(h),
+                                    WeatherCode.values()[g]);
+                        }
+                    }
+                }
+            }
+        }
+
+        return new RuleTable(descriptions(rules.descriptions()), temperature, apparent, wind, humidity, outfits, cells);
+    }
+
+    public String description(int code) {
+        return code >= 0 && code <= WeatherCode.MAX_CODE ? descriptions[code] : WeatherCode.getDescription(code);
+    }
+
+    public String outfit(ForecastResponse.Current w) {
+        int index = temperature.band(w.temperature_2m());
+        index = index * apparent.bands() + apparent.band(w.apparent_temperature());
+        index = index * wind.bands() + wind.band(w.wind_speed_10m());
+        index = index * humidity.bands() + humidity.band(w.relative_humidity_2m());
+        index = index * GROUPS + WeatherCode.from(w.weather_code()).ordinal();
+        return outfits[cells[index]];
+    }
+
+    public int ruleCount() {
+        return outfits.length;
+    }
+
+    public int cellCount() {
+        return cells.length;
+    }
+
+    private static short firstMatch(List<WeatherRuleSet.OutfitRule> rules, int temperature, int apparent,
+                                    int wind, int humidity, WeatherCode weather) {
+        for (int i = 0; i < rules.size(); i++) {
+            WeatherRuleSet.OutfitRule rule = rules.get(i);
+            if (matches(rule.temperature(), temperature)
+                    && matches(rule.apparent(), apparent)
+                    && matches(rule.wind(), wind)
+                    && matches(rule.humidity(), humidity)
+                    && (rule.weather() == null || rule.weather().isEmpty() || rule.weather().contains(weather))) {
+                return (short) i;
+            }
+        }
+        throw new IllegalArgumentException("어느 옷차림 규칙에도 맞지 않는 조합이 있습니다. temperature=" + temperature
+                + " apparent=" + apparent + " wind=" + wind + " humidity=" + humidity + " weather=" + weather
+                + " (조건 없는 마지막 규칙을 두세요)");
+    }
+
+    private static boolean matches(WeatherRuleSet.Range range, int value) {
+        return range == null || range.contains(value);
+    }
+
+    /**
+     * 기본 설명은 {@link WeatherCode}의 분류 설명이고, 분류 이름 → 코드 순서로 덮어쓴다.
+     */
+    private static String[] descriptions(Map<String, String> overrides) {
+        String[] descriptions = new String[WeatherCode.MAX_CODE + 1];
+        for (int code = 0; code <= WeatherCode.MAX_CODE; code++) {
+            descriptions[code] = WeatherCode.from(code).description();
+        }
+        if (overrides == null) {
+            return descriptions;
+        }
+
+        List<Map.Entry<Integer, String>> byCode = new ArrayList<>();
+        for (Map.Entry<String, String> entry : overrides.entrySet()) {
+            String key = entry.getKey().strip();
+            String description = entry.getValue() == null ? "" : entry.getValue().strip();
+            if (description.isEmpty()) {
+                throw new IllegalArgumentException("날씨 설명이 비어 있습니다: " + key);
+            }
+            if (!key.isEmpty() && key.chars().allMatch(Character::isDigit)) {
+                int code = Integer.parseInt(key);
+                if (code > WeatherCode.MAX_CODE) {
+                    throw new IllegalArgumentException("WMO 코드 범위(0~99)를 벗어났습니다: " + key);
+                }
+                byCode.add(Map.entry(code, description));
+                continue;
+            }
+            WeatherCode weather = weatherCode(key);
+            for (int code = 0; code <= WeatherCode.MAX_CODE; code++) {
+                if (WeatherCode.from(code) == weather) {
+                    descriptions[code] = description;
+                }
+            }
+        }
+        for (Map.Entry<Integer, String> entry : byCode) {
+            descriptions[entry.getKey()] = entry.getValue();
+        }
+        return descriptions;
+    }
+
+    private static WeatherCode weatherCode(String name) {
+        try {
+            return WeatherCode.valueOf(name.toUpperCase().replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("알 수 없는 날씨 분류입니다: " + name
+                    + " (가능한 값: " + Arrays.toString(WeatherCode.values()) + ")");
+        }
+    }
+
+    /**
+     * 한 조건 축. 규칙에 나온 경계로 값 범위를 나누고, 정수 단위로 펼친 구간표로 조회한다.
+     * 값은 올림해 정수로 본다. (above &lt; v ≤ atMost 이므로 정수 경계와 결과가 같다)
+     */
+    private static final class Axis {
+        private final int min;
+        private final int max;
+        private final int[] edges;
+        private final byte[] bandByValue;
+
+        private Axis(int min, int max, int[] edges) {
+            this.min = min;
+            this.max = max;
+            this.edges = edges;
+            this.bandByValue = new byte[max - min + 1];
+            for (int v = min; v <= max; v++) {
+                int band = 0;
+                while (band < edges.length && edges[band] < v) {
+                    band++;
+                }
+                bandByValue[v - min] = (byte) band;
+            }
+        }
+
+        static Axis of(String name, int min, int max, List<WeatherRuleSet.OutfitRule> rules,
+                       Function<WeatherRuleSet.OutfitRule, WeatherRuleSet.Range> range) {
+            TreeSet<Integer> edges = new TreeSet<>();
+            for (WeatherRuleSet.OutfitRule rule : rules) {
+                WeatherRuleSet.Range r = range.apply(rule);
+                if (r == null) {
+                    continue;
+                }
+                if (r.above() != null && r.atMost() != null && r.above() >= r.atMost()) {
+                    throw new IllegalArgumentException(name + " 구간이 비어 있습니다: above=" + r.above() + " at-most=" + r.atMost());
+                }
+                for (Integer edge : new Integer[]{r.above(), r.atMost()}) {
+                    if (edge == null) {
+                        continue;
+                    }
+                    if (edge < min || edge > max) {
+                        throw new IllegalArgumentException(name + " 경계가 범위(" + min + "~" + max + ")를 벗어났습니다: " + edge);
+                    }
+                    edges.add(edge);
+                }
+            }
+            if (edges.size() >= Byte.MAX_VALUE) {
+                throw new IllegalArgumentException(name + " 경계가 너무 많습니다: " + edges.size());
+            }
+            // 범위 밖의 값도 바깥 구간에 떨어지도록 max보다 한 칸 더 펼친다
+            return new Axis(min, max + 1, edges.stream().mapToInt(Integer::intValue).toArray());
+        }
+
+        int bands() {
+            return edges.length + 1;
+        }
+
+        int band(double value) {
+            // NaN은 0으로 캐스팅된다
+            return band((int) Math.ceil(value));
+        }
+
+        int band(int value) {
+            return bandByValue[Math.max(min, Math.min(max, value)) - min];
+        }
+
+        /**
+         * 구간 안의 아무 정수. 구간 안에서는 모든 규칙의 참/거짓이 같다.
+         */
+        int representative(int band) {
+            if (edges.length == 0) {
+                return min;
+            }
+            return band < edges.length ? edges[band] : edges[edges.length - 1] + 1;
+        }
+    }
+}
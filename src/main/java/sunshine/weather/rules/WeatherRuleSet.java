@@ -0,0 +1,47 @@
+package sunshine.weather.rules;
+
+import sunshine.weather.model.WeatherCode;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 규칙 파일(rules: ...)에 선언한 날씨 설명/옷차림 규칙. {@link RuleTable#compile}로 조회표가 된다.
+ *
+ * @param descriptions 날씨 분류 이름(RAIN 등) 또는 WMO 코드(82 등) → 설명. 코드가 분류보다 우선한다.
+ * @param outfits      위에서부터 처음 맞는 규칙을 쓴다. 모든 조합이 어느 규칙엔가 맞아야 한다.
+ */
+public record WeatherRuleSet(
+        Map<String, String> descriptions,
+        List<OutfitRule> outfits
+) {
+
+    /**
+     * 조건을 생략하면 그 축은 따지지 않는다.
+     *
+     * @param temperature 기온(°C)
+     * @param apparent    체감온도(°C)
+     * @param wind        풍속(m/s)
+     * @param humidity    습도(%)
+     * @param weather     날씨 분류 (비어 있으면 전부)
+     */
+    public record OutfitRule(
+            Range temperature,
+            Range apparent,
+            Range wind,
+            Range humidity,
+            Set<WeatherCode> weather,
+            String text
+    ) {}
+
+    /**
+     * above &lt; 값 ≤ atMost. 경계는 정수이고, 둘 중 하나는 생략할 수 있다.
+     */
+    public record Range(Integer above, Integer atMost) {
+
+        boolean contains(int value) {
+            return (above == null || value > above) && (atMost == null || value <= atMost);
+        }
+    }
+}
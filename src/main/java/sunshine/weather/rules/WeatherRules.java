@@ -0,0 +1,100 @@
+package sunshine.weather.rules;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import sunshine.weather.config.WeatherRulesProperties;
+import sunshine.weather.dto.ForecastResponse;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 규칙 파일을 컴파일한 {@link RuleTable}을 들고 있다가, 파일이 바뀌면 재시작 없이 교체한다.
+ * 새 규칙이 잘못되었으면 이전 규칙을 그대로 쓴다.
+ */
+@Component
+public class WeatherRules {
+
+    private static final Logger log = LoggerFactory.getLogger(WeatherRules.class);
+
+    static final String DEFAULT_LOCATION = "rules/weather-rules.yml";
+
+    private final Resource resource;
+    private volatile RuleTable table;
+    private long lastModified;
+
+    @Autowired
+    public WeatherRules(WeatherRulesProperties props, ResourceLoader resourceLoader) throws IOException {
+        this(resourceLoader.getResource(props.location()));
+    }
+
+    WeatherRules(Resource resource) throws IOException {
+        this.resource = resource;
+        this.lastModified = lastModified(resource);
+        this.table = load(resource);
+        log.info("weather rules loaded rules={} cells={} location={}", table.ruleCount(), table.cellCount(), resource.getDescription());
+    }
+
+    /**
+     * 클래스패스의 기본 규칙 파일로 만든다. (테스트/벤치마크용)
+     */
+    public static WeatherRules defaults() {
+        try {
+            return new WeatherRules(new ClassPathResource(DEFAULT_LOCATION));
+        } catch (IOException e) {
+            throw new IllegalStateException("기본 날씨 규칙을 읽을 수 없습니다.", e);
+        }
+    }
+
+    public String description(int code) {
+        return table.description(code);
+    }
+
+    public String outfit(ForecastResponse.Current w) {
+        return table.outfit(w);
+    }
+
+    @Scheduled(fixedDelayString = "${sunshine.rules.reload-interval:30s}", initialDelayString = "${sunshine.rules.reload-interval:30s}")
+    public void reloadIfChanged() {
+        long modified = lastModified(resource);
+        if (modified == lastModified) {
+            return;
+        }
+        // 실패해도 같은 파일로 계속 재시도하지 않도록 먼저 기록한다
+        lastModified = modified;
+        try {
+            RuleTable reloaded = load(resource);
+            table = reloaded;
+            log.info("weather rules reloaded rules={} cells={} location={}", reloaded.ruleCount(), reloaded.cellCount(), resource.getDescription());
+        } catch (IOException | RuntimeException e) {
+            log.warn("weather rules reload failed, keeping previous rules location={} reason={}", resource.getDescription(), e.getMessage());
+        }
+    }
+
+    static RuleTable load(Resource resource) throws IOException {
+        List<PropertySource<?>> sources = new YamlPropertySourceLoader().load(resource.getDescription(), resource);
+        WeatherRuleSet rules = new Binder(ConfigurationPropertySources.from(sources))
+                .bind("rules", WeatherRuleSet.class)
+                .orElseThrow(() -> new IllegalArgumentException("규칙 파일에 rules 항목이 없습니다: " + resource.getDescription()));
+        return RuleTable.compile(rules);
+    }
+
+    private static long lastModified(Resource resource) {
+        try {
+            return resource.lastModified();
+        } catch (IOException e) {
+            // jar 안의 파일 등 변경 시각을 알 수 없으면 다시 읽지 않는다
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package sunshine.weather.service;
+
+import sunshine.weather.dto.WeatherStreamEvent;
+import sunshine.weather.prompt.WeatherPrompts;
+
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * LLM 스트리밍 토큰을 구분자({@value #MARKER}) 기준으로 summary / outfit 이벤트로 나눈다.
+ * 구분자가 여러 토큰에 걸쳐 올 수 있으므로 구분자 길이만큼만 잠깐 붙잡아 둔다.
+ * 구분자 뒤의 공백/줄바꿈은 옷차림 글자가 처음 나올 때까지 버리고, 옷차림이 끝내 오지 않으면 템플릿 옷차림으로 마무리한다.
+ */
+class AdviceStreamSplitter {
+
+    static final String MARKER = WeatherPrompts.OUTFIT_MARKER;
+
+    private final Consumer<WeatherStreamEvent> sink;
+    private final Supplier<String> templateOutfit;
+    private final StringBuilder pending = new StringBuilder();
+    private boolean inOutfit;
+    private boolean outfitStarted;
+
+    AdviceStreamSplitter(Consumer<WeatherStreamEvent> sink, Supplier<String> templateOutfit) {
+        this.sink = sink;
+        this.templateOutfit = templateOutfit;
+    }
+
+    void accept(String token) {
+        if (inOutfit) {
+            emitOutfit(token);
+            return;
+        }
+
+        pending.append(token);
+        int marker = pending.indexOf(MARKER);
+        if (marker >= 0) {
+            emit(pending.substring(0, marker));
+            inOutfit = true;
+            String rest = pending.substring(marker + MARKER.length());
+            pending.setLength(0);
+            emitOutfit(rest);
+            return;
+        }
+
+        int safe = pending.length() - (MARKER.length() - 1);
+        if (safe > 0) {
+            emit(pending.substring(0, safe));
+            pending.delete(0, safe);
+        }
+    }
+
+    /**
+     * 스트림이 정상적으로 끝났을 때 부른다. 구분자가 없었거나 구분자 뒤가 비어 있으면 템플릿 옷차림을 보낸다.
+     */
+    void finish() {
+        emit(pending.toString());
+        pending.setLength(0);
+        if (!outfitStarted) {
+            inOutfit = true;
+            outfitStarted = true;
+            emit(templateOutfit.get());
+        }
+    }
+
+    private void emitOutfit(String text) {
+        if (!outfitStarted) {
+            text = text.stripLeading();
+            if (text.isEmpty()) {
+                return;
+            }
+            outfitStarted = true;
+        }
+        emit(text);
+    }
+
+    private void emit(String text) {
+        if (text.isEmpty()) {
+            return;
+        }
+        sink.accept(inOutfit ? WeatherStreamEvent.outfit(text) : WeatherStreamEvent.summary(text));
+    }
+}
@@ -0,0 +1,75 @@
+package sunshine.weather.service;
+
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import sunshine.weather.metrics.WeatherMetrics;
+import sunshine.weather.model.City;
+
+import java.util.Optional;
+
+/**
+ * 내장 gazetteer에서 이름/별칭이 정확히 일치하면 바로 쓰고, 아니면 LLM 지오코딩으로 넘긴다.
+ * 오타 허용 검색 결과는 데이터셋에 없는 비슷한 철자의 실제 도시일 수 있어서 확정하지 않고,
+ * LLM을 쓸 수 없을 때(응답 오류/파싱 실패 등)의 대안으로만 쓴다. LLM이 도시가 아니라고 답한 입력은 그대로 실패시킨다.
+ */
+@Primary
+@Component
+public class ChainedCityResolver implements CityResolver {
+
+    private final GazetteerCityResolver gazetteerCityResolver;
+    private final LlmCityResolver llmCityResolver;
+    private final WeatherMetrics metrics;
+
+    public ChainedCityResolver(GazetteerCityResolver gazetteerCityResolver, LlmCityResolver llmCityResolver,
+                               WeatherMetrics metrics) {
+        this.gazetteerCityResolver = gazetteerCityResolver;
+        this.llmCityResolver = llmCityResolver;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public City resolve(String inputCityName) {
+        Optional<City> known = gazetteerCityResolver.find(inputCityName);
+        if (known.isPresent()) {
+            metrics.cityResolved("gazetteer");
+            return known.get();
+        }
+
+        // LLM 경로의 캐시 적중/미스는 sunshine.cache.gets{cache=city} 로 따로 보인다
+        try {
+            City city = llmCityResolver.resolve(inputCityName);
+            metrics.cityResolved("llm");
+            return city;
+        } catch (IllegalArgumentException e) {
+            metrics.cityResolved("failed");
+            throw e;
+        } catch (RuntimeException e) {
+            Optional<City> near = gazetteerCityResolver.findFuzzy(inputCityName);
+            if (near.isPresent()) {
+                metrics.cityResolved("gazetteer_fuzzy");
+                return near.get();
+            }
+            metrics.cityResolved("failed");
+            throw e;
+        }
+    }
+
+    @Override
+    public Mono<City> resolveAsync(String inputCityName) {
+        return Mono.defer(() -> {
+            Optional<City> known = gazetteerCityResolver.find(inputCityName);
+            if (known.isPresent()) {
+                metrics.cityResolved("gazetteer");
+                return Mono.just(known.get());
+            }
+            return llmCityResolver.resolveAsync(inputCityName)
+                    .doOnSuccess(city -> metrics.cityResolved("llm"))
+                    .onErrorResume(e -> !(e instanceof IllegalArgumentException), e -> Mono
+                            .justOrEmpty(gazetteerCityResolver.findFuzzy(inputCityName))
+                            .doOnNext(city -> metrics.cityResolved("gazetteer_fuzzy"))
+                            .switchIfEmpty(Mono.error(e)))
+                    .doOnError(e -> metrics.cityResolved("failed"));
+        });
+    }
+}
@@ -0,0 +1,46 @@
+package sunshine.weather.service;
+
+import org.springframework.ai.chat.model.ChatResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+
+/**
+ * 논블로킹 경로에서 ChatClient 스트리밍 응답을 한 응답으로 모은다. 구조화 출력은 전체 텍스트가 있어야 변환할 수 있다.
+ */
+final class ChatStreams {
+
+    private ChatStreams() {
+    }
+
+    /**
+     * 청크 텍스트를 이어 붙이고, 사용량이 실려 오는 마지막 청크를 함께 돌려준다.
+     */
+    static Mono<Collected> collect(Flux<ChatResponse> chunks) {
+        return chunks
+                .collect(Accumulator::new, Accumulator::add)
+                .flatMap(accumulator -> accumulator.last == null
+                        ? Mono.error(new IllegalStateException("LLM 응답이 비어 있습니다."))
+                        : Mono.just(new Collected(accumulator.text.toString().trim(), accumulator.last)));
+    }
+
+    private static String text(ChatResponse response) {
+        if (response == null || response.getResult() == null || response.getResult().getOutput() == null) {
+            return "";
+        }
+        return Objects.requireNonNullElse(response.getResult().getOutput().getText(), "");
+    }
+
+    record Collected(String text, ChatResponse last) {}
+
+    private static final class Accumulator {
+        final StringBuilder text = new StringBuilder();
+        ChatResponse last;
+
+        void add(ChatResponse chunk) {
+            text.append(text(chunk));
+            last = chunk;
+        }
+    }
+}
@@ -1,7 +1,16 @@
 package sunshine.weather.service;
 
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import sunshine.weather.model.City;
 
 public interface CityResolver {
     City resolve(String inputCityName);
+
+    /**
+     * 논블로킹 경로용. 기본 구현은 블로킹 {@link #resolve}를 boundedElastic 스레드에서 실행한다.
+     */
+    default Mono<City> resolveAsync(String inputCityName) {
+        return Mono.fromCallable(() -> resolve(inputCityName)).subscribeOn(Schedulers.boundedElastic());
+    }
 }
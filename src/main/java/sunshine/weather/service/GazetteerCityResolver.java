@@ -0,0 +1,55 @@
+package sunshine.weather.service;
+
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import sunshine.weather.gazetteer.Gazetteer;
+import sunshine.weather.model.City;
+
+import java.util.Optional;
+
+@Component
+public class GazetteerCityResolver implements CityResolver {
+
+    private final Gazetteer gazetteer;
+
+    public GazetteerCityResolver(Gazetteer gazetteer) {
+        this.gazetteer = gazetteer;
+    }
+
+    @Override
+    public City resolve(String inputCityName) {
+        if (inputCityName == null || inputCityName.isBlank()) {
+            throw new IllegalArgumentException("도시 이름은 비어 있을 수 없습니다.");
+        }
+        return find(inputCityName)
+                .orElseThrow(() -> new IllegalArgumentException("도시 좌표를 확인할 수 없습니다: " + inputCityName));
+    }
+
+    /**
+     * 메모리(또는 mmap) 조회뿐이라 호출 스레드에서 바로 실행한다.
+     */
+    @Override
+    public Mono<City> resolveAsync(String inputCityName) {
+        return Mono.fromCallable(() -> resolve(inputCityName));
+    }
+
+    /**
+     * 이름/별칭 정확 일치만 본다.
+     */
+    public Optional<City> find(String inputCityName) {
+        if (inputCityName == null || inputCityName.isBlank()) {
+            return Optional.empty();
+        }
+        return gazetteer.find(inputCityName);
+    }
+
+    /**
+     * 오타를 허용한 후보. 다른 경로로 확인하지 못했을 때의 마지막 대안으로만 쓴다.
+     */
+    public Optional<City> findFuzzy(String inputCityName) {
+        if (inputCityName == null || inputCityName.isBlank()) {
+            return Optional.empty();
+        }
+        return gazetteer.findFuzzy(inputCityName);
+    }
+}
@@ -1,14 +1,15 @@
 package sunshine.weather.service;
 
 import org.springframework.ai.chat.client.ChatClient;
-import org.springframework.ai.chat.prompt.PromptTemplate;
-import org.springframework.ai.converter.BeanOutputConverter;
+import org.springframework.ai.chat.model.ChatResponse;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import sunshine.weather.cache.CoalescingCache;
+import sunshine.weather.gazetteer.CityNames;
 import sunshine.weather.model.City;
+import sunshine.weather.prompt.WeatherPrompts;
 
-import java.util.Locale;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Objects;
 
 // ... existing code ...
 
@@ -16,14 +17,20 @@ import java.util.concurrent.ConcurrentHashMap;
 public class LlmCityResolver implements CityResolver {
 
     private final ChatClient chatClient;
+    private final WeatherPrompts prompts;
 
     /**
-     * 간단 in-memory 캐시 (원하면 Spring Cache로 교체 가능)
+     * 크기 제한/TTL/단일 로딩 캐시 (같은 도시 동시 요청은 LLM 호출 1번으로 합쳐짐)
      */
-    private final Map<String, City> cache = new ConcurrentHashMap<>();
+    private final CoalescingCache<String, City> cache;
+    private final LlmUsageRecorder usageRecorder;
 
-    public LlmCityResolver(ChatClient.Builder chatClientBuilder) {
+    public LlmCityResolver(ChatClient.Builder chatClientBuilder, WeatherPrompts prompts,
+                           CoalescingCache<String, City> cityCache, LlmUsageRecorder usageRecorder) {
         this.chatClient = chatClientBuilder.build();
+        this.prompts = prompts;
+        this.cache = cityCache;
+        this.usageRecorder = usageRecorder;
     }
 
     @Override
@@ -32,43 +39,44 @@ public class LlmCityResolver implements CityResolver {
             throw new IllegalArgumentException("도시 이름은 비어 있을 수 없습니다.");
         }
 
-        String key = normalize(inputCityName);
-        City cached = cache.get(key);
-        if (cached != null) return cached;
-
-        var converter = new BeanOutputConverter<>(CityGeo.class);
-        var format = converter.getFormat();
-
-        var userMessage = """
-                너는 지오코딩 도우미야.
-                사용자가 입력한 도시/지역 이름을 보고, 해당 위치를 대표하는 좌표(위도/경도)를 반환해.
-
-                반드시 아래 형식 지시(format)를 따르고, 다른 텍스트는 절대 포함하지 마.
-                모르면 임의로 만들지 말고 latitude/longitude를 null로 반환해.
-
-                입력: "{city}"
+        return cache.get(CityNames.normalize(inputCityName), key -> lookup(inputCityName));
+    }
 
-                {format}
-                """;
+    /**
+     * ChatClient 스트리밍 API로 받아 모은다. 같은 도시의 진행 중인 조회(동기/비동기)는 함께 쓴다.
+     */
+    @Override
+    public Mono<City> resolveAsync(String inputCityName) {
+        if (inputCityName == null || inputCityName.isBlank()) {
+            return Mono.error(new IllegalArgumentException("도시 이름은 비어 있을 수 없습니다."));
+        }
 
-        var promptTemplate = new PromptTemplate(userMessage);
-        var prompt = promptTemplate.create(Map.of(
-                "city", inputCityName,
-                "format", format
-        ));
+        return Mono.fromFuture(() -> cache.getAsync(CityNames.normalize(inputCityName), key -> lookupAsync(inputCityName).toFuture()));
+    }
 
-        // ✅ /actors 예제와 동일한 패턴: call().content()
-        String text = chatClient.prompt(prompt).call().content();
+    private Mono<City> lookupAsync(String inputCityName) {
+        return ChatStreams.collect(chatClient.prompt(prompts.geocode(inputCityName)).stream().chatResponse())
+                .map(collected -> {
+                    usageRecorder.record("city_resolve", collected.last(), inputCityName);
+                    CityGeo geo = prompts.cityGeoConverter().convert(collected.text());
+                    return validateAndToCity(geo, inputCityName);
+                });
+    }
 
-        CityGeo geo = converter.convert(text);
-        City city = validateAndToCity(geo, inputCityName);
+    private City lookup(String inputCityName) {
+        // 사용량을 장부에 남기려고 content() 대신 응답 전체를 받는다
+        ChatResponse response = chatClient.prompt(prompts.geocode(inputCityName)).call().chatResponse();
+        usageRecorder.record("city_resolve", response, inputCityName);
 
-        cache.put(key, city);
-        return city;
+        CityGeo geo = prompts.cityGeoConverter().convert(text(response));
+        return validateAndToCity(geo, inputCityName);
     }
 
-    private String normalize(String s) {
-        return s.trim().toLowerCase(Locale.ROOT);
+    private static String text(ChatResponse response) {
+        if (response == null || response.getResult() == null || response.getResult().getOutput() == null) {
+            return "";
+        }
+        return Objects.requireNonNullElse(response.getResult().getOutput().getText(), "");
     }
 
     private City validateAndToCity(CityGeo geo, String originalInput) {
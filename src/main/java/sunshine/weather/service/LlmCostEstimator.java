@@ -5,29 +5,68 @@ import sunshine.weather.config.LlmCostProperties;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.concurrent.atomic.LongAdder;
 
+/**
+ * 토큰 사용량을 micro-USD(1e-6 달러) 정수로 환산한다.
+ * 단가는 시작 시 nano-USD/1k 토큰 정수로 바꿔 두어, 요청 경로에서는 long 곱셈/나눗셈만 한다.
+ */
 @Component
 public class LlmCostEstimator {
 
-    private final LlmCostProperties props;
+    private final boolean priced;
+    private final long inputNanoUsdPer1k;
+    private final long outputNanoUsdPer1k;
+
+    /**
+     * 캐시 적중으로 호출하지 않은 LLM 요청의 토큰 수 (원래 생성 시 사용량 기준)
+     */
+    private final LongAdder savedInputTokens = new LongAdder();
+    private final LongAdder savedOutputTokens = new LongAdder();
 
     public LlmCostEstimator(LlmCostProperties props) {
-        this.props = props;
+        this.priced = props.inputPer1k() != null && props.outputPer1k() != null;
+        this.inputNanoUsdPer1k = priced ? nanoUsd(props.inputPer1k()) : 0;
+        this.outputNanoUsdPer1k = priced ? nanoUsd(props.outputPer1k()) : 0;
     }
 
-    public BigDecimal estimateUsd(long inputTokens, long outputTokens) {
-        if (props.inputPer1k() == null || props.outputPer1k() == null) {
-            return BigDecimal.ZERO;
+    /**
+     * 추정 비용(micro-USD, 반올림). 단가가 설정되지 않았으면 0.
+     */
+    public long estimateMicroUsd(long inputTokens, long outputTokens) {
+        if (!priced) {
+            return 0;
         }
+        // tokens × nano-USD/1k = 1e-12 달러 단위
+        return (inputTokens * inputNanoUsdPer1k + outputTokens * outputNanoUsdPer1k + 500_000) / 1_000_000;
+    }
+
+    public long recordSaved(long inputTokens, long outputTokens) {
+        savedInputTokens.add(inputTokens);
+        savedOutputTokens.add(outputTokens);
+        return estimateMicroUsd(inputTokens, outputTokens);
+    }
+
+    public long savedInputTokens() {
+        return savedInputTokens.sum();
+    }
 
-        BigDecimal in = props.inputPer1k()
-                .multiply(BigDecimal.valueOf(inputTokens))
-                .divide(BigDecimal.valueOf(1000), 10, RoundingMode.HALF_UP);
+    public long savedOutputTokens() {
+        return savedOutputTokens.sum();
+    }
 
-        BigDecimal out = props.outputPer1k()
-                .multiply(BigDecimal.valueOf(outputTokens))
-                .divide(BigDecimal.valueOf(1000), 10, RoundingMode.HALF_UP);
+    public BigDecimal savedUsd() {
+        return toUsd(estimateMicroUsd(savedInputTokens.sum(), savedOutputTokens.sum()));
+    }
+
+    /**
+     * 응답/로그 표시용. 요청 경로에서는 쓰지 않는다.
+     */
+    public static BigDecimal toUsd(long microUsd) {
+        return BigDecimal.valueOf(microUsd, 6);
+    }
 
-        return in.add(out).setScale(6, RoundingMode.HALF_UP);
+    private static long nanoUsd(BigDecimal usd) {
+        return usd.movePointRight(9).setScale(0, RoundingMode.HALF_UP).longValueExact();
     }
 }
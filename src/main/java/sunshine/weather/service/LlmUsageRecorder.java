@@ -0,0 +1,104 @@
+package sunshine.weather.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.ai.chat.metadata.ChatResponseMetadata;
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.stereotype.Component;
+import sunshine.weather.budget.SpendLedger;
+import sunshine.weather.metrics.WeatherMetrics;
+
+/**
+ * LLM 응답의 사용량을 비용으로 환산해 누적 메트릭(sunshine.llm.*)과 지출 장부에 남긴다.
+ * 요청별 상세는 debug 로그로만 남긴다.
+ */
+@Component
+public class LlmUsageRecorder {
+
+    private static final Logger log = LoggerFactory.getLogger(LlmUsageRecorder.class);
+
+    private final LlmCostEstimator costEstimator;
+    private final SpendLedger ledger;
+    private final WeatherMetrics metrics;
+
+    public LlmUsageRecorder(LlmCostEstimator costEstimator, SpendLedger ledger, WeatherMetrics metrics) {
+        this.costEstimator = costEstimator;
+        this.ledger = ledger;
+        this.metrics = metrics;
+    }
+
+    /**
+     * @param subject 로그에 남길 대상 (도시 이름 등)
+     * @return 추정 비용(micro-USD)
+     */
+    public long record(String feature, LlmUsage usage, String subject) {
+        long costMicroUsd = costEstimator.estimateMicroUsd(usage.inputTokens(), usage.outputTokens());
+        metrics.llmUsage(feature, usage.model(), usage.inputTokens(), usage.outputTokens(), costMicroUsd);
+        ledger.record(feature, usage.model(), usage.inputTokens(), usage.outputTokens(), costMicroUsd);
+
+        if (log.isDebugEnabled()) {
+            log.debug(
+                    "llm_usage feature={} model={} requestId={} " +
+                            "inputTokens={} outputTokens={} totalTokens={} estimatedUsd={} subject={}",
+                    feature,
+                    usage.model(),
+                    usage.requestId(),
+                    usage.inputTokens(),
+                    usage.outputTokens(),
+                    usage.totalTokens(),
+                    LlmCostEstimator.toUsd(costMicroUsd).toPlainString(),
+                    subject
+            );
+        }
+        return costMicroUsd;
+    }
+
+    public long record(String feature, ChatResponse response, String subject) {
+        return record(feature, LlmUsage.of(response), subject);
+    }
+
+    public record LlmUsage(
+            String model,
+            String requestId,
+            long inputTokens,
+            long outputTokens,
+            long totalTokens
+    ) {
+        static LlmUsage unknown() {
+            return new LlmUsage("unknown-model", "unknown-request", 0, 0, 0);
+        }
+
+        /**
+         * 응답 메타데이터에서 사용량을 꺼낸다. 없거나 읽을 수 없으면 0으로 본다.
+         */
+        public static LlmUsage of(ChatResponse response) {
+            try {
+                if (response == null) {
+                    return unknown();
+                }
+
+                ChatResponseMetadata md = response.getMetadata();
+                if (md == null) {
+                    return unknown();
+                }
+
+                String model = md.getModel();
+                String requestId = md.getId();
+
+                Usage usageObj = md.getUsage();
+                long input = 0, output = 0, total = 0;
+
+                if (usageObj != null) {
+                    input = usageObj.getPromptTokens();
+                    output = usageObj.getCompletionTokens();
+                    total = usageObj.getTotalTokens();
+                }
+
+                return new LlmUsage(model, requestId, input, output, total);
+            } catch (Exception e) {
+                return unknown();
+            }
+        }
+    }
+}
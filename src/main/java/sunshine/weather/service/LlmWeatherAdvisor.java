@@ -1,22 +1,37 @@
 package sunshine.weather.service;
 
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.chat.messages.AssistantMessage;
-import org.springframework.ai.chat.metadata.ChatResponseMetadata;
-import org.springframework.ai.chat.metadata.Usage;
 import org.springframework.ai.chat.model.ChatResponse;
-import org.springframework.ai.chat.prompt.PromptTemplate;
-import org.springframework.ai.converter.BeanOutputConverter;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import sunshine.weather.budget.LlmBudgetController;
+import sunshine.weather.cache.AdviceKey;
+import sunshine.weather.cache.CoalescingCache;
+import sunshine.weather.concurrent.MicroBatcher;
+import sunshine.weather.config.AdviceBatchProperties;
+import sunshine.weather.config.AdviceCacheProperties;
 import sunshine.weather.dto.ForecastResponse;
+import sunshine.weather.metrics.WeatherMetrics;
 import sunshine.weather.model.City;
-import sunshine.weather.model.WeatherCode;
+import sunshine.weather.prompt.WeatherPrompts;
+import sunshine.weather.service.LlmUsageRecorder.LlmUsage;
 
-import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Component
 public class LlmWeatherAdvisor {
@@ -24,133 +39,333 @@ public class LlmWeatherAdvisor {
     private static final Logger log = LoggerFactory.getLogger(LlmWeatherAdvisor.class);
 
     private final ChatClient chatClient;
+    private final WeatherPrompts prompts;
     private final LlmCostEstimator llmCostEstimator;
+    private final CoalescingCache<AdviceKey, CachedAdvice> adviceCache;
+    private final AdviceCacheProperties adviceCacheProperties;
+    private final WeatherMetrics metrics;
+    private final LlmBudgetController budget;
+    private final LlmUsageRecorder usageRecorder;
+    private final MicroBatcher<AdviceRequest, BatchOutcome> batcher;
 
-    public LlmWeatherAdvisor(ChatClient.Builder chatClientBuilder, LlmCostEstimator llmCostEstimator) {
+    public LlmWeatherAdvisor(
+            ChatClient.Builder chatClientBuilder,
+            WeatherPrompts prompts,
+            LlmCostEstimator llmCostEstimator,
+            CoalescingCache<AdviceKey, CachedAdvice> adviceCache,
+            AdviceCacheProperties adviceCacheProperties,
+            WeatherMetrics metrics,
+            LlmBudgetController budget,
+            AdviceBatchProperties batchProperties,
+            LlmUsageRecorder usageRecorder
+    ) {
         this.chatClient = chatClientBuilder.build();
+        this.prompts = prompts;
         this.llmCostEstimator = llmCostEstimator;
+        this.adviceCache = adviceCache;
+        this.adviceCacheProperties = adviceCacheProperties;
+        this.metrics = metrics;
+        this.budget = budget;
+        this.usageRecorder = usageRecorder;
+        this.batcher = batchProperties.enabled() && batchProperties.maxSize() > 1
+                ? new MicroBatcher<>("llm-advice", batchProperties.window(), batchProperties.maxSize(), this::generateBatch)
+                : null;
     }
 
+    /**
+     * 같은 도시/같은 날씨 구간의 최근 조언이 있으면 LLM을 호출하지 않고 재사용한다.
+     */
     public Advice advise(City city, ForecastResponse.Current w) {
-        var converter = new BeanOutputConverter<>(Advice.class);
-        var format = converter.getFormat();
-
-        String weatherDesc = WeatherCode.getDescription(w.weather_code());
-
-        var userMessage = """
-                너는 한국어로 답하는 날씨 리포터이자 스타일리스트야.
-                입력된 "현재 날씨 수치"를 바탕으로
-                1) 날씨 요약(weatherSummary)
-                2) 옷차림 추천(outfitSummary)
-                을 생성해.
-
-                제약:
-                - 반드시 {format} 형식만 출력 (다른 텍스트 금지)
-                - weatherSummary는 2~3문장, 수치(기온/체감/습도/풍속)와 상태를 자연스럽게 포함
-                - outfitSummary는 2~4문장, 기온/체감/바람/강수 가능성을 근거로 추천
-                - 과장, 단정적 예보 금지(“가능성”, “권장” 등 안전한 표현)
-                - 브랜드 언급 금지
-
-                [도시]
-                - 이름: {cityName}
-
-                [현재 날씨]
-                - 기온: {t}°C
-                - 체감: {a}°C
-                - 습도: {h}%
-                - 풍속: {ws}m/s
-                - 상태: {desc} (code={code})
-
-                {format}
-                """;
-
-        var promptTemplate = new PromptTemplate(userMessage);
-        var prompt = promptTemplate.create(Map.of(
-                "format", format,
-                "cityName", city.getName(),
-                "t", String.format("%.1f", w.temperature_2m()),
-                "a", String.format("%.1f", w.apparent_temperature()),
-                "h", String.valueOf(w.relative_humidity_2m()),
-                "ws", String.format("%.1f", w.wind_speed_10m()),
-                "desc", weatherDesc,
-                "code", String.valueOf(w.weather_code())
-        ));
-        ChatResponse response = chatClient.prompt(prompt).call().chatResponse();
-
-        String text = extractText(response);
-        Advice advice = converter.convert(text);
-
-
-        // 요청별 사용량/비용 로깅
-        LlmUsage usage = extractUsage(response);
-        BigDecimal estimatedUsd = llmCostEstimator.estimateUsd(usage.inputTokens, usage.outputTokens);
-
-        log.info(
-                "llm_usage feature=weather_advice model={} requestId={} " +
-                        "inputTokens={} outputTokens={} totalTokens={} estimatedUsd={} city={}",
-                usage.model(),
-                usage.requestId(),
-                usage.inputTokens(),
-                usage.outputTokens(),
-                usage.totalTokens(),
-                estimatedUsd.toPlainString(),
-                city.getName()
-        );
-
-        return advice;
+        if (!adviceCacheProperties.enabled()) {
+            return generate(city, w).advice();
+        }
+
+        AdviceKey key = AdviceKey.of(city, w, adviceCacheProperties);
+        CachedAdvice cached = adviceCache.getIfPresent(key);
+        if (cached != null) {
+            return hit(city, cached);
+        }
+        if (batcher != null) {
+            // 배치 결과는 캐시가 직접 받아 저장한다. 호출자가 단계 제한 시간으로 빠져도 같은 키의 다음 요청은 새 배치 대신 이 결과를 기다린다
+            return adviceCache.await(key, k -> submit(city, w)).advice();
+        }
+        return adviceCache.get(key, k -> generateSingle(city, w)).advice();
     }
 
-    private String extractText(ChatResponse response) {
-        if (response == null || response.getResults() == null || response.getResults().isEmpty()) {
-            throw new IllegalStateException("LLM 응답이 비어 있습니다.");
+    /**
+     * 이 날씨 구간의 캐시된 조언. 없거나 조언 캐시를 끄면 null. LLM을 부르지 않으므로 예산과 무관하게 쓸 수 있다.
+     */
+    public Advice cached(City city, ForecastResponse.Current w) {
+        if (!adviceCacheProperties.enabled()) {
+            return null;
         }
+        CachedAdvice cached = adviceCache.getIfPresent(AdviceKey.of(city, w, adviceCacheProperties));
+        return cached == null ? null : hit(city, cached);
+    }
 
-        var first = response.getResults().getFirst();
-        AssistantMessage msg = first.getOutput();
-        return Objects.requireNonNullElse(msg.getText(), "").trim();
+    /**
+     * {@link #advise}의 논블로킹 버전. 배치가 켜져 있으면 배치 스레드에서 묶어 호출하고,
+     * 꺼져 있으면 ChatClient 스트리밍 API로 받아 모은다. 어느 쪽이든 호출 스레드를 붙잡지 않는다.
+     */
+    public Mono<Advice> adviseAsync(City city, ForecastResponse.Current w) {
+        if (!adviceCacheProperties.enabled()) {
+            return Mono.fromFuture(() -> generateAsync(city, w)).map(CachedAdvice::advice);
+        }
+
+        AdviceKey key = AdviceKey.of(city, w, adviceCacheProperties);
+        return Mono.defer(() -> {
+            CachedAdvice cached = adviceCache.getIfPresent(key);
+            if (cached != null) {
+                return Mono.just(hit(city, cached));
+            }
+            return Mono.fromFuture(() -> adviceCache.getAsync(key, k -> generateAsync(city, w))).map(CachedAdvice::advice);
+        });
     }
 
+    private Advice hit(City city, CachedAdvice cached) {
+        long savedMicroUsd = llmCostEstimator.recordSaved(cached.inputTokens(), cached.outputTokens());
+        metrics.llmSaved("weather_advice", cached.inputTokens(), cached.outputTokens(), savedMicroUsd);
+        log.debug("llm_cache_hit feature=weather_advice savedMicroUsd={} city={}", savedMicroUsd, city.getName());
+        return cached.advice();
+    }
+
+    /**
+     * 캐시를 거치지 않고 항상 LLM을 호출한다. (사전 계산 테이블 컴파일용)
+     */
+    public Advice adviseUncached(City city, ForecastResponse.Current w) {
+        return generate(city, w).advice();
+    }
 
-    private LlmUsage extractUsage(ChatResponse response) {
+    /**
+     * 이 날씨 구간의 캐시된 조언이 없거나 within 안에 만료되면 true. 조언 캐시를 끄면 항상 false.
+     */
+    public boolean adviceExpiresWithin(City city, ForecastResponse.Current w, Duration within) {
+        if (!adviceCacheProperties.enabled()) {
+            return false;
+        }
+        Duration ttl = adviceCache.timeToLive(AdviceKey.of(city, w, adviceCacheProperties));
+        return ttl == null || ttl.compareTo(within) < 0;
+    }
+
+    /**
+     * 요청을 기다리지 않고 조언을 다시 만들어 캐시에 넣는다. (인기 도시 선제 갱신용)
+     */
+    public void refreshAdvice(City city, ForecastResponse.Current w) {
+        adviceCache.reload(AdviceKey.of(city, w, adviceCacheProperties), key -> generate(city, w));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (batcher != null) {
+            batcher.close();
+        }
+    }
+
+    /**
+     * 배치가 켜져 있으면 짧은 window 동안 모인 다른 도시의 조언 요청과 함께 한 번의 프롬프트로 보낸다.
+     * 대기는 인터럽트에 반응하도록 get()으로 한다. (캐시를 거치지 않는 경로용. 요청 경로는 {@link #advise}처럼 캐시가 결과를 받는다)
+     */
+    private CachedAdvice generate(City city, ForecastResponse.Current w) {
+        if (batcher == null) {
+            return generateSingle(city, w);
+        }
         try {
-            if (response == null) {
-                return LlmUsage.unknown();
+            return submit(city, w).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("조언 생성 대기 중 인터럽트되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
             }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
 
-            ChatResponseMetadata md = response.getMetadata();
-            if (md == null) {
-                return LlmUsage.unknown();
-            }
+    private CompletableFuture<CachedAdvice> submit(City city, ForecastResponse.Current w) {
+        return batcher.submit(new AdviceRequest(city, w)).thenApply(BatchOutcome::get);
+    }
+
+    private CompletableFuture<CachedAdvice> generateAsync(City city, ForecastResponse.Current w) {
+        if (batcher != null) {
+            return submit(city, w);
+        }
+        long start = System.nanoTime();
+        return ChatStreams.collect(chatClient.prompt(prompts.advice(city, w)).stream().chatResponse())
+                .map(collected -> {
+                    Advice advice = prompts.adviceConverter().convert(collected.text());
+                    LlmUsage usage = LlmUsage.of(collected.last());
+                    long costMicroUsd = usageRecorder.record("weather_advice", usage, city.getName());
+                    budget.recordSuccess(System.nanoTime() - start, costMicroUsd);
+                    return new CachedAdvice(advice, usage.inputTokens(), usage.outputTokens());
+                })
+                // 파싱할 수 없는 응답도 실패로 센다
+                .doOnError(e -> budget.recordFailure(System.nanoTime() - start))
+                .toFuture();
+    }
+
+    /**
+     * 지시문과 출력 스키마를 한 번만 실어 여러 도시의 조언을 한 번에 받는다.
+     * 응답을 파싱할 수 없으면 전부, 응답에서 빠진 도시는 그 도시만 단건 호출로 다시 만든다.
+     * 토큰 사용량은 도시 수로 나눠 각 조언에 기록한다. (캐시 적중 시 절약 비용 계산용)
+     */
+    private List<BatchOutcome> generateBatch(List<AdviceRequest> requests) {
+        if (requests.size() == 1) {
+            return List.of(generateOutcome(requests.getFirst()));
+        }
+
+        long start = System.nanoTime();
+        ChatResponse response;
+        Map<String, Advice> advices;
+        try {
+            response = chatClient.prompt(prompts.adviceBatch(requests)).call().chatResponse();
+            advices = index(prompts.adviceBatchConverter().convert(extractText(response)));
+        } catch (RuntimeException e) {
+            budget.recordFailure(System.nanoTime() - start);
+            log.warn("llm_batch_failed feature=weather_advice size={} fallback=single reason={}", requests.size(), e.toString());
+            return generateEach(requests);
+        }
 
-            String model = md.getModel();
-            String requestId = md.getId();
+        LlmUsage usage = LlmUsage.of(response);
+        long costMicroUsd = usageRecorder.record("weather_advice_batch", usage, requests.size() + " cities");
+        budget.recordSuccess(System.nanoTime() - start, costMicroUsd);
 
-            Usage usageObj = md.getUsage();
-            long input = 0, output = 0, total = 0;
+        long inputTokens = usage.inputTokens() / requests.size();
+        long outputTokens = usage.outputTokens() / requests.size();
+        List<BatchOutcome> outcomes = new ArrayList<>(requests.size());
+        List<Integer> missing = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            Advice advice = advices.get(Integer.toString(i + 1));
+            outcomes.add(advice == null ? null : new BatchOutcome(new CachedAdvice(advice, inputTokens, outputTokens), null));
+            if (advice == null) {
+                missing.add(i);
+            }
+        }
+        if (!missing.isEmpty()) {
+            log.warn("llm_batch_partial feature=weather_advice size={} missing={}", requests.size(), missing.size());
+            List<BatchOutcome> retried = generateEach(missing.stream().map(requests::get).toList());
+            for (int i = 0; i < missing.size(); i++) {
+                outcomes.set(missing.get(i), retried.get(i));
+            }
+        }
+        return outcomes;
+    }
 
-            if (usageObj != null) {
-                input = usageObj.getPromptTokens();
-                output = usageObj.getCompletionTokens();
-                total = usageObj.getTotalTokens();
+    private static Map<String, Advice> index(AdviceBatch batch) {
+        if (batch == null || batch.items() == null) {
+            throw new IllegalStateException("LLM 배치 응답에 items가 없습니다.");
+        }
+        Map<String, Advice> advices = new HashMap<>();
+        for (AdviceBatch.Item item : batch.items()) {
+            if (item != null && item.id() != null) {
+                advices.putIfAbsent(item.id().trim(), new Advice(item.weatherSummary(), item.outfitSummary()));
             }
+        }
+        return advices;
+    }
 
-            return new LlmUsage(model, requestId, input, output, total);
-        } catch (Exception e) {
-            return LlmUsage.unknown();
+    /**
+     * 단건 호출을 동시에 보낸다. 한 도시의 실패가 다른 도시의 결과를 막지 않도록 결과/예외를 각각 담는다.
+     */
+    private List<BatchOutcome> generateEach(List<AdviceRequest> requests) {
+        List<Future<BatchOutcome>> futures;
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            futures = requests.stream()
+                    .map(request -> executor.submit(() -> generateOutcome(request)))
+                    .toList();
         }
+        return futures.stream().map(Future::resultNow).toList();
     }
 
-    private record LlmUsage(
-            String model,
-            String requestId,
-            long inputTokens,
-            long outputTokens,
-            long totalTokens
-    ) {
-        static LlmUsage unknown() {
-            return new LlmUsage( "unknown-model", "unknown-request", 0, 0, 0);
+    private BatchOutcome generateOutcome(AdviceRequest request) {
+        try {
+            return new BatchOutcome(generateSingle(request.city(), request.weather()), null);
+        } catch (RuntimeException e) {
+            return new BatchOutcome(null, e);
         }
     }
 
+    private CachedAdvice generateSingle(City city, ForecastResponse.Current w) {
+        long start = System.nanoTime();
+        ChatResponse response;
+        Advice advice;
+        try {
+            response = chatClient.prompt(prompts.advice(city, w)).call().chatResponse();
+            advice = prompts.adviceConverter().convert(extractText(response));
+        } catch (RuntimeException e) {
+            // 타임아웃으로 인터럽트된 호출과 파싱할 수 없는 응답도 실패로 센다
+            budget.recordFailure(System.nanoTime() - start);
+            throw e;
+        }
+
+        // 요청별 사용량/비용 기록
+        LlmUsage usage = LlmUsage.of(response);
+        long costMicroUsd = usageRecorder.record("weather_advice", usage, city.getName());
+        budget.recordSuccess(System.nanoTime() - start, costMicroUsd);
+
+        return new CachedAdvice(advice, usage.inputTokens(), usage.outputTokens());
+    }
+
+    /**
+     * 구조화 출력 대신 평문으로 스트리밍한다. 날씨 요약 → {@value WeatherPrompts#OUTFIT_MARKER} → 옷차림 추천 순서.
+     */
+    public Flux<String> adviseStream(City city, ForecastResponse.Current w) {
+        // 사용량은 보통 마지막 청크에만 실려 온다
+        AtomicReference<ChatResponse> last = new AtomicReference<>();
+        long start = System.nanoTime();
+        return chatClient.prompt(prompts.adviceStream(city, w)).stream().chatResponse()
+                .doOnNext(last::set)
+                .map(this::extractChunkText)
+                .filter(text -> !text.isEmpty())
+                .doOnComplete(() -> budget.recordSuccess(System.nanoTime() - start,
+                        usageRecorder.record("weather_advice_stream", last.get(), city.getName())))
+                .doOnError(e -> budget.recordFailure(System.nanoTime() - start))
+                // 제한 시간 초과로 구독이 끊긴 경우
+                .doOnCancel(() -> budget.recordFailure(System.nanoTime() - start));
+    }
+
+    private String extractChunkText(ChatResponse response) {
+        if (response == null || response.getResult() == null || response.getResult().getOutput() == null) {
+            return "";
+        }
+        return Objects.requireNonNullElse(response.getResult().getOutput().getText(), "");
+    }
+
+    private String extractText(ChatResponse response) {
+        if (response == null || response.getResults() == null || response.getResults().isEmpty()) {
+            throw new IllegalStateException("LLM 응답이 비어 있습니다.");
+        }
+
+        var first = response.getResults().getFirst();
+        AssistantMessage msg = first.getOutput();
+        return Objects.requireNonNullElse(msg.getText(), "").trim();
+    }
+
     public record Advice(String weatherSummary, String outfitSummary) { }
+
+    public record AdviceRequest(City city, ForecastResponse.Current weather) { }
+
+    /**
+     * 묶음 조언 응답. id는 프롬프트에 실은 도시 순번(1부터)이다.
+     */
+    public record AdviceBatch(List<Item> items) {
+        public record Item(String id, String weatherSummary, String outfitSummary) { }
+    }
+
+    /**
+     * 배치 안에서 도시별로 성공/실패를 따로 돌려주기 위한 결과
+     */
+    private record BatchOutcome(CachedAdvice advice, RuntimeException error) {
+        CachedAdvice get() {
+            if (error != null) {
+                throw error;
+            }
+            return advice;
+        }
+    }
+
+    /**
+     * 캐시에 저장하는 조언과 생성 당시 토큰 사용량 (적중 시 절약 비용 계산용)
+     */
+    public record CachedAdvice(Advice advice, long inputTokens, long outputTokens) { }
 }
\ No newline at end of file
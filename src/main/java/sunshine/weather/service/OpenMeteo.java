@@ -1,40 +1,219 @@
 package sunshine.weather.service;
 
+import jakarta.annotation.PreDestroy;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.DefaultResponseErrorHandler;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.ResponseErrorHandler;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.util.UriComponentsBuilder;
+import sunshine.weather.concurrent.DeadlineExceededException;
+import sunshine.weather.concurrent.HedgedExecutor;
+import sunshine.weather.concurrent.MicroBatcher;
+import sunshine.weather.config.OpenMeteoProperties;
 import sunshine.weather.dto.ForecastResponse;
+import sunshine.weather.dto.ForecastResponseDecoder;
+import sunshine.weather.metrics.WeatherMetrics;
 import sunshine.weather.model.City;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
+
 @Component
 public class OpenMeteo {
+    private static final String[] CURRENT_FIELDS = {
+            "temperature_2m", "weather_code", "relative_humidity_2m", "wind_speed_10m", "apparent_temperature"
+    };
+
+    private static final ResponseErrorHandler ERRORS = new DefaultResponseErrorHandler();
+
     private final RestClient client;
+    private final String baseUrl;
+    private final HedgedExecutor executor;
+    private final ExecutorService httpExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final MicroBatcher<City, ForecastResponse.Current> batcher;
 
-    public OpenMeteo(RestClient.Builder builder) {
-        this.client = builder.build();
+    public OpenMeteo(RestClient.Builder builder, OpenMeteoProperties props, WeatherMetrics metrics) {
+        this.client = builder
+                .requestFactory(requestFactory(props.http(), httpExecutor))
+                .requestInterceptor(metrics.openMeteoInterceptor())
+                .build();
+        this.baseUrl = props.baseUrl();
+        this.executor = new HedgedExecutor("open-meteo", policy(props), metrics::openMeteoAttempt);
+        this.batcher = props.batch().enabled()
+                ? new MicroBatcher<>("open-meteo", props.batch().window(), props.batch().maxSize(), this::fetchCurrentAll)
+                : null;
     }
 
+    /**
+     * 배치가 켜져 있으면 짧은 window 동안 모인 다른 요청과 함께 한 번의 multi-location 호출로 보낸다.
+     */
     public ForecastResponse.Current fetchCurrent(City city) {
-        var uri = UriComponentsBuilder.fromUriString("https://api.open-meteo.com/v1/forecast")
+        if (batcher == null) {
+            return fetchSingle(city);
+        }
+        try {
+            // 단계 제한 시간 초과 시 호출자만 빠지도록 인터럽트에 반응하는 get()으로 기다린다
+            return batcher.submit(city).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("날씨 조회 대기 중 인터럽트되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * 여러 좌표를 한 번에 조회한다. 결과는 입력 순서와 같다.
+     * Open-Meteo는 좌표가 2개 이상이면 응답을 JSON 배열로 준다.
+     */
+    public List<ForecastResponse.Current> fetchCurrentAll(List<City> cities) {
+        if (cities.size() == 1) {
+            return List.of(fetchSingle(cities.getFirst()));
+        }
+
+        // 문자열이 아닌 URI로 넘겨야 기본 http.client.requests 계측의 uri 태그에 좌표가 들어가지 않는다
+        var uri = UriComponentsBuilder.fromUriString(baseUrl)
+                .queryParam("latitude", join(cities, City::getLatitude))
+                .queryParam("longitude", join(cities, City::getLongitude))
+                .queryParam("current", (Object[]) CURRENT_FIELDS)
+                .queryParam("timeformat", "unixtime")
+                .encode()
+                .build()
+                .toUri();
+
+        List<ForecastResponse.Current> responses = get(uri, body -> ForecastResponseDecoder.readAll(body, cities.size()));
+        if (responses == null || responses.size() != cities.size()) {
+            throw new OpenMeteoException("multi-location response size mismatch", 0, null);
+        }
+        return responses;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (batcher != null) {
+            batcher.close();
+        }
+        executor.close();
+        // 배치/헤지 스레드가 끝난 뒤에 HttpClient의 응답 처리 스레드를 닫는다
+        httpExecutor.close();
+    }
+
+    private ForecastResponse.Current fetchSingle(City city) {
+        var uri = UriComponentsBuilder.fromUriString(baseUrl)
                 .queryParam("latitude", city.getLatitude())
                 .queryParam("longitude", city.getLongitude())
-                .queryParam("current", "temperature_2m", "weather_code", "relative_humidity_2m", "wind_speed_10m", "apparent_temperature")
-                .toUriString();
+                .queryParam("current", (Object[]) CURRENT_FIELDS)
+                .queryParam("timeformat", "unixtime")
+                .encode()
+                .build()
+                .toUri();
 
+        return get(uri, ForecastResponseDecoder::readSingle);
+    }
+
+    /**
+     * 헤지/재시도/데드라인을 적용해 GET 한다. 실패는 모두 {@link OpenMeteoException}으로 바꾼다.
+     * 본문은 메시지 컨버터를 거치지 않고 응답 스트림에서 바로 디코딩한다.
+     */
+    private <T> T get(URI uri, BodyDecoder<T> decoder) {
         try {
-            var response = client.get()
-                    .uri(uri)
-                    .accept(MediaType.APPLICATION_JSON)
-                    .retrieve()
-                    .body(ForecastResponse.class);
-
-            if (response == null || response.current() == null) {
-                throw new IllegalStateException("response is null");
-            }
-            return response.current();
-        } catch (Exception e) {
-            throw new IllegalStateException(e);
+            return executor.call(
+                    () -> client.get()
+                            .uri(uri)
+                            .accept(MediaType.APPLICATION_JSON)
+                            .exchange((request, response) -> {
+                                if (ERRORS.hasError(response)) {
+                                    ERRORS.handleError(uri, HttpMethod.GET, response);
+                                }
+                                return decode(decoder, response.getBody());
+                            }),
+                    OpenMeteo::retryable
+            );
+        } catch (HttpStatusCodeException e) {
+            throw new OpenMeteoException("Open-Meteo 응답 오류: " + e.getStatusCode().value(), e.getStatusCode().value(), e);
+        } catch (DeadlineExceededException e) {
+            throw new OpenMeteoException("Open-Meteo " + e.getMessage(), 0, e);
+        } catch (OpenMeteoException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new OpenMeteoException("Open-Meteo 호출 실패: " + e.getMessage(), 0, e);
+        }
+    }
+
+    /**
+     * GET은 멱등이므로 일시적인 실패만 다시 보낸다. 4xx(429 제외)와 본문 파싱 오류는 재시도해도 같다.
+     */
+    private static boolean retryable(Throwable failure) {
+        if (failure instanceof ResourceAccessException) {
+            return true;
+        }
+        if (failure instanceof HttpStatusCodeException e) {
+            int status = e.getStatusCode().value();
+            return status == 429 || status == 502 || status == 503 || status == 504;
+        }
+        return false;
+    }
+
+    /**
+     * 파싱 오류는 재시도해도 같으므로 IOException(→ ResourceAccessException, 재시도 대상)으로 올리지 않는다.
+     */
+    private static <T> T decode(BodyDecoder<T> decoder, InputStream body) throws IOException {
+        try {
+            return decoder.decode(body);
+        } catch (JsonProcessingException e) {
+            throw new OpenMeteoException("Open-Meteo 응답을 해석하지 못했습니다: " + e.getOriginalMessage(), 0, e);
         }
     }
-}
\ No newline at end of file
+
+    private static JdkClientHttpRequestFactory requestFactory(OpenMeteoProperties.Http http, ExecutorService executor) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(http.http2() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                .connectTimeout(http.connectTimeout())
+                .executor(executor)
+                .build();
+        var factory = new JdkClientHttpRequestFactory(httpClient);
+        factory.setReadTimeout(http.attemptTimeout());
+        return factory;
+    }
+
+    private static HedgedExecutor.Policy policy(OpenMeteoProperties props) {
+        return new HedgedExecutor.Policy(
+                props.http().deadline(),
+                props.hedge().enabled(),
+                props.hedge().percentile(),
+                props.hedge().minDelay(),
+                props.hedge().fallbackDelay(),
+                props.retry().maxAttempts(),
+                props.retry().initialBackoff(),
+                props.retry().maxBackoff()
+        );
+    }
+
+    @FunctionalInterface
+    private interface BodyDecoder<T> {
+        T decode(InputStream body) throws IOException;
+    }
+
+    private static String join(List<City> cities, ToDoubleFunction<City> coordinate) {
+        return cities.stream()
+                .map(city -> String.valueOf(coordinate.applyAsDouble(city)))
+                .collect(Collectors.joining(","));
+    }
+}
@@ -0,0 +1,17 @@
+package sunshine.weather.service;
+
+/**
+ * Open-Meteo 호출 실패. status는 HTTP 응답을 받았을 때만 채워진다(연결 오류/시간 초과면 0).
+ */
+public class OpenMeteoException extends IllegalStateException {
+    private final int status;
+
+    public OpenMeteoException(String message, int status, Throwable cause) {
+        super(message, cause);
+        this.status = status;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+}
@@ -0,0 +1,151 @@
+package sunshine.weather.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.netty.channel.ChannelOption;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.util.retry.Retry;
+import sunshine.weather.concurrent.HedgedExecutor;
+import sunshine.weather.config.OpenMeteoProperties;
+import sunshine.weather.dto.ForecastResponse;
+import sunshine.weather.dto.ForecastResponseDecoder;
+import sunshine.weather.metrics.WeatherMetrics;
+import sunshine.weather.model.City;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * {@link OpenMeteo}의 논블로킹 버전 (WebClient + Reactor Netty). reactive 웹 애플리케이션일 때만 뜬다.
+ * 재시도/데드라인 정책과 오류 변환은 블로킹 경로와 같고, 헤지와 multi-location 배치는 하지 않는다.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveOpenMeteo {
+    private static final String[] CURRENT_FIELDS = {
+            "temperature_2m", "weather_code", "relative_humidity_2m", "wind_speed_10m", "apparent_temperature"
+    };
+    private static final byte[] EMPTY = new byte[0];
+
+    private final WebClient client;
+    private final String baseUrl;
+    private final OpenMeteoProperties props;
+    private final WeatherMetrics metrics;
+
+    public ReactiveOpenMeteo(WebClient.Builder builder, OpenMeteoProperties props, WeatherMetrics metrics) {
+        this.client = builder
+                .clientConnector(new ReactorClientHttpConnector(httpClient(props.http())))
+                .build();
+        this.baseUrl = props.baseUrl();
+        this.props = props;
+        this.metrics = metrics;
+    }
+
+    public Mono<ForecastResponse.Current> fetchCurrent(City city) {
+        // 문자열이 아닌 URI로 넘겨야 기본 http.client.requests 계측의 uri 태그에 좌표가 들어가지 않는다
+        var uri = UriComponentsBuilder.fromUriString(baseUrl)
+                .queryParam("latitude", city.getLatitude())
+                .queryParam("longitude", city.getLongitude())
+                .queryParam("current", (Object[]) CURRENT_FIELDS)
+                .queryParam("timeformat", "unixtime")
+                .encode()
+                .build()
+                .toUri();
+
+        return Mono.defer(() -> {
+                    metrics.openMeteoAttempt(HedgedExecutor.PRIMARY);
+                    return attempt(uri);
+                })
+                .retryWhen(Retry.backoff(Math.max(0, props.retry().maxAttempts() - 1), props.retry().initialBackoff())
+                        .maxBackoff(props.retry().maxBackoff())
+                        .filter(ReactiveOpenMeteo::retryable)
+                        .doBeforeRetry(signal -> metrics.openMeteoAttempt(HedgedExecutor.RETRY))
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+                .timeout(props.http().deadline())
+                .onErrorMap(ReactiveOpenMeteo::translate);
+    }
+
+    private Mono<ForecastResponse.Current> attempt(URI uri) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return client.get()
+                    .uri(uri)
+                    .accept(MediaType.APPLICATION_JSON)
+                    .<ForecastResponse.Current>exchangeToMono(response -> {
+                        String status = String.valueOf(response.statusCode().value());
+                        if (response.statusCode().isError()) {
+                            metrics.openMeteoResponse(status, System.nanoTime() - start, -1);
+                            return response.<ForecastResponse.Current>createError();
+                        }
+                        return response.bodyToMono(byte[].class)
+                                .defaultIfEmpty(EMPTY)
+                                .map(body -> {
+                                    metrics.openMeteoResponse(status, System.nanoTime() - start, body.length);
+                                    return decode(body);
+                                });
+                    })
+                    .doOnError(WebClientRequestException.class,
+                            e -> metrics.openMeteoResponse("IO_ERROR", System.nanoTime() - start, -1));
+        });
+    }
+
+    /**
+     * 파싱 오류는 재시도해도 같으므로 재시도 대상이 아닌 {@link OpenMeteoException}으로 바로 바꾼다.
+     */
+    private static ForecastResponse.Current decode(byte[] body) {
+        try {
+            return ForecastResponseDecoder.readSingle(new ByteArrayInputStream(body));
+        } catch (JsonProcessingException e) {
+            throw new OpenMeteoException("Open-Meteo 응답을 해석하지 못했습니다: " + e.getOriginalMessage(), 0, e);
+        } catch (IOException e) {
+            throw new OpenMeteoException("Open-Meteo 응답을 해석하지 못했습니다: " + e.getMessage(), 0, e);
+        }
+    }
+
+    /**
+     * 블로킹 경로와 같이 연결 오류·시도 시간 초과와 429, 502/503/504만 다시 보낸다.
+     */
+    private static boolean retryable(Throwable failure) {
+        if (failure instanceof WebClientRequestException) {
+            return true;
+        }
+        if (failure instanceof WebClientResponseException e) {
+            int status = e.getStatusCode().value();
+            return status == 429 || status == 502 || status == 503 || status == 504;
+        }
+        return false;
+    }
+
+    private static Throwable translate(Throwable failure) {
+        if (failure instanceof OpenMeteoException) {
+            return failure;
+        }
+        if (failure instanceof WebClientResponseException e) {
+            return new OpenMeteoException("Open-Meteo 응답 오류: " + e.getStatusCode().value(), e.getStatusCode().value(), e);
+        }
+        if (failure instanceof TimeoutException) {
+            return new OpenMeteoException("Open-Meteo 호출이 제한 시간을 넘었습니다.", 0, failure);
+        }
+        return new OpenMeteoException("Open-Meteo 호출 실패: " + failure.getMessage(), 0, failure);
+    }
+
+    /**
+     * 연결은 Reactor Netty 풀에서 keep-alive로 재사용한다. http2 설정은 쓰지 않는다.
+     * (h2는 TLS가 있어야 협상되는데, 로컬 스텁 같은 평문 주소에서는 연결이 실패한다)
+     */
+    private static HttpClient httpClient(OpenMeteoProperties.Http http) {
+        return HttpClient.create()
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) http.connectTimeout().toMillis())
+                .responseTimeout(http.attemptTimeout());
+    }
+}
@@ -0,0 +1,201 @@
+package sunshine.weather.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import sunshine.weather.concurrent.StageTimeoutException;
+import sunshine.weather.config.PipelineProperties;
+import sunshine.weather.config.ReactiveProperties;
+import sunshine.weather.dto.CityWeatherResult;
+import sunshine.weather.dto.ForecastResponse;
+import sunshine.weather.dto.WeatherReport;
+import sunshine.weather.dto.WeatherStreamEvent;
+import sunshine.weather.hot.HotCityRefresher;
+import sunshine.weather.metrics.WeatherMetrics;
+import sunshine.weather.model.City;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * {@link WeatherService}의 논블로킹 버전. resolve → fetch → advise를 Mono로 이어 이벤트 루프 스레드를 붙잡지 않는다.
+ * 단계별 제한 시간과 템플릿 대체, 캐시는 블로킹 경로와 같고 템플릿/응답 조립은 WeatherService를 그대로 쓴다.
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveWeatherService {
+    private static final Logger log = LoggerFactory.getLogger(ReactiveWeatherService.class);
+
+    private final WeatherService weatherService;
+    private final WeatherCache weatherCache;
+    private final CityResolver cityResolver;
+    private final ReactiveOpenMeteo openMeteo;
+    private final LlmWeatherAdvisor weatherAdvisor;
+    private final PipelineProperties pipeline;
+    private final ReactiveProperties reactive;
+    private final WeatherMetrics metrics;
+    private final HotCityRefresher hotCities;
+
+    public ReactiveWeatherService(
+            WeatherService weatherService,
+            WeatherCache weatherCache,
+            CityResolver cityResolver,
+            ReactiveOpenMeteo openMeteo,
+            LlmWeatherAdvisor weatherAdvisor,
+            PipelineProperties pipeline,
+            ReactiveProperties reactive,
+            WeatherMetrics metrics,
+            HotCityRefresher hotCities
+    ) {
+        this.weatherService = weatherService;
+        this.weatherCache = weatherCache;
+        this.cityResolver = cityResolver;
+        this.openMeteo = openMeteo;
+        this.weatherAdvisor = weatherAdvisor;
+        this.pipeline = pipeline;
+        this.reactive = reactive;
+        this.metrics = metrics;
+        this.hotCities = hotCities;
+    }
+
+    public Mono<WeatherReport> getWeatherReport(String cityName) {
+        return resolve(cityName).flatMap(city -> fetch(city).flatMap(observation ->
+                summarize(city, observation.current())
+                        .map(summary -> weatherService.report(city, observation, summary))));
+    }
+
+    /**
+     * 템플릿 날씨 문장을 먼저 보내고, LLM 토큰을 summary/outfit 이벤트로 나눠 이어 보낸다.
+     * LLM이 꺼져 있거나 제한 시간을 넘기면 템플릿 옷차림 문장으로 마무리한다.
+     */
+    public Flux<WeatherStreamEvent> streamWeatherSummary(String cityName) {
+        return resolve(cityName)
+                .flatMap(city -> fetch(city).map(observation -> new Located(city, observation.current())))
+                .flatMapMany(located -> Flux.concat(
+                        Mono.fromSupplier(() -> WeatherStreamEvent.weather(
+                                weatherService.templateWeatherLine(located.city(), located.weather()))),
+                        outfitEvents(located)
+                ));
+    }
+
+    /**
+     * 입력은 대소문자/공백 차이를 무시하고 중복 제거한다. 동시에 진행하는 도시 수는 fan-out-concurrency로 제한하고,
+     * 결과는 끝나는 순서대로 내보낸다. 전체 제한 시간을 넘긴 도시는 취소되어 실패 결과로 전달된다.
+     */
+    public Flux<CityWeatherResult> streamWeatherSummaries(List<String> cityNames) {
+        List<String> unique = WeatherService.dedupe(cityNames);
+        Set<String> delivered = ConcurrentHashMap.newKeySet();
+
+        Flux<CityWeatherResult> results = Flux.fromIterable(unique)
+                .flatMap(cityName -> getWeatherReport(cityName)
+                                .map(report -> CityWeatherResult.success(cityName, report.summary()))
+                                .onErrorResume(e -> Mono.just(CityWeatherResult.failure(cityName, e.getMessage()))),
+                        reactive.fanOutConcurrency());
+        Duration deadline = pipeline.fanOutDeadline();
+        if (deadline != null && !deadline.isZero()) {
+            results = results.take(deadline);
+        }
+
+        return results
+                .doOnNext(result -> delivered.add(result.city()))
+                .concatWith(Flux.defer(() -> Flux.fromIterable(unique)
+                        .filter(cityName -> !delivered.contains(cityName))
+                        .map(cityName -> CityWeatherResult.failure(cityName, "제한 시간 안에 조회하지 못했습니다."))));
+    }
+
+    private Mono<City> resolve(String cityName) {
+        return metrics.stage("resolve", pipeline.resolveTimeout(), cityResolver.resolveAsync(cityName))
+                .doOnNext(hotCities::record);
+    }
+
+    private Mono<WeatherCache.Observation> fetch(City city) {
+        return metrics.stage("fetch", pipeline.fetchTimeout(), Mono.fromFuture(
+                () -> weatherCache.observeAsync(city, target -> openMeteo.fetchCurrent(target).toFuture())));
+    }
+
+    private Mono<WeatherService.Summary> summarize(City city, ForecastResponse.Current weather) {
+        LlmWeatherAdvisor.Advice cached = weatherService.cachedAdvice(city, weather);
+        if (cached != null) {
+            return Mono.just(WeatherService.Summary.llm(cached));
+        }
+        if (!weatherService.useLlm()) {
+            return template(city, weather, weatherService.skippedSource());
+        }
+        return metrics.stage("advise", pipeline.adviseTimeout(), weatherAdvisor.adviseAsync(city, weather))
+                .map(WeatherService.Summary::llm)
+                .onErrorResume(e -> {
+                    // LLM이 느리거나 오류(5xx, 한도 초과, 응답 파싱 실패 등)를 내면 요청을 붙잡지 않고 템플릿 문장으로 대체
+                    if (e instanceof StageTimeoutException) {
+                        log.warn("llm advice timed out, falling back to template city={}", city.getName());
+                    } else {
+                        log.warn("llm advice failed, falling back to template city={}", city.getName(), e);
+                    }
+                    return template(city, weather, WeatherReport.Source.FALLBACK);
+                });
+    }
+
+    private Mono<WeatherService.Summary> template(City city, ForecastResponse.Current weather, WeatherReport.Source source) {
+        return Mono.fromSupplier(() -> weatherService.templateSummary(city, weather, source));
+    }
+
+    private Flux<WeatherStreamEvent> outfitEvents(Located located) {
+        return Flux.defer(() -> {
+            LlmWeatherAdvisor.Advice cached = weatherService.cachedAdvice(located.city(), located.weather());
+            if (cached != null) {
+                return Flux.just(WeatherStreamEvent.summary(cached.weatherSummary()),
+                        WeatherStreamEvent.outfit(cached.outfitSummary()));
+            }
+            return weatherService.useLlm() ? adviceEvents(located) : templateOutfit(located.weather());
+        });
+    }
+
+    private Flux<WeatherStreamEvent> adviceEvents(Located located) {
+        return Flux.defer(() -> {
+            List<WeatherStreamEvent> pending = new ArrayList<>();
+            var splitter = new AdviceStreamSplitter(pending::add, () -> weatherService.templateOutfit(located.weather()));
+            return withDeadline(weatherAdvisor.adviseStream(located.city(), located.weather()), pipeline.adviseTimeout())
+                    .concatMapIterable(token -> drain(pending, () -> splitter.accept(token)))
+                    .concatWith(Flux.defer(() -> Flux.fromIterable(drain(pending, splitter::finish))))
+                    .onErrorResume(e -> {
+                        // 제한 시간 초과 또는 스트림 오류
+                        log.warn("llm advice stream failed, falling back to template city={}", located.city().getName(), e);
+                        return templateOutfit(located.weather());
+                    });
+        });
+    }
+
+    /**
+     * 토큰 사이 간격이 아니라 스트림 전체에 거는 제한 시간. 넘기면 구독을 끊고 {@link StageTimeoutException}으로 끝낸다.
+     */
+    private static Flux<String> withDeadline(Flux<String> tokens, Duration timeout) {
+        if (timeout == null || timeout.isZero()) {
+            return tokens;
+        }
+        AtomicBoolean expired = new AtomicBoolean();
+        return tokens
+                .takeUntilOther(Mono.delay(timeout).doOnNext(tick -> expired.set(true)))
+                .concatWith(Flux.defer(() -> expired.get()
+                        ? Flux.error(new StageTimeoutException("advise", timeout))
+                        : Flux.empty()));
+    }
+
+    private Flux<WeatherStreamEvent> templateOutfit(ForecastResponse.Current weather) {
+        return Flux.defer(() -> Flux.just(WeatherStreamEvent.outfit(weatherService.templateOutfit(weather))));
+    }
+
+    private static List<WeatherStreamEvent> drain(List<WeatherStreamEvent> pending, Runnable action) {
+        action.run();
+        List<WeatherStreamEvent> events = List.copyOf(pending);
+        pending.clear();
+        return events;
+    }
+
+    private record Located(City city, ForecastResponse.Current weather) {}
+}
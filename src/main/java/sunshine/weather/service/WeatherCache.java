@@ -0,0 +1,372 @@
+package sunshine.weather.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import sunshine.weather.cache.BinaryCodec;
+import sunshine.weather.cache.CacheCodecs;
+import sunshine.weather.cache.CacheStats;
+import sunshine.weather.cache.GridCell;
+import sunshine.weather.cache.MonitoredCache;
+import sunshine.weather.cache.SharedTier;
+import sunshine.weather.cache.SharedTiers;
+import sunshine.weather.cache.SingleFlight;
+import sunshine.weather.config.WeatherCacheProperties;
+import sunshine.weather.dto.ForecastResponse;
+import sunshine.weather.model.City;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 격자 칸 단위 현재 날씨 캐시.
+ * - 다음 Open-Meteo 관측 시각(current.time + interval)까지는 fresh → 바로 반환
+ * - 그 이후 staleWhileRevalidate 동안은 이전 값을 반환하고 백그라운드에서 갱신
+ * - 칸당 동시에 하나의 upstream 호출만 나간다
+ * - 공유 캐시(L2)가 있으면 upstream 보다 먼저 보고, 다른 노드가 이미 가져온 fresh 값을 쓴다
+ */
+@Component
+public class WeatherCache implements MonitoredCache {
+
+    private static final Logger log = LoggerFactory.getLogger(WeatherCache.class);
+
+    private final OpenMeteo openMeteo;
+    private final WeatherCacheProperties props;
+    private final Clock clock;
+    private final Cache<Long, Entry> store;
+    private final SingleFlight<Long, Entry> flights = new SingleFlight<>("weather");
+    private final ThreadPoolExecutor refreshExecutor;
+    private final SharedTier<Long, Entry> shared;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder sharedHits = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+
+    public WeatherCache(OpenMeteo openMeteo, WeatherCacheProperties props) {
+        this(openMeteo, props, null, Clock.systemUTC());
+    }
+
+    @Autowired
+    public WeatherCache(OpenMeteo openMeteo, WeatherCacheProperties props, SharedTiers sharedTiers) {
+        this(openMeteo, props, sharedTiers.tier("weather:v2", BinaryCodec.LONG, ENTRY_CODEC,
+                props.updateInterval().plus(props.staleWhileRevalidate())), Clock.systemUTC());
+    }
+
+    WeatherCache(OpenMeteo openMeteo, WeatherCacheProperties props, SharedTier<Long, Entry> shared, Clock clock) {
+        this.openMeteo = openMeteo;
+        this.props = props;
+        this.shared = shared;
+        this.clock = clock;
+        this.store = Caffeine.newBuilder()
+                .maximumSize(props.maxSize())
+                .expireAfterWrite(props.updateInterval().plus(props.staleWhileRevalidate()))
+                .recordStats()
+                .build();
+        // 백그라운드 갱신은 best-effort: 큐가 차면 버리고 다음 요청에서 다시 시도한다
+        this.refreshExecutor = new ThreadPoolExecutor(
+                props.refreshConcurrency(), props.refreshConcurrency(),
+                30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(256),
+                r -> {
+                    Thread t = new Thread(r, "weather-refresh");
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.refreshExecutor.allowCoreThreadTimeOut(true);
+        if (shared != null) {
+            shared.onRemoteInvalidate(store::invalidate);
+        }
+    }
+
+    public ForecastResponse.Current get(City city) {
+        if (!props.enabled()) {
+            return openMeteo.fetchCurrent(city);
+        }
+        return lookup(city).current();
+    }
+
+    /**
+     * {@link #get}과 같은 경로로 조회하고, 값이 속한 upstream 갱신 구간을 함께 돌려준다. (HTTP 캐시 헤더용)
+     * stale 값이면 freshUntil이 이미 지나 있다.
+     */
+    public Observation observe(City city) {
+        if (!props.enabled()) {
+            var current = openMeteo.fetchCurrent(city);
+            Instant freshUntil = freshUntil(current, clock.instant());
+            return new Observation(current, observedAt(current, freshUntil), freshUntil);
+        }
+        return observation(lookup(city));
+    }
+
+    private Observation observation(Entry entry) {
+        return new Observation(entry.current(), observedAt(entry.current(), entry.freshUntil()), entry.freshUntil());
+    }
+
+    /**
+     * {@link #observe}의 논블로킹 버전. 미스일 때만 fetcher로 가져오며, 칸당 진행 중인 조회는 블로킹 경로와 함께 쓴다.
+     * 호출 스레드에서 L2를 읽지 않고, L2 쓰기는 별도 가상 스레드로 넘긴다. stale 값은 블로킹 경로처럼 refresh 스레드에서 갱신한다.
+     */
+    public CompletableFuture<Observation> observeAsync(
+            City city, Function<City, CompletableFuture<ForecastResponse.Current>> fetcher) {
+        if (!props.enabled()) {
+            return fetcher.apply(city).thenApply(current -> {
+                Instant freshUntil = freshUntil(current, clock.instant());
+                return new Observation(current, observedAt(current, freshUntil), freshUntil);
+            });
+        }
+
+        GridCell cell = GridCell.of(city, props.cellDegrees());
+        long key = cell.key();
+        Entry entry = store.getIfPresent(key);
+        Instant now = clock.instant();
+        if (entry != null) {
+            if (now.isBefore(entry.freshUntil())) {
+                hits.increment();
+                return CompletableFuture.completedFuture(observation(entry));
+            }
+            if (now.isBefore(entry.staleUntil())) {
+                staleHits.increment();
+                refreshAsync(key, cell);
+                return CompletableFuture.completedFuture(observation(entry));
+            }
+        }
+
+        misses.increment();
+        return loadAsync(key, cell, fetcher).thenApply(this::observation);
+    }
+
+    private Entry lookup(City city) {
+        GridCell cell = GridCell.of(city, props.cellDegrees());
+        long key = cell.key();
+        Entry entry = store.getIfPresent(key);
+        Instant now = clock.instant();
+
+        if (entry != null) {
+            if (now.isBefore(entry.freshUntil())) {
+                hits.increment();
+                return entry;
+            }
+            if (now.isBefore(entry.staleUntil())) {
+                staleHits.increment();
+                refreshAsync(key, cell);
+                return entry;
+            }
+        }
+
+        misses.increment();
+        return load(key, cell);
+    }
+
+    /**
+     * 통계와 갱신 없이 fresh 한 값만 본다. 없거나 fresh 기간이 지났으면 null.
+     */
+    public ForecastResponse.Current peekFresh(City city) {
+        if (!props.enabled()) {
+            return null;
+        }
+        Entry entry = store.policy().getIfPresentQuietly(GridCell.of(city, props.cellDegrees()).key());
+        if (entry == null || !clock.instant().isBefore(entry.freshUntil())) {
+            return null;
+        }
+        return entry.current();
+    }
+
+    /**
+     * fresh 하지 않으면 호출한 스레드에서 바로 다시 읽어 온다. (인기 도시 선제 갱신용)
+     * 요청 통계(hit/miss)에는 넣지 않는다.
+     */
+    public ForecastResponse.Current prefetch(City city) {
+        if (!props.enabled()) {
+            return openMeteo.fetchCurrent(city);
+        }
+        ForecastResponse.Current fresh = peekFresh(city);
+        if (fresh != null) {
+            return fresh;
+        }
+        GridCell cell = GridCell.of(city, props.cellDegrees());
+        return load(cell.key(), cell).current();
+    }
+
+    @Override
+    public String name() {
+        return "weather";
+    }
+
+    @Override
+    public CacheStats stats() {
+        return new CacheStats(
+                name(),
+                store.estimatedSize(),
+                hits.sum(),
+                staleHits.sum(),
+                misses.sum(),
+                0,
+                loads.sum(),
+                loadFailures.sum(),
+                flights.coalesced(),
+                store.stats().evictionCount(),
+                sharedHits.sum()
+        );
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private void refreshAsync(long key, GridCell cell) {
+        if (flights.running(key)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    load(key, cell);
+                } catch (RuntimeException e) {
+                    log.debug("weather refresh failed cell={}", cell, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("weather refresh skipped (queue full) cell={}", cell);
+        }
+    }
+
+    private Entry load(long key, GridCell cell) {
+        return flights.execute(key, publish -> {
+            // 다른 노드가 이미 가져온 fresh 값이면 upstream을 부르지 않는다
+            Entry fromShared = shared == null ? null : shared.get(key);
+            if (fromShared != null && clock.instant().isBefore(fromShared.freshUntil())) {
+                sharedHits.increment();
+                store.put(key, fromShared);
+                return fromShared;
+            }
+
+            loads.increment();
+            Entry entry;
+            try {
+                // 칸 중심 좌표로 조회해서, 누가 먼저 요청했는지와 무관하게 칸의 값이 같도록 한다
+                entry = entry(openMeteo.fetchCurrent(new City("grid:" + key, cell.latitude(), cell.longitude())));
+            } catch (RuntimeException e) {
+                // 리더의 단계가 취소된 것은 조회 실패가 아니다 (기다리던 요청이 이어받는다)
+                if (!SingleFlight.cancelled(e)) {
+                    loadFailures.increment();
+                }
+                throw e;
+            }
+            store.put(key, entry);
+            publish.accept(entry);
+            if (shared != null) {
+                shared.put(key, entry);
+            }
+            return entry;
+        });
+    }
+
+    private CompletableFuture<Entry> loadAsync(
+            long key, GridCell cell, Function<City, CompletableFuture<ForecastResponse.Current>> fetcher) {
+        return flights.executeAsync(key, () -> {
+            loads.increment();
+            CompletableFuture<ForecastResponse.Current> fetching;
+            try {
+                fetching = fetcher.apply(new City("grid:" + key, cell.latitude(), cell.longitude()));
+            } catch (RuntimeException e) {
+                fetching = CompletableFuture.failedFuture(e);
+            }
+            return fetching.handle((current, failure) -> {
+                if (failure != null) {
+                    loadFailures.increment();
+                    throw failure instanceof CompletionException completion ? completion : new CompletionException(failure);
+                }
+                Entry entry = entry(current);
+                store.put(key, entry);
+                if (shared != null) {
+                    Thread.startVirtualThread(() -> shared.put(key, entry));
+                }
+                return entry;
+            });
+        });
+    }
+
+    private Entry entry(ForecastResponse.Current current) {
+        Instant fetchedAt = clock.instant();
+        Instant freshUntil = freshUntil(current, fetchedAt);
+        return new Entry(current, fetchedAt, freshUntil, freshUntil.plus(props.staleWhileRevalidate()));
+    }
+
+    /**
+     * Open-Meteo가 알려준 다음 관측 시각(current.time + interval). 관측 시각이 없거나 upstream 갱신이 늦어
+     * 이미 지났으면 설정한 갱신 주기 경계로 대신한다. (지난 시각을 쓰면 요청마다 다시 조회하게 된다)
+     */
+    private Instant freshUntil(ForecastResponse.Current current, Instant fetchedAt) {
+        if (current.time() > 0 && current.interval() > 0) {
+            Instant next = Instant.ofEpochSecond(current.time() + current.interval());
+            if (next.isAfter(fetchedAt)) {
+                return next;
+            }
+        }
+        return nextUpdate(fetchedAt);
+    }
+
+    private Instant observedAt(ForecastResponse.Current current, Instant freshUntil) {
+        return current.time() > 0 ? Instant.ofEpochSecond(current.time()) : freshUntil.minus(props.updateInterval());
+    }
+
+    /**
+     * upstream 갱신 주기 경계(예: 매 15분) 중 fetchedAt 이후 가장 가까운 시각. (1초 미만 주기도 되도록 ms 단위로 계산)
+     */
+    private Instant nextUpdate(Instant fetchedAt) {
+        long interval = props.updateInterval().toMillis();
+        return Instant.ofEpochMilli((Math.floorDiv(fetchedAt.toEpochMilli(), interval) + 1) * interval);
+    }
+
+    /**
+     * @param observedAt Open-Meteo current 관측 시각 (current.time). 응답에 없으면 갱신 주기 구간의 시작
+     * @param freshUntil 다음 관측 시각
+     */
+    public record Observation(ForecastResponse.Current current, Instant observedAt, Instant freshUntil) {}
+
+    private record Entry(
+            ForecastResponse.Current current,
+            Instant fetchedAt,
+            Instant freshUntil,
+            Instant staleUntil
+    ) {}
+
+    private static final BinaryCodec<Entry> ENTRY_CODEC = new BinaryCodec<>() {
+        @Override
+        public void write(Entry entry, DataOutput out) throws IOException {
+            CacheCodecs.CURRENT.write(entry.current(), out);
+            out.writeLong(entry.fetchedAt().toEpochMilli());
+            out.writeLong(entry.freshUntil().toEpochMilli());
+            out.writeLong(entry.staleUntil().toEpochMilli());
+        }
+
+        @Override
+        public Entry read(DataInput in) throws IOException {
+            return new Entry(CacheCodecs.CURRENT.read(in),
+                    Instant.ofEpochMilli(in.readLong()),
+                    Instant.ofEpochMilli(in.readLong()),
+                    Instant.ofEpochMilli(in.readLong()));
+        }
+    };
+}
@@ -1,52 +1,281 @@
 package sunshine.weather.service;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import sunshine.weather.advice.AdviceTable;
+import sunshine.weather.budget.LlmBudgetController;
+import sunshine.weather.concurrent.StageScope;
+import sunshine.weather.concurrent.StageTimeoutException;
+import sunshine.weather.config.PipelineProperties;
+import sunshine.weather.dto.CityWeatherResult;
 import sunshine.weather.dto.ForecastResponse;
+import sunshine.weather.dto.WeatherReport;
+import sunshine.weather.dto.WeatherStreamEvent;
+import sunshine.weather.gazetteer.CityNames;
+import sunshine.weather.hot.HotCityRefresher;
+import sunshine.weather.metrics.WeatherMetrics;
 import sunshine.weather.model.City;
-import sunshine.weather.model.WeatherCode;
+import sunshine.weather.rules.WeatherRules;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 @Service
 public class WeatherService {
-    private final OpenMeteo openMeteo;
+    private static final Logger log = LoggerFactory.getLogger(WeatherService.class);
+
+    private final WeatherCache weatherCache;
     private final CityResolver cityResolver;
     private final LlmWeatherAdvisor weatherAdvisor;
     private final boolean llmEnabled;
+    private final PipelineProperties pipeline;
+    private final AdviceTable adviceTable;
+    private final WeatherMetrics metrics;
+    private final LlmBudgetController budget;
+    private final HotCityRefresher hotCities;
+    private final WeatherRules rules;
 
     public WeatherService(
-            OpenMeteo openMeteo,
+            WeatherCache weatherCache,
             CityResolver cityResolver,
             LlmWeatherAdvisor weatherAdvisor,
-            @Value("${sunshine.llm.enabled:false}") boolean llmEnabled
+            @Value("${sunshine.llm.enabled:false}") boolean llmEnabled,
+            PipelineProperties pipeline,
+            AdviceTable adviceTable,
+            WeatherMetrics metrics,
+            LlmBudgetController budget,
+            HotCityRefresher hotCities,
+            WeatherRules rules
     ) {
-        this.openMeteo = openMeteo;
+        this.weatherCache = weatherCache;
         this.cityResolver = cityResolver;
         this.weatherAdvisor = weatherAdvisor;
         this.llmEnabled = llmEnabled;
+        this.pipeline = pipeline;
+        this.adviceTable = adviceTable;
+        this.metrics = metrics;
+        this.budget = budget;
+        this.hotCities = hotCities;
+        this.rules = rules;
     }
 
     public String getWeatherSummary(String cityName) {
-        City city = cityResolver.resolve(cityName);
-        ForecastResponse.Current weather = openMeteo.fetchCurrent(city);
-        return generateSummary(city, weather);
+        return getWeatherReport(cityName).summary();
+    }
+
+    /**
+     * 요약과 함께 관측값, 관측 구간(HTTP 캐시 헤더용)을 담은 응답.
+     */
+    public WeatherReport getWeatherReport(String cityName) {
+        City city = metrics.stage("resolve", pipeline.resolveTimeout(), () -> cityResolver.resolve(cityName));
+        hotCities.record(city);
+        WeatherCache.Observation observation =
+                metrics.stage("fetch", pipeline.fetchTimeout(), () -> weatherCache.observe(city));
+        return report(city, observation, generateSummary(city, observation.current()));
+    }
+
+    // 논블로킹 경로(ReactiveWeatherService)와 함께 쓰므로 package-private
+    WeatherReport report(City city, WeatherCache.Observation observation, Summary summary) {
+        ForecastResponse.Current weather = observation.current();
+        return new WeatherReport(
+                city.getName(),
+                city.getLatitude(),
+                city.getLongitude(),
+                observation.observedAt(),
+                observation.freshUntil(),
+                weather.temperature_2m(),
+                weather.apparent_temperature(),
+                weather.relative_humidity_2m(),
+                weather.wind_speed_10m(),
+                weather.weather_code(),
+                rules.description(weather.weather_code()),
+                summary.text(),
+                summary.source()
+        );
+    }
+
+    /**
+     * 템플릿 날씨 문장을 날씨 조회 직후 바로 보내고, LLM 요약/옷차림은 토큰이 도착하는 대로 이어서 보낸다.
+     * LLM이 꺼져 있거나 제한 시간을 넘기면 템플릿 옷차림 문장으로 마무리한다.
+     */
+    public void streamWeatherSummary(String cityName, Consumer<WeatherStreamEvent> sink) {
+        City city = metrics.stage("resolve", pipeline.resolveTimeout(), () -> cityResolver.resolve(cityName));
+        hotCities.record(city);
+        ForecastResponse.Current weather = metrics.stage("fetch", pipeline.fetchTimeout(), () -> weatherCache.get(city));
+        sink.accept(WeatherStreamEvent.weather(templateWeatherLine(city, weather)));
+
+        LlmWeatherAdvisor.Advice cached = cachedAdvice(city, weather);
+        if (cached != null) {
+            sink.accept(WeatherStreamEvent.summary(cached.weatherSummary()));
+            sink.accept(WeatherStreamEvent.outfit(cached.outfitSummary()));
+            return;
+        }
+        if (!useLlm()) {
+            sink.accept(WeatherStreamEvent.outfit(templateOutfit(weather)));
+            return;
+        }
+
+        var splitter = new AdviceStreamSplitter(sink, () -> templateOutfit(weather));
+        var tokens = weatherAdvisor.adviseStream(city, weather).doOnNext(splitter::accept);
+        Duration timeout = pipeline.adviseTimeout();
+        try {
+            if (timeout == null || timeout.isZero()) {
+                tokens.blockLast();
+            } else {
+                tokens.blockLast(timeout);
+            }
+            splitter.finish();
+        } catch (RuntimeException e) {
+            // 제한 시간 초과(blockLast) 또는 스트림 오류
+            log.warn("llm advice stream failed, falling back to template city={}", city.getName(), e);
+            sink.accept(WeatherStreamEvent.outfit(templateOutfit(weather)));
+        }
+    }
+
+    /**
+     * 여러 도시를 가상 스레드로 동시에 조회해 입력 순서대로 돌려준다. (중복 입력은 한 번만)
+     */
+    public List<CityWeatherResult> getWeatherSummaries(List<String> cityNames) {
+        Map<String, CityWeatherResult> byCity = new ConcurrentHashMap<>();
+        streamWeatherSummaries(cityNames, result -> byCity.put(result.city(), result));
+        return dedupe(cityNames).stream()
+                .map(byCity::get)
+                .toList();
+    }
+
+    /**
+     * 여러 도시를 가상 스레드로 동시에 조회하고, 끝나는 순서대로 onResult에 넘긴다.
+     * 입력은 대소문자/공백 차이를 무시하고 중복 제거한다. 한 도시의 실패나 지연이 다른 도시를 막지 않으며,
+     * 전체 제한 시간을 넘긴 도시는 취소되어 실패 결과로 전달된다. 모든 도시의 결과를 넘긴 뒤 반환한다.
+     * (onResult는 여러 스레드에서 동시에 호출될 수 있다)
+     */
+    public void streamWeatherSummaries(List<String> cityNames, Consumer<CityWeatherResult> onResult) {
+        List<String> unique = dedupe(cityNames);
+        Set<String> delivered = ConcurrentHashMap.newKeySet();
+        Consumer<CityWeatherResult> deliverOnce = result -> {
+            if (delivered.add(result.city())) {
+                onResult.accept(result);
+            }
+        };
+
+        try (var scope = new StageScope("fan-out", pipeline.fanOutDeadline())) {
+            for (String cityName : unique) {
+                scope.fork(() -> {
+                    deliverOnce.accept(summarize(cityName));
+                    return null;
+                });
+            }
+            scope.join();
+        }
+
+        // 제한 시간 안에 끝나지 못해 취소된 도시
+        for (String cityName : unique) {
+            deliverOnce.accept(CityWeatherResult.failure(cityName, "제한 시간 안에 조회하지 못했습니다."));
+        }
+    }
+
+    static List<String> dedupe(List<String> cityNames) {
+        Map<String, String> unique = new LinkedHashMap<>();
+        for (String cityName : cityNames) {
+            if (cityName != null && !cityName.isBlank()) {
+                unique.putIfAbsent(CityNames.normalize(cityName), cityName.trim());
+            }
+        }
+        return List.copyOf(unique.values());
+    }
+
+    private CityWeatherResult summarize(String cityName) {
+        try {
+            return CityWeatherResult.success(cityName, getWeatherSummary(cityName));
+        } catch (RuntimeException e) {
+            return CityWeatherResult.failure(cityName, e.getMessage());
+        }
     }
 
-    private String generateSummary(City city, ForecastResponse.Current weather) {
-        if (!llmEnabled) {
-            return generateTemplateSummary(city, weather);
+    private Summary generateSummary(City city, ForecastResponse.Current weather) {
+        LlmWeatherAdvisor.Advice cached = cachedAdvice(city, weather);
+        if (cached != null) {
+            return Summary.llm(cached);
+        }
+        if (!useLlm()) {
+            return templateSummary(city, weather, skippedSource());
+        }
+
+        LlmWeatherAdvisor.Advice advice;
+        try {
+            advice = metrics.stage("advise", pipeline.adviseTimeout(), () -> weatherAdvisor.advise(city, weather));
+        } catch (StageTimeoutException e) {
+            // LLM이 느리면 요청을 붙잡지 않고 템플릿 문장으로 대체
+            log.warn("llm advice timed out, falling back to template city={}", city.getName());
+            return templateSummary(city, weather, WeatherReport.Source.FALLBACK);
+        } catch (RuntimeException e) {
+            // LLM 오류(5xx, 한도 초과, 응답 파싱 실패 등)도 요청을 실패시키지 않고 템플릿 문장으로 대체
+            log.warn("llm advice failed, falling back to template city={}", city.getName(), e);
+            return templateSummary(city, weather, WeatherReport.Source.FALLBACK);
         }
 
-        LlmWeatherAdvisor.Advice advice = weatherAdvisor.advise(city, weather);
+        return Summary.llm(advice);
+    }
+
+    /**
+     * LLM 없이 만든 요약. 예산/회로 때문에 건너뛴 경우(source) 구분은 호출하는 쪽이 한다.
+     */
+    Summary templateSummary(City city, ForecastResponse.Current weather, WeatherReport.Source source) {
+        return new Summary(metrics.stage("template", () -> generateTemplateSummary(city, weather)), source);
+    }
+
+    /**
+     * 캐시 미스에서 LLM을 건너뛸 때의 출처. 설정으로 꺼져 있으면 템플릿이 정상 경로이고, 아니면 대체다.
+     */
+    WeatherReport.Source skippedSource() {
+        return llmEnabled ? WeatherReport.Source.FALLBACK : WeatherReport.Source.TEMPLATE;
+    }
 
-        // API 응답이 String이므로, 한 덩어리로 합쳐서 반환
+    /**
+     * 응답의 summary는 문자열 하나이므로 날씨 요약과 옷차림 추천을 한 덩어리로 합친다.
+     */
+    static String summaryOf(LlmWeatherAdvisor.Advice advice) {
         return advice.weatherSummary() + System.lineSeparator()
                 + advice.outfitSummary();
     }
 
-    private String generateTemplateSummary(City city, ForecastResponse.Current w) {
-        String desc = WeatherCode.getDescription(w.weather_code());
+    record Summary(String text, WeatherReport.Source source) {
+        static Summary llm(LlmWeatherAdvisor.Advice advice) {
+            return new Summary(summaryOf(advice), WeatherReport.Source.LLM);
+        }
+    }
+
+    /**
+     * 캐시된 조언은 LLM을 부르지 않으므로 예산/회로 판단 전에 본다. (적중한 요청이 degraded로 세지거나 탐침을 쓰지 않도록)
+     */
+    LlmWeatherAdvisor.Advice cachedAdvice(City city, ForecastResponse.Current weather) {
+        return llmEnabled ? weatherAdvisor.cached(city, weather) : null;
+    }
+
+    /**
+     * 설정으로 켜져 있고, 지금 LLM 지연/비용 예산과 회로 차단기가 허용할 때만 LLM을 쓴다.
+     * 실제로 LLM을 부를 때만(캐시 미스) 물어야 한다.
+     */
+    boolean useLlm() {
+        return llmEnabled && budget.tryAcquire();
+    }
+
+    // 벤치마크(src/jmh)에서 직접 호출하므로 package-private
+    String generateTemplateSummary(City city, ForecastResponse.Current w) {
+        return templateWeatherLine(city, w) + System.lineSeparator() + templateOutfit(w);
+    }
 
-        String weatherSummary = String.format(
+    String templateWeatherLine(City city, ForecastResponse.Current w) {
+        String desc = rules.description(w.weather_code());
+
+        return String.format(
                 "%s 현재 날씨는 %s입니다. 기온 %.1f°C(체감 %.1f°C), 습도 %d%%, 풍속 %.1fm/s 입니다.",
                 city.getName(),
                 desc,
@@ -55,20 +284,14 @@ public class WeatherService {
                 w.relative_humidity_2m(),
                 w.wind_speed_10m()
         );
+    }
 
-        // 아주 단순한 규칙 기반 옷차림 템플릿(필요 시 규칙 더 추가 가능)
-        String outfitSummary;
-        double t = w.apparent_temperature();
-        if (t <= 5) {
-            outfitSummary = "두꺼운 외투(패딩/코트)와 목도리 등 보온을 권장해요. 바람이 있으면 체감이 더 낮을 수 있어요.";
-        } else if (t <= 15) {
-            outfitSummary = "가벼운 자켓/가디건 레이어드를 권장해요. 바람이 있으면 얇은 바람막이가 도움이 될 수 있어요.";
-        } else if (t <= 23) {
-            outfitSummary = "긴팔 또는 얇은 겉옷 정도가 무난해요. 실내외 온도 차에 대비해 가벼운 겉옷을 챙기면 좋아요.";
-        } else {
-            outfitSummary = "가볍고 통풍이 좋은 옷차림을 권장해요. 수분 보충과 자외선 대비도 함께 챙겨요.";
-        }
+    String templateOutfit(ForecastResponse.Current w) {
+        // 규칙 파일(sunshine.rules.location)에서 컴파일한 옷차림 규칙표가 우선한다
+        String rule = rules.outfit(w);
 
-        return weatherSummary + System.lineSeparator() + outfitSummary;
+        // 사전 계산 조언 테이블은 그 칸을 만들 때와 같은 규칙이 맞을 때만 같은 규칙을 LLM이 다듬은 문장으로 쓴다
+        String precomputed = adviceTable.outfit(w, rule);
+        return precomputed != null ? precomputed : rule;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,115 @@
+package sunshine.weather.store;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import org.springframework.data.domain.Persistable;
+import sunshine.weather.cache.AdviceKey;
+import sunshine.weather.model.WeatherCode;
+import sunshine.weather.service.LlmWeatherAdvisor;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "llm_advice")
+public class AdviceEntity implements Persistable<String> {
+
+    @Id
+    @Column(name = "advice_key")
+    private String adviceKey;
+
+    @Column(nullable = false)
+    private String city;
+
+    private int temperature;
+
+    @Column(name = "apparent_temperature")
+    private int apparentTemperature;
+
+    private int humidity;
+    private int wind;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private WeatherCode weather;
+
+    @Column(name = "weather_summary", nullable = false)
+    private String weatherSummary;
+
+    @Column(name = "outfit_summary", nullable = false)
+    private String outfitSummary;
+
+    @Column(name = "input_tokens")
+    private long inputTokens;
+
+    @Column(name = "output_tokens")
+    private long outputTokens;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @Transient
+    private boolean isNew = true;
+
+    protected AdviceEntity() {
+    }
+
+    public AdviceEntity(AdviceKey key, LlmWeatherAdvisor.CachedAdvice cached, Instant updatedAt) {
+        this.adviceKey = idOf(key);
+        this.city = key.city();
+        this.temperature = key.temperature();
+        this.apparentTemperature = key.apparentTemperature();
+        this.humidity = key.humidity();
+        this.wind = key.wind();
+        this.weather = key.weather();
+        this.weatherSummary = cached.advice().weatherSummary();
+        this.outfitSummary = cached.advice().outfitSummary();
+        this.inputTokens = cached.inputTokens();
+        this.outputTokens = cached.outputTokens();
+        this.updatedAt = updatedAt;
+    }
+
+    static String idOf(AdviceKey key) {
+        return key.city() + '|' + key.temperature() + '|' + key.apparentTemperature() + '|'
+                + key.humidity() + '|' + key.wind() + '|' + key.weather().name();
+    }
+
+    void update(AdviceEntity source) {
+        this.weatherSummary = source.weatherSummary;
+        this.outfitSummary = source.outfitSummary;
+        this.inputTokens = source.inputTokens;
+        this.outputTokens = source.outputTokens;
+        this.updatedAt = source.updatedAt;
+    }
+
+    public AdviceKey toKey() {
+        return new AdviceKey(city, temperature, apparentTemperature, humidity, wind, weather);
+    }
+
+    public LlmWeatherAdvisor.CachedAdvice toCachedAdvice() {
+        return new LlmWeatherAdvisor.CachedAdvice(
+                new LlmWeatherAdvisor.Advice(weatherSummary, outfitSummary), inputTokens, outputTokens);
+    }
+
+    @Override
+    public String getId() {
+        return adviceKey;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
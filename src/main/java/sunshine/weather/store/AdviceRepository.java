@@ -0,0 +1,12 @@
+package sunshine.weather.store;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface AdviceRepository extends JpaRepository<AdviceEntity, String> {
+
+    List<AdviceEntity> findByUpdatedAtAfterOrderByUpdatedAtDesc(Instant since, Pageable pageable);
+}
@@ -0,0 +1,145 @@
+package sunshine.weather.store;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import sunshine.weather.cache.AdviceKey;
+import sunshine.weather.cache.CoalescingCache;
+import sunshine.weather.concurrent.WriteBehindBuffer;
+import sunshine.weather.config.CacheStoreProperties;
+import sunshine.weather.gazetteer.CityNames;
+import sunshine.weather.model.City;
+import sunshine.weather.service.LlmWeatherAdvisor;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * LLM으로 얻은 도시 좌표와 조언의 영속화 계층.
+ * <ul>
+ *     <li>캐시 로딩이 성공하면 write-behind 버퍼에 넣고, 별도 스레드가 batch 단위 트랜잭션으로 저장한다 (요청 경로에서 DB를 기다리지 않음)</li>
+ *     <li>웹 서버가 요청을 받기 전(싱글턴 초기화 직후) 최근 행을 한 번에 읽어 메모리 캐시를 채운다</li>
+ * </ul>
+ * 실패 결과(모르는 도시)는 저장하지 않는다.
+ */
+@Component
+public class CacheStore implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheStore.class);
+
+    private final GeocodeRepository geocodes;
+    private final AdviceRepository advices;
+    private final TransactionTemplate transactions;
+    private final CoalescingCache<String, City> cityCache;
+    private final CoalescingCache<AdviceKey, LlmWeatherAdvisor.CachedAdvice> adviceCache;
+    private final CacheStoreProperties props;
+    private final Clock clock = Clock.systemUTC();
+
+    private final WriteBehindBuffer<String, GeocodeEntity> geocodeWrites;
+    private final WriteBehindBuffer<String, AdviceEntity> adviceWrites;
+
+    public CacheStore(
+            GeocodeRepository geocodes,
+            AdviceRepository advices,
+            TransactionTemplate transactions,
+            CoalescingCache<String, City> cityCache,
+            CoalescingCache<AdviceKey, LlmWeatherAdvisor.CachedAdvice> adviceCache,
+            CacheStoreProperties props
+    ) {
+        this.geocodes = geocodes;
+        this.advices = advices;
+        this.transactions = transactions;
+        this.cityCache = cityCache;
+        this.adviceCache = adviceCache;
+        this.props = props;
+        this.geocodeWrites = new WriteBehindBuffer<>("geocode", props.flushInterval(), props.batchSize(),
+                props.maxPending(), this::writeGeocodes);
+        this.adviceWrites = new WriteBehindBuffer<>("advice", props.flushInterval(), props.batchSize(),
+                props.maxPending(), this::writeAdvice);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!props.enabled()) {
+            return;
+        }
+        warmUp();
+        cityCache.onLoad((query, city) -> geocodeWrites.offer(query, new GeocodeEntity(query, city, clock.instant())));
+        adviceCache.onLoad((key, advice) -> {
+            AdviceEntity entity = new AdviceEntity(key, advice, clock.instant());
+            adviceWrites.offer(entity.getId(), entity);
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        geocodeWrites.close();
+        adviceWrites.close();
+    }
+
+    private void warmUp() {
+        long start = System.nanoTime();
+        try {
+            List<GeocodeEntity> cities = geocodes.findAllByOrderByUpdatedAtDesc(PageRequest.of(0, props.warmupCities()));
+            // 예전 형식으로 저장된 키도 LlmCityResolver와 같은 키로 맞춘다
+            cities.forEach(entity -> cityCache.put(CityNames.normalize(entity.getId()), entity.toCity()));
+
+            Instant since = clock.instant().minus(props.adviceMaxAge());
+            List<AdviceEntity> advice = advices.findByUpdatedAtAfterOrderByUpdatedAtDesc(since, PageRequest.of(0, props.warmupAdvice()));
+            advice.forEach(entity -> adviceCache.put(entity.toKey(), entity.toCachedAdvice()));
+
+            log.info("cache warm-up cities={} advice={} tookMs={}",
+                    cities.size(), advice.size(), (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            // DB가 없어도 앱은 빈 캐시로 뜬다
+            log.warn("cache warm-up failed, starting cold", e);
+        }
+    }
+
+    /**
+     * 이미 있는 키는 한 번의 IN 조회로 찾아 갱신하고, 나머지는 persist 한다 (jdbc batch로 묶임).
+     */
+    private void writeGeocodes(List<GeocodeEntity> batch) {
+        transactions.executeWithoutResult(status -> {
+            Map<String, GeocodeEntity> existing = byId(geocodes.findAllById(ids(batch, GeocodeEntity::getId)), GeocodeEntity::getId);
+            for (GeocodeEntity entity : batch) {
+                GeocodeEntity managed = existing.get(entity.getId());
+                if (managed != null) {
+                    managed.update(entity);
+                } else {
+                    geocodes.save(entity);
+                }
+            }
+        });
+    }
+
+    private void writeAdvice(List<AdviceEntity> batch) {
+        transactions.executeWithoutResult(status -> {
+            Map<String, AdviceEntity> existing = byId(advices.findAllById(ids(batch, AdviceEntity::getId)), AdviceEntity::getId);
+            for (AdviceEntity entity : batch) {
+                AdviceEntity managed = existing.get(entity.getId());
+                if (managed != null) {
+                    managed.update(entity);
+                } else {
+                    advices.save(entity);
+                }
+            }
+        });
+    }
+
+    private static <T> List<String> ids(List<T> batch, Function<T, String> id) {
+        return batch.stream().map(id).toList();
+    }
+
+    private static <T> Map<String, T> byId(List<T> entities, Function<T, String> id) {
+        return entities.stream().collect(Collectors.toMap(id, Function.identity()));
+    }
+}
@@ -0,0 +1,74 @@
+package sunshine.weather.store;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import org.springframework.data.domain.Persistable;
+import sunshine.weather.model.City;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "geocode_city")
+public class GeocodeEntity implements Persistable<String> {
+
+    @Id
+    private String query;
+
+    @Column(nullable = false)
+    private String name;
+
+    private double latitude;
+    private double longitude;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    /**
+     * 키를 직접 정하므로, 새 엔티티를 merge(조회 후 저장) 대신 바로 persist 하도록 알린다
+     */
+    @Transient
+    private boolean isNew = true;
+
+    protected GeocodeEntity() {
+    }
+
+    public GeocodeEntity(String query, City city, Instant updatedAt) {
+        this.query = query;
+        this.name = city.getName();
+        this.latitude = city.getLatitude();
+        this.longitude = city.getLongitude();
+        this.updatedAt = updatedAt;
+    }
+
+    void update(GeocodeEntity source) {
+        this.name = source.name;
+        this.latitude = source.latitude;
+        this.longitude = source.longitude;
+        this.updatedAt = source.updatedAt;
+    }
+
+    public City toCity() {
+        return new City(name, latitude, longitude);
+    }
+
+    @Override
+    public String getId() {
+        return query;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
@@ -0,0 +1,11 @@
+package sunshine.weather.store;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface GeocodeRepository extends JpaRepository<GeocodeEntity, String> {
+
+    List<GeocodeEntity> findAllByOrderByUpdatedAtDesc(Pageable pageable);
+}
@@ -0,0 +1,32 @@
+-- LLM으로 확인한 도시 좌표. query는 정규화한 입력(소문자/앞뒤 공백 제거)
+CREATE TABLE geocode_city
+(
+    query      VARCHAR(200) NOT NULL,
+    name       VARCHAR(200) NOT NULL,
+    latitude   DOUBLE       NOT NULL,
+    longitude  DOUBLE       NOT NULL,
+    updated_at TIMESTAMP    NOT NULL,
+    PRIMARY KEY (query)
+);
+
+CREATE INDEX idx_geocode_city_updated_at ON geocode_city (updated_at);
+
+-- 구간화한 날씨 조건별 LLM 조언 (AdviceKey를 이어 붙인 advice_key가 기본 키)
+CREATE TABLE llm_advice
+(
+    advice_key           VARCHAR(300)  NOT NULL,
+    city                 VARCHAR(200)  NOT NULL,
+    temperature          INT           NOT NULL,
+    apparent_temperature INT           NOT NULL,
+    humidity             INT           NOT NULL,
+    wind                 INT           NOT NULL,
+    weather              VARCHAR(30)   NOT NULL,
+    weather_summary      VARCHAR(2000) NOT NULL,
+    outfit_summary       VARCHAR(2000) NOT NULL,
+    input_tokens         BIGINT        NOT NULL,
+    output_tokens        BIGINT        NOT NULL,
+    updated_at           TIMESTAMP     NOT NULL,
+    PRIMARY KEY (advice_key)
+);
+
+CREATE INDEX idx_llm_advice_updated_at ON llm_advice (updated_at);
@@ -0,0 +1,210 @@
+package sunshine.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sunshine.weather.cache.CacheStats;
+import sunshine.weather.cache.CoalescingCache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CoalescingCacheTest {
+
+    @Test
+    @DisplayName("같은 키에 대한 동시 요청은 로더를 한 번만 호출한다")
+    void coalescesConcurrentLoads() throws Exception {
+        var cache = new CoalescingCache<String, String>("test", 100, null, null, e -> false);
+        var loaderCalls = new AtomicInteger();
+        var release = new CountDownLatch(1);
+
+        List<Future<String>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(16)) {
+            for (int i = 0; i < 16; i++) {
+                results.add(executor.submit(() -> cache.get("osaka", key -> {
+                    loaderCalls.incrementAndGet();
+                    await(release);
+                    return key.toUpperCase();
+                })));
+            }
+            Thread.sleep(100);
+            release.countDown();
+            for (Future<String> result : results) {
+                assertThat(result.get()).isEqualTo("OSAKA");
+            }
+        }
+
+        CacheStats stats = cache.stats();
+        assertThat(loaderCalls).hasValue(1);
+        assertThat(stats.loads()).isEqualTo(1);
+        assertThat(stats.hits() + stats.coalesced()).isEqualTo(15);
+    }
+
+    @Test
+    @DisplayName("캐시 가능한 실패는 negative caching 되어 로더를 다시 호출하지 않는다")
+    void cachesNegativeResults() {
+        var cache = new CoalescingCache<String, String>(
+                "test", 100, null, Duration.ofMinutes(1), e -> e instanceof IllegalArgumentException);
+        var loaderCalls = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> cache.get("atlantis", key -> {
+                loaderCalls.incrementAndGet();
+                throw new IllegalArgumentException("도시 좌표를 확인할 수 없습니다: " + key);
+            })).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        assertThat(loaderCalls).hasValue(1);
+        assertThat(cache.stats().negativeHits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("일시적인 실패는 캐시하지 않는다")
+    void doesNotCacheTransientFailures() {
+        var cache = new CoalescingCache<String, String>(
+                "test", 100, null, Duration.ofMinutes(1), e -> e instanceof IllegalArgumentException);
+        var loaderCalls = new AtomicInteger();
+
+        assertThatThrownBy(() -> cache.get("seoul", key -> {
+            loaderCalls.incrementAndGet();
+            throw new IllegalStateException("LLM timeout");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(cache.get("seoul", key -> "Seoul")).isEqualTo("Seoul");
+        assertThat(loaderCalls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("비동기 조회는 진행 중인 로딩을 함께 쓰고, 끝나면 동기 조회도 캐시된 값을 본다")
+    void coalescesAsyncLoads() {
+        var cache = new CoalescingCache<String, String>("test", 100, null, null, e -> false);
+        var loaderCalls = new AtomicInteger();
+        var loading = new CompletableFuture<String>();
+
+        CompletableFuture<String> first = cache.getAsync("lima", key -> {
+            loaderCalls.incrementAndGet();
+            return loading;
+        });
+        CompletableFuture<String> second = cache.getAsync("lima", key -> {
+            loaderCalls.incrementAndGet();
+            return CompletableFuture.completedFuture("other");
+        });
+        // 기다리는 쪽이 취소해도 로딩은 계속된다
+        second.cancel(true);
+        assertThat(first).isNotDone();
+
+        loading.complete("LIMA");
+
+        assertThat(first.join()).isEqualTo("LIMA");
+        assertThat(cache.get("lima", key -> "unused")).isEqualTo("LIMA");
+        assertThat(loaderCalls).hasValue(1);
+        assertThat(cache.stats().coalesced()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("로더가 Error를 던져도 기다리던 요청은 막히지 않고 실패를 받는다")
+    void propagatesErrorsToWaiters() throws Exception {
+        var cache = new CoalescingCache<String, String>("test", 100, null, null, e -> false);
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            Future<String> leader = executor.submit(() -> cache.get("quito", key -> {
+                started.countDown();
+                await(release);
+                throw new AssertionError("boom");
+            }));
+            await(started);
+            Future<String> follower = executor.submit(() -> cache.get("quito", key -> "unused"));
+            Thread.sleep(100);
+            release.countDown();
+
+            assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasRootCauseInstanceOf(AssertionError.class);
+            assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasRootCauseInstanceOf(AssertionError.class);
+        }
+        assertThat(cache.stats().loadFailures()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("로딩하던 요청이 취소되면 기다리던 요청이 로딩을 이어받는다")
+    void followerTakesOverCancelledLoad() throws Exception {
+        var cache = new CoalescingCache<String, String>(
+                "test", 100, null, Duration.ofMinutes(1), e -> true);
+        var started = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            Future<String> leader = executor.submit(() -> cache.get("lagos", key -> {
+                started.countDown();
+                await(new CountDownLatch(1));
+                return "never";
+            }));
+            await(started);
+            Future<String> follower = executor.submit(() -> cache.get("lagos", key -> "Lagos"));
+            Thread.sleep(100);
+            leader.cancel(true);
+
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("Lagos");
+        }
+        assertThat(cache.get("lagos", key -> "unused")).isEqualTo("Lagos");
+        assertThat(cache.stats().loadFailures()).isZero();
+    }
+
+    @Test
+    @DisplayName("await로 기다리던 요청이 인터럽트되어도 로딩은 끝까지 진행되고, 다음 요청은 새로 로딩하지 않는다")
+    void awaitLeavesLoadingToCache() throws Exception {
+        var cache = new CoalescingCache<String, String>("test", 100, null, null, e -> false);
+        var loaderCalls = new AtomicInteger();
+        var loading = new CompletableFuture<String>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(1)) {
+            Future<String> first = executor.submit(() -> cache.await("accra", key -> {
+                loaderCalls.incrementAndGet();
+                return loading;
+            }));
+            Thread.sleep(100);
+            first.cancel(true);
+        }
+        CompletableFuture<String> second = cache.getAsync("accra", key -> {
+            loaderCalls.incrementAndGet();
+            return CompletableFuture.completedFuture("other");
+        });
+        loading.complete("ACCRA");
+
+        assertThat(second.join()).isEqualTo("ACCRA");
+        assertThat(cache.await("accra", key -> CompletableFuture.completedFuture("unused"))).isEqualTo("ACCRA");
+        assertThat(loaderCalls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("로딩 뒤 리스너가 실패해도 로딩한 값은 그대로 캐시된다")
+    void listenerFailureKeepsLoadedValue() {
+        var cache = new CoalescingCache<String, String>(
+                "test", 100, null, Duration.ofMinutes(1), e -> true);
+        cache.onLoad((key, value) -> {
+            throw new IllegalStateException("write-behind buffer full");
+        });
+
+        assertThat(cache.get("oslo", key -> "Oslo")).isEqualTo("Oslo");
+        assertThat(cache.get("oslo", key -> "unused")).isEqualTo("Oslo");
+        assertThat(cache.stats().loadFailures()).isZero();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
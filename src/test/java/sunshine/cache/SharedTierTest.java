@@ -0,0 +1,75 @@
+package sunshine.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sunshine.weather.cache.BinaryCodec;
+import sunshine.weather.cache.CacheCodecs;
+import sunshine.weather.cache.CoalescingCache;
+import sunshine.weather.cache.InvalidationBus;
+import sunshine.weather.cache.LocalInvalidationHub;
+import sunshine.weather.cache.LocalSharedCache;
+import sunshine.weather.cache.SharedTiers;
+import sunshine.weather.model.City;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SharedTierTest {
+
+    private final LocalSharedCache shared = new LocalSharedCache(100);
+    private final LocalInvalidationHub hub = new LocalInvalidationHub();
+
+    @Test
+    @DisplayName("한 노드가 로딩한 값은 다른 노드가 로더 없이 L2에서 읽는다")
+    void otherNodeReadsFromShared() {
+        var nodeA = node(hub.connect());
+        var nodeB = node(hub.connect());
+        var loads = new AtomicInteger();
+
+        City seoul = nodeA.get("seoul", key -> {
+            loads.incrementAndGet();
+            return new City("서울", 37.5665, 126.978);
+        });
+        City fromB = nodeB.get("seoul", key -> {
+            loads.incrementAndGet();
+            return new City("다른 값", 0, 0);
+        });
+
+        assertThat(loads).hasValue(1);
+        assertThat(fromB.getName()).isEqualTo(seoul.getName());
+        assertThat(fromB.getLatitude()).isEqualTo(seoul.getLatitude());
+        assertThat(nodeB.stats().sharedHits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("한 노드가 다시 로딩하면 다른 노드의 L1 값은 무효화되고 새 값을 읽는다")
+    void reloadInvalidatesOtherNodes() {
+        var nodeA = node(hub.connect());
+        var nodeB = node(hub.connect());
+        nodeA.get("seoul", key -> new City("서울", 37.0, 127.0));
+        nodeB.get("seoul", key -> new City("unused", 0, 0));
+
+        nodeA.reload("seoul", key -> new City("서울", 37.5665, 126.978));
+
+        assertThat(nodeB.getIfPresent("seoul")).isNull();
+        assertThat(nodeB.get("seoul", key -> new City("unused", 0, 0)).getLatitude()).isEqualTo(37.5665);
+    }
+
+    @Test
+    @DisplayName("도메인 값은 바이너리로 왕복한다")
+    void codecsRoundTrip() {
+        byte[] bytes = CacheCodecs.CITY.encode(new City("서울", 37.5665, 126.978));
+        City city = CacheCodecs.CITY.decode(bytes);
+
+        assertThat(city.getName()).isEqualTo("서울");
+        assertThat(city.getLongitude()).isEqualTo(126.978);
+        assertThat(bytes).hasSizeLessThan(32);
+    }
+
+    private CoalescingCache<String, City> node(InvalidationBus bus) {
+        return new CoalescingCache<>("city", 100, Duration.ofMinutes(10), null, e -> false,
+                SharedTiers.of("city:v1", shared, bus, BinaryCodec.STRING, CacheCodecs.CITY, Duration.ofMinutes(10)));
+    }
+}
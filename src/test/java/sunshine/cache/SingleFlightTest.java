@@ -0,0 +1,80 @@
+package sunshine.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sunshine.weather.cache.SingleFlight;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SingleFlightTest {
+
+    @Test
+    @DisplayName("리더가 publish하면 기다리던 요청은 리더의 뒤이은 작업을 기다리지 않고 풀린다")
+    void releasesWaitersOnPublish() throws Exception {
+        var flights = new SingleFlight<String, String>("test");
+        var started = new CountDownLatch(1);
+        var sideEffect = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            Future<String> leader = executor.submit(() -> flights.execute("seoul", publish -> {
+                started.countDown();
+                publish.accept("Seoul");
+                await(sideEffect);
+                return "Seoul";
+            }));
+            await(started);
+            Future<String> follower = executor.submit(() -> flights.execute("seoul", () -> "unused"));
+
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("Seoul");
+            assertThat(leader).isNotDone();
+            sideEffect.countDown();
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("Seoul");
+        }
+        assertThat(flights.coalesced()).isEqualTo(1);
+        assertThat(flights.running("seoul")).isFalse();
+    }
+
+    @Test
+    @DisplayName("동기 리더가 취소되면 비동기로 기다리던 요청이 이어서 실행한다")
+    void asyncWaiterTakesOverCancelledLeader() throws Exception {
+        var flights = new SingleFlight<String, String>("test");
+        var started = new CountDownLatch(1);
+        var calls = new AtomicInteger();
+        CompletableFuture<String> waiter;
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(1)) {
+            Future<String> leader = executor.submit(() -> flights.execute("lagos", () -> {
+                calls.incrementAndGet();
+                started.countDown();
+                await(new CountDownLatch(1));
+                return "never";
+            }));
+            await(started);
+            waiter = flights.executeAsync("lagos", () -> {
+                calls.incrementAndGet();
+                return CompletableFuture.completedFuture("Lagos");
+            });
+            leader.cancel(true);
+        }
+
+        assertThat(waiter.get(5, TimeUnit.SECONDS)).isEqualTo("Lagos");
+        assertThat(calls).hasValue(2);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
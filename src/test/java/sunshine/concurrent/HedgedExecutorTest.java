@@ -0,0 +1,88 @@
+package sunshine.concurrent;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sunshine.weather.concurrent.DeadlineExceededException;
+import sunshine.weather.concurrent.HedgedExecutor;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HedgedExecutorTest {
+
+    private final List<String> attempts = new CopyOnWriteArrayList<>();
+
+    @Test
+    @DisplayName("첫 시도가 헤지 대기보다 느리면 하나 더 보내고 먼저 끝난 결과를 쓴다")
+    void hedgeWinsWhenPrimaryIsSlow() {
+        AtomicInteger calls = new AtomicInteger();
+        try (var executor = executor(policy(Duration.ofSeconds(2), true, 1))) {
+            String result = executor.call(() -> {
+                if (calls.incrementAndGet() == 1) {
+                    Thread.sleep(1_000);
+                    return "slow";
+                }
+                return "fast";
+            }, failure -> false);
+
+            assertThat(result).isEqualTo("fast");
+            assertThat(attempts).containsExactly(HedgedExecutor.PRIMARY, HedgedExecutor.HEDGE);
+        }
+    }
+
+    @Test
+    @DisplayName("재시도 가능한 실패는 maxAttempts까지 다시 보낸다")
+    void retriesRetryableFailures() {
+        AtomicInteger calls = new AtomicInteger();
+        try (var executor = executor(policy(Duration.ofSeconds(2), false, 3))) {
+            String result = executor.call(() -> {
+                if (calls.incrementAndGet() < 3) {
+                    throw new IllegalStateException("일시 오류");
+                }
+                return "ok";
+            }, failure -> true);
+
+            assertThat(result).isEqualTo("ok");
+            assertThat(attempts).containsExactly(HedgedExecutor.PRIMARY, HedgedExecutor.RETRY, HedgedExecutor.RETRY);
+        }
+    }
+
+    @Test
+    @DisplayName("재시도할 수 없는 실패는 그대로 던진다")
+    void rethrowsNonRetryableFailure() {
+        try (var executor = executor(policy(Duration.ofSeconds(2), false, 3))) {
+            assertThatThrownBy(() -> executor.call(() -> {
+                throw new IllegalArgumentException("잘못된 요청");
+            }, failure -> false))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThat(attempts).containsExactly(HedgedExecutor.PRIMARY);
+        }
+    }
+
+    @Test
+    @DisplayName("데드라인이 지나면 진행 중인 시도를 버리고 DeadlineExceededException을 던진다")
+    void failsAfterDeadline() {
+        try (var executor = executor(policy(Duration.ofMillis(100), false, 3))) {
+            assertThatThrownBy(() -> executor.call(() -> {
+                Thread.sleep(5_000);
+                return "late";
+            }, failure -> true))
+                    .isInstanceOf(DeadlineExceededException.class);
+        }
+    }
+
+    private HedgedExecutor executor(HedgedExecutor.Policy policy) {
+        return new HedgedExecutor("test", policy, attempts::add);
+    }
+
+    private static HedgedExecutor.Policy policy(Duration deadline, boolean hedge, int maxAttempts) {
+        return new HedgedExecutor.Policy(deadline, hedge, 0.95,
+                Duration.ofMillis(20), Duration.ofMillis(50),
+                maxAttempts, Duration.ofMillis(1), Duration.ofMillis(5));
+    }
+}
@@ -0,0 +1,61 @@
+package sunshine.concurrent;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sunshine.weather.concurrent.MicroBatcher;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MicroBatcherTest {
+
+    @Test
+    @DisplayName("window 안에 들어온 요청을 한 번에 처리하고 각자 자기 결과를 받는다")
+    void batchesWithinWindow() {
+        List<List<Integer>> calls = new CopyOnWriteArrayList<>();
+        try (var batcher = new MicroBatcher<Integer, String>("test", Duration.ofMillis(50), 100, inputs -> {
+            calls.add(inputs);
+            return inputs.stream().map(i -> "r" + i).toList();
+        })) {
+            List<CompletableFuture<String>> results = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                results.add(batcher.submit(i));
+            }
+
+            assertThat(results).extracting(CompletableFuture::join)
+                    .containsExactly("r0", "r1", "r2", "r3", "r4");
+            assertThat(calls).hasSize(1);
+        }
+    }
+
+    @Test
+    @DisplayName("maxBatchSize만큼 모이면 window를 기다리지 않고 바로 보낸다")
+    void flushesWhenFull() {
+        try (var batcher = new MicroBatcher<Integer, Integer>("test", Duration.ofMinutes(1), 2, inputs -> inputs)) {
+            var first = batcher.submit(1);
+            var second = batcher.submit(2);
+
+            assertThat(first.orTimeout(1, TimeUnit.SECONDS).join()).isEqualTo(1);
+            assertThat(second.join()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    @DisplayName("배치 처리가 실패하면 모든 호출자에게 예외를 전달한다")
+    void propagatesFailure() {
+        try (var batcher = new MicroBatcher<Integer, Integer>("test", Duration.ofMillis(10), 100, inputs -> {
+            throw new IllegalStateException("upstream down");
+        })) {
+            var result = batcher.submit(1);
+
+            assertThatThrownBy(result::join).hasCauseInstanceOf(IllegalStateException.class);
+        }
+    }
+}
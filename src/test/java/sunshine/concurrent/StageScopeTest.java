@@ -0,0 +1,72 @@
+package sunshine.concurrent;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sunshine.weather.concurrent.StageScope;
+import sunshine.weather.concurrent.StageTimeoutException;
+import sunshine.weather.concurrent.StageTimings;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StageScopeTest {
+
+    private static final ThreadLocal<String> REQUEST = new ThreadLocal<>();
+
+    @AfterEach
+    void tearDown() {
+        REQUEST.remove();
+        StageTimings.close();
+        Thread.interrupted();
+    }
+
+    @Test
+    @DisplayName("단일 단계는 호출 스레드에서 실행되어 ThreadLocal과 안쪽 단계 시간이 그대로 남는다")
+    void runsStageOnCallerThread() {
+        Thread caller = Thread.currentThread();
+        REQUEST.set("req-1");
+        StageTimings timings = StageTimings.open();
+
+        String result = StageScope.call("advise", Duration.ofSeconds(5), () -> {
+            assertThat(Thread.currentThread()).isSameAs(caller);
+            return StageScope.call("template", Duration.ofSeconds(1), REQUEST::get);
+        });
+
+        assertThat(result).isEqualTo("req-1");
+        assertThat(timings.nanos()).containsOnlyKeys("template", "advise");
+    }
+
+    @Test
+    @DisplayName("데드라인이 지나면 호출 스레드를 인터럽트해 단계를 끝내고, 인터럽트 표시는 남기지 않는다")
+    void interruptsCallerAtDeadline() {
+        long start = System.nanoTime();
+
+        assertThatThrownBy(() -> StageScope.call("fetch", Duration.ofMillis(100), () -> {
+            Thread.sleep(5_000);
+            return "late";
+        })).isInstanceOf(StageTimeoutException.class);
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+        assertThat(Thread.currentThread().isInterrupted()).isFalse();
+    }
+
+    @Test
+    @DisplayName("제때 끝난 단계의 타이머는 나중에 호출 스레드를 인터럽트하지 않는다")
+    void cancelsDeadlineWhenStageFinishes() throws InterruptedException {
+        assertThat(StageScope.call("resolve", Duration.ofMillis(50), () -> "seoul")).isEqualTo("seoul");
+
+        Thread.sleep(150);
+        assertThat(Thread.currentThread().isInterrupted()).isFalse();
+    }
+
+    @Test
+    @DisplayName("단계 안의 실패는 제한 시간 전이면 그대로 전달된다")
+    void propagatesFailureBeforeDeadline() {
+        assertThatThrownBy(() -> StageScope.call("advise", Duration.ofSeconds(5), () -> {
+            throw new IllegalStateException("429 Too Many Requests");
+        })).isInstanceOf(IllegalStateException.class).hasMessageContaining("429");
+    }
+}
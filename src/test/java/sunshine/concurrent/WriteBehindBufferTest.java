@@ -0,0 +1,64 @@
+package sunshine.concurrent;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sunshine.weather.concurrent.WriteBehindBuffer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WriteBehindBufferTest {
+
+    private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+
+    @Test
+    @DisplayName("같은 키의 쓰기는 마지막 값 하나로 합쳐 batch로 내보낸다")
+    void coalescesByKey() {
+        var buffer = new WriteBehindBuffer<String, String>("test", Duration.ofHours(1), 100, 100, batches::add);
+        buffer.offer("seoul", "v1");
+        buffer.offer("seoul", "v2");
+        buffer.offer("busan", "v1");
+
+        buffer.close();
+
+        assertThat(batches).hasSize(1);
+        assertThat(batches.getFirst()).containsExactlyInAnyOrder("v2", "v1");
+        assertThat(buffer.written()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("batchSize만큼 쌓이면 주기를 기다리지 않고 내보낸다")
+    void flushesWhenBatchIsFull() throws InterruptedException {
+        var buffer = new WriteBehindBuffer<Integer, String>("test", Duration.ofHours(1), 3, 100, batches::add);
+        for (int i = 0; i < 3; i++) {
+            buffer.offer(i, "v" + i);
+        }
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(2).toNanos();
+        while (batches.isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertThat(batches).hasSize(1);
+        assertThat(batches.getFirst()).hasSize(3);
+        buffer.close();
+    }
+
+    @Test
+    @DisplayName("maxPending을 넘는 새 키는 버린다")
+    void dropsWhenFull() {
+        var buffer = new WriteBehindBuffer<Integer, String>("test", Duration.ofHours(1), 100, 2, batches::add);
+        buffer.offer(1, "a");
+        buffer.offer(2, "b");
+        buffer.offer(3, "c");
+        buffer.offer(1, "a2");
+
+        buffer.close();
+
+        assertThat(buffer.dropped()).isEqualTo(1);
+        assertThat(batches.getFirst()).containsExactlyInAnyOrder("a2", "b");
+    }
+}
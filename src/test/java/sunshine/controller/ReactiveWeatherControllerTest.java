@@ -0,0 +1,115 @@
+package sunshine.controller;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import sunshine.weather.config.AdviceCacheProperties;
+import sunshine.weather.config.WeatherCacheProperties;
+import sunshine.weather.controller.ReactiveWeatherController;
+import sunshine.weather.controller.WeatherValidators;
+import sunshine.weather.dto.CityWeatherResult;
+import sunshine.weather.dto.WeatherBatchRequest;
+import sunshine.weather.dto.WeatherReport;
+import sunshine.weather.dto.WeatherStreamEvent;
+import sunshine.weather.metrics.WeatherMetrics;
+import sunshine.weather.service.ReactiveWeatherService;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReactiveWeatherControllerTest {
+
+    private final ReactiveWeatherService weatherService = mock(ReactiveWeatherService.class);
+    private final ReactiveWeatherController controller = new ReactiveWeatherController(weatherService,
+            new WeatherValidators(
+                    new WeatherCacheProperties(true, 0.1, Duration.ofMinutes(15), Duration.ofMinutes(10), 100, 1),
+                    new AdviceCacheProperties(true, 1.0, 10, 2.0, Duration.ofMinutes(30), 100),
+                    new WeatherMetrics(new SimpleMeterRegistry())));
+
+    @Test
+    @DisplayName("새로 만든 응답에 ETag를 붙이고, 같은 ETag로 다시 물으면 서비스를 부르지 않고 304를 준다")
+    void answersNotModifiedFromRememberedValidator() {
+        when(weatherService.getWeatherReport("seoul")).thenReturn(Mono.just(report(WeatherReport.Source.LLM)));
+
+        String etag = controller.getWeatherReport("seoul", null, null).block().getHeaders().getETag();
+        assertThat(etag).startsWith("W/\"");
+
+        StepVerifier.create(controller.getWeatherReport("seoul", etag, MediaType.APPLICATION_JSON_VALUE))
+                .assertNext(response -> {
+                    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+                    assertThat(response.getHeaders().getETag()).isEqualTo(etag);
+                    assertThat(response.getBody()).isNull();
+                })
+                .verifyComplete();
+        verify(weatherService, times(1)).getWeatherReport("seoul");
+    }
+
+    @Test
+    @DisplayName("템플릿으로 대체한 응답은 검증자 없이 no-cache로 내려 다음 요청이 다시 만들게 한다")
+    void servesFallbackWithoutValidators() {
+        when(weatherService.getWeatherReport("seoul")).thenReturn(Mono.just(report(WeatherReport.Source.FALLBACK)));
+
+        StepVerifier.create(controller.getWeatherReport("seoul", null, null))
+                .assertNext(response -> {
+                    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+                    assertThat(response.getHeaders().getETag()).isNull();
+                    assertThat(response.getHeaders().getCacheControl()).isEqualTo(CacheControl.noCache().getHeaderValue());
+                })
+                .verifyComplete();
+        StepVerifier.create(controller.getWeatherReport("seoul", "*", null))
+                .assertNext(response -> assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("여러 도시 조회는 서비스가 내보내는 결과 줄(시간 초과 실패 포함)을 그대로 흘려보낸다")
+    void streamsBatchResults() {
+        when(weatherService.streamWeatherSummaries(List.of("seoul", "atlantis"))).thenReturn(Flux.just(
+                CityWeatherResult.success("seoul", "맑아요."),
+                CityWeatherResult.failure("atlantis", "제한 시간 안에 조회하지 못했습니다.")));
+
+        StepVerifier.create(controller.getWeatherSummaries(new WeatherBatchRequest(List.of("seoul", "atlantis"))))
+                .assertNext(result -> assertThat(result.summary()).isEqualTo("맑아요."))
+                .assertNext(result -> assertThat(result.error()).isEqualTo("제한 시간 안에 조회하지 못했습니다."))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("스트림 이벤트는 이름과 본문을 그대로 SSE로 옮긴다")
+    void mapsStreamEventsToSse() {
+        when(weatherService.streamWeatherSummary("seoul")).thenReturn(Flux.just(
+                WeatherStreamEvent.weather("Seoul 현재 날씨는 맑음입니다."),
+                WeatherStreamEvent.outfit("얇은 니트")));
+
+        StepVerifier.create(controller.streamWeatherSummary("seoul"))
+                .assertNext(event -> {
+                    assertThat(event.event()).isEqualTo(WeatherStreamEvent.WEATHER);
+                    assertThat(event.data()).isEqualTo("Seoul 현재 날씨는 맑음입니다.");
+                })
+                .assertNext(event -> {
+                    assertThat(event.event()).isEqualTo(WeatherStreamEvent.OUTFIT);
+                    assertThat(event.data()).isEqualTo("얇은 니트");
+                })
+                .verifyComplete();
+    }
+
+    private static WeatherReport report(WeatherReport.Source source) {
+        Instant observed = Instant.now().truncatedTo(ChronoUnit.MINUTES);
+        return new WeatherReport("Seoul", 37.5665, 126.9780, observed, observed.plus(Duration.ofMinutes(15)),
+                20.5, 19.0, 65, 5.7, 0, "맑음", "Seoul 현재 날씨는 맑음입니다.", source);
+    }
+}
@@ -0,0 +1,86 @@
+package sunshine.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import sunshine.stub.OpenMeteoPayloads;
+import sunshine.weather.dto.ForecastResponse;
+import sunshine.weather.dto.ForecastResponseDecoder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ForecastResponseDecoderTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @Test
+    @DisplayName("단일 응답을 데이터바인딩과 같은 값으로 읽는다")
+    void readsSingleLikeDatabind() throws IOException {
+        String json = OpenMeteoPayloads.single(37.5665, 126.978);
+
+        ForecastResponse.Current current = ForecastResponseDecoder.readSingle(stream(json));
+
+        assertThat(current).isEqualTo(objectMapper.readValue(json, ForecastResponse.class).current());
+    }
+
+    @Test
+    @DisplayName("배열 응답을 입력 순서대로 읽는다")
+    void readsMultiLikeDatabind() throws IOException {
+        String json = OpenMeteoPayloads.multi(new double[]{37.5665, 35.1796, 35.6762}, new double[]{126.978, 129.0756, 139.6503});
+
+        List<ForecastResponse.Current> all = ForecastResponseDecoder.readAll(stream(json), 3);
+
+        List<ForecastResponse> expected = objectMapper.readValue(json, new TypeReference<>() {});
+        assertThat(all).containsExactlyElementsOf(expected.stream().map(ForecastResponse::current).toList());
+    }
+
+    @Test
+    @DisplayName("null 숫자는 0으로, 모르는 필드는 건너뛴다")
+    void toleratesNullsAndUnknownFields() throws IOException {
+        String json = """
+                {"extra":{"nested":[1,2,{"a":null}]},"current":{"time":"2026-10-17T03:00","temperature_2m":null,\
+                "weather_code":3,"relative_humidity_2m":55,"wind_speed_10m":4.2,"apparent_temperature":-1.5}}""";
+
+        ForecastResponse.Current current = ForecastResponseDecoder.readSingle(stream(json));
+
+        assertThat(current).isEqualTo(new ForecastResponse.Current(0, -1.5, 3, 55, 4.2, 1_792_206_000L, 0));
+    }
+
+    @Test
+    @DisplayName("관측 시각과 구간은 unixtime/iso8601 어느 형식이든 epoch 초로 읽는다")
+    void readsObservationTime() throws IOException {
+        ForecastResponse.Current unixtime = ForecastResponseDecoder.readSingle(stream("""
+                {"current":{"time":1792206000,"interval":900,"temperature_2m":12.5}}"""));
+        ForecastResponse.Current iso = ForecastResponseDecoder.readSingle(stream("""
+                {"current":{"time":"2026-10-17T03:00","interval":900,"temperature_2m":12.5}}"""));
+
+        assertThat(unixtime.time()).isEqualTo(1_792_206_000L);
+        assertThat(unixtime.interval()).isEqualTo(900);
+        assertThat(iso).isEqualTo(unixtime);
+    }
+
+    @Test
+    @DisplayName("current가 없거나 숫자 자리에 문자열이 오면 파싱 오류로 본다")
+    void rejectsMalformedPayload() {
+        assertThatThrownBy(() -> ForecastResponseDecoder.readSingle(stream("{\"latitude\":1.0}")))
+                .isInstanceOf(JsonProcessingException.class);
+        assertThatThrownBy(() -> ForecastResponseDecoder.readSingle(stream("{\"current\":{\"weather_code\":\"3\"}}")))
+                .isInstanceOf(JsonProcessingException.class);
+        assertThatThrownBy(() -> ForecastResponseDecoder.readSingle(stream("{\"current\":{\"time\":\"yesterday\"}}")))
+                .isInstanceOf(JsonProcessingException.class);
+    }
+
+    private static InputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,52 @@
+package sunshine.gazetteer;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sunshine.weather.gazetteer.Gazetteer;
+import sunshine.weather.gazetteer.GazetteerTsvReader;
+import sunshine.weather.gazetteer.HeapGazetteer;
+import sunshine.weather.model.City;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HeapGazetteerTest {
+
+    private static Gazetteer gazetteer;
+
+    @BeforeAll
+    static void load() throws IOException {
+        try (InputStream in = HeapGazetteerTest.class.getResourceAsStream("/gazetteer/cities.tsv")) {
+            gazetteer = HeapGazetteer.of(GazetteerTsvReader.read(in));
+        }
+    }
+
+    @Test
+    @DisplayName("영문/한글 이름과 별칭을 대소문자·공백 구분 없이 찾는다")
+    void findsByNameAndAlias() {
+        assertThat(gazetteer.find("seoul")).map(City::getName).hasValue("Seoul");
+        assertThat(gazetteer.find("서울특별시")).map(City::getName).hasValue("Seoul");
+        assertThat(gazetteer.find("  Los-Angeles ")).map(City::getName).hasValue("Los Angeles");
+        assertThat(gazetteer.find("도쿄")).map(City::getName).hasValue("Tokyo");
+    }
+
+    @Test
+    @DisplayName("오타가 조금 있는 입력은 정확 일치로 확정하지 않고 후보로만 찾는다")
+    void findsWithTypos() {
+        assertThat(gazetteer.find("osakka")).isEmpty();
+        assertThat(gazetteer.findFuzzy("osakka")).map(City::getName).hasValue("Osaka");
+        assertThat(gazetteer.findFuzzy("bussan")).map(City::getName).hasValue("Busan");
+    }
+
+    @Test
+    @DisplayName("데이터셋에 없거나 너무 짧은 입력은 찾지 않는다")
+    void missesUnknownCities() {
+        assertThat(gazetteer.find("atlantis")).isEmpty();
+        assertThat(gazetteer.find("xyz")).isEmpty();
+        assertThat(gazetteer.findFuzzy("atlantis")).isEmpty();
+        assertThat(gazetteer.findFuzzy("xyz")).isEmpty();
+    }
+}
@@ -0,0 +1,55 @@
+package sunshine.gazetteer;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import sunshine.weather.gazetteer.Gazetteer;
+import sunshine.weather.gazetteer.GazetteerCompiler;
+import sunshine.weather.gazetteer.GazetteerRecord;
+import sunshine.weather.gazetteer.GazetteerTsvReader;
+import sunshine.weather.gazetteer.HeapGazetteer;
+import sunshine.weather.gazetteer.MappedGazetteer;
+import sunshine.weather.model.City;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MappedGazetteerTest {
+
+    private static Gazetteer heap;
+    private static Gazetteer mapped;
+
+    @BeforeAll
+    static void load() throws IOException {
+        List<GazetteerRecord> records;
+        try (InputStream in = MappedGazetteerTest.class.getResourceAsStream("/gazetteer/cities.tsv")) {
+            records = GazetteerTsvReader.read(in);
+        }
+        heap = HeapGazetteer.of(records);
+
+        var out = new ByteArrayOutputStream();
+        GazetteerCompiler.compile(records, out);
+        mapped = MappedGazetteer.wrap(ByteBuffer.wrap(out.toByteArray()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"seoul", "부산광역시", "New York", "tokio", "vancover", "atlantis", "xyz"})
+    @DisplayName("바이너리 gazetteer는 힙 인덱스와 같은 결과를 돌려준다")
+    void matchesHeapGazetteer(String input) {
+        assertThat(mapped.size()).isEqualTo(heap.size());
+        assertThat(mapped.find(input).map(MappedGazetteerTest::describe))
+                .isEqualTo(heap.find(input).map(MappedGazetteerTest::describe));
+        assertThat(mapped.findFuzzy(input).map(MappedGazetteerTest::describe))
+                .isEqualTo(heap.findFuzzy(input).map(MappedGazetteerTest::describe));
+    }
+
+    private static String describe(City city) {
+        return city.getName() + "@" + city.getLatitude() + "," + city.getLongitude();
+    }
+}
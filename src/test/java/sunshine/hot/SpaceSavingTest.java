@@ -0,0 +1,71 @@
+package sunshine.hot;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sunshine.weather.hot.SpaceSaving;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpaceSavingTest {
+
+    @Test
+    @DisplayName("긴 꼬리 속에서도 자주 나오는 키를 상위로 찾는다")
+    void findsHeavyHittersInLongTail() {
+        SpaceSaving<String, Integer> sketch = new SpaceSaving<>(32);
+        Random random = new Random(42);
+        for (int i = 0; i < 20_000; i++) {
+            int r = random.nextInt(100);
+            if (r < 30) {
+                sketch.offer("seoul", i);
+            } else if (r < 50) {
+                sketch.offer("busan", i);
+            } else if (r < 60) {
+                sketch.offer("tokyo", i);
+            } else {
+                sketch.offer("tail-" + random.nextInt(5_000), i);
+            }
+        }
+
+        List<SpaceSaving.Counter<String, Integer>> top = sketch.top(3);
+
+        assertThat(top).extracting(SpaceSaving.Counter::key).containsExactly("seoul", "busan", "tokyo");
+        assertThat(top.getFirst().guaranteed()).isGreaterThan(5_000);
+        assertThat(sketch.size()).isEqualTo(32);
+    }
+
+    @Test
+    @DisplayName("count는 실제 빈도의 상한, count - error는 하한이다")
+    void boundsTrueFrequency() {
+        SpaceSaving<String, String> sketch = new SpaceSaving<>(2);
+        sketch.offer("a", "a");
+        sketch.offer("a", "a");
+        sketch.offer("b", "b");
+        sketch.offer("c", "c");
+
+        List<SpaceSaving.Counter<String, String>> top = sketch.top(2);
+
+        assertThat(top).extracting(SpaceSaving.Counter::key).containsExactly("a", "c");
+        SpaceSaving.Counter<String, String> c = top.get(1);
+        assertThat(c.count()).isEqualTo(2);
+        assertThat(c.guaranteed()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("decay는 빈도를 절반으로 줄여 최근 요청의 비중을 높인다")
+    void decayHalvesCounts() {
+        SpaceSaving<String, String> sketch = new SpaceSaving<>(4);
+        for (int i = 0; i < 10; i++) {
+            sketch.offer("old", "old");
+        }
+        sketch.decay();
+        sketch.decay();
+        for (int i = 0; i < 4; i++) {
+            sketch.offer("new", "new");
+        }
+
+        assertThat(sketch.top(1)).extracting(SpaceSaving.Counter::key).containsExactly("new");
+    }
+}
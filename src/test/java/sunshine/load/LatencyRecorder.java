@@ -0,0 +1,44 @@
+package sunshine.load;
+
+import java.util.Arrays;
+
+/**
+ * 지연 시간 표본(나노초)을 모아 두었다가 끝에 한 번 정렬해 분위수를 계산한다.
+ */
+final class LatencyRecorder {
+
+    private long[] samples = new long[1024];
+    private int size;
+
+    synchronized void record(long nanos) {
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, size * 2);
+        }
+        samples[size++] = nanos;
+    }
+
+    synchronized Snapshot snapshot() {
+        long[] sorted = Arrays.copyOf(samples, size);
+        Arrays.sort(sorted);
+        return new Snapshot(sorted);
+    }
+
+    record Snapshot(long[] sorted) {
+
+        int count() {
+            return sorted.length;
+        }
+
+        double percentileMillis(double p) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(p * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(sorted.length - 1, index))] / 1_000_000.0;
+        }
+
+        double maxMillis() {
+            return sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package sunshine.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import sunshine.Application;
+import sunshine.stub.LatencyModel;
+import sunshine.stub.StubChatModel;
+import sunshine.stub.StubOpenMeteoServer;
+import sunshine.weather.gazetteer.GazetteerRecord;
+import sunshine.weather.gazetteer.GazetteerTsvReader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로컬 Open-Meteo/LLM 스텁을 띄우고 앱 전체를 실제 HTTP로 두드리는 부하 테스트.
+ * 단계별 시간은 앱이 돌려주는 Server-Timing 헤더(resolve/fetch/advise)에서 읽는다.
+ * <p>
+ * {@code ./gradlew loadTest -PloadTest.requests=20000 -PloadTest.concurrency=128 -PloadTest.llm.latency=lognormal:800ms:3s}
+ * <p>
+ * {@code -PloadTest.webApplicationType=reactive}로 같은 부하를 논블로킹 경로에 건다. (Server-Timing은 servlet 경로만 붙이므로 total만 남는다)
+ */
+public final class LoadTestRunner {
+
+    private static final String TOTAL = "total";
+
+    private final Options options;
+    private final Map<String, LatencyRecorder> stages = new ConcurrentHashMap<>();
+    private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+
+    private LoadTestRunner(Options options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        new LoadTestRunner(Options.fromSystemProperties()).run();
+    }
+
+    private void run() throws Exception {
+        List<String> cities = cities();
+        var chatModel = new StubChatModel(StubChatModel.weatherResponder(), options.llmLatency(), options.llmErrorRate());
+
+        try (var forecast = StubOpenMeteoServer.start(options.forecastLatency(), options.forecastErrorRate());
+             var context = boot(forecast, chatModel);
+             var http = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build()) {
+
+            String baseUrl = "http://127.0.0.1:" + context.getEnvironment().getProperty("local.server.port") + "/api/weather/";
+
+            fire(http, baseUrl, cities, options.warmup(), false);
+            stages.clear();
+            statuses.clear();
+
+            long start = System.nanoTime();
+            fire(http, baseUrl, cities, options.requests(), true);
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            report(seconds, forecast, chatModel);
+        }
+    }
+
+    private ConfigurableApplicationContext boot(StubOpenMeteoServer forecast, ChatModel chatModel) {
+        var app = new SpringApplication(Application.class);
+        app.addInitializers(context -> context.getBeanFactory().registerSingleton("stubChatModel", chatModel));
+        return app.run(
+                "--server.port=0",
+                "--sunshine.open-meteo.base-url=" + forecast.baseUrl(),
+                "--sunshine.server-timing.enabled=true",
+                "--sunshine.llm.enabled=" + options.llmEnabled(),
+                "--sunshine.cache.weather.enabled=" + options.cache(),
+                "--sunshine.cache.advice.enabled=" + options.cache(),
+                "--spring.main.web-application-type=" + options.webApplicationType(),
+                "--spring.ai.model.chat=none",
+                "--spring.ai.model.embedding.text=none",
+                "--logging.level.root=WARN"
+        );
+    }
+
+    private void fire(HttpClient http, String baseUrl, List<String> cities, int count, boolean record) throws InterruptedException {
+        var permits = new Semaphore(options.concurrency());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < count; i++) {
+                permits.acquire();
+                String city = pick(cities);
+                executor.submit(() -> {
+                    try {
+                        send(http, baseUrl, city, record);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+    }
+
+    private void send(HttpClient http, String baseUrl, String city, boolean record) {
+        var request = HttpRequest.newBuilder(URI.create(baseUrl + URLEncoder.encode(city, StandardCharsets.UTF_8).replace("+", "%20")))
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build();
+
+        long start = System.nanoTime();
+        int status;
+        String serverTiming = null;
+        try {
+            HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+            status = response.statusCode();
+            serverTiming = response.headers().firstValue("Server-Timing").orElse(null);
+        } catch (IOException e) {
+            status = -1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        long elapsed = System.nanoTime() - start;
+
+        if (!record) {
+            return;
+        }
+        statuses.computeIfAbsent(status, s -> new LongAdder()).increment();
+        recorder(TOTAL).record(elapsed);
+        if (serverTiming != null) {
+            parseServerTiming(serverTiming).forEach((stage, nanos) -> recorder(stage).record(nanos));
+        }
+    }
+
+    private LatencyRecorder recorder(String stage) {
+        return stages.computeIfAbsent(stage, s -> new LatencyRecorder());
+    }
+
+    private String pick(List<String> cities) {
+        var random = ThreadLocalRandom.current();
+        if (random.nextDouble() < options.unknownCityRatio()) {
+            // 가제티어에 없는 이름 → LLM 지오코딩 경로
+            return "unknown-city-" + random.nextInt(1000);
+        }
+        return cities.get(random.nextInt(cities.size()));
+    }
+
+    private void report(double seconds, StubOpenMeteoServer forecast, StubChatModel chatModel) throws IOException {
+        int total = statuses.values().stream().mapToInt(LongAdder::intValue).sum();
+        int ok = statuses.getOrDefault(200, new LongAdder()).intValue();
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("options", options);
+        result.put("durationSeconds", seconds);
+        result.put("requests", total);
+        result.put("throughputPerSecond", total / seconds);
+        result.put("successRatio", total == 0 ? 0 : (double) ok / total);
+        Map<Integer, Long> statusCounts = new TreeMap<>();
+        statuses.forEach((status, count) -> statusCounts.put(status, count.sum()));
+        result.put("statuses", statusCounts);
+        result.put("stub", Map.of(
+                "forecastRequests", forecast.requests(), "forecastErrors", forecast.errors(),
+                "llmCalls", chatModel.calls(), "llmErrors", chatModel.errors()));
+
+        Map<String, Object> stageResults = new LinkedHashMap<>();
+        System.out.printf(Locale.ROOT, "%n%-10s %8s %10s %10s %10s %10s%n", "stage", "count", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)");
+        for (String stage : orderedStages()) {
+            var snapshot = stages.get(stage).snapshot();
+            System.out.printf(Locale.ROOT, "%-10s %8d %10.2f %10.2f %10.2f %10.2f%n", stage, snapshot.count(),
+                    snapshot.percentileMillis(0.50), snapshot.percentileMillis(0.99),
+                    snapshot.percentileMillis(0.999), snapshot.maxMillis());
+            stageResults.put(stage, Map.of(
+                    "count", snapshot.count(),
+                    "p50Millis", snapshot.percentileMillis(0.50),
+                    "p99Millis", snapshot.percentileMillis(0.99),
+                    "p999Millis", snapshot.percentileMillis(0.999),
+                    "maxMillis", snapshot.maxMillis()));
+        }
+        result.put("stages", stageResults);
+
+        System.out.printf(Locale.ROOT, "%nrequests=%d throughput=%.1f/s success=%.4f statuses=%s%n",
+                total, total / seconds, result.get("successRatio"), result.get("statuses"));
+
+        Path output = Path.of(options.output());
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(output.toFile(), result);
+        System.out.println("결과 저장: " + output.toAbsolutePath());
+    }
+
+    private List<String> orderedStages() {
+        List<String> ordered = new ArrayList<>();
+        for (String stage : List.of(TOTAL, "resolve", "fetch", "advise")) {
+            if (stages.containsKey(stage)) {
+                ordered.add(stage);
+            }
+        }
+        stages.keySet().stream().filter(stage -> !ordered.contains(stage)).sorted().forEach(ordered::add);
+        return ordered;
+    }
+
+    private static List<String> cities() throws IOException {
+        try (InputStream in = LoadTestRunner.class.getResourceAsStream("/gazetteer/cities.tsv")) {
+            if (in == null) {
+                throw new IllegalStateException("gazetteer/cities.tsv 를 찾을 수 없습니다.");
+            }
+            return GazetteerTsvReader.read(in).stream().map(GazetteerRecord::name).toList();
+        }
+    }
+
+    private static Map<String, Long> parseServerTiming(String header) {
+        Map<String, Long> timings = new LinkedHashMap<>();
+        for (String metric : header.split(",")) {
+            String[] parts = metric.trim().split(";");
+            for (int i = 1; i < parts.length; i++) {
+                if (parts[i].startsWith("dur=")) {
+                    timings.put(parts[0], Math.round(Double.parseDouble(parts[i].substring(4)) * 1_000_000));
+                }
+            }
+        }
+        return timings;
+    }
+
+    record Options(
+            int requests,
+            int warmup,
+            int concurrency,
+            boolean llmEnabled,
+            boolean cache,
+            double unknownCityRatio,
+            String forecastLatencySpec,
+            double forecastErrorRate,
+            String llmLatencySpec,
+            double llmErrorRate,
+            String webApplicationType,
+            String output
+    ) {
+        static Options fromSystemProperties() {
+            return new Options(
+                    Integer.getInteger("loadTest.requests", 5000),
+                    Integer.getInteger("loadTest.warmup", 500),
+                    Integer.getInteger("loadTest.concurrency", 64),
+                    Boolean.parseBoolean(System.getProperty("loadTest.llm.enabled", "true")),
+                    Boolean.parseBoolean(System.getProperty("loadTest.cache", "true")),
+                    Double.parseDouble(System.getProperty("loadTest.unknownCityRatio", "0.05")),
+                    System.getProperty("loadTest.forecast.latency", "lognormal:40ms:250ms"),
+                    Double.parseDouble(System.getProperty("loadTest.forecast.errorRate", "0.01")),
+                    System.getProperty("loadTest.llm.latency", "lognormal:600ms:2500ms"),
+                    Double.parseDouble(System.getProperty("loadTest.llm.errorRate", "0.01")),
+                    System.getProperty("loadTest.webApplicationType", "servlet"),
+                    System.getProperty("loadTest.output", "build/results/loadtest/results.json")
+            );
+        }
+
+        LatencyModel forecastLatency() {
+            return LatencyModel.parse(forecastLatencySpec);
+        }
+
+        LatencyModel llmLatency() {
+            return LatencyModel.parse(llmLatencySpec);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package sunshine.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sunshine.weather.concurrent.StageTimeoutException;
+import sunshine.weather.metrics.WeatherMetrics;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class WeatherMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final WeatherMetrics metrics = new WeatherMetrics(registry);
+
+    @Test
+    @DisplayName("단계 지연은 결과(success/timeout/error)별로 기록된다")
+    void recordsStageOutcome() {
+        metrics.stage("fetch", Duration.ofSeconds(1), () -> "ok");
+        assertThatThrownBy(() -> metrics.stage("advise", Duration.ofMillis(20), () -> {
+            Thread.sleep(1_000);
+            return "late";
+        })).isInstanceOf(StageTimeoutException.class);
+        assertThatThrownBy(() -> metrics.stage("resolve", Duration.ofSeconds(1), () -> {
+            throw new IllegalArgumentException("도시 좌표를 확인할 수 없습니다: x");
+        })).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(registry.get("sunshine.stage").tags("stage", "fetch", "outcome", "success").timer().count()).isEqualTo(1);
+        assertThat(registry.get("sunshine.stage").tags("stage", "advise", "outcome", "timeout").timer().count()).isEqualTo(1);
+        assertThat(registry.get("sunshine.stage").tags("stage", "resolve", "outcome", "error").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("LLM 토큰과 추정 비용은 모델별 누적 카운터로 쌓인다")
+    void accumulatesLlmUsage() {
+        metrics.llmUsage("weather_advice", "gemini", 600, 200, 210);
+        metrics.llmUsage("weather_advice", "gemini", 400, 100, 120);
+
+        assertThat(registry.get("sunshine.llm.tokens").tags("model", "gemini", "type", "input").counter().count()).isEqualTo(1000);
+        assertThat(registry.get("sunshine.llm.cost").tags("model", "gemini").counter().count()).isCloseTo(0.00033, within(1e-9));
+        assertThat(registry.get("sunshine.llm.calls").counter().count()).isEqualTo(2);
+    }
+}
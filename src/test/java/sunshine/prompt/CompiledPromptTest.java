@@ -0,0 +1,38 @@
+package sunshine.prompt;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sunshine.weather.prompt.CompiledPrompt;
+import sunshine.weather.prompt.PromptNumbers;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompiledPromptTest {
+
+    @Test
+    @DisplayName("상수는 컴파일 시점에, 변수는 렌더링 시점에 채운다")
+    void rendersConstantsAndParameters() {
+        var prompt = CompiledPrompt.compile("도시: {city}, 기온: {t}°C\n{format}", Map.of("format", "{\"type\":\"object\"}"), "city", "t");
+
+        assertThat(prompt.render("서울", "12.5")).isEqualTo("도시: 서울, 기온: 12.5°C\n{\"type\":\"object\"}");
+    }
+
+    @Test
+    @DisplayName("정의되지 않은 자리표시자는 컴파일 시 실패한다")
+    void rejectsUnknownPlaceholder() {
+        assertThatThrownBy(() -> CompiledPrompt.compile("{city} {unknown}", Map.of(), "city"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("소수 첫째 자리 포맷은 String.format(\"%.1f\")와 같다")
+    void oneDecimalMatchesStringFormat() {
+        double[] values = {0, -0.0, 0.05, -0.04, 12.25, 12.35, -3.95, 29.999, 100, -17.5};
+        for (double value : values) {
+            assertThat(PromptNumbers.oneDecimal(value)).isEqualTo(String.format("%.1f", value));
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package sunshine.rules;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sunshine.weather.dto.ForecastResponse;
+import sunshine.weather.model.WeatherCode;
+import sunshine.weather.rules.RuleTable;
+import sunshine.weather.rules.WeatherRuleSet;
+import sunshine.weather.rules.WeatherRuleSet.OutfitRule;
+import sunshine.weather.rules.WeatherRuleSet.Range;
+import sunshine.weather.rules.WeatherRules;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RuleTableTest {
+
+    @Test
+    @DisplayName("기본 규칙은 체감온도 경계값을 아래 구간에 넣는다")
+    void defaultRulesKeepApparentTemperatureThresholds() {
+        WeatherRules rules = WeatherRules.defaults();
+
+        assertThat(rules.outfit(weather(5.0, 0, 2, 50))).startsWith("두꺼운 외투");
+        assertThat(rules.outfit(weather(5.1, 0, 2, 50))).startsWith("가벼운 자켓");
+        assertThat(rules.outfit(weather(23.0, 0, 2, 50))).startsWith("긴팔");
+        assertThat(rules.outfit(weather(23.4, 0, 2, 50))).startsWith("가볍고 통풍");
+        assertThat(rules.outfit(weather(-80, 0, 2, 50))).startsWith("두꺼운 외투");
+        assertThat(rules.outfit(weather(80, 0, 2, 50))).startsWith("가볍고 통풍");
+    }
+
+    @Test
+    @DisplayName("소나기/이슬비 코드는 맑음이 아닌 제 분류로 설명하고, 코드별 설명이 분류 설명보다 우선한다")
+    void describesShowersAndDrizzle() {
+        RuleTable table = RuleTable.compile(new WeatherRuleSet(
+                Map.of("RAIN_SHOWERS", "소나기", "82", "강한 소나기"),
+                List.of(new OutfitRule(null, null, null, null, null, "기본"))));
+
+        assertThat(table.description(80)).isEqualTo("소나기");
+        assertThat(table.description(82)).isEqualTo("강한 소나기");
+        assertThat(table.description(53)).isEqualTo("이슬비");
+        assertThat(table.description(86)).isEqualTo("소낙눈");
+        assertThat(WeatherCode.from(81)).isEqualTo(WeatherCode.RAIN_SHOWERS);
+    }
+
+    @Test
+    @DisplayName("풍속/습도/날씨 분류 조건을 함께 쓰면 처음 맞는 규칙을 고른다")
+    void picksFirstMatchingRuleAcrossAxes() {
+        RuleTable table = RuleTable.compile(new WeatherRuleSet(null, List.of(
+                new OutfitRule(null, null, null, null, Set.of(WeatherCode.RAIN, WeatherCode.RAIN_SHOWERS), "우산"),
+                new OutfitRule(null, new Range(null, 10), new Range(7, null), null, null, "방풍 외투"),
+                new OutfitRule(null, null, null, new Range(70, null), null, "통풍"),
+                new OutfitRule(null, null, null, null, null, "기본"))));
+
+        assertThat(table.outfit(weather(0, 81, 12, 90))).isEqualTo("우산");
+        assertThat(table.outfit(weather(3, 0, 7.5, 90))).isEqualTo("방풍 외투");
+        assertThat(table.outfit(weather(3, 0, 7.0, 90))).isEqualTo("통풍");
+        assertThat(table.outfit(weather(20, 0, 12, 50))).isEqualTo("기본");
+    }
+
+    @Test
+    @DisplayName("어느 규칙에도 맞지 않는 조합이 있으면 컴파일하지 않는다")
+    void rejectsIncompleteRules() {
+        var rules = new WeatherRuleSet(null, List.of(
+                new OutfitRule(null, new Range(null, 5), null, null, null, "추움")));
+
+        assertThatThrownBy(() -> RuleTable.compile(rules))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("맞지 않는 조합");
+    }
+
+    private static ForecastResponse.Current weather(double apparent, int code, double wind, int humidity) {
+        return new ForecastResponse.Current(apparent, apparent, code, humidity, wind);
+    }
+}
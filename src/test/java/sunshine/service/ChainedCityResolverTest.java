@@ -0,0 +1,67 @@
+package sunshine.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import sunshine.weather.gazetteer.GazetteerTsvReader;
+import sunshine.weather.gazetteer.HeapGazetteer;
+import sunshine.weather.metrics.WeatherMetrics;
+import sunshine.weather.model.City;
+import sunshine.weather.service.ChainedCityResolver;
+import sunshine.weather.service.GazetteerCityResolver;
+import sunshine.weather.service.LlmCityResolver;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ChainedCityResolverTest {
+
+    @Mock
+    private LlmCityResolver llmCityResolver;
+    private ChainedCityResolver resolver;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        MockitoAnnotations.openMocks(this);
+        try (InputStream in = ChainedCityResolverTest.class.getResourceAsStream("/gazetteer/cities.tsv")) {
+            var gazetteer = new GazetteerCityResolver(HeapGazetteer.of(GazetteerTsvReader.read(in)));
+            resolver = new ChainedCityResolver(gazetteer, llmCityResolver, new WeatherMetrics(new SimpleMeterRegistry()));
+        }
+    }
+
+    @Test
+    @DisplayName("이름/별칭이 정확히 일치하면 LLM을 부르지 않는다")
+    void exactMatchSkipsLlm() {
+        assertThat(resolver.resolve("서울특별시").getName()).isEqualTo("Seoul");
+        verify(llmCityResolver, never()).resolve("서울특별시");
+    }
+
+    @Test
+    @DisplayName("오타 허용 검색으로만 찾은 도시는 LLM 결과를 우선한다")
+    void fuzzyMatchDefersToLlm() {
+        // 데이터셋의 Busan과 철자가 비슷한 다른 도시
+        when(llmCityResolver.resolve("bussan")).thenReturn(new City("Bussan", 35.0, 129.0));
+
+        assertThat(resolver.resolve("bussan").getName()).isEqualTo("Bussan");
+    }
+
+    @Test
+    @DisplayName("LLM을 쓸 수 없을 때만 오타 허용 후보로 대체하고, LLM이 도시가 아니라고 하면 실패한다")
+    void fuzzyMatchIsLastResort() {
+        when(llmCityResolver.resolve("osakka")).thenThrow(new IllegalStateException("503 Service Unavailable"));
+        when(llmCityResolver.resolve("tokio")).thenThrow(new IllegalArgumentException("도시 좌표를 확인할 수 없습니다: tokio"));
+
+        assertThat(resolver.resolve("osakka").getName()).isEqualTo("Osaka");
+        assertThatThrownBy(() -> resolver.resolve("tokio"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,99 @@
+package sunshine.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.prompt.Prompt;
+import sunshine.stub.StubChatModel;
+import sunshine.weather.budget.LlmBudgetController;
+import sunshine.weather.budget.SpendLedger;
+import sunshine.weather.cache.CoalescingCache;
+import sunshine.weather.config.AdviceBatchProperties;
+import sunshine.weather.config.AdviceCacheProperties;
+import sunshine.weather.config.LlmBudgetProperties;
+import sunshine.weather.config.LlmCostProperties;
+import sunshine.weather.config.SpendLedgerProperties;
+import sunshine.weather.dto.ForecastResponse;
+import sunshine.weather.metrics.WeatherMetrics;
+import sunshine.weather.model.City;
+import sunshine.weather.prompt.WeatherPrompts;
+import sunshine.weather.service.LlmCostEstimator;
+import sunshine.weather.service.LlmUsageRecorder;
+import sunshine.weather.service.LlmWeatherAdvisor;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LlmWeatherAdvisorTest {
+
+    private static final ForecastResponse.Current WEATHER = new ForecastResponse.Current(12.0, 10.5, 3, 60, 2.5);
+
+    private LlmWeatherAdvisor advisor;
+
+    @Test
+    @DisplayName("동시에 들어온 여러 도시의 조언 요청은 한 번의 LLM 호출로 묶인다")
+    void batchesConcurrentRequests() throws Exception {
+        StubChatModel model = new StubChatModel(StubChatModel.weatherResponder());
+        advisor = advisor(model);
+
+        List<LlmWeatherAdvisor.Advice> advices = adviseConcurrently(4);
+
+        assertThat(advices).hasSize(4).allSatisfy(advice -> assertThat(advice.weatherSummary()).isNotBlank());
+        assertThat(model.calls()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("묶음 응답을 파싱할 수 없으면 도시별 단건 호출로 다시 만든다")
+    void fallsBackToSingleCallsWhenBatchIsUnparseable() throws Exception {
+        Function<Prompt, String> single = StubChatModel.weatherResponder();
+        StubChatModel model = new StubChatModel(prompt ->
+                prompt.getContents().contains("[id=") ? "잘못된 응답" : single.apply(prompt));
+        advisor = advisor(model);
+
+        List<LlmWeatherAdvisor.Advice> advices = adviseConcurrently(4);
+
+        assertThat(advices).hasSize(4).allSatisfy(advice -> assertThat(advice.outfitSummary()).isNotBlank());
+        assertThat(model.calls()).isEqualTo(1 + 4);
+    }
+
+    private List<LlmWeatherAdvisor.Advice> adviseConcurrently(int cities) throws Exception {
+        try (var executor = Executors.newFixedThreadPool(cities)) {
+            List<Future<LlmWeatherAdvisor.Advice>> futures = IntStream.range(0, cities)
+                    .mapToObj(i -> executor.submit(() -> advisor.advise(new City("도시" + i, 37.0 + i, 127.0), WEATHER)))
+                    .toList();
+            List<LlmWeatherAdvisor.Advice> advices = new ArrayList<>();
+            for (Future<LlmWeatherAdvisor.Advice> future : futures) {
+                advices.add(future.get());
+            }
+            return advices;
+        }
+    }
+
+    private static LlmWeatherAdvisor advisor(StubChatModel model) {
+        WeatherMetrics metrics = new WeatherMetrics(new SimpleMeterRegistry());
+        var costEstimator = new LlmCostEstimator(new LlmCostProperties(null, null));
+        var budgetProps = new LlmBudgetProperties(true, Duration.ofMinutes(5), 10, 20, Duration.ofSeconds(4), 0.2,
+                BigDecimal.ONE, 0.5, 5, Duration.ofSeconds(30), 0.0, Duration.ofMillis(250));
+        return new LlmWeatherAdvisor(
+                ChatClient.builder(model),
+                new WeatherPrompts(),
+                costEstimator,
+                new CoalescingCache<>("advice", 100, Duration.ofMinutes(30), null, e -> false),
+                new AdviceCacheProperties(false, 1.0, 10, 2.0, Duration.ofMinutes(30), 100),
+                metrics,
+                new LlmBudgetController(budgetProps, metrics),
+                // window를 길게 두고 maxSize에 닿는 순간 보낸다
+                new AdviceBatchProperties(true, Duration.ofSeconds(5), 4),
+                new LlmUsageRecorder(costEstimator, new SpendLedger(new SpendLedgerProperties(60)), metrics)
+        );
+    }
+}
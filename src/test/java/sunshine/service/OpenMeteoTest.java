@@ -0,0 +1,86 @@
+package sunshine.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClient;
+import sunshine.stub.LatencyModel;
+import sunshine.stub.StubOpenMeteoServer;
+import sunshine.weather.config.OpenMeteoProperties;
+import sunshine.weather.dto.ForecastResponse;
+import sunshine.weather.metrics.WeatherMetrics;
+import sunshine.weather.model.City;
+import sunshine.weather.service.OpenMeteo;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OpenMeteoTest {
+
+    private StubOpenMeteoServer server;
+
+    @AfterEach
+    void tearDown() {
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    @Test
+    @DisplayName("base-url로 지정한 로컬 스텁에서 단일/다중 좌표 날씨를 조회한다")
+    void fetchesFromStub() throws IOException {
+        server = StubOpenMeteoServer.start();
+        OpenMeteo openMeteo = openMeteo(server.baseUrl());
+
+        ForecastResponse.Current seoul = openMeteo.fetchCurrent(new City("서울", 37.5665, 126.978));
+        List<ForecastResponse.Current> all = openMeteo.fetchCurrentAll(List.of(
+                new City("서울", 37.5665, 126.978),
+                new City("부산", 35.1796, 129.0756),
+                new City("도쿄", 35.6762, 139.6503)));
+
+        assertThat(all).hasSize(3);
+        assertThat(all.getFirst()).isEqualTo(seoul);
+        assertThat(server.requests()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("스텁이 오류를 돌려주면 IllegalStateException으로 감싼다")
+    void wrapsUpstreamErrors() throws IOException {
+        server = StubOpenMeteoServer.start(LatencyModel.NONE, 1.0);
+        OpenMeteo openMeteo = openMeteo(server.baseUrl(), 1);
+
+        assertThatThrownBy(() -> openMeteo.fetchCurrent(new City("서울", 37.5665, 126.978)))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(server.errors()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("503은 max-attempts까지 재시도하고, 끝내 실패하면 상태 코드를 담아 던진다")
+    void retriesTransientErrors() throws IOException {
+        server = StubOpenMeteoServer.start(LatencyModel.NONE, 1.0);
+        OpenMeteo openMeteo = openMeteo(server.baseUrl(), 3);
+
+        assertThatThrownBy(() -> openMeteo.fetchCurrent(new City("서울", 37.5665, 126.978)))
+                .isInstanceOfSatisfying(OpenMeteoException.class, e -> assertThat(e.getStatus()).isEqualTo(503));
+        assertThat(server.errors()).isEqualTo(3);
+    }
+
+    private static OpenMeteo openMeteo(String baseUrl) {
+        return openMeteo(baseUrl, 3);
+    }
+
+    private static OpenMeteo openMeteo(String baseUrl, int maxAttempts) {
+        return new OpenMeteo(RestClient.builder(),
+                new OpenMeteoProperties(baseUrl,
+                        new OpenMeteoProperties.Batch(false, Duration.ofMillis(5), 50),
+                        new OpenMeteoProperties.Http(Duration.ofSeconds(1), Duration.ofSeconds(2), Duration.ofSeconds(5), false),
+                        new OpenMeteoProperties.Hedge(false, 0.95, Duration.ofMillis(50), Duration.ofMillis(300)),
+                        new OpenMeteoProperties.Retry(maxAttempts, Duration.ofMillis(1), Duration.ofMillis(5))),
+                new WeatherMetrics(new SimpleMeterRegistry()));
+    }
+}
@@ -0,0 +1,113 @@
+package sunshine.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.test.StepVerifier;
+import sunshine.stub.LatencyModel;
+import sunshine.stub.StubOpenMeteoServer;
+import sunshine.weather.concurrent.HedgedExecutor;
+import sunshine.weather.config.OpenMeteoProperties;
+import sunshine.weather.metrics.WeatherMetrics;
+import sunshine.weather.model.City;
+import sunshine.weather.service.OpenMeteoException;
+import sunshine.weather.service.ReactiveOpenMeteo;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReactiveOpenMeteoTest {
+
+    private static final City SEOUL = new City("서울", 37.5665, 126.978);
+
+    private StubOpenMeteoServer server;
+
+    @AfterEach
+    void tearDown() {
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    @Test
+    @DisplayName("base-url로 지정한 로컬 스텁에서 현재 날씨를 조회한다")
+    void fetchesFromStub() throws IOException {
+        server = StubOpenMeteoServer.start();
+
+        StepVerifier.create(openMeteo(server.baseUrl(), 3, Duration.ofSeconds(5)).fetchCurrent(SEOUL))
+                .assertNext(current -> assertThat(current.temperature_2m()).isBetween(12.0, 22.0))
+                .verifyComplete();
+        assertThat(server.requests()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("503은 max-attempts까지 재시도하고, 끝내 실패하면 상태 코드를 담은 OpenMeteoException으로 바꾼다")
+    void retriesTransientErrors() throws IOException {
+        server = StubOpenMeteoServer.start(LatencyModel.NONE, 1.0);
+
+        StepVerifier.create(openMeteo(server.baseUrl(), 3, Duration.ofSeconds(5)).fetchCurrent(SEOUL))
+                .expectErrorSatisfies(e -> assertThat(e)
+                        .isInstanceOfSatisfying(OpenMeteoException.class, ex -> assertThat(ex.getStatus()).isEqualTo(503)))
+                .verify(Duration.ofSeconds(5));
+        assertThat(server.errors()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("400 같은 재시도 대상이 아닌 오류는 한 번만 보내고 상태 코드를 그대로 전달한다")
+    void doesNotRetryClientErrors() throws IOException {
+        server = StubOpenMeteoServer.start(LatencyModel.NONE, 1.0, 400);
+
+        StepVerifier.create(openMeteo(server.baseUrl(), 3, Duration.ofSeconds(5)).fetchCurrent(SEOUL))
+                .expectErrorSatisfies(e -> assertThat(e)
+                        .isInstanceOfSatisfying(OpenMeteoException.class, ex -> assertThat(ex.getStatus()).isEqualTo(400)))
+                .verify(Duration.ofSeconds(5));
+        assertThat(server.requests()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재시도를 포함한 전체 데드라인을 넘기면 상태 0의 OpenMeteoException으로 끝낸다")
+    void mapsDeadlineToOpenMeteoException() throws IOException {
+        server = StubOpenMeteoServer.start(LatencyModel.parse("fixed:2s"), 0);
+
+        StepVerifier.create(openMeteo(server.baseUrl(), 3, Duration.ofMillis(200)).fetchCurrent(SEOUL))
+                .expectErrorSatisfies(e -> assertThat(e)
+                        .isInstanceOfSatisfying(OpenMeteoException.class, ex -> assertThat(ex.getStatus()).isZero())
+                        .hasMessageContaining("제한 시간"))
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("연결 오류도 재시도 대상이고, 끝내 실패하면 상태 0의 OpenMeteoException으로 바꾼다")
+    void retriesConnectionErrors() throws IOException {
+        server = StubOpenMeteoServer.start();
+        String closed = server.baseUrl();
+        server.close();
+        var registry = new SimpleMeterRegistry();
+
+        StepVerifier.create(openMeteo(closed, 3, Duration.ofSeconds(5), registry).fetchCurrent(SEOUL))
+                .expectErrorSatisfies(e -> assertThat(e)
+                        .isInstanceOfSatisfying(OpenMeteoException.class, ex -> assertThat(ex.getStatus()).isZero()))
+                .verify(Duration.ofSeconds(5));
+        assertThat(registry.get("sunshine.open-meteo.attempts").tag("kind", HedgedExecutor.RETRY).counter().count())
+                .isEqualTo(2.0);
+    }
+
+    private static ReactiveOpenMeteo openMeteo(String baseUrl, int maxAttempts, Duration deadline) {
+        return openMeteo(baseUrl, maxAttempts, deadline, new SimpleMeterRegistry());
+    }
+
+    private static ReactiveOpenMeteo openMeteo(String baseUrl, int maxAttempts, Duration deadline,
+                                               SimpleMeterRegistry registry) {
+        return new ReactiveOpenMeteo(WebClient.builder(),
+                new OpenMeteoProperties(baseUrl,
+                        new OpenMeteoProperties.Batch(false, Duration.ofMillis(5), 50),
+                        new OpenMeteoProperties.Http(Duration.ofSeconds(1), Duration.ofSeconds(2), deadline, false),
+                        new OpenMeteoProperties.Hedge(false, 0.95, Duration.ofMillis(50), Duration.ofMillis(300)),
+                        new OpenMeteoProperties.Retry(maxAttempts, Duration.ofMillis(1), Duration.ofMillis(5))),
+                new WeatherMetrics(registry));
+    }
+}
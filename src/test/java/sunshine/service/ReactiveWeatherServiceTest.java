@@ -0,0 +1,162 @@
+package sunshine.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import sunshine.stub.StubOpenMeteoServer;
+import sunshine.weather.advice.AdviceTable;
+import sunshine.weather.budget.LlmBudgetController;
+import sunshine.weather.config.OpenMeteoProperties;
+import sunshine.weather.config.PipelineProperties;
+import sunshine.weather.config.ReactiveProperties;
+import sunshine.weather.config.WeatherCacheProperties;
+import sunshine.weather.dto.CityWeatherResult;
+import sunshine.weather.dto.ForecastResponse;
+import sunshine.weather.dto.WeatherReport;
+import sunshine.weather.dto.WeatherStreamEvent;
+import sunshine.weather.hot.HotCityRefresher;
+import sunshine.weather.metrics.WeatherMetrics;
+import sunshine.weather.model.City;
+import sunshine.weather.rules.WeatherRules;
+import sunshine.weather.service.CityResolver;
+import sunshine.weather.service.LlmWeatherAdvisor;
+import sunshine.weather.service.OpenMeteo;
+import sunshine.weather.service.ReactiveOpenMeteo;
+import sunshine.weather.service.ReactiveWeatherService;
+import sunshine.weather.service.WeatherCache;
+import sunshine.weather.service.WeatherService;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+class ReactiveWeatherServiceTest {
+
+    private static final City SEOUL = new City("Seoul", 37.5665, 126.9780);
+    private static final City BUSAN = new City("Busan", 35.1796, 129.0756);
+
+    @Mock
+    private OpenMeteo openMeteo;
+    @Mock
+    private CityResolver cityResolver;
+    @Mock
+    private LlmWeatherAdvisor weatherAdvisor;
+    @Mock
+    private LlmBudgetController budget;
+    @Mock
+    private HotCityRefresher hotCities;
+    private StubOpenMeteoServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        MockitoAnnotations.openMocks(this);
+        server = StubOpenMeteoServer.start();
+        when(cityResolver.resolveAsync("seoul")).thenReturn(Mono.just(SEOUL));
+        when(cityResolver.resolveAsync("busan")).thenReturn(Mono.just(BUSAN));
+        when(budget.tryAcquire()).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    @DisplayName("LLM 조언이 실패하면 템플릿 문장으로 대체하고 출처를 FALLBACK으로 표시한다")
+    void fallsBackToTemplateWhenAdviceFails() {
+        when(weatherAdvisor.adviseAsync(any(City.class), any(ForecastResponse.Current.class)))
+                .thenReturn(Mono.error(new IllegalStateException("429 Too Many Requests")));
+
+        StepVerifier.create(service(Duration.ofSeconds(10), Duration.ofSeconds(20)).getWeatherReport("seoul"))
+                .assertNext(report -> {
+                    assertThat(report.source()).isEqualTo(WeatherReport.Source.FALLBACK);
+                    assertThat(report.summary()).contains("Seoul");
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("LLM 조언이 advise 제한 시간을 넘기면 기다리지 않고 템플릿 문장으로 대체한다")
+    void fallsBackToTemplateWhenAdviceTimesOut() {
+        when(weatherAdvisor.adviseAsync(any(City.class), any(ForecastResponse.Current.class)))
+                .thenReturn(Mono.never());
+
+        StepVerifier.create(service(Duration.ofMillis(200), Duration.ofSeconds(20)).getWeatherReport("seoul"))
+                .assertNext(report -> assertThat(report.source()).isEqualTo(WeatherReport.Source.FALLBACK))
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("LLM 스트림이 실패하면 템플릿 옷차림 문장으로 마무리한다")
+    void streamFallsBackToTemplateOutfit() {
+        when(weatherAdvisor.adviseStream(any(City.class), any(ForecastResponse.Current.class)))
+                .thenReturn(Flux.error(new IllegalStateException("stream reset")));
+
+        StepVerifier.create(service(Duration.ofSeconds(10), Duration.ofSeconds(20)).streamWeatherSummary("seoul"))
+                .assertNext(event -> assertThat(event.event()).isEqualTo(WeatherStreamEvent.WEATHER))
+                .assertNext(event -> {
+                    assertThat(event.event()).isEqualTo(WeatherStreamEvent.OUTFIT);
+                    assertThat(event.data()).isNotBlank();
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("전체 제한 시간 안에 끝난 도시는 결과를, 끝나지 않은 도시는 시간 초과 실패 줄을 받는다")
+    void reportsTimedOutCitiesAfterDeadline() {
+        when(cityResolver.resolveAsync("atlantis")).thenReturn(Mono.never());
+        when(weatherAdvisor.adviseAsync(any(City.class), any(ForecastResponse.Current.class)))
+                .thenReturn(Mono.just(new LlmWeatherAdvisor.Advice("맑아요.", "얇은 니트")));
+
+        StepVerifier.create(service(Duration.ofSeconds(10), Duration.ofMillis(500))
+                        .streamWeatherSummaries(List.of("seoul", "atlantis", "busan", "Seoul ")))
+                .recordWith(ArrayList::new)
+                .expectNextCount(3)
+                .consumeRecordedWith(results -> {
+                    assertThat(results).extracting(CityWeatherResult::city)
+                            .containsExactlyInAnyOrder("seoul", "atlantis", "busan");
+                    assertThat(results).filteredOn(result -> result.error() == null)
+                            .extracting(CityWeatherResult::city)
+                            .containsExactlyInAnyOrder("seoul", "busan");
+                    assertThat(results).filteredOn(result -> result.city().equals("atlantis"))
+                            .singleElement()
+                            .extracting(CityWeatherResult::error)
+                            .isEqualTo("제한 시간 안에 조회하지 못했습니다.");
+                })
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    private ReactiveWeatherService service(Duration adviseTimeout, Duration fanOutDeadline) {
+        var cacheProperties = new WeatherCacheProperties(true, 0.1, Duration.ofMinutes(15), Duration.ofMinutes(10), 100, 1);
+        // resolve 제한 시간은 전체 제한 시간보다 길게 두어, 끝나지 않는 도시가 take(deadline)에서 잘리게 한다
+        var pipelineProperties = new PipelineProperties(Duration.ofSeconds(30), Duration.ofSeconds(3), adviseTimeout, fanOutDeadline);
+        var metrics = new WeatherMetrics(new SimpleMeterRegistry());
+        var weatherCache = new WeatherCache(openMeteo, cacheProperties);
+        var weatherService = new WeatherService(weatherCache, cityResolver, weatherAdvisor, true, pipelineProperties,
+                AdviceTable.empty(), metrics, budget, hotCities, WeatherRules.defaults());
+        var reactiveOpenMeteo = new ReactiveOpenMeteo(WebClient.builder(),
+                new OpenMeteoProperties(server.baseUrl(),
+                        new OpenMeteoProperties.Batch(false, Duration.ofMillis(5), 50),
+                        new OpenMeteoProperties.Http(Duration.ofSeconds(1), Duration.ofSeconds(2), Duration.ofSeconds(5), false),
+                        new OpenMeteoProperties.Hedge(false, 0.95, Duration.ofMillis(50), Duration.ofMillis(300)),
+                        new OpenMeteoProperties.Retry(1, Duration.ofMillis(1), Duration.ofMillis(5))),
+                metrics);
+        return new ReactiveWeatherService(weatherService, weatherCache, cityResolver, reactiveOpenMeteo, weatherAdvisor,
+                pipelineProperties, new ReactiveProperties(4, 8), metrics, hotCities);
+    }
+}
@@ -0,0 +1,58 @@
+package sunshine.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sunshine.weather.config.WeatherCacheProperties;
+import sunshine.weather.dto.ForecastResponse;
+import sunshine.weather.model.City;
+import sunshine.weather.service.OpenMeteo;
+import sunshine.weather.service.WeatherCache;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class WeatherCacheTest {
+
+    @Test
+    @DisplayName("1초 미만의 갱신 주기도 다음 갱신 시각을 계산한다")
+    void supportsSubSecondUpdateInterval() {
+        OpenMeteo openMeteo = mock(OpenMeteo.class);
+        when(openMeteo.fetchCurrent(any(City.class)))
+                .thenReturn(new ForecastResponse.Current(20.5, 19.0, 0, 65, 5.7));
+        var props = new WeatherCacheProperties(true, 0.1, Duration.ofMillis(500), Duration.ofSeconds(1), 100, 1);
+
+        WeatherCache.Observation observation = new WeatherCache(openMeteo, props).observe(new City("Seoul", 37.5665, 126.9780));
+
+        assertThat(Duration.between(observation.observedAt(), observation.freshUntil())).isEqualTo(Duration.ofMillis(500));
+    }
+
+    @Test
+    @DisplayName("응답에 관측 시각이 있으면 그 시각과 다음 관측 시각을 관측 구간으로 쓴다")
+    void usesOpenMeteoObservationTime() {
+        long observed = Instant.now().getEpochSecond() - 60;
+        OpenMeteo openMeteo = mock(OpenMeteo.class);
+        when(openMeteo.fetchCurrent(any(City.class)))
+                .thenReturn(new ForecastResponse.Current(20.5, 19.0, 0, 65, 5.7, observed, 900));
+        var props = new WeatherCacheProperties(true, 0.1, Duration.ofMinutes(15), Duration.ofMinutes(10), 100, 1);
+
+        WeatherCache.Observation observation = new WeatherCache(openMeteo, props).observe(new City("Seoul", 37.5665, 126.9780));
+
+        assertThat(observation.observedAt()).isEqualTo(Instant.ofEpochSecond(observed));
+        assertThat(observation.freshUntil()).isEqualTo(Instant.ofEpochSecond(observed + 900));
+    }
+
+    @Test
+    @DisplayName("갱신 주기가 0 이하이면 설정을 거부한다")
+    void rejectsNonPositiveUpdateInterval() {
+        assertThatThrownBy(() -> new WeatherCacheProperties(true, 0.1, Duration.ZERO, Duration.ofMinutes(10), 100, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new WeatherCacheProperties(true, 0.1, Duration.ofSeconds(-1), Duration.ofMinutes(10), 100, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -1,33 +1,66 @@
 package sunshine.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.core.io.DefaultResourceLoader;
+import sunshine.weather.advice.AdviceTable;
+import sunshine.weather.budget.LlmBudgetController;
+import sunshine.weather.config.AdviceTableConfig;
+import sunshine.weather.config.AdviceTableProperties;
+import sunshine.weather.config.PipelineProperties;
+import sunshine.weather.config.WeatherCacheProperties;
 import sunshine.weather.dto.ForecastResponse;
+import sunshine.weather.hot.HotCityRefresher;
+import sunshine.weather.metrics.WeatherMetrics;
 import sunshine.weather.model.City;
+import sunshine.weather.rules.WeatherRules;
 import sunshine.weather.service.CityResolver;
+import sunshine.weather.service.LlmWeatherAdvisor;
 import sunshine.weather.service.OpenMeteo;
+import sunshine.weather.service.WeatherCache;
 import sunshine.weather.service.WeatherService;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class WeatherServiceTest {
 
     @Mock
     private OpenMeteo openMeteo;
-    private WeatherService weatherService;
+    @Mock
     private CityResolver cityResolver;
+    @Mock
+    private LlmWeatherAdvisor weatherAdvisor;
+    @Mock
+    private LlmBudgetController budget;
+    @Mock
+    private HotCityRefresher hotCities;
+    private WeatherService weatherService;
 
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        weatherService = new WeatherService(openMeteo, cityResolver);
+        var cacheProperties = new WeatherCacheProperties(true, 0.1, Duration.ofMinutes(15), Duration.ofMinutes(10), 100, 1);
+        var pipelineProperties = new PipelineProperties(Duration.ofSeconds(5), Duration.ofSeconds(3), Duration.ofSeconds(10), Duration.ofSeconds(20));
+        weatherService = new WeatherService(
+                new WeatherCache(openMeteo, cacheProperties), cityResolver, weatherAdvisor, false, pipelineProperties,
+                AdviceTable.empty(), new WeatherMetrics(new SimpleMeterRegistry()), budget, hotCities, WeatherRules.defaults());
     }
 
     @Test
@@ -63,4 +96,99 @@ class WeatherServiceTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("도시 좌표를 확인할 수 없습니다");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("LLM 조언 생성이 실패하면 템플릿 문장으로 대체한다")
+    void fallsBackToTemplateWhenAdviceFails() {
+        // given
+        var cacheProperties = new WeatherCacheProperties(true, 0.1, Duration.ofMinutes(15), Duration.ofMinutes(10), 100, 1);
+        var pipelineProperties = new PipelineProperties(Duration.ofSeconds(5), Duration.ofSeconds(3), Duration.ofSeconds(10), Duration.ofSeconds(20));
+        var llmService = new WeatherService(
+                new WeatherCache(openMeteo, cacheProperties), cityResolver, weatherAdvisor, true, pipelineProperties,
+                AdviceTable.empty(), new WeatherMetrics(new SimpleMeterRegistry()), budget, hotCities, WeatherRules.defaults());
+        when(cityResolver.resolve("seoul"))
+                .thenReturn(new City("Seoul", 37.5665, 126.9780));
+        when(openMeteo.fetchCurrent(any(City.class)))
+                .thenReturn(new ForecastResponse.Current(20.5, 19.0, 0, 65, 5.7));
+        when(budget.tryAcquire()).thenReturn(true);
+        when(weatherAdvisor.advise(any(City.class), any(ForecastResponse.Current.class)))
+                .thenThrow(new IllegalStateException("429 Too Many Requests"));
+
+        // when
+        String result = llmService.getWeatherSummary("seoul");
+
+        // then
+        assertThat(result).contains("Seoul");
+        assertThat(result).contains("20.5°C");
+    }
+
+    @Test
+    @DisplayName("캐시된 조언은 LLM 예산을 묻지 않고 그대로 쓴다")
+    void servesCachedAdviceWithoutBudget() {
+        // given
+        var cacheProperties = new WeatherCacheProperties(true, 0.1, Duration.ofMinutes(15), Duration.ofMinutes(10), 100, 1);
+        var pipelineProperties = new PipelineProperties(Duration.ofSeconds(5), Duration.ofSeconds(3), Duration.ofSeconds(10), Duration.ofSeconds(20));
+        var llmService = new WeatherService(
+                new WeatherCache(openMeteo, cacheProperties), cityResolver, weatherAdvisor, true, pipelineProperties,
+                AdviceTable.empty(), new WeatherMetrics(new SimpleMeterRegistry()), budget, hotCities, WeatherRules.defaults());
+        when(cityResolver.resolve("seoul"))
+                .thenReturn(new City("Seoul", 37.5665, 126.9780));
+        when(openMeteo.fetchCurrent(any(City.class)))
+                .thenReturn(new ForecastResponse.Current(20.5, 19.0, 0, 65, 5.7));
+        when(budget.tryAcquire()).thenReturn(false);
+        when(weatherAdvisor.cached(any(City.class), any(ForecastResponse.Current.class)))
+                .thenReturn(new LlmWeatherAdvisor.Advice("맑고 포근해요.", "얇은 겉옷이면 충분해요."));
+
+        // when
+        String result = llmService.getWeatherSummary("seoul");
+
+        // then
+        assertThat(result).contains("맑고 포근해요.").contains("얇은 겉옷이면 충분해요.");
+        verify(budget, never()).tryAcquire();
+    }
+
+    @Test
+    @DisplayName("같은 격자 칸의 도시는 날씨 조회를 한 번만 한다")
+    void reusesWeatherForNearbyCity() {
+        // given
+        when(cityResolver.resolve("seoul"))
+                .thenReturn(new City("Seoul", 37.5665, 126.9780));
+        when(cityResolver.resolve("jongno"))
+                .thenReturn(new City("Jongno", 37.5730, 126.9794));
+        when(openMeteo.fetchCurrent(any(City.class)))
+                .thenReturn(new ForecastResponse.Current(20.5, 19.0, 0, 65, 5.7));
+
+        // when
+        weatherService.getWeatherSummary("seoul");
+        String result = weatherService.getWeatherSummary("jongno");
+
+        // then
+        assertThat(result).contains("Jongno");
+        verify(openMeteo, times(1)).fetchCurrent(any(City.class));
+    }
+
+    @Test
+    @DisplayName("구간 정의가 다른 사전 계산 테이블은 버리고 규칙표의 옷차림을 쓴다")
+    void staleAdviceTableFallsBackToRules(@TempDir Path dir) throws IOException {
+        // given
+        Path stale = dir.resolve("advice-table.tsv");
+        Files.writeString(stale, "# version=2\n# bands=v2;t=[0];c=[CLEAR_SKY];w=[3];h=[50]\n0\t0\t0\t0\t0\t오래된 조언\n");
+        AdviceTable table = new AdviceTableConfig().adviceTable(
+                new AdviceTableProperties(true, stale.toUri().toString(), stale.toString()), new DefaultResourceLoader());
+        var cacheProperties = new WeatherCacheProperties(true, 0.1, Duration.ofMinutes(15), Duration.ofMinutes(10), 100, 1);
+        var pipelineProperties = new PipelineProperties(Duration.ofSeconds(5), Duration.ofSeconds(3), Duration.ofSeconds(10), Duration.ofSeconds(20));
+        var service = new WeatherService(
+                new WeatherCache(openMeteo, cacheProperties), cityResolver, weatherAdvisor, false, pipelineProperties,
+                table, new WeatherMetrics(new SimpleMeterRegistry()), budget, hotCities, WeatherRules.defaults());
+        var weather = new ForecastResponse.Current(-12.0, -15.0, 0, 30, 1.0);
+        when(cityResolver.resolve("seoul"))
+                .thenReturn(new City("Seoul", 37.5665, 126.9780));
+        when(openMeteo.fetchCurrent(any(City.class))).thenReturn(weather);
+
+        // when
+        String result = service.getWeatherSummary("seoul");
+
+        // then
+        assertThat(result).doesNotContain("오래된 조언").contains(WeatherRules.defaults().outfit(weather));
+    }
+}
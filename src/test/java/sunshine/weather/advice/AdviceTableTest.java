@@ -0,0 +1,115 @@
+package sunshine.weather.advice;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.core.io.DefaultResourceLoader;
+import sunshine.weather.config.AdviceTableConfig;
+import sunshine.weather.config.AdviceTableProperties;
+import sunshine.weather.dto.ForecastResponse;
+import sunshine.weather.model.City;
+import sunshine.weather.rules.WeatherRules;
+import sunshine.weather.service.LlmWeatherAdvisor;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// AdviceTable.of/write가 package-private이라 같은 패키지에 둔다
+class AdviceTableTest {
+
+    private static final WeatherRules RULES = WeatherRules.defaults();
+
+    private static final ForecastResponse.Current MILD = new ForecastResponse.Current(12.0, 11.0, 0, 50, 2.0);
+    private static final ForecastResponse.Current COLD_WIND = new ForecastResponse.Current(-3.0, -8.0, 71, 80, 9.0);
+
+    @Test
+    @DisplayName("컴파일러가 쓰는 형식으로 쓴 테이블을 다시 읽으면 같은 칸에 같은 조언이 있다")
+    void roundTripsThroughWriter() throws IOException {
+        AdviceTable table = AdviceTable.read(input(write(small())));
+
+        var hot = new ForecastResponse.Current(30.0, 33.0, 0, 50, 2.0);
+        assertThat(table.filled()).isEqualTo(2);
+        assertThat(table.outfit(MILD, RULES.outfit(MILD))).isEqualTo("얇은 니트에 가벼운 자켓");
+        assertThat(table.outfit(COLD_WIND, RULES.outfit(COLD_WIND))).isEqualTo("패딩과 목도리, 방수 신발");
+        assertThat(table.outfit(hot, RULES.outfit(hot))).isNull();
+    }
+
+    @Test
+    @DisplayName("칸을 만들 때와 지금 맞는 규칙이 다르면 사전 계산 조언을 쓰지 않는다")
+    void ruleTableWins() throws IOException {
+        AdviceTable table = AdviceTable.read(input(write(small())));
+
+        assertThat(table.outfit(MILD, "규칙 파일을 고쳐 바뀐 문구")).isNull();
+    }
+
+    @Test
+    @DisplayName("컴파일러가 모든 칸을 채워 쓴 파일을 설정 경로로 읽을 수 있다")
+    void compilerWritesLoadableTable(@TempDir Path dir) throws IOException {
+        Path output = dir.resolve("advice-table.tsv");
+        LlmWeatherAdvisor advisor = mock(LlmWeatherAdvisor.class);
+        when(advisor.adviseUncached(any(City.class), any(ForecastResponse.Current.class))).thenAnswer(invocation -> {
+            ForecastResponse.Current w = invocation.getArgument(1);
+            // 줄바꿈/연속 공백은 한 칸으로 접혀 저장된다
+            return new LlmWeatherAdvisor.Advice("", "체감 " + w.apparent_temperature() + "도에 맞춰\n  입으세요");
+        });
+
+        new AdviceTableCompiler(advisor, properties(output), RULES).run(new DefaultApplicationArguments());
+        AdviceTable table = new AdviceTableConfig().adviceTable(properties(output), new DefaultResourceLoader());
+
+        assertThat(table.filled()).isEqualTo(AdviceBands.SIZE);
+        assertThat(table.outfit(MILD, RULES.outfit(MILD))).isEqualTo("체감 12.5도에 맞춰 입으세요");
+    }
+
+    @Test
+    @DisplayName("구간 정의가 다른(오래된) 테이블은 읽지 않고, 설정은 빈 테이블로 대신해 규칙표를 쓰게 한다")
+    void rejectsStaleFingerprint(@TempDir Path dir) throws IOException {
+        String stale = write(small())
+                .replace(AdviceBands.fingerprint(), "v2;t=[-5, 0, 5];c=[CLEAR_SKY];w=[3];h=[50]");
+
+        assertThatThrownBy(() -> AdviceTable.read(input(stale)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("구간 정의");
+
+        Path output = dir.resolve("advice-table.tsv");
+        Files.writeString(output, stale);
+        AdviceTable table = new AdviceTableConfig().adviceTable(properties(output), new DefaultResourceLoader());
+
+        assertThat(table.filled()).isZero();
+        assertThat(table.outfit(MILD, RULES.outfit(MILD))).isNull();
+    }
+
+    private static AdviceTable small() {
+        String[] outfits = new String[AdviceBands.SIZE];
+        int[] rules = new int[AdviceBands.SIZE];
+        outfits[AdviceBands.index(MILD)] = "얇은 니트에 가벼운 자켓";
+        rules[AdviceBands.index(MILD)] = AdviceTable.ruleKey(RULES.outfit(MILD));
+        outfits[AdviceBands.index(COLD_WIND)] = "패딩과 목도리, 방수 신발";
+        rules[AdviceBands.index(COLD_WIND)] = AdviceTable.ruleKey(RULES.outfit(COLD_WIND));
+        return AdviceTable.of(outfits, rules);
+    }
+
+    private static AdviceTableProperties properties(Path output) {
+        return new AdviceTableProperties(true, output.toUri().toString(), output.toString());
+    }
+
+    private static String write(AdviceTable table) throws IOException {
+        var out = new StringWriter();
+        table.write(out);
+        return out.toString();
+    }
+
+    private static ByteArrayInputStream input(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
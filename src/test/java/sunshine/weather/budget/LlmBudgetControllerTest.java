@@ -0,0 +1,115 @@
+package sunshine.weather.budget;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sunshine.weather.config.LlmBudgetProperties;
+import sunshine.weather.metrics.WeatherMetrics;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LlmBudgetControllerTest {
+
+    private static final long MS = 1_000_000L;
+
+    private final AtomicLong now = new AtomicLong(1_000_000 * MS);
+
+    @Test
+    @DisplayName("연속 실패가 쌓이면 회로가 열리고, 차단 시간 뒤 탐침 하나가 성공하면 닫힌다")
+    void opensAndRecoversCircuit() {
+        var controller = controller(null);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(controller.decide()).isEqualTo(LlmBudgetController.Verdict.ALLOW);
+            controller.recordFailure(100 * MS);
+        }
+        assertThat(controller.decide()).isEqualTo(LlmBudgetController.Verdict.CIRCUIT_OPEN);
+
+        now.addAndGet(30_000 * MS);
+        assertThat(controller.decide()).isEqualTo(LlmBudgetController.Verdict.ALLOW);
+        // 탐침이 진행 중이면 다른 요청은 계속 템플릿으로
+        assertThat(controller.decide()).isEqualTo(LlmBudgetController.Verdict.CIRCUIT_OPEN);
+
+        controller.recordSuccess(100 * MS, 0);
+        assertThat(controller.decide()).isEqualTo(LlmBudgetController.Verdict.ALLOW);
+    }
+
+    @Test
+    @DisplayName("탐침이 실패하면 회로는 다시 차단 시간만큼 열린다")
+    void reopensWhenProbeFails() {
+        var controller = controller(null);
+        for (int i = 0; i < 5; i++) {
+            controller.recordFailure(100 * MS);
+        }
+        now.addAndGet(30_000 * MS);
+        assertThat(controller.decide()).isEqualTo(LlmBudgetController.Verdict.ALLOW);
+
+        controller.recordFailure(100 * MS);
+        now.addAndGet(10_000 * MS);
+        assertThat(controller.decide()).isEqualTo(LlmBudgetController.Verdict.CIRCUIT_OPEN);
+    }
+
+    @Test
+    @DisplayName("느린 호출 비율이 SLO를 넘으면 LLM을 건너뛴다")
+    void degradesOnLatencySlo() {
+        var controller = controller(null);
+        for (int i = 0; i < 20; i++) {
+            controller.recordSuccess(i % 2 == 0 ? 5_000 * MS : 500 * MS, 0);
+        }
+        now.addAndGet(1_000 * MS);
+
+        assertThat(controller.decide()).isEqualTo(LlmBudgetController.Verdict.LATENCY_SLO);
+
+        // 구간(5분)이 지나 느린 호출이 빠지면 다시 허용
+        now.addAndGet(Duration.ofMinutes(6).toNanos());
+        assertThat(controller.decide()).isEqualTo(LlmBudgetController.Verdict.ALLOW);
+    }
+
+    @Test
+    @DisplayName("구간 지출을 시간당으로 환산해 예산을 넘으면 LLM을 건너뛴다")
+    void degradesOnSpendBudget() {
+        // 시간당 1.2달러 = 5분 구간당 0.1달러
+        var controller = controller(new BigDecimal("1.20"));
+        controller.recordSuccess(100 * MS, 60_000);
+        now.addAndGet(1_000 * MS);
+        assertThat(controller.decide()).isEqualTo(LlmBudgetController.Verdict.ALLOW);
+
+        controller.recordSuccess(100 * MS, 50_000);
+        now.addAndGet(1_000 * MS);
+        assertThat(controller.decide()).isEqualTo(LlmBudgetController.Verdict.SPEND_BUDGET);
+    }
+
+    @Test
+    @DisplayName("백그라운드 허용 여부는 읽기만 해서 탐침 자리를 쓰지 않고, 느린 구간에서는 탐침 비율과 무관하게 거절한다")
+    void backgroundCheckHasNoSideEffects() {
+        var controller = controller(null);
+        for (int i = 0; i < 5; i++) {
+            controller.recordFailure(100 * MS);
+        }
+        assertThat(controller.allowsBackground()).isFalse();
+
+        now.addAndGet(30_000 * MS);
+        assertThat(controller.allowsBackground()).isFalse();
+        // 백그라운드 확인이 탐침을 가져가지 않았으므로 첫 요청이 탐침이 된다
+        assertThat(controller.decide()).isEqualTo(LlmBudgetController.Verdict.ALLOW);
+        controller.recordSuccess(100 * MS, 0);
+        assertThat(controller.allowsBackground()).isTrue();
+
+        for (int i = 0; i < 20; i++) {
+            controller.recordSuccess(5_000 * MS, 0);
+        }
+        now.addAndGet(1_000 * MS);
+        assertThat(controller.decide()).isEqualTo(LlmBudgetController.Verdict.LATENCY_SLO);
+        assertThat(controller.allowsBackground()).isFalse();
+    }
+
+    private LlmBudgetController controller(BigDecimal usdPerHour) {
+        var props = new LlmBudgetProperties(true, Duration.ofMinutes(5), 10, 20, Duration.ofSeconds(4), 0.2,
+                usdPerHour, 0.5, 5, Duration.ofSeconds(30), 0.0, Duration.ofMillis(250));
+        return new LlmBudgetController(props, new WeatherMetrics(new SimpleMeterRegistry()), now::get);
+    }
+}
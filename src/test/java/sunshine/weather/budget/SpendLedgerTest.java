@@ -0,0 +1,67 @@
+package sunshine.weather.budget;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sunshine.weather.config.LlmCostProperties;
+import sunshine.weather.service.LlmCostEstimator;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpendLedgerTest {
+
+    private static final long MINUTE = Duration.ofMinutes(1).toMillis();
+
+    private final AtomicLong now = new AtomicLong(10 * MINUTE);
+
+    @Test
+    @DisplayName("기능별/모델별 누계와 분 단위 구간을 함께 쌓는다")
+    void accumulatesByFeatureModelAndMinute() {
+        var ledger = new SpendLedger(3, now::get);
+
+        ledger.record("weather_advice", "gemini", 600, 200, 680);
+        ledger.record("city_resolve", "gemini", 100, 20, 80);
+        now.addAndGet(MINUTE);
+        ledger.record("weather_advice", null, 400, 100, 370);
+
+        SpendLedger.Snapshot snapshot = ledger.snapshot();
+        assertThat(snapshot.total().calls()).isEqualTo(3);
+        assertThat(snapshot.total().costMicroUsd()).isEqualTo(1_130);
+        assertThat(snapshot.total().costUsd()).isEqualByComparingTo("0.00113");
+        assertThat(snapshot.features().get("weather_advice").inputTokens()).isEqualTo(1_000);
+        assertThat(snapshot.models()).containsOnlyKeys("gemini", "unknown-model");
+        assertThat(snapshot.minutes()).hasSize(2);
+        assertThat(snapshot.minutes().getFirst().total().costMicroUsd()).isEqualTo(370);
+        assertThat(snapshot.minutes().getLast().features()).containsOnlyKeys("weather_advice", "city_resolve");
+        assertThat(snapshot.minutes().getLast().models().get("gemini").costMicroUsd()).isEqualTo(760);
+        assertThat(snapshot.minutes().getFirst().models()).containsOnlyKeys("unknown-model");
+    }
+
+    @Test
+    @DisplayName("보관 구간이 지난 분은 빠지고 누계는 남는다")
+    void dropsExpiredMinutes() {
+        var ledger = new SpendLedger(3, now::get);
+        ledger.record("outfit", "gemini", 100, 100, 10);
+
+        now.addAndGet(3 * MINUTE);
+        ledger.record("outfit", "gemini", 100, 100, 20);
+
+        SpendLedger.Snapshot snapshot = ledger.snapshot();
+        assertThat(snapshot.minutes()).hasSize(1);
+        assertThat(snapshot.minutes().getFirst().total().costMicroUsd()).isEqualTo(20);
+        assertThat(snapshot.total().costMicroUsd()).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("비용은 1k 토큰 단가로 micro-USD 정수 환산한다")
+    void estimatesFixedPointCost() {
+        var estimator = new LlmCostEstimator(new LlmCostProperties(new BigDecimal("0.0003"), new BigDecimal("0.0025")));
+
+        // 612 × 0.0003/1k + 187 × 0.0025/1k = 0.0001836 + 0.0004675 = 0.0006511달러
+        assertThat(estimator.estimateMicroUsd(612, 187)).isEqualTo(651);
+        assertThat(new LlmCostEstimator(new LlmCostProperties(null, null)).estimateMicroUsd(612, 187)).isZero();
+    }
+}
@@ -0,0 +1,128 @@
+package sunshine.weather.controller;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import sunshine.weather.config.AdviceCacheProperties;
+import sunshine.weather.config.WeatherCacheProperties;
+import sunshine.weather.dto.WeatherReport;
+import sunshine.weather.metrics.WeatherMetrics;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WeatherValidatorsTest {
+
+    private static final Instant OBSERVED = Instant.parse("2026-01-01T00:00:00Z");
+    private static final WeatherReport REPORT = new WeatherReport("Seoul", 37.5665, 126.9780, OBSERVED,
+            OBSERVED.plus(Duration.ofMinutes(15)), 20.5, 19.0, 65, 5.7, 0, "맑음", "Seoul 현재 날씨는 맑음입니다.",
+            WeatherReport.Source.TEMPLATE);
+    private static final MediaType JSON = MediaType.APPLICATION_JSON;
+    private static final AdviceCacheProperties ADVICE = new AdviceCacheProperties(true, 1.0, 10, 2.0, Duration.ofMinutes(30), 100);
+
+    private final AtomicReference<Instant> now = new AtomicReference<>(OBSERVED.plus(Duration.ofMinutes(5)));
+    private final WeatherValidators validators = new WeatherValidators(
+            new WeatherCacheProperties(true, 0.1, Duration.ofMinutes(15), Duration.ofMinutes(10), 100, 1),
+            ADVICE,
+            new WeatherMetrics(new SimpleMeterRegistry()),
+            new Clock() {
+                @Override
+                public ZoneOffset getZone() {
+                    return ZoneOffset.UTC;
+                }
+
+                @Override
+                public Clock withZone(java.time.ZoneId zone) {
+                    return this;
+                }
+
+                @Override
+                public Instant instant() {
+                    return now.get();
+                }
+            });
+
+    @Test
+    @DisplayName("If-None-Match는 약한 비교로, 쉼표 목록과 *까지 맞춰 본다")
+    void matchesIfNoneMatch() {
+        WeatherValidators.Validator validator = validators.remember("seoul", JSON, REPORT);
+        String opaque = validator.etag().substring(2);
+
+        assertThat(validator.etag()).startsWith("W/\"");
+        assertThat(validator.matches(validator.etag())).isTrue();
+        assertThat(validator.matches(opaque)).isTrue();
+        assertThat(validator.matches("\"other\", " + validator.etag())).isTrue();
+        assertThat(validator.matches("*")).isTrue();
+        assertThat(validator.matches("\"other\"")).isFalse();
+        assertThat(validator.matches(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("기억한 검증자는 이름 표기와 무관하게 관측 구간이 끝날 때까지만 쓴다")
+    void freshUntilObservationExpires() {
+        validators.remember("New York", JSON, REPORT);
+
+        assertThat(validators.fresh("new-york", JSON)).isPresent();
+        assertThat(validators.maxAge(validators.fresh("newyork", JSON).orElseThrow())).isEqualTo(Duration.ofMinutes(10));
+
+        now.set(REPORT.expiresAt());
+        assertThat(validators.fresh("new york", JSON)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("관측이 같으면 생성 문장이 달라도 ETag가 같고, 관측값이 바뀌면 ETag도 바뀐다")
+    void etagFollowsObservation() {
+        var templated = new WeatherReport(REPORT.city(), REPORT.latitude(), REPORT.longitude(), REPORT.observedAt(),
+                REPORT.expiresAt(), 20.5, 19.0, 65, 5.7, 0, REPORT.description(), "다른 문장", REPORT.source());
+        var warmer = new WeatherReport(REPORT.city(), REPORT.latitude(), REPORT.longitude(), REPORT.observedAt(),
+                REPORT.expiresAt(), 21.0, 19.0, 65, 5.7, 0, REPORT.description(), REPORT.summary(), REPORT.source());
+
+        String etag = validators.remember("seoul", JSON, REPORT).etag();
+
+        assertThat(validators.remember("seoul", JSON, templated).etag()).isEqualTo(etag);
+        assertThat(validators.remember("seoul", JSON, warmer).etag()).isNotEqualTo(etag);
+        assertThat(WeatherReport.CODEC.decode(WeatherReport.CODEC.encode(REPORT))).isEqualTo(REPORT);
+    }
+
+    @Test
+    @DisplayName("표현과 summary 출처가 다르면 ETag도 다르다")
+    void etagFollowsRepresentationAndSource() {
+        var llm = new WeatherReport(REPORT.city(), REPORT.latitude(), REPORT.longitude(), REPORT.observedAt(),
+                REPORT.expiresAt(), 20.5, 19.0, 65, 5.7, 0, REPORT.description(), "LLM 문장", WeatherReport.Source.LLM);
+        String etag = validators.remember("seoul", JSON, REPORT).etag();
+
+        assertThat(validators.remember("seoul", WeatherReportMessageConverter.BINARY, REPORT).etag()).isNotEqualTo(etag);
+        assertThat(validators.remember("seoul", JSON, llm).etag()).isNotEqualTo(etag);
+    }
+
+    @Test
+    @DisplayName("템플릿으로 대체한 응답은 검증자 없이 내려주고 기억하지 않는다")
+    void skipsValidatorsForFallback() {
+        var fallback = new WeatherReport(REPORT.city(), REPORT.latitude(), REPORT.longitude(), REPORT.observedAt(),
+                REPORT.expiresAt(), 20.5, 19.0, 65, 5.7, 0, REPORT.description(), REPORT.summary(), WeatherReport.Source.FALLBACK);
+
+        ResponseEntity<WeatherReport> response = validators.respond("seoul", JSON, fallback, null);
+
+        assertThat(response.getHeaders().getETag()).isNull();
+        assertThat(response.getHeaders().getCacheControl()).isEqualTo("no-cache");
+        assertThat(validators.fresh("seoul", JSON)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Accept의 품질과 구체성으로 표현을 고르고, 없거나 같으면 JSON")
+    void choosesRepresentation() {
+        assertThat(validators.representation(null)).isEqualTo(JSON);
+        assertThat(validators.representation("*/*")).isEqualTo(JSON);
+        assertThat(validators.representation("text/plain, */*;q=0.8").isCompatibleWith(MediaType.TEXT_PLAIN)).isTrue();
+        assertThat(validators.representation(WeatherReport.MEDIA_TYPE + ", application/json;q=0.5"))
+                .isEqualTo(WeatherReportMessageConverter.BINARY);
+        assertThat(validators.representation("not a media type")).isEqualTo(JSON);
+    }
+}
@@ -0,0 +1,75 @@
+package sunshine.weather.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sunshine.weather.dto.WeatherStreamEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// AdviceStreamSplitter가 package-private이라 같은 패키지에 둔다
+class AdviceStreamSplitterTest {
+
+    private static final String TEMPLATE = "가벼운 자켓을 권장해요.";
+
+    private final List<WeatherStreamEvent> events = new ArrayList<>();
+    private final AdviceStreamSplitter splitter = new AdviceStreamSplitter(events::add, () -> TEMPLATE);
+
+    @Test
+    @DisplayName("구분자가 여러 토큰에 걸쳐 와도 summary와 outfit으로 나눈다")
+    void splitsMarkerAcrossTokens() {
+        feed("맑고 ", "포근해요.\n[OU", "TF", "IT]", "\n 얇은 ", "니트면 충분해요.");
+
+        assertThat(text(WeatherStreamEvent.SUMMARY)).isEqualTo("맑고 포근해요.\n");
+        assertThat(text(WeatherStreamEvent.OUTFIT)).isEqualTo("얇은 니트면 충분해요.");
+    }
+
+    @Test
+    @DisplayName("구분자 뒤 공백만 담긴 토큰이 이어져도 옷차림 글자가 나올 때까지 버린다")
+    void stripsWhitespaceUntilOutfitStarts() {
+        feed("흐려요.", "[OUTFIT]", " ", "\n", "  ", "우산을 챙기세요.", " 바람막이도 좋아요.");
+
+        assertThat(events).filteredOn(event -> event.event().equals(WeatherStreamEvent.OUTFIT))
+                .first()
+                .extracting(WeatherStreamEvent::data)
+                .isEqualTo("우산을 챙기세요.");
+        assertThat(text(WeatherStreamEvent.OUTFIT)).isEqualTo("우산을 챙기세요. 바람막이도 좋아요.");
+    }
+
+    @Test
+    @DisplayName("구분자가 끝내 오지 않으면 받은 글은 summary로 보내고 템플릿 옷차림으로 마무리한다")
+    void fallsBackToTemplateWithoutMarker() {
+        feed("맑고 ", "포근해요. [OUT");
+
+        assertThat(text(WeatherStreamEvent.SUMMARY)).isEqualTo("맑고 포근해요. [OUT");
+        assertThat(events.getLast()).isEqualTo(WeatherStreamEvent.outfit(TEMPLATE));
+    }
+
+    @Test
+    @DisplayName("구분자 뒤가 비어 있으면 템플릿 옷차림을 보낸다")
+    void fallsBackToTemplateWhenOutfitIsBlank() {
+        feed("맑아요.[OUT", "FIT]", "  \n");
+
+        assertThat(text(WeatherStreamEvent.SUMMARY)).isEqualTo("맑아요.");
+        assertThat(text(WeatherStreamEvent.OUTFIT)).isEqualTo(TEMPLATE);
+    }
+
+    private void feed(String... tokens) {
+        for (String token : tokens) {
+            splitter.accept(token);
+        }
+        splitter.finish();
+    }
+
+    private String text(String event) {
+        StringBuilder text = new StringBuilder();
+        for (WeatherStreamEvent e : events) {
+            if (e.event().equals(event)) {
+                text.append(e.data());
+            }
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,91 @@
+package sunshine.stub;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 스텁 응답 지연 분포.
+ * <ul>
+ *     <li>{@code none}</li>
+ *     <li>{@code fixed:20ms}</li>
+ *     <li>{@code uniform:10ms:50ms}</li>
+ *     <li>{@code lognormal:40ms:250ms} — p50, p99로 지정하는 로그정규 분포 (외부 API의 긴 꼬리 흉내)</li>
+ * </ul>
+ */
+public sealed interface LatencyModel {
+
+    LatencyModel NONE = new Fixed(Duration.ZERO);
+
+    /** 표준정규분포의 0.99 분위수 */
+    double Z_99 = 2.3263478740;
+
+    long sampleNanos();
+
+    default void pause() {
+        long nanos = sampleNanos();
+        if (nanos <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(Duration.ofNanos(nanos));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("스텁 지연 중 인터럽트되었습니다.", e);
+        }
+    }
+
+    static LatencyModel parse(String spec) {
+        if (spec == null || spec.isBlank() || spec.equals("none")) {
+            return NONE;
+        }
+        String[] parts = spec.trim().split(":");
+        return switch (parts[0]) {
+            case "fixed" -> new Fixed(duration(parts, 1));
+            case "uniform" -> new Uniform(duration(parts, 1), duration(parts, 2));
+            case "lognormal" -> LogNormal.of(duration(parts, 1), duration(parts, 2));
+            default -> throw new IllegalArgumentException("알 수 없는 지연 분포입니다: " + spec);
+        };
+    }
+
+    private static Duration duration(String[] parts, int index) {
+        if (parts.length <= index) {
+            throw new IllegalArgumentException("지연 분포 인자가 부족합니다: " + String.join(":", parts));
+        }
+        String value = parts[index].trim().toLowerCase();
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        if (value.endsWith("s")) {
+            return Duration.ofMillis(Math.round(Double.parseDouble(value.substring(0, value.length() - 1)) * 1000));
+        }
+        throw new IllegalArgumentException("지연 값은 ms 또는 s 단위여야 합니다: " + value);
+    }
+
+    record Fixed(Duration latency) implements LatencyModel {
+        @Override
+        public long sampleNanos() {
+            return latency.toNanos();
+        }
+    }
+
+    record Uniform(Duration min, Duration max) implements LatencyModel {
+        @Override
+        public long sampleNanos() {
+            return ThreadLocalRandom.current().nextLong(min.toNanos(), max.toNanos() + 1);
+        }
+    }
+
+    record LogNormal(double mu, double sigma) implements LatencyModel {
+
+        static LogNormal of(Duration p50, Duration p99) {
+            double mu = Math.log(p50.toNanos());
+            double sigma = Math.max(0, (Math.log(p99.toNanos()) - mu) / Z_99);
+            return new LogNormal(mu, sigma);
+        }
+
+        @Override
+        public long sampleNanos() {
+            return Math.round(Math.exp(mu + sigma * ThreadLocalRandom.current().nextGaussian()));
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package sunshine.stub;
+
+import java.util.Locale;
+import java.util.StringJoiner;
+
+/**
+ * 실제 Open-Meteo 응답과 같은 모양(메타데이터, current_units 포함, timeformat=unixtime)의 고정 JSON.
+ * 관측 시각은 지금이 속한 15분 구간의 시작이다.
+ */
+public final class OpenMeteoPayloads {
+
+    private OpenMeteoPayloads() {
+    }
+
+    public static String single(double latitude, double longitude) {
+        return String.format(Locale.ROOT, """
+                {"latitude":%.4f,"longitude":%.4f,"generationtime_ms":0.04,"utc_offset_seconds":0,"timezone":"GMT",\
+                "timezone_abbreviation":"GMT","elevation":38.0,\
+                "current_units":{"time":"unixtime","interval":"seconds","temperature_2m":"°C","weather_code":"wmo code",\
+                "relative_humidity_2m":"%%","wind_speed_10m":"km/h","apparent_temperature":"°C"},\
+                "current":{"time":%d,"interval":900,"temperature_2m":%.1f,"weather_code":%d,\
+                "relative_humidity_2m":%d,"wind_speed_10m":%.1f,"apparent_temperature":%.1f}}""",
+                latitude, longitude, Math.floorDiv(System.currentTimeMillis() / 1000, 900L) * 900L,
+                12.0 + Math.abs(latitude) % 10, (int) Math.abs(longitude) % 4,
+                40 + (int) Math.abs(latitude) % 50, 2.0 + Math.abs(longitude) % 8, 10.0 + Math.abs(latitude) % 10);
+    }
+
+    /**
+     * 좌표가 2개 이상일 때 Open-Meteo가 돌려주는 배열 응답
+     */
+    public static String multi(double[] latitudes, double[] longitudes) {
+        StringJoiner joiner = new StringJoiner(",", "[", "]");
+        for (int i = 0; i < latitudes.length; i++) {
+            joiner.add(single(latitudes[i], longitudes[i]));
+        }
+        return joiner.toString();
+    }
+}
@@ -0,0 +1,119 @@
+package sunshine.stub;
+
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+import sunshine.weather.prompt.WeatherPrompts;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 네트워크 없이 고정 응답을 주는 ChatModel. 지연 분포와 오류율로 실제 LLM의 느림/실패를 흉내 낸다.
+ * 스트리밍은 첫 청크 전에 한 번 지연한 뒤 응답을 몇 글자씩 나눠 보낸다.
+ */
+public final class StubChatModel implements ChatModel {
+
+    private static final int STREAM_CHUNK_CHARS = 8;
+    private static final Pattern BATCH_ITEM_ID = Pattern.compile("\\[id=(\\d+)]");
+    private static final String ADVICE_JSON = "{\"weatherSummary\":\"스텁 날씨 요약입니다.\",\"outfitSummary\":\"가벼운 겉옷을 권장해요.\"}";
+
+    private final Function<Prompt, String> responder;
+    private final LatencyModel latency;
+    private final double errorRate;
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+
+    public StubChatModel(Function<Prompt, String> responder, LatencyModel latency, double errorRate) {
+        if (errorRate < 0 || errorRate > 1) {
+            throw new IllegalArgumentException("오류율은 0~1 사이여야 합니다: " + errorRate);
+        }
+        this.responder = responder;
+        this.latency = latency;
+        this.errorRate = errorRate;
+    }
+
+    public StubChatModel(Function<Prompt, String> responder) {
+        this(responder, LatencyModel.NONE, 0);
+    }
+
+    /**
+     * 지오코딩 프롬프트에는 좌표 JSON, 그 외에는 날씨 조언 JSON(스트리밍은 구분자 포함 평문)으로 답한다.
+     * 묶음 조언 프롬프트에는 입력된 id마다 조언을 담은 items 배열로 답한다.
+     */
+    public static Function<Prompt, String> weatherResponder() {
+        return prompt -> {
+            String text = prompt.getContents();
+            if (text.contains("지오코딩")) {
+                return "{\"name\":\"Stub City\",\"latitude\":37.5,\"longitude\":127.0}";
+            }
+            if (text.contains(WeatherPrompts.OUTFIT_MARKER)) {
+                return "스텁 날씨 요약입니다. 선선하고 바람이 약해요.\n" + WeatherPrompts.OUTFIT_MARKER + "\n가벼운 겉옷을 권장해요.";
+            }
+            Matcher ids = BATCH_ITEM_ID.matcher(text);
+            if (ids.find()) {
+                StringBuilder items = new StringBuilder("{\"items\":[");
+                do {
+                    if (items.charAt(items.length() - 1) == '}') {
+                        items.append(',');
+                    }
+                    items.append("{\"id\":\"").append(ids.group(1)).append("\",").append(ADVICE_JSON, 1, ADVICE_JSON.length());
+                } while (ids.find());
+                return items.append("]}").toString();
+            }
+            return ADVICE_JSON;
+        };
+    }
+
+    @Override
+    public ChatResponse call(Prompt prompt) {
+        return response(respond(prompt));
+    }
+
+    @Override
+    public Flux<ChatResponse> stream(Prompt prompt) {
+        return Flux.defer(() -> Flux.fromIterable(chunks(respond(prompt))))
+                .map(StubChatModel::response)
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    public long calls() {
+        return calls.get();
+    }
+
+    public long errors() {
+        return errors.get();
+    }
+
+    private String respond(Prompt prompt) {
+        calls.incrementAndGet();
+        latency.pause();
+        if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+            errors.incrementAndGet();
+            throw new IllegalStateException("스텁 LLM 오류");
+        }
+        return responder.apply(prompt);
+    }
+
+    private static List<String> chunks(String text) {
+        List<String> chunks = new ArrayList<>();
+        for (int i = 0; i < text.length(); i += STREAM_CHUNK_CHARS) {
+            chunks.add(text.substring(i, Math.min(text.length(), i + STREAM_CHUNK_CHARS)));
+        }
+        return chunks;
+    }
+
+    private static ChatResponse response(String text) {
+        return new ChatResponse(List.of(new Generation(new AssistantMessage(text))));
+    }
+}
@@ -0,0 +1,124 @@
+package sunshine.stub;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 프로세스 안에서 띄우는 Open-Meteo 대역. 요청 좌표를 그대로 돌려주는 고정 응답을 만든다.
+ * {@link #baseUrl()}을 {@code sunshine.open-meteo.base-url}로 쓰면 된다.
+ * 지연 분포와 오류율(기본 503, 상태 코드 지정 가능)을 지정할 수 있다.
+ */
+public final class StubOpenMeteoServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final LatencyModel latency;
+    private final double errorRate;
+    private final int errorStatus;
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+
+    private StubOpenMeteoServer(HttpServer server, LatencyModel latency, double errorRate, int errorStatus) {
+        this.server = server;
+        this.latency = latency;
+        this.errorRate = errorRate;
+        this.errorStatus = errorStatus;
+    }
+
+    public static StubOpenMeteoServer start() throws IOException {
+        return start(LatencyModel.NONE, 0);
+    }
+
+    public static StubOpenMeteoServer start(LatencyModel latency, double errorRate) throws IOException {
+        return start(latency, errorRate, 503);
+    }
+
+    public static StubOpenMeteoServer start(LatencyModel latency, double errorRate, int errorStatus) throws IOException {
+        if (errorRate < 0 || errorRate > 1) {
+            throw new IllegalArgumentException("오류율은 0~1 사이여야 합니다: " + errorRate);
+        }
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        var stub = new StubOpenMeteoServer(server, latency, errorRate, errorStatus);
+        server.createContext("/v1/forecast", stub::handle);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+        return stub;
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/v1/forecast";
+    }
+
+    public long requests() {
+        return requests.get();
+    }
+
+    public long errors() {
+        return errors.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        latency.pause();
+
+        if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+            errors.incrementAndGet();
+            write(exchange, errorStatus, "{\"error\":true,\"reason\":\"stub error\"}");
+            return;
+        }
+
+        Map<String, String> query = query(exchange.getRequestURI().getRawQuery());
+        double[] latitudes = coordinates(query.get("latitude"));
+        double[] longitudes = coordinates(query.get("longitude"));
+
+        write(exchange, 200, latitudes.length == 1
+                ? OpenMeteoPayloads.single(latitudes[0], longitudes[0])
+                : OpenMeteoPayloads.multi(latitudes, longitudes));
+    }
+
+    private static void write(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static Map<String, String> query(String rawQuery) {
+        Map<String, String> params = new HashMap<>();
+        if (rawQuery == null) {
+            return params;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                params.putIfAbsent(pair.substring(0, eq), URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return params;
+    }
+
+    private static double[] coordinates(String value) {
+        if (value == null || value.isBlank()) {
+            return new double[]{0};
+        }
+        return Arrays.stream(value.split(",")).mapToDouble(Double::parseDouble).toArray();
+    }
+}